@@ -0,0 +1,102 @@
+package com.dwp.services.auth.config;
+
+import com.dwp.services.auth.config.AdminEndpointPolicyRegistry.RequiredPermission;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Admin 엔드포인트 정책 조회: 컴파일된 trie 인덱스 vs 정책 전체 정규식 순회
+ *
+ * - trieIndex: AdminEndpointPolicyRegistry.findPolicies (메서드별 경로 trie + (method, 템플릿) 캐시)
+ * - linearRegexScan: 기존 방식(등록된 모든 정책에 대해 method 비교 + Pattern.matcher().matches())을 재현
+ * 리소스당 5개 정책(목록 조회/단건 조회/생성/수정/삭제)을 등록하고, 등록된 리소스와 미등록 경로를 섞어 조회합니다.
+ *
+ * 실행: ./gradlew :dwp-auth-server:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdminEndpointPolicyRegistryBenchmark {
+
+    private static final int REQUEST_COUNT = 1024;
+
+    /** 등록 정책 수 */
+    @Param({"50", "1000", "5000"})
+    private int policies;
+
+    private record LinearPolicy(String method, Pattern pathPattern, RequiredPermission permission) {
+    }
+
+    private AdminEndpointPolicyRegistry registry;
+    private List<LinearPolicy> linearPolicies;
+    private String[] methods;
+    private String[] paths;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        registry = new AdminEndpointPolicyRegistry();
+        linearPolicies = new ArrayList<>();
+        int resources = Math.max(1, policies / 5);
+        for (int i = 0; i < resources; i++) {
+            String base = "/api/admin/resource-" + i;
+            register("GET", "^" + base + "$", i, "VIEW");
+            register("GET", "^" + base + "/\\d+$", i, "VIEW");
+            register("POST", "^" + base + "$", i, "EDIT");
+            register("PATCH", "^" + base + "/\\d+$", i, "EDIT");
+            register("DELETE", "^" + base + "/\\d+$", i, "EXECUTE");
+        }
+        registry.findPolicies("GET", "/");  // 인덱스 컴파일
+
+        Random random = new Random(42);
+        String[] requestMethods = {"GET", "GET", "GET", "POST", "PATCH", "DELETE"};
+        methods = new String[REQUEST_COUNT];
+        paths = new String[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            methods[i] = requestMethods[random.nextInt(requestMethods.length)];
+            // 10%는 미등록 경로 (RELAX 모드 admin 통과 경로)
+            int resource = random.nextInt(10) == 0 ? resources + random.nextInt(100) : random.nextInt(resources);
+            String base = "/api/admin/resource-" + resource;
+            paths[i] = random.nextBoolean() ? base : base + "/" + (1 + random.nextInt(100_000));
+        }
+    }
+
+    private void register(String method, String pathPattern, int resource, String permissionCode) {
+        String resourceKey = "menu.admin.resource-" + resource;
+        registry.registerPolicy(method, pathPattern, resourceKey, permissionCode);
+        linearPolicies.add(new LinearPolicy(method, Pattern.compile(pathPattern), RequiredPermission.builder()
+                .resourceKey(resourceKey)
+                .permissionCode(permissionCode)
+                .effectRequired("ALLOW")
+                .build()));
+    }
+
+    @Benchmark
+    public List<RequiredPermission> trieIndex() {
+        int i = cursor++ & (REQUEST_COUNT - 1);
+        return registry.findPolicies(methods[i], paths[i]);
+    }
+
+    @Benchmark
+    public List<RequiredPermission> linearRegexScan() {
+        int i = cursor++ & (REQUEST_COUNT - 1);
+        String method = methods[i];
+        String path = paths[i];
+        return linearPolicies.stream()
+                .filter(policy -> policy.method().equalsIgnoreCase(method) && policy.pathPattern().matcher(path).matches())
+                .map(LinearPolicy::permission)
+                .toList();
+    }
+}
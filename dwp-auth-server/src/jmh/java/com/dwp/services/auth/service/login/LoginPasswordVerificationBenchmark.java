@@ -0,0 +1,76 @@
+package com.dwp.services.auth.service.login;
+
+import com.dwp.core.exception.BaseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 부하: 요청 스레드 직접 BCrypt 검증 vs 전용 실행기
+ *
+ * 64개 스레드(Tomcat 요청 스레드 가정)가 동시에 로그인 비밀번호 검증을 수행합니다.
+ * - Throughput 모드: 초당 로그인 검증 수 (logins/sec)
+ * - SampleTime 모드: 로그인 검증 지연 분포 (p0.99 = p99)
+ * - requestThread: 기존 경로. 모든 요청 스레드가 동시에 해싱 (CPU 경합으로 p99 증가)
+ * - boundedExecutor: PasswordVerificationExecutor. 코어 수만큼만 해싱, 대기열 초과 시 즉시 거절(rejected로 반환)
+ * 테넌트/정책 조회는 캐시 적중 시 메모리 조회이므로 제외했으며, DB 조회 비용도 포함되지 않습니다.
+ *
+ * 실행: ./gradlew :dwp-auth-server:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class LoginPasswordVerificationBenchmark {
+
+    private static final String PASSWORD = "admin1234!";
+
+    /** BCrypt cost */
+    @Param({"10"})
+    private int cost;
+
+    /** 전용 실행기 대기열 크기 */
+    @Param({"64"})
+    private int queueCapacity;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordVerificationExecutor verificationExecutor;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(cost);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+        verificationExecutor = new PasswordVerificationExecutor(passwordEncoder, 0, queueCapacity, 30_000L, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        verificationExecutor.destroy();
+    }
+
+    @Benchmark
+    public boolean requestThread() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+
+    @Benchmark
+    public String boundedExecutor() {
+        try {
+            return verificationExecutor.verify(PASSWORD, passwordHash).matched() ? "matched" : "mismatch";
+        } catch (BaseException e) {
+            return "rejected";
+        }
+    }
+}
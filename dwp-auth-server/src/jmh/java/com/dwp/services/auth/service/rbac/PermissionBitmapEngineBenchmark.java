@@ -0,0 +1,191 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.services.auth.entity.Permission;
+import com.dwp.services.auth.entity.Resource;
+import com.dwp.services.auth.entity.RolePermission;
+import com.dwp.services.auth.repository.PermissionRepository;
+import com.dwp.services.auth.repository.ResourceRepository;
+import com.dwp.services.auth.repository.RolePermissionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 권한 판정: 컴파일된 bitset 엔진 vs 기존 조회 경로
+ *
+ * - bitmapEngine: PermissionBitmapEngine.canAccess (캐시 적중 상태의 bit 조회 2회)
+ * - legacyQueryPath: 기존 PermissionCalculator.canAccess 절차(리소스/권한/역할 할당/역할-권한 조회 후 DENY, ALLOW 2회 순회)를 재현
+ * 저장소는 메모리 프록시이므로 DB 왕복(판정당 4~6회) 비용은 제외되며, 기존 경로 수치는 실제 대비 하한값입니다.
+ *
+ * 실행: ./gradlew :dwp-auth-server:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionBitmapEngineBenchmark {
+
+    private static final Long TENANT_ID = 1L;
+    private static final String[] PERMISSION_CODES = {"VIEW", "USE", "EDIT", "EXECUTE"};
+    private static final int ROLE_COUNT = 50;
+    private static final int USER_COUNT = 1000;
+    private static final int ROLES_PER_USER = 3;
+    private static final int CHECK_COUNT = 4096;
+
+    /** 테넌트 리소스 수 */
+    @Param({"200", "2000"})
+    private int resources;
+
+    /** 역할당 매핑 비율 (리소스 x 권한 중) */
+    @Param({"0.2"})
+    private double grantRatio;
+
+    private record Check(Long userId, String resourceKey, String permissionCode) {
+    }
+
+    private ResourceRepository resourceRepository;
+    private PermissionRepository permissionRepository;
+    private RolePermissionRepository rolePermissionRepository;
+    private Map<Long, List<Long>> userRoles;
+    private PermissionBitmapEngine engine;
+    private Check[] checks;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<String, Resource> resourcesByKey = new HashMap<>();
+        for (long i = 1; i <= resources; i++) {
+            String key = "menu.resource-" + i;
+            resourcesByKey.put(key, Resource.builder().resourceId(i).tenantId(TENANT_ID).type("MENU").key(key).build());
+        }
+        Map<String, Permission> permissionsByCode = new HashMap<>();
+        for (int i = 0; i < PERMISSION_CODES.length; i++) {
+            permissionsByCode.put(PERMISSION_CODES[i],
+                    Permission.builder().permissionId((long) i + 1).code(PERMISSION_CODES[i]).build());
+        }
+        Map<Long, List<RolePermission>> rolePermissions = new HashMap<>();
+        for (long roleId = 1; roleId <= ROLE_COUNT; roleId++) {
+            List<RolePermission> grants = new ArrayList<>();
+            for (long resourceId = 1; resourceId <= resources; resourceId++) {
+                for (long permissionId = 1; permissionId <= PERMISSION_CODES.length; permissionId++) {
+                    if (random.nextDouble() < grantRatio) {
+                        grants.add(RolePermission.builder()
+                                .tenantId(TENANT_ID)
+                                .roleId(roleId)
+                                .resourceId(resourceId)
+                                .permissionId(permissionId)
+                                .effect(random.nextInt(20) == 0 ? "DENY" : "ALLOW")
+                                .build());
+                    }
+                }
+            }
+            rolePermissions.put(roleId, grants);
+        }
+        userRoles = new HashMap<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            List<Long> roles = new ArrayList<>();
+            for (int i = 0; i < ROLES_PER_USER; i++) {
+                roles.add(1L + random.nextInt(ROLE_COUNT));
+            }
+            userRoles.put(userId, roles);
+        }
+
+        resourceRepository = repository(ResourceRepository.class, Map.of(
+                "findByTenantIdAndKey", args -> {
+                    Resource resource = resourcesByKey.get((String) args[1]);
+                    return resource != null ? List.of(resource) : List.of();
+                }));
+        permissionRepository = repository(PermissionRepository.class, Map.of(
+                "findByCode", args -> Optional.ofNullable(permissionsByCode.get((String) args[0]))));
+        rolePermissionRepository = repository(RolePermissionRepository.class, Map.of(
+                "findByTenantIdAndRoleIdIn", args -> {
+                    List<RolePermission> result = new ArrayList<>();
+                    for (Object roleId : (List<?>) args[1]) {
+                        result.addAll(rolePermissions.getOrDefault((Long) roleId, List.of()));
+                    }
+                    return result;
+                }));
+        engine = new PermissionBitmapEngine(resourceRepository, permissionRepository, rolePermissionRepository,
+                3600L, USER_COUNT * 2L);
+
+        checks = new Check[CHECK_COUNT];
+        for (int i = 0; i < CHECK_COUNT; i++) {
+            checks[i] = new Check(1L + random.nextInt(USER_COUNT),
+                    "menu.resource-" + (1 + random.nextInt(resources)),
+                    PERMISSION_CODES[random.nextInt(PERMISSION_CODES.length)]);
+        }
+        // 캐시 워밍업 (정상 상태 = 사용자/역할 컴파일 완료)
+        for (Check check : checks) {
+            bitmapEngine(check);
+        }
+    }
+
+    @Benchmark
+    public boolean bitmapEngine() {
+        return bitmapEngine(checks[cursor++ & (CHECK_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public boolean legacyQueryPath() {
+        Check check = checks[cursor++ & (CHECK_COUNT - 1)];
+        List<Resource> found = resourceRepository.findByTenantIdAndKey(TENANT_ID, check.resourceKey());
+        if (found.isEmpty()) {
+            return false;
+        }
+        Resource resource = found.get(0);
+        Permission permission = permissionRepository.findByCode(check.permissionCode()).orElse(null);
+        if (permission == null) {
+            return false;
+        }
+        List<Long> roleIds = userRoles.get(check.userId());
+        if (roleIds.isEmpty()) {
+            return false;
+        }
+        List<RolePermission> grants = rolePermissionRepository.findByTenantIdAndRoleIdIn(TENANT_ID, roleIds);
+        boolean hasDeny = grants.stream()
+                .anyMatch(rp -> rp.getResourceId().equals(resource.getResourceId())
+                        && rp.getPermissionId().equals(permission.getPermissionId())
+                        && "DENY".equals(rp.getEffect()));
+        if (hasDeny) {
+            return false;
+        }
+        return grants.stream()
+                .anyMatch(rp -> rp.getResourceId().equals(resource.getResourceId())
+                        && rp.getPermissionId().equals(permission.getPermissionId())
+                        && "ALLOW".equals(rp.getEffect()));
+    }
+
+    private boolean bitmapEngine(Check check) {
+        return engine.canAccess(TENANT_ID, check.userId(), check.resourceKey(), check.permissionCode(),
+                () -> userRoles.get(check.userId()));
+    }
+
+    /**
+     * 지정한 메서드만 구현한 메모리 저장소 프록시
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> handler = methods.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return handler.apply(args);
+        });
+    }
+}
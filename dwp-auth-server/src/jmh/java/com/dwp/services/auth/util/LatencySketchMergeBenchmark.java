@@ -0,0 +1,80 @@
+package com.dwp.services.auth.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분 단위 스케치 병합 vs 원본 정렬 기반 정확 분위수 비교
+ *
+ * - mergeSketches: 롤업 조회 경로. 분 버킷 스케치(bytea)를 역직렬화/병합 후 p50/p95/p99 계산
+ * - exactPercentile: 기존 percentile_cont 경로와 같은 방식(구간 전체 원본 지연시간 정렬 후 보간)을 메모리에서 재현.
+ *   DB I/O 비용은 제외되므로 SQL 경로 대비 하한값입니다.
+ *
+ * 실행: ./gradlew :dwp-auth-server:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LatencySketchMergeBenchmark {
+
+    /** 조회 구간의 분 수 (1시간, 1일, 7일) */
+    @Param({"60", "1440", "10080"})
+    private int minutes;
+
+    /** 분당 요청 수 */
+    @Param({"1000"})
+    private int requestsPerMinute;
+
+    private byte[][] minuteSketches;
+    private long[] rawLatencies;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        minuteSketches = new byte[minutes][];
+        rawLatencies = new long[minutes * requestsPerMinute];
+        int n = 0;
+        for (int m = 0; m < minutes; m++) {
+            LatencySketch sketch = new LatencySketch();
+            for (int i = 0; i < requestsPerMinute; i++) {
+                long latency = Math.max(1L, (long) Math.exp(random.nextGaussian() * 1.2 + 4.5));
+                sketch.add(latency);
+                rawLatencies[n++] = latency;
+            }
+            minuteSketches[m] = sketch.toBytes();
+        }
+    }
+
+    @Benchmark
+    public double mergeSketches() {
+        LatencySketch merged = new LatencySketch();
+        for (byte[] bytes : minuteSketches) {
+            merged.merge(LatencySketch.fromBytes(bytes));
+        }
+        return merged.quantile(0.5) + merged.quantile(0.95) + merged.quantile(0.99);
+    }
+
+    @Benchmark
+    public double exactPercentile() {
+        long[] sorted = Arrays.copyOf(rawLatencies, rawLatencies.length);
+        Arrays.sort(sorted);
+        return percentileCont(sorted, 0.5) + percentileCont(sorted, 0.95) + percentileCont(sorted, 0.99);
+    }
+
+    private static double percentileCont(long[] sorted, double q) {
+        double rank = q * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (rank - lower);
+    }
+}
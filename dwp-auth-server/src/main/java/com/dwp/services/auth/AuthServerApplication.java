@@ -9,11 +9,13 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Slf4j
 @SpringBootApplication
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 @EnableJpaRepositories(basePackages = "com.dwp.services.auth.repository")
+@EnableScheduling
 // @ComponentScan 제거: dwp-core AutoConfiguration으로 자동 적용
 // @ComponentScan(basePackages = {"com.dwp.core", "com.dwp.services.auth"})
 public class AuthServerApplication {
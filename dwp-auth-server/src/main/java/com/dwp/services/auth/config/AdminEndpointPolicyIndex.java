@@ -0,0 +1,218 @@
+package com.dwp.services.auth.config;
+
+import com.dwp.services.auth.config.AdminEndpointPolicyRegistry.RequiredPermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Admin 엔드포인트 정책 인덱스 ({@link AdminEndpointPolicyRegistry}에 등록된 정규식을 1회 컴파일)
+ *
+ * 요청마다 전체 정책 정규식을 순회하지 않도록 메서드별 경로 trie로 변환합니다.
+ * - 세그먼트 종류: 리터럴(예: users), ID(\d+), 와일드카드([^/]+)
+ * - trie로 표현할 수 없는 정규식(.*, 그룹, 세그먼트 내부 패턴 등)은 메서드별 fallback 목록에서 기존 방식으로 매칭
+ * - 한 경로가 여러 정책에 해당하면 모두 반환 (기존 전체 순회와 동일한 의미)
+ * - trie 조회 결과는 (method, 경로 템플릿) 단위로 캐시. 숫자 세그먼트는 {id}로 정규화되어 리소스 id마다 캐시가 늘지 않음
+ *   (숫자로만 된 리터럴 세그먼트가 등록된 경우에는 정규화하지 않음)
+ *
+ * 생성 후 불변이며 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+final class AdminEndpointPolicyIndex {
+
+    static final String ID_SEGMENT = "\\d+";
+    static final String WILDCARD_SEGMENT = "[^/]+";
+    private static final String WILDCARD_PLACEHOLDER = "\u0000";
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[A-Za-z0-9_~-]+");
+    private static final String ID_TEMPLATE = "{id}";
+    private static final long CACHE_MAX_ENTRIES = 10_000L;
+
+    /** 등록된 정책 1건 */
+    record PolicyDefinition(String method, String pathPattern, RequiredPermission permission) {
+    }
+
+    private record RegexPolicy(Pattern pathPattern, RequiredPermission permission) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node id;
+        private Node wildcard;
+        private final List<RequiredPermission> policies = new ArrayList<>();
+    }
+
+    private final Map<String, Node> roots = new HashMap<>();
+    private final Map<String, List<RegexPolicy>> fallbacks = new HashMap<>();
+    private final boolean normalizeIds;
+    private final int triePolicyCount;
+    private final int fallbackPolicyCount;
+    private final Cache<String, List<RequiredPermission>> resolvedCache = Caffeine.newBuilder()
+            .maximumSize(CACHE_MAX_ENTRIES)
+            .build();
+
+    AdminEndpointPolicyIndex(List<PolicyDefinition> definitions) {
+        boolean numericLiteral = false;
+        int trieCount = 0;
+        int fallbackCount = 0;
+        for (PolicyDefinition definition : definitions) {
+            String method = normalizeMethod(definition.method());
+            String[] segments = toSegments(definition.pathPattern());
+            if (segments == null) {
+                fallbacks.computeIfAbsent(method, k -> new ArrayList<>())
+                        .add(new RegexPolicy(Pattern.compile(definition.pathPattern()), definition.permission()));
+                fallbackCount++;
+                continue;
+            }
+            Node node = roots.computeIfAbsent(method, k -> new Node());
+            for (String segment : segments) {
+                if (ID_SEGMENT.equals(segment)) {
+                    node = node.id != null ? node.id : (node.id = new Node());
+                } else if (WILDCARD_PLACEHOLDER.equals(segment)) {
+                    node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node());
+                } else {
+                    numericLiteral |= isDigits(segment);
+                    node = node.literals.computeIfAbsent(segment, k -> new Node());
+                }
+            }
+            node.policies.add(definition.permission());
+            trieCount++;
+        }
+        this.normalizeIds = !numericLiteral;
+        this.triePolicyCount = trieCount;
+        this.fallbackPolicyCount = fallbackCount;
+    }
+
+    /**
+     * 메서드/경로에 해당하는 정책 조회
+     *
+     * @return 필요한 권한 목록 (없으면 빈 리스트, 불변)
+     */
+    List<RequiredPermission> find(String method, String path) {
+        if (method == null || path == null) {
+            return List.of();
+        }
+        String normalizedMethod = normalizeMethod(method);
+        Node root = roots.get(normalizedMethod);
+        List<RegexPolicy> regexPolicies = fallbacks.get(normalizedMethod);
+        List<RequiredPermission> resolved = root == null || !path.startsWith("/")
+                ? List.of()
+                : resolvedCache.get(normalizedMethod + ' ' + template(path), key -> match(root, path));
+        if (regexPolicies == null) {
+            return resolved;
+        }
+        List<RequiredPermission> result = new ArrayList<>(resolved);
+        for (RegexPolicy policy : regexPolicies) {
+            if (policy.pathPattern().matcher(path).matches()) {
+                result.add(policy.permission());
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    int getTriePolicyCount() {
+        return triePolicyCount;
+    }
+
+    int getFallbackPolicyCount() {
+        return fallbackPolicyCount;
+    }
+
+    private static List<RequiredPermission> match(Node root, String path) {
+        String[] segments = path.substring(1).split("/", -1);
+        List<RequiredPermission> result = new ArrayList<>();
+        collect(root, segments, 0, result);
+        return List.copyOf(result);
+    }
+
+    private static void collect(Node node, String[] segments, int index, List<RequiredPermission> result) {
+        if (index == segments.length) {
+            result.addAll(node.policies);
+            return;
+        }
+        String segment = segments[index];
+        if (segment.isEmpty()) {
+            return;
+        }
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, segments, index + 1, result);
+        }
+        if (node.id != null && isDigits(segment)) {
+            collect(node.id, segments, index + 1, result);
+        }
+        if (node.wildcard != null) {
+            collect(node.wildcard, segments, index + 1, result);
+        }
+    }
+
+    /**
+     * 캐시 키용 경로 템플릿 (숫자 세그먼트 → {id})
+     */
+    private String template(String path) {
+        if (!normalizeIds) {
+            return path;
+        }
+        StringBuilder template = new StringBuilder(path.length());
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            template.append(isDigits(segment) ? ID_TEMPLATE : segment);
+            if (end < path.length()) {
+                template.append('/');
+            }
+            start = end + 1;
+        }
+        return template.toString();
+    }
+
+    /**
+     * 정규식을 trie 세그먼트로 변환 (표현할 수 없으면 null)
+     * "^/api/admin/users/\\d+$" → [api, admin, users, \d+]
+     */
+    private static String[] toSegments(String pathPattern) {
+        String body = pathPattern;
+        if (body.startsWith("^")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("$") && !body.endsWith("\\$")) {
+            body = body.substring(0, body.length() - 1);
+        }
+        if (!body.startsWith("/")) {
+            return null;
+        }
+        String[] segments = body.substring(1).replace(WILDCARD_SEGMENT, WILDCARD_PLACEHOLDER).split("/", -1);
+        for (String segment : segments) {
+            if (!ID_SEGMENT.equals(segment) && !WILDCARD_PLACEHOLDER.equals(segment)
+                    && !LITERAL_SEGMENT.matcher(segment).matches()) {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isDigits(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalizeMethod(String method) {
+        return method.toUpperCase(Locale.ROOT);
+    }
+}
@@ -7,9 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -37,36 +35,6 @@ public class AdminEndpointPolicyRegistry {
         private String effectRequired;  // 기본 "ALLOW" (DENY 우선 정책은 추후)
     }
     
-    /**
-     * 정책 키: method + pathPattern
-     */
-    private static class PolicyKey {
-        private final String method;
-        private final Pattern pathPattern;
-        
-        public PolicyKey(String method, Pattern pathPattern) {
-            this.method = method;
-            this.pathPattern = pathPattern;
-        }
-        
-        public boolean matches(String method, String path) {
-            return this.method.equalsIgnoreCase(method) && pathPattern.matcher(path).matches();
-        }
-        
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            PolicyKey policyKey = (PolicyKey) o;
-            return method.equals(policyKey.method) && pathPattern.pattern().equals(policyKey.pathPattern.pattern());
-        }
-        
-        @Override
-        public int hashCode() {
-            return method.hashCode() * 31 + pathPattern.pattern().hashCode();
-        }
-    }
-    
     // 정책 모드: RELAX (기본, admin만 통과) 또는 STRICT (policy 없으면 deny)
     public enum PolicyMode {
         RELAX,  // policy 없으면 admin만 통과
@@ -75,8 +43,11 @@ public class AdminEndpointPolicyRegistry {
     
     private PolicyMode mode = PolicyMode.RELAX;  // 기본값
     
-    // 엔드포인트 정책 매핑: (method, pathPattern) -> RequiredPermission[]
-    private final Map<PolicyKey, List<RequiredPermission>> endpointPolicies = new HashMap<>();
+    // 등록 순서대로 보관하는 정책 정의 (인덱스 재컴파일 원본)
+    private final List<AdminEndpointPolicyIndex.PolicyDefinition> definitions = new ArrayList<>();
+    
+    // 컴파일된 정책 인덱스 (등록 변경 시 null로 무효화, 다음 조회 시 재컴파일)
+    private volatile AdminEndpointPolicyIndex index;
     
     /**
      * 엔드포인트 정책 등록
@@ -87,8 +58,7 @@ public class AdminEndpointPolicyRegistry {
      * @param permissionCode 권한 코드 (예: VIEW, USE, EDIT, EXECUTE)
      */
     public void registerPolicy(String method, String pathPattern, String resourceKey, String permissionCode) {
-        Pattern pattern = Pattern.compile(pathPattern);
-        PolicyKey key = new PolicyKey(method, pattern);
+        Pattern.compile(pathPattern);  // 잘못된 정규식은 등록 시점에 실패
         
         RequiredPermission permission = RequiredPermission.builder()
                 .resourceKey(resourceKey)
@@ -96,22 +66,39 @@ public class AdminEndpointPolicyRegistry {
                 .effectRequired("ALLOW")  // 기본값
                 .build();
         
-        endpointPolicies.computeIfAbsent(key, k -> new ArrayList<>()).add(permission);
+        synchronized (definitions) {
+            definitions.add(new AdminEndpointPolicyIndex.PolicyDefinition(method, pathPattern, permission));
+            index = null;
+        }
         log.debug("Policy registered: {} {} -> {} {}", method, pathPattern, resourceKey, permissionCode);
     }
     
     /**
      * 엔드포인트에 필요한 권한 조회
      * 
+     * 컴파일된 경로 trie로 조회합니다 ({@link AdminEndpointPolicyIndex}).
+     * 
      * @param method HTTP 메서드
      * @param path 요청 경로
      * @return 필요한 권한 목록 (없으면 빈 리스트)
      */
     public List<RequiredPermission> findPolicies(String method, String path) {
-        return endpointPolicies.entrySet().stream()
-                .filter(entry -> entry.getKey().matches(method, path))
-                .flatMap(entry -> entry.getValue().stream())
-                .toList();
+        AdminEndpointPolicyIndex current = index;
+        if (current == null) {
+            current = compileIndex();
+        }
+        return current.find(method, path);
+    }
+    
+    private AdminEndpointPolicyIndex compileIndex() {
+        synchronized (definitions) {
+            AdminEndpointPolicyIndex current = index;
+            if (current == null) {
+                current = new AdminEndpointPolicyIndex(definitions);
+                index = current;
+            }
+            return current;
+        }
     }
     
     /**
@@ -232,6 +219,9 @@ public class AdminEndpointPolicyRegistry {
         registerPolicy("GET", "^/api/admin/audit-logs/export$", "menu.admin.audit", "VIEW");  // P1-9
         registerPolicy("POST", "^/api/admin/audit-logs/export$", "menu.admin.audit", "VIEW");
         
-        log.info("Endpoint Policy Registry initialized with {} policies", endpointPolicies.size());
+        AdminEndpointPolicyIndex compiled = compileIndex();
+        log.info("Endpoint Policy Registry initialized with {} policies (trie: {}, regex fallback: {})",
+                compiled.getTriePolicyCount() + compiled.getFallbackPolicyCount(),
+                compiled.getTriePolicyCount(), compiled.getFallbackPolicyCount());
     }
 }
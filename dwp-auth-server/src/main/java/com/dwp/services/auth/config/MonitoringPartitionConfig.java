@@ -0,0 +1,46 @@
+package com.dwp.services.auth.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모니터링 원본 이력 파티션 관리 설정 (sys_api_call_histories, sys_page_view_events) + 롤업 보존기간
+ *
+ * 테넌트별 보존기간은 sys_monitoring_configs DATA_RETENTION_DAYS로 관리하며,
+ * 설정이 없는 테넌트는 defaultRetentionDays를 사용합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "monitoring.partition")
+public class MonitoringPartitionConfig {
+
+    /** 스케줄 활성화 (기본 true) */
+    private boolean enabled = true;
+
+    /** 매일 00:10 실행 (cron) */
+    private String cron = "0 10 0 * * *";
+
+    /** 오늘 포함 미리 생성할 일 파티션 수 */
+    private int premakeDays = 7;
+
+    /** 테넌트 설정이 없을 때 보존 일수 */
+    private int defaultRetentionDays = 90;
+
+    /**
+     * 분 단위 롤업(sys_api_call_*_rollups) 보존 일수.
+     * 원본보다 작고 장기 추이 조회용이므로 원본보다 길게 두며, 원본 최대 보존기간보다 짧으면 원본 최대 보존기간을 적용
+     */
+    private int rollupRetentionDays = 400;
+
+    /** 롤업 보존기간 삭제 1회(트랜잭션)당 최대 행 수 */
+    private int rollupDeleteBatchSize = 10000;
+
+    /** 만료 파티션 처리 방식 (DROP: 삭제, DETACH: 분리 후 보관 - 외부 아카이브/수동 삭제용) */
+    private ExpireAction expireAction = ExpireAction.DROP;
+
+    public enum ExpireAction {
+        DROP,
+        DETACH
+    }
+}
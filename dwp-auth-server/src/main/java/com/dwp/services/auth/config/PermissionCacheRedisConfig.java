@@ -0,0 +1,33 @@
+package com.dwp.services.auth.config;
+
+import com.dwp.core.event.EventChannels;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidationSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 권한 캐시 무효화 Redis Pub/Sub 구독 설정.
+ * 채널 dwp:events:permission-cache에서 다른 auth-server 인스턴스의 무효화 메시지 수신 → 로컬 권한 캐시 무효화.
+ * 구독자가 SubscriptionListener를 구현하므로 어댑터 없이 직접 등록합니다 (재구독 알림 수신).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "rbac.cache.redis.enabled", havingValue = "true")
+public class PermissionCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer permissionCacheListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PermissionCacheInvalidationSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(EventChannels.PERMISSION_CACHE_EVENTS));
+        log.info("Permission cache invalidation listener subscribed to channel: {}", EventChannels.PERMISSION_CACHE_EVENTS);
+        return container;
+    }
+}
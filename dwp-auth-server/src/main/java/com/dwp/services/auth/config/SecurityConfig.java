@@ -1,5 +1,6 @@
 package com.dwp.services.auth.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -17,9 +18,11 @@ public class SecurityConfig {
      * BCrypt Password Encoder
      * 
      * LOCAL 계정의 비밀번호 해싱/검증에 사용됩니다.
+     * cost(auth.login.password.bcrypt-cost)는 신규 해시에 적용되며, 기존 해시는
+     * auth.login.password.rehash-on-login=true일 때 로그인 성공 시 이 cost로 재해싱됩니다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.login.password.bcrypt-cost:10}") int bcryptCost) {
+        return new BCryptPasswordEncoder(bcryptCost);
     }
 }
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 내부 통신용 컨트롤러
  *
@@ -35,6 +37,18 @@ public class InternalMonitoringController {
         return ApiResponse.success();
     }
 
+    /**
+     * API 호출 이력 벌크 적재 (Gateway 마이크로 배치)
+     * POST /internal/api-call-history/batch
+     *
+     * Gateway ApiCallHistoryBuffer가 batch-size/flush 주기 단위로 묶어서 전송합니다.
+     * JDBC batch insert로 저장하며, 응답 data는 저장된 행 수입니다.
+     */
+    @PostMapping("/api-call-history/batch")
+    public ApiResponse<Integer> recordApiCallHistoryBatch(@RequestBody List<ApiCallHistoryRequest> requests) {
+        return ApiResponse.success(monitoringService.recordApiCallHistories(requests));
+    }
+
     /**
      * 감사 로그 기록 (내부 API)
      * POST /internal/audit-logs
@@ -5,6 +5,7 @@ import com.dwp.services.auth.dto.admin.AuditLogDetail;
 import com.dwp.services.auth.dto.admin.AuditLogItem;
 import com.dwp.services.auth.dto.admin.ExportAuditLogsRequest;
 import com.dwp.services.auth.dto.admin.PageResponse;
+import com.dwp.services.auth.service.admin.AuditLogExportFormat;
 import com.dwp.services.auth.service.admin.AuditLogQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -65,11 +68,11 @@ public class AdminAuditLogController {
     }
     
     /**
-     * P1-9: 감사 로그 Excel 다운로드 (GET, query params). POST /export와 동일 로직.
-     * GET /api/admin/audit-logs/export?from=&to=&actor=&action=&resourceType=&keyword=&maxRows=
+     * P1-9: 감사 로그 다운로드 (GET, query params). POST /export와 동일 로직.
+     * GET /api/admin/audit-logs/export?from=&to=&actor=&action=&resourceType=&keyword=&maxRows=&format=xlsx|csv
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportAuditLogsGet(
+    public ResponseEntity<StreamingResponseBody> exportAuditLogsGet(
             @RequestHeader("X-Tenant-ID") Long tenantId,
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to,
@@ -79,26 +82,17 @@ public class AdminAuditLogController {
             @RequestParam(required = false) String action,
             @RequestParam(required = false) String resourceType,
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) Integer maxRows) {
+            @RequestParam(required = false) Integer maxRows,
+            @RequestParam(required = false) String format) {
         LocalDateTime fromDt = from != null ? convertUtcToKst(from) : null;
         LocalDateTime toDt = to != null ? convertUtcToKst(to) : null;
         Long effectiveActor = actorUserId != null ? actorUserId : actor;
         String effectiveAction = actionType != null ? actionType : action;
         ExportAuditLogsRequest req = ExportAuditLogsRequest.builder()
                 .from(fromDt).to(toDt).actorUserId(effectiveActor).actionType(effectiveAction)
-                .resourceType(resourceType).keyword(keyword).maxRows(maxRows != null ? maxRows : 100)
+                .resourceType(resourceType).keyword(keyword).maxRows(maxRows).format(format)
                 .build();
-        try {
-            byte[] excelBytes = auditLogQueryService.exportAuditLogsToExcel(tenantId, req);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment",
-                    "audit-logs-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + ".xlsx");
-            return ResponseEntity.ok().headers(headers).body(excelBytes);
-        } catch (Exception e) {
-            log.error("Failed to export audit logs (GET)", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        return streamExport(tenantId, req);
     }
     
     /**
@@ -117,33 +111,39 @@ public class AdminAuditLogController {
      * POST /api/admin/audit-logs/export
      */
     @PostMapping("/export")
-    public ResponseEntity<byte[]> exportAuditLogs(
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
             @RequestHeader("X-Tenant-ID") Long tenantId,
             @RequestBody ExportAuditLogsRequest request) {
-        try {
-            log.debug("exportAuditLogs 호출: tenantId={}, from={}, to={}", 
-                    tenantId, request.getFrom(), request.getTo());
-            
-            // UTC 시간을 KST로 변환 (ExportAuditLogsRequest의 from/to는 LocalDateTime이므로 직접 변환 불가)
-            // JSON 역직렬화 시 이미 LocalDateTime으로 변환되어 있으므로, 여기서는 그대로 사용
-            // 단, 프론트엔드에서 UTC 시간을 보낸 경우를 고려하여 변환 필요
-            // 하지만 RequestBody는 이미 역직렬화된 상태이므로, 프론트엔드에서 KST로 보내거나
-            // 별도의 커스텀 역직렬화가 필요함. 현재는 그대로 사용
-            
-            byte[] excelBytes = auditLogQueryService.exportAuditLogsToExcel(tenantId, request);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", 
-                    "audit-logs-" + LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + ".xlsx");
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelBytes);
-        } catch (Exception e) {
-            log.error("Failed to export audit logs", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        log.debug("exportAuditLogs 호출: tenantId={}, from={}, to={}", 
+                tenantId, request.getFrom(), request.getTo());
+        
+        // UTC 시간을 KST로 변환 (ExportAuditLogsRequest의 from/to는 LocalDateTime이므로 직접 변환 불가)
+        // JSON 역직렬화 시 이미 LocalDateTime으로 변환되어 있으므로, 여기서는 그대로 사용
+        // 단, 프론트엔드에서 UTC 시간을 보낸 경우를 고려하여 변환 필요
+        // 하지만 RequestBody는 이미 역직렬화된 상태이므로, 프론트엔드에서 KST로 보내거나
+        // 별도의 커스텀 역직렬화가 필요함. 현재는 그대로 사용
+        return streamExport(tenantId, request);
+    }
+    
+    /**
+     * 내보내기 응답을 스트리밍으로 기록 (MVC 비동기 스레드에서 실행, 요청 스레드 즉시 반환).
+     * 형식 검증은 응답 시작 전에 수행하고, 기록 중 오류는 헤더가 이미 전송되었으므로 연결 종료로 처리됩니다.
+     */
+    private ResponseEntity<StreamingResponseBody> streamExport(Long tenantId, ExportAuditLogsRequest request) {
+        AuditLogExportFormat format = AuditLogExportFormat.from(request.getFormat());
+        StreamingResponseBody body = out -> {
+            try {
+                auditLogQueryService.exportAuditLogs(tenantId, request, format, out);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to export audit logs: tenantId={}, format={}", tenantId, format, e);
+                throw e;
+            }
+        };
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getContentType()));
+        headers.setContentDispositionFormData("attachment",
+                "audit-logs-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + "." + format.getExtension());
+        return ResponseEntity.ok().headers(headers).body(body);
     }
     
     /**
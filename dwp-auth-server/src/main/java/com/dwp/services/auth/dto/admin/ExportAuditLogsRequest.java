@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 
 /**
  * PR-08C: 감사 로그 Excel 다운로드 요청 DTO
+ * 내보내기는 스트리밍 방식이므로 maxRows 미지정 시 조건에 맞는 전체 행을 내보냅니다.
  */
 @Data
 @Builder
@@ -23,6 +24,10 @@ public class ExportAuditLogsRequest {
     private String resourceType;
     private String keyword;
     
+    /** 최대 row 수 (null 또는 0 이하면 제한 없음) */
+    private Integer maxRows;
+
+    /** 파일 형식: xlsx(기본) | csv */
     @Builder.Default
-    private Integer maxRows = 100; // 기본 100 row 제한
+    private String format = "xlsx";
 }
@@ -50,4 +50,8 @@ public class LoginHistory extends BaseEntity {
     
     @Column(name = "trace_id", length = 100)
     private String traceId;
+    
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 1;  // 연속된 동일 실패 집계 (created_at=첫 시도, updated_at=마지막 시도)
 }
@@ -15,6 +15,12 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * API 호출 이력 Repository (sys_api_call_histories)
+ *
+ * 테이블은 created_at 일 단위 RANGE 파티션(V37)이므로, 집계 쿼리는 항상 created_at 구간 조건을 포함해
+ * 조회 구간에 해당하는 파티션만 스캔되도록 합니다 (바인딩 파라미터는 실행 시점 프루닝).
+ */
 public interface ApiCallHistoryRepository extends JpaRepository<ApiCallHistory, Long> {
     
     Page<ApiCallHistory> findByTenantIdOrderByCreatedAtDesc(Long tenantId, Pageable pageable);
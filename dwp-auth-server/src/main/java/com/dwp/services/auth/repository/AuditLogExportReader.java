@@ -0,0 +1,95 @@
+package com.dwp.services.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 내보내기용 keyset 페이지 조회 (com_audit_logs)
+ *
+ * OFFSET 페이징 대신 (created_at, audit_log_id) 내림차순 keyset으로 다음 페이지를 조회하므로
+ * 페이지 깊이와 무관하게 인덱스(idx_com_audit_logs_tenant_created_id) 범위 스캔 비용이 일정합니다.
+ * JPA 엔티티 대신 행 record로 매핑해 영속성 컨텍스트에 누적되지 않습니다.
+ * 필터 조건은 AuditLogRepository.findByTenantIdAndFilters와 동일합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogExportReader {
+
+    private static final String SELECT_SQL = "SELECT a.audit_log_id, a.tenant_id, a.actor_user_id, a.action," +
+            " a.resource_type, a.resource_id, a.metadata_json, a.created_at" +
+            " FROM com_audit_logs a WHERE a.tenant_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Filter(LocalDateTime from, LocalDateTime to, Long actorUserId,
+                         String actionType, String resourceType, String keyword) {
+    }
+
+    public record Row(Long auditLogId, Long tenantId, Long actorUserId, String action, String resourceType,
+                      Long resourceId, String metadataJson, LocalDateTime createdAt) {
+    }
+
+    /**
+     * after 행 다음(더 오래된)부터 최대 limit건 조회. after가 null이면 첫 페이지.
+     */
+    public List<Row> findPage(Long tenantId, Filter filter, Row after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(tenantId);
+        if (filter.from() != null) {
+            sql.append(" AND a.created_at >= ?");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND a.created_at <= ?");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+        if (filter.actorUserId() != null) {
+            sql.append(" AND a.actor_user_id = ?");
+            args.add(filter.actorUserId());
+        }
+        if (filter.actionType() != null) {
+            sql.append(" AND a.action = ?");
+            args.add(filter.actionType());
+        }
+        if (filter.resourceType() != null) {
+            sql.append(" AND a.resource_type = ?");
+            args.add(filter.resourceType());
+        }
+        if (filter.keyword() != null && !filter.keyword().isEmpty()) {
+            sql.append(" AND (LOWER(a.action) LIKE LOWER(CONCAT('%', ?, '%'))")
+                    .append(" OR LOWER(a.resource_type) LIKE LOWER(CONCAT('%', ?, '%')))");
+            args.add(filter.keyword());
+            args.add(filter.keyword());
+        }
+        if (after != null) {
+            sql.append(" AND (a.created_at, a.audit_log_id) < (?, ?)");
+            args.add(Timestamp.valueOf(after.createdAt()));
+            args.add(after.auditLogId());
+        }
+        sql.append(" ORDER BY a.created_at DESC, a.audit_log_id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, i) -> toRow(rs), args.toArray());
+    }
+
+    private static Row toRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Row(
+                rs.getLong("audit_log_id"),
+                rs.getLong("tenant_id"),
+                rs.getObject("actor_user_id", Long.class),
+                rs.getString("action"),
+                rs.getString("resource_type"),
+                rs.getObject("resource_id", Long.class),
+                rs.getString("metadata_json"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dwp.services.auth.repository;
+
+import com.dwp.services.auth.entity.LoginHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 로그인 이력 JDBC 배치 적재 (sys_login_histories)
+ *
+ * LoginHistoryBuffer의 flush 전용. datasource URL의 reWriteBatchedInserts=true 설정 시
+ * PostgreSQL 드라이버가 multi-row INSERT로 재작성합니다.
+ * created_at/updated_at은 이력에 기록된 첫/마지막 시도 시각을 그대로 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginHistoryBatchWriter {
+
+    /** executeBatch 1회당 최대 행 수 */
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO sys_login_histories (" +
+            " tenant_id, user_id, provider_type, provider_id, principal, success, failure_reason," +
+            " ip_address, user_agent, trace_id, attempt_count, created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력 일괄 저장
+     *
+     * @return 저장 요청한 행 수
+     */
+    public int insertAll(List<LoginHistory> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, JDBC_BATCH_SIZE, LoginHistoryBatchWriter::bind);
+        return rows.size();
+    }
+
+    private static void bind(PreparedStatement ps, LoginHistory h) throws SQLException {
+        ps.setLong(1, h.getTenantId());
+        if (h.getUserId() == null) {
+            ps.setNull(2, Types.BIGINT);
+        } else {
+            ps.setLong(2, h.getUserId());
+        }
+        ps.setString(3, h.getProviderType());
+        ps.setString(4, h.getProviderId());
+        ps.setString(5, h.getPrincipal());
+        ps.setBoolean(6, Boolean.TRUE.equals(h.getSuccess()));
+        ps.setString(7, h.getFailureReason());
+        ps.setString(8, h.getIpAddress());
+        ps.setString(9, h.getUserAgent());
+        ps.setString(10, h.getTraceId());
+        ps.setInt(11, h.getAttemptCount() != null ? h.getAttemptCount() : 1);
+        ps.setTimestamp(12, Timestamp.valueOf(h.getCreatedAt()));
+        ps.setTimestamp(13, Timestamp.valueOf(h.getUpdatedAt() != null ? h.getUpdatedAt() : h.getCreatedAt()));
+    }
+}
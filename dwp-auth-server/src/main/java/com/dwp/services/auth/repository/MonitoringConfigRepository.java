@@ -10,4 +10,7 @@ import java.util.List;
 public interface MonitoringConfigRepository extends org.springframework.data.jpa.repository.JpaRepository<MonitoringConfig, Long> {
 
     List<MonitoringConfig> findByTenantIdOrderByMonitoringConfigId(Long tenantId);
+
+    /** 전체 테넌트의 특정 설정 키 조회 (예: DATA_RETENTION_DAYS - 파티션 보존기간 산정) */
+    List<MonitoringConfig> findByConfigKey(String configKey);
 }
@@ -0,0 +1,78 @@
+package com.dwp.services.auth.repository.monitoring;
+
+import com.dwp.services.auth.util.LatencySketch;
+import lombok.Getter;
+
+/**
+ * API 호출 롤업 집계 값 (sys_api_call_minute_rollups / sys_api_call_path_rollups 1행 분량)
+ *
+ * ingest 시 배치 내 누적, 조회 시 롤업 행 + 원본 경계 구간 합산에 공용으로 사용합니다.
+ * 모든 필드는 덧셈으로 합쳐지므로 임의 순서로 merge해도 결과가 같습니다.
+ */
+@Getter
+public class ApiCallRollupCounters {
+
+    private long totalCount;
+    /** 200~399 */
+    private long successCount;
+    private long count4xx;
+    private long count5xx;
+    /** latency_ms가 있는 건수 */
+    private long latencyCount;
+    private long latencySumMs;
+    private final LatencySketch latencySketch = new LatencySketch();
+
+    /** 원본 1건 누적 */
+    public void add(int statusCode, Long latencyMs) {
+        totalCount++;
+        if (statusCode >= 200 && statusCode < 400) {
+            successCount++;
+        } else if (statusCode >= 400 && statusCode < 500) {
+            count4xx++;
+        } else if (statusCode >= 500 && statusCode < 600) {
+            count5xx++;
+        }
+        if (latencyMs != null) {
+            latencyCount++;
+            latencySumMs += latencyMs;
+            latencySketch.add(latencyMs);
+        }
+    }
+
+    /** 롤업 행 값 누적 (스케치 제외) */
+    public void addCounts(long total, long success, long c4xx, long c5xx, long latCount, long latSumMs) {
+        totalCount += total;
+        successCount += success;
+        count4xx += c4xx;
+        count5xx += c5xx;
+        latencyCount += latCount;
+        latencySumMs += latSumMs;
+    }
+
+    /** 롤업 행 스케치 누적 */
+    public void mergeSketch(LatencySketch sketch) {
+        latencySketch.merge(sketch);
+    }
+
+    public void merge(ApiCallRollupCounters other) {
+        if (other == null) return;
+        addCounts(other.totalCount, other.successCount, other.count4xx, other.count5xx,
+                other.latencyCount, other.latencySumMs);
+        latencySketch.merge(other.latencySketch);
+    }
+
+    /** 4xx + 5xx */
+    public long getErrorCount() {
+        return count4xx + count5xx;
+    }
+
+    /** 평균 지연(ms). latency 데이터 없으면 null */
+    public Double getAvgLatencyMs() {
+        return latencyCount == 0 ? null : (double) latencySumMs / latencyCount;
+    }
+
+    /** 분위수 (상대 오차 {@link LatencySketch#RELATIVE_ACCURACY} 이내). latency 데이터 없으면 null */
+    public Double percentile(double q) {
+        return latencySketch.quantile(q);
+    }
+}
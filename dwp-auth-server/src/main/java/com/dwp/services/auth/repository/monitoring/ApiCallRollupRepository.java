@@ -0,0 +1,275 @@
+package com.dwp.services.auth.repository.monitoring;
+
+import com.dwp.services.auth.util.LatencySketch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * API 호출 분 단위 롤업 JDBC Repository
+ * (sys_api_call_minute_rollups, sys_api_call_path_rollups, sys_api_call_error_rollups)
+ *
+ * - upsert: 배치 내 집계를 INSERT ... ON CONFLICT DO UPDATE로 누적 (지연시간 스케치는 dwp_latency_sketch_merge로 병합)
+ * - 조회: bucket_start 범위 [from, toExclusive) 내 롤업 행을 합산. from/toExclusive는 분 경계여야 함
+ * - 원본 경계 구간(분 단위로 나누어 떨어지지 않는 앞/뒤 구간) 조회용 raw slice 제공
+ *
+ * 동시 배치 간 교착 방지를 위해 upsert는 항상 키 정렬 순서로 실행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiCallRollupRepository {
+
+    private static final String SKETCH_MERGE_EXPR = "dwp_latency_sketch_merge(r.latency_sketch, EXCLUDED.latency_sketch)";
+
+    private static final String UPSERT_MINUTE_SQL = "INSERT INTO sys_api_call_minute_rollups AS r (" +
+            " tenant_id, bucket_start, total_count, success_count, count_4xx, count_5xx," +
+            " latency_count, latency_sum_ms, latency_sketch, created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" +
+            " ON CONFLICT (tenant_id, bucket_start) DO UPDATE SET" +
+            " total_count = r.total_count + EXCLUDED.total_count," +
+            " success_count = r.success_count + EXCLUDED.success_count," +
+            " count_4xx = r.count_4xx + EXCLUDED.count_4xx," +
+            " count_5xx = r.count_5xx + EXCLUDED.count_5xx," +
+            " latency_count = r.latency_count + EXCLUDED.latency_count," +
+            " latency_sum_ms = r.latency_sum_ms + EXCLUDED.latency_sum_ms," +
+            " latency_sketch = " + SKETCH_MERGE_EXPR + "," +
+            " updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_PATH_SQL = "INSERT INTO sys_api_call_path_rollups AS r (" +
+            " tenant_id, bucket_start, path, total_count, count_4xx, count_5xx," +
+            " latency_count, latency_sum_ms, latency_sketch, created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)" +
+            " ON CONFLICT (tenant_id, bucket_start, path) DO UPDATE SET" +
+            " total_count = r.total_count + EXCLUDED.total_count," +
+            " count_4xx = r.count_4xx + EXCLUDED.count_4xx," +
+            " count_5xx = r.count_5xx + EXCLUDED.count_5xx," +
+            " latency_count = r.latency_count + EXCLUDED.latency_count," +
+            " latency_sum_ms = r.latency_sum_ms + EXCLUDED.latency_sum_ms," +
+            " latency_sketch = " + SKETCH_MERGE_EXPR + "," +
+            " updated_at = EXCLUDED.updated_at";
+
+    private static final String UPSERT_ERROR_SQL = "INSERT INTO sys_api_call_error_rollups AS r (" +
+            " tenant_id, bucket_start, path, status_code, request_count, created_at, updated_at" +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?)" +
+            " ON CONFLICT (tenant_id, bucket_start, path, status_code) DO UPDATE SET" +
+            " request_count = r.request_count + EXCLUDED.request_count," +
+            " updated_at = EXCLUDED.updated_at";
+
+    private static final String BUCKET_EPOCH_EXPR =
+            "(FLOOR(EXTRACT(EPOCH FROM r.bucket_start) / CAST(? AS double precision)) * CAST(? AS double precision))::bigint";
+
+    private static final String RANGE_WHERE = " WHERE r.tenant_id = ? AND r.bucket_start >= ? AND r.bucket_start < ?";
+
+    private static final String FIND_BUCKETS_SQL = "SELECT " + BUCKET_EPOCH_EXPR + " AS bucket_epoch," +
+            " SUM(r.total_count), SUM(r.success_count), SUM(r.count_4xx), SUM(r.count_5xx)," +
+            " SUM(r.latency_count), SUM(r.latency_sum_ms)" +
+            " FROM sys_api_call_minute_rollups r" + RANGE_WHERE +
+            " GROUP BY 1 ORDER BY 1";
+
+    private static final String FIND_BUCKET_SKETCHES_SQL = "SELECT " + BUCKET_EPOCH_EXPR + " AS bucket_epoch, r.latency_sketch" +
+            " FROM sys_api_call_minute_rollups r" + RANGE_WHERE +
+            " AND r.latency_sketch IS NOT NULL";
+
+    private static final String FIND_SKETCHES_SQL = "SELECT r.latency_sketch" +
+            " FROM sys_api_call_minute_rollups r" + RANGE_WHERE +
+            " AND r.latency_sketch IS NOT NULL";
+
+    private static final String FIND_PATH_TOTALS_SQL = "SELECT r.path," +
+            " SUM(r.total_count), SUM(r.count_4xx), SUM(r.count_5xx), SUM(r.latency_count), SUM(r.latency_sum_ms)" +
+            " FROM sys_api_call_path_rollups r" + RANGE_WHERE +
+            " GROUP BY r.path";
+
+    private static final String FIND_PATH_SKETCHES_SQL = "SELECT r.path, r.latency_sketch" +
+            " FROM sys_api_call_path_rollups r" + RANGE_WHERE +
+            " AND r.latency_sketch IS NOT NULL";
+
+    private static final String FIND_ERROR_COUNTS_SQL = "SELECT r.path, r.status_code, SUM(r.request_count)" +
+            " FROM sys_api_call_error_rollups r" + RANGE_WHERE +
+            " GROUP BY r.path, r.status_code";
+
+    private static final String FIND_RAW_SLICE_SQL = "SELECT a.created_at, a.path, a.status_code, a.latency_ms" +
+            " FROM sys_api_call_histories a" +
+            " WHERE a.tenant_id = ? AND a.created_at >= ? AND a.created_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** (tenant, 분) 키 */
+    public record MinuteKey(Long tenantId, LocalDateTime bucketStart) {
+        static final Comparator<MinuteKey> ORDER = Comparator
+                .comparing(MinuteKey::tenantId)
+                .thenComparing(MinuteKey::bucketStart);
+    }
+
+    /** (tenant, 분, path) 키 */
+    public record PathKey(Long tenantId, LocalDateTime bucketStart, String path) {
+        static final Comparator<PathKey> ORDER = Comparator
+                .comparing(PathKey::tenantId)
+                .thenComparing(PathKey::bucketStart)
+                .thenComparing(PathKey::path);
+    }
+
+    /** (tenant, 분, path, status) 키 */
+    public record ErrorKey(Long tenantId, LocalDateTime bucketStart, String path, int statusCode) {
+        static final Comparator<ErrorKey> ORDER = Comparator
+                .comparing(ErrorKey::tenantId)
+                .thenComparing(ErrorKey::bucketStart)
+                .thenComparing(ErrorKey::path)
+                .thenComparingInt(ErrorKey::statusCode);
+    }
+
+    /** 조회 결과 (path, status) 키 */
+    public record PathStatus(String path, int statusCode) {
+    }
+
+    /** 원본 행 콜백 */
+    @FunctionalInterface
+    public interface RawRowConsumer {
+        void accept(LocalDateTime createdAt, String path, int statusCode, Long latencyMs);
+    }
+
+    public void upsertMinuteRollups(Map<MinuteKey, ApiCallRollupCounters> rows, LocalDateTime now) {
+        if (rows.isEmpty()) return;
+        List<Map.Entry<MinuteKey, ApiCallRollupCounters>> sorted = sortedEntries(rows, MinuteKey.ORDER);
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_MINUTE_SQL, sorted, sorted.size(), (ps, e) -> {
+            ApiCallRollupCounters c = e.getValue();
+            ps.setLong(1, e.getKey().tenantId());
+            ps.setTimestamp(2, Timestamp.valueOf(e.getKey().bucketStart()));
+            ps.setLong(3, c.getTotalCount());
+            ps.setLong(4, c.getSuccessCount());
+            ps.setLong(5, c.getCount4xx());
+            ps.setLong(6, c.getCount5xx());
+            ps.setLong(7, c.getLatencyCount());
+            ps.setLong(8, c.getLatencySumMs());
+            setSketch(ps, 9, c.getLatencySketch());
+            ps.setTimestamp(10, ts);
+            ps.setTimestamp(11, ts);
+        });
+    }
+
+    public void upsertPathRollups(Map<PathKey, ApiCallRollupCounters> rows, LocalDateTime now) {
+        if (rows.isEmpty()) return;
+        List<Map.Entry<PathKey, ApiCallRollupCounters>> sorted = sortedEntries(rows, PathKey.ORDER);
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_PATH_SQL, sorted, sorted.size(), (ps, e) -> {
+            ApiCallRollupCounters c = e.getValue();
+            ps.setLong(1, e.getKey().tenantId());
+            ps.setTimestamp(2, Timestamp.valueOf(e.getKey().bucketStart()));
+            ps.setString(3, e.getKey().path());
+            ps.setLong(4, c.getTotalCount());
+            ps.setLong(5, c.getCount4xx());
+            ps.setLong(6, c.getCount5xx());
+            ps.setLong(7, c.getLatencyCount());
+            ps.setLong(8, c.getLatencySumMs());
+            setSketch(ps, 9, c.getLatencySketch());
+            ps.setTimestamp(10, ts);
+            ps.setTimestamp(11, ts);
+        });
+    }
+
+    public void upsertErrorRollups(Map<ErrorKey, Long> rows, LocalDateTime now) {
+        if (rows.isEmpty()) return;
+        List<Map.Entry<ErrorKey, Long>> sorted = sortedEntries(rows, ErrorKey.ORDER);
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_ERROR_SQL, sorted, sorted.size(), (ps, e) -> {
+            ps.setLong(1, e.getKey().tenantId());
+            ps.setTimestamp(2, Timestamp.valueOf(e.getKey().bucketStart()));
+            ps.setString(3, e.getKey().path());
+            ps.setInt(4, e.getKey().statusCode());
+            ps.setLong(5, e.getValue());
+            ps.setTimestamp(6, ts);
+            ps.setTimestamp(7, ts);
+        });
+    }
+
+    /**
+     * bucketSeconds(60의 배수) 단위 버킷별 합계. 키는 버킷 시작 epoch(초), 오름차순.
+     *
+     * @param withSketch true면 버킷별 지연시간 스케치도 병합 (분 롤업 스케치를 스트리밍 병합)
+     */
+    public TreeMap<Long, ApiCallRollupCounters> findBuckets(Long tenantId, LocalDateTime from, LocalDateTime toExclusive,
+                                                           int bucketSeconds, boolean withSketch) {
+        TreeMap<Long, ApiCallRollupCounters> out = new TreeMap<>();
+        Object[] args = {bucketSeconds, bucketSeconds, tenantId, Timestamp.valueOf(from), Timestamp.valueOf(toExclusive)};
+        jdbcTemplate.query(FIND_BUCKETS_SQL, rs -> {
+            ApiCallRollupCounters c = out.computeIfAbsent(rs.getLong(1), k -> new ApiCallRollupCounters());
+            c.addCounts(rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7));
+        }, args);
+        if (withSketch) {
+            jdbcTemplate.query(FIND_BUCKET_SKETCHES_SQL, rs -> {
+                ApiCallRollupCounters c = out.computeIfAbsent(rs.getLong(1), k -> new ApiCallRollupCounters());
+                c.mergeSketch(LatencySketch.fromBytes(rs.getBytes(2)));
+            }, args);
+        }
+        return out;
+    }
+
+    /** 구간 전체 지연시간 스케치 (분 롤업 스케치 병합) */
+    public LatencySketch findSketch(Long tenantId, LocalDateTime from, LocalDateTime toExclusive) {
+        LatencySketch sketch = new LatencySketch();
+        jdbcTemplate.query(FIND_SKETCHES_SQL, rs -> {
+            sketch.merge(LatencySketch.fromBytes(rs.getBytes(1)));
+        }, tenantId, Timestamp.valueOf(from), Timestamp.valueOf(toExclusive));
+        return sketch;
+    }
+
+    /** path별 합계 + 지연시간 스케치 (success_count는 path 롤업에 없으므로 0) */
+    public Map<String, ApiCallRollupCounters> findPathTotals(Long tenantId, LocalDateTime from, LocalDateTime toExclusive) {
+        Map<String, ApiCallRollupCounters> out = new HashMap<>();
+        Object[] args = {tenantId, Timestamp.valueOf(from), Timestamp.valueOf(toExclusive)};
+        jdbcTemplate.query(FIND_PATH_TOTALS_SQL, rs -> {
+            ApiCallRollupCounters c = out.computeIfAbsent(rs.getString(1), k -> new ApiCallRollupCounters());
+            c.addCounts(rs.getLong(2), 0L, rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+        }, args);
+        jdbcTemplate.query(FIND_PATH_SKETCHES_SQL, rs -> {
+            ApiCallRollupCounters c = out.computeIfAbsent(rs.getString(1), k -> new ApiCallRollupCounters());
+            c.mergeSketch(LatencySketch.fromBytes(rs.getBytes(2)));
+        }, args);
+        return out;
+    }
+
+    /** (path, status_code)별 에러 건수 (status_code >= 400) */
+    public Map<PathStatus, Long> findErrorCounts(Long tenantId, LocalDateTime from, LocalDateTime toExclusive) {
+        Map<PathStatus, Long> out = new HashMap<>();
+        jdbcTemplate.query(FIND_ERROR_COUNTS_SQL, rs -> {
+            out.merge(new PathStatus(rs.getString(1), rs.getInt(2)), rs.getLong(3), Long::sum);
+        }, tenantId, Timestamp.valueOf(from), Timestamp.valueOf(toExclusive));
+        return out;
+    }
+
+    /** 원본 구간 [from, toInclusive] 행 순회 (롤업 경계 밖 부분 분 전용, 1분 미만 구간) */
+    public void forEachRaw(Long tenantId, LocalDateTime from, LocalDateTime toInclusive, RawRowConsumer consumer) {
+        jdbcTemplate.query(FIND_RAW_SLICE_SQL, rs -> {
+            Timestamp createdAt = rs.getTimestamp(1);
+            long latency = rs.getLong(4);
+            Long latencyMs = rs.wasNull() ? null : latency;
+            consumer.accept(createdAt.toLocalDateTime(), rs.getString(2), rs.getInt(3), latencyMs);
+        }, tenantId, Timestamp.valueOf(from), Timestamp.valueOf(toInclusive));
+    }
+
+    private static <K, V> List<Map.Entry<K, V>> sortedEntries(Map<K, V> rows, Comparator<K> order) {
+        List<Map.Entry<K, V>> sorted = new ArrayList<>(rows.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(order));
+        return sorted;
+    }
+
+    private static void setSketch(PreparedStatement ps, int index, LatencySketch sketch) throws SQLException {
+        if (sketch.isEmpty()) {
+            ps.setNull(index, Types.BINARY);
+        } else {
+            ps.setBytes(index, sketch.toBytes());
+        }
+    }
+}
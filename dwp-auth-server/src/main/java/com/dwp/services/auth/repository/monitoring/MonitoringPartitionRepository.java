@@ -0,0 +1,160 @@
+package com.dwp.services.auth.repository.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * created_at 일 단위 RANGE 파티션 관리 JDBC Repository (V37)
+ *
+ * - 파티션 목록/범위 조회 (pg_inherits + pg_get_expr)
+ * - 일 파티션 생성 (DEFAULT 파티션에 해당 일 행이 있으면 새 파티션으로 옮긴 뒤 ATTACH), 만료 파티션 DROP / DETACH
+ * - 파티션 DROP 대상이 아닌(보존기간이 더 짧은) 테넌트 행 삭제, 분 단위 롤업 보존기간 삭제
+ *
+ * 변경 작업은 각각 REQUIRES_NEW 트랜잭션으로 커밋되어, 부모 테이블 잠금을 작업 하나 동안만 잡고
+ * 한 작업의 실패가 앞서 끝난 생성/삭제를 롤백하지 않습니다.
+ *
+ * 테이블/파티션 이름은 호출부(MonitoringPartitionManager)의 고정 목록과 pg_class 조회 결과만 사용합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MonitoringPartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    /** FOR VALUES FROM ('2026-01-01 00:00:00') TO ('2026-01-02 00:00:00') / FROM (MINVALUE) TO (...) */
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((?:'([^']+)'|MINVALUE)\\) TO \\('([^']+)'\\)");
+
+    private static final String FIND_PARTITIONS_SQL = "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)" +
+            " FROM pg_inherits i" +
+            " JOIN pg_class c ON c.oid = i.inhrelid" +
+            " JOIN pg_class p ON p.oid = i.inhparent" +
+            " JOIN pg_namespace n ON n.oid = p.relnamespace" +
+            " WHERE p.relname = ? AND n.nspname = current_schema()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 범위. from이 null이면 MINVALUE(legacy), to가 null이면 DEFAULT 파티션.
+     */
+    public record PartitionRange(String name, LocalDateTime from, LocalDateTime to) {
+        public boolean isDefault() {
+            return to == null;
+        }
+
+        public boolean covers(LocalDate day) {
+            LocalDateTime start = day.atStartOfDay();
+            return !isDefault() && (from == null || !from.isAfter(start)) && to.isAfter(start);
+        }
+    }
+
+    /** 트랜잭션 범위 advisory lock (여러 인스턴스 동시 실행 방지) */
+    public boolean tryAdvisoryXactLock(long lockKey) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockKey));
+    }
+
+    public List<PartitionRange> findPartitions(String table) {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, i) -> toRange(rs.getString(1), rs.getString(2)), table);
+    }
+
+    static PartitionRange toRange(String name, String bound) {
+        if (bound == null || "DEFAULT".equals(bound)) {
+            return new PartitionRange(name, null, null);
+        }
+        Matcher m = RANGE_BOUND.matcher(bound);
+        if (!m.find()) {
+            throw new IllegalStateException("Unsupported partition bound: " + name + " " + bound);
+        }
+        LocalDateTime from = m.group(1) != null ? LocalDateTime.parse(m.group(1), BOUND) : null;
+        return new PartitionRange(name, from, LocalDateTime.parse(m.group(2), BOUND));
+    }
+
+    /**
+     * [day, day+1) 파티션 생성. 이름: {table}_pYYYYMMDD
+     *
+     * DEFAULT 파티션에 해당 일 행이 이미 있으면 CREATE ... PARTITION OF가 실패하므로,
+     * 같은 트랜잭션에서 빈 테이블을 만들고 DEFAULT의 해당 일 행을 옮긴 뒤 ATTACH 합니다.
+     *
+     * @param defaultPartition DEFAULT 파티션 이름 (없으면 null)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String createDailyPartition(String table, LocalDate day, String defaultPartition) {
+        String name = table + "_p" + day.format(SUFFIX);
+        String from = day.atStartOfDay().format(BOUND);
+        String to = day.plusDays(1).atStartOfDay().format(BOUND);
+        if (defaultPartition == null || !hasRowsBetween(defaultPartition, day)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + table +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            return name;
+        }
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + table + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition +
+                        " WHERE created_at >= ? AND created_at < ? RETURNING *) INSERT INTO " + name + " SELECT * FROM moved",
+                Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+        jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + name +
+                " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        log.info("Partition created from default rows table={} partition={} moved={}", table, name, moved);
+        return name;
+    }
+
+    private boolean hasRowsBetween(String partition, LocalDate day) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE created_at >= ? AND created_at < ?)", Boolean.class,
+                Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay())));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void dropPartition(String partition) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void detachPartition(String table, String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+    }
+
+    /** 특정 테넌트의 cutoff 이전 행 삭제 (created_at 조건으로 cutoff 이전 파티션만 스캔) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteTenantRowsBefore(String table, Long tenantId, LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE tenant_id = ? AND created_at < ?",
+                tenantId, Timestamp.valueOf(cutoff));
+    }
+
+    /** excludedTenantIds를 제외한 테넌트(기본 보존기간 적용 대상)의 cutoff 이전 행 삭제 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteRowsBeforeExcludingTenants(String table, Collection<Long> excludedTenantIds, LocalDateTime cutoff) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "DELETE FROM " + table + " WHERE created_at < ? AND NOT (tenant_id = ANY (?))");
+            Array excluded = con.createArrayOf("bigint", excludedTenantIds.toArray());
+            ps.setTimestamp(1, Timestamp.valueOf(cutoff));
+            ps.setArray(2, excluded);
+            return ps;
+        });
+    }
+
+    /**
+     * 롤업 테이블의 bucket_start cutoff 이전 행을 최대 limit건 삭제 (bucket_start 인덱스, V40).
+     * 호출부가 반환값이 limit보다 작아질 때까지 반복하며, 배치마다 별도 트랜잭션으로 커밋합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteRollupRowsBefore(String table, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE ctid IN (SELECT ctid FROM " + table +
+                " WHERE bucket_start < ? LIMIT ?)", Timestamp.valueOf(cutoff), limit);
+    }
+}
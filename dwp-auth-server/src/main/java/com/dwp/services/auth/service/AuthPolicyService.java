@@ -4,27 +4,46 @@ import com.dwp.services.auth.dto.AuthPolicyResponse;
 import com.dwp.services.auth.entity.AuthPolicy;
 import com.dwp.services.auth.repository.AuthPolicyRepository;
 import com.dwp.services.auth.util.CodeResolver;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 인증 정책 서비스
+ * 
+ * 로그인마다 조회되므로 테넌트별 정책 응답을 짧은 TTL로 캐시합니다 (auth.login.lookup-cache-ttl-seconds).
+ * 정책은 DB에서 직접 관리되므로 변경 후 TTL 이내에 반영되며, 즉시 반영이 필요하면 {@link #evictAuthPolicy}를 호출합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @SuppressWarnings("null")
 public class AuthPolicyService {
     
     private final AuthPolicyRepository authPolicyRepository;
     private final CodeResolver codeResolver;
     
+    // 캐시: tenantId -> 인증 정책 응답 (호출자는 읽기 전용으로 사용)
+    private final Cache<Long, AuthPolicyResponse> policyCache;
+    
+    public AuthPolicyService(AuthPolicyRepository authPolicyRepository,
+                             CodeResolver codeResolver,
+                             @Value("${auth.login.lookup-cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.authPolicyRepository = authPolicyRepository;
+        this.codeResolver = codeResolver;
+        this.policyCache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+    
     /**
      * 테넌트별 인증 정책 조회
      * 
@@ -33,6 +52,23 @@ public class AuthPolicyService {
      */
     @Transactional(readOnly = true)
     public AuthPolicyResponse getAuthPolicy(Long tenantId) {
+        return policyCache.get(tenantId, this::loadAuthPolicy);
+    }
+    
+    /**
+     * 인증 정책 캐시 무효화
+     * 
+     * @param tenantId 테넌트 ID (null이면 전체)
+     */
+    public void evictAuthPolicy(Long tenantId) {
+        if (tenantId == null) {
+            policyCache.invalidateAll();
+        } else {
+            policyCache.invalidate(tenantId);
+        }
+    }
+    
+    private AuthPolicyResponse loadAuthPolicy(Long tenantId) {
         AuthPolicy policy = authPolicyRepository.findByTenantId(tenantId)
                 .orElseGet(() -> {
                     log.debug("Auth policy not found for tenantId={}, returning default policy", tenantId);
@@ -5,15 +5,20 @@ import com.dwp.core.exception.BaseException;
 import com.dwp.services.auth.dto.*;
 import com.dwp.services.auth.entity.*;
 import com.dwp.services.auth.repository.*;
+import com.dwp.services.auth.service.login.LoginHistoryBuffer;
+import com.dwp.services.auth.service.login.PasswordVerificationExecutor;
 import com.dwp.services.auth.util.CodeResolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
@@ -21,6 +26,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -42,19 +48,48 @@ public class AuthService {
     private final ResourceRepository resourceRepository;
     private final PermissionRepository permissionRepository;
     private final RoleRepository roleRepository;
-    private final LoginHistoryRepository loginHistoryRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginHistoryBuffer loginHistoryBuffer;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
     private final MenuRepository menuRepository;
     private final MenuService menuService;
     private final CodeResolver codeResolver;
     private final AuthPolicyService authPolicyService;
     
+    // 캐시: 테넌트 code -> tenantId (로그인 요청의 code 기반 테넌트 해석, 없는 code는 캐시하지 않음)
+    // TTL은 인증 정책 캐시와 같은 auth.login.lookup-cache-ttl-seconds
+    private volatile Cache<String, Long> tenantIdByCode = tenantCodeCache(60L);
+    
     @Value("${jwt.secret:your_shared_secret_key_must_be_at_least_256_bits_long_for_HS256}")
     private String jwtSecret;
     
     @Value("${jwt.expiration-seconds:3600}")
     private Long tokenExpirationSeconds;
     
+    @Value("${auth.login.lookup-cache-ttl-seconds:60}")
+    void setLookupCacheTtlSeconds(long cacheTtlSeconds) {
+        this.tenantIdByCode = tenantCodeCache(cacheTtlSeconds);
+    }
+    
+    private static Cache<String, Long> tenantCodeCache(long cacheTtlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+    
+    /**
+     * 테넌트 code 캐시 무효화 (code 변경/비활성화 즉시 반영)
+     * 
+     * @param tenantCode 테넌트 code (null이면 전체)
+     */
+    public void evictTenantCode(String tenantCode) {
+        if (tenantCode == null) {
+            tenantIdByCode.invalidateAll();
+        } else {
+            tenantIdByCode.invalidate(tenantCode);
+        }
+    }
+    
     private SecretKey getSecretKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
     }
@@ -79,10 +114,13 @@ public class AuthService {
         } catch (NumberFormatException e) {
             // 'default'는 개발 환경에서 'dev'로 매핑
             String tenantCode = "default".equals(tenantIdStr) ? "dev" : tenantIdStr;
-            Tenant tenant = tenantRepository.findByCode(tenantCode)
-                .orElseThrow(() -> new BaseException(ErrorCode.AUTH_INVALID_CREDENTIALS, 
-                    String.format("Invalid tenant: %s (mapped to: %s)", tenantIdStr, tenantCode)));
-            parsedTenantId = tenant.getTenantId();
+            parsedTenantId = tenantIdByCode.get(tenantCode, code -> tenantRepository.findByCode(code)
+                    .map(Tenant::getTenantId)
+                    .orElse(null));
+            if (parsedTenantId == null) {
+                throw new BaseException(ErrorCode.AUTH_INVALID_CREDENTIALS, 
+                    String.format("Invalid tenant: %s (mapped to: %s)", tenantIdStr, tenantCode));
+            }
         }
         final Long tenantId = parsedTenantId;
         
@@ -119,13 +157,20 @@ public class AuthService {
                 throw new BaseException(ErrorCode.AUTH_INVALID_CREDENTIALS, "Account is locked");
             }
             
-            // 3. 비밀번호 검증 (BCrypt)
-            if (account.getPasswordHash() == null || 
-                !passwordEncoder.matches(password, account.getPasswordHash())) {
+            // 3. 비밀번호 검증 (BCrypt, 전용 실행기에서 수행 - 폭주 시 SERVICE_BUSY로 거절)
+            PasswordVerificationExecutor.Verification verification = account.getPasswordHash() == null
+                    ? null
+                    : passwordVerificationExecutor.verify(password, account.getPasswordHash());
+            if (verification == null || !verification.matched()) {
                 log.warn("Password mismatch for user: {}", username);
                 recordLoginFailure(tenantId, account.getUserId(), username, "INVALID_PASSWORD", "LOCAL");
                 throw new BaseException(ErrorCode.AUTH_INVALID_CREDENTIALS, "Invalid username or password");
             }
+            if (verification.upgradedHash() != null) {
+                // 설정된 cost로 재해싱 (관리 엔티티 → 커밋 시 반영)
+                account.setPasswordHash(verification.upgradedHash());
+                log.info("Password hash upgraded on login: userId={}", account.getUserId());
+            }
             
             // 4. User 조회
             User user = userRepository.findById(account.getUserId())
@@ -145,16 +190,10 @@ public class AuthService {
             // 6. JWT 토큰 발급
             String accessToken = generateJwtToken(user.getUserId().toString(), tenantId.toString());
             
-            // 7. PR-10E: 로그인 성공 기록 (provider_type 기록)
-            recordLoginSuccess(tenantId, user.getUserId(), username, "LOCAL", "local", null);
-            
-            log.info("Login successful: userId={}, tenantId={}, username={}", 
-                    user.getUserId(), tenantId, username);
-            
             List<PermissionDTO> permissions = getMyPermissions(user.getUserId(), tenantId);
             List<MenuNode> menus = menuService.getMenuTree(user.getUserId(), tenantId).getMenus();
             
-            return LoginResponse.builder()
+            LoginResponse response = LoginResponse.builder()
                     .accessToken(accessToken)
                     .tokenType("Bearer")
                     .expiresIn(tokenExpirationSeconds)
@@ -163,6 +202,14 @@ public class AuthService {
                     .permissions(permissions)
                     .menus(menus)
                     .build();
+            
+            // 7. PR-10E: 로그인 성공 기록 (provider_type 기록, 응답 구성 후 커밋 시 적재)
+            recordLoginSuccess(tenantId, user.getUserId(), username, "LOCAL", "local", null);
+            
+            log.info("Login successful: userId={}, tenantId={}, username={}", 
+                    user.getUserId(), tenantId, username);
+            
+            return response;
                     
         } catch (BaseException e) {
             throw e;
@@ -285,6 +332,9 @@ public class AuthService {
     
     /**
      * PR-10E: 로그인 성공 기록 (provider_type 기록)
+     * 이력은 LoginHistoryBuffer를 통해 비동기 배치로 적재됩니다 (로그인 트랜잭션과 분리).
+     * 버퍼는 트랜잭션을 모르므로 커밋 후에만 넣습니다: 롤백된 로그인(SYSTEM_ERROR 등)이 성공 행을 남기거나
+     * 해당 principal의 연속 실패 집계를 끊지 않도록.
      */
     private void recordLoginSuccess(Long tenantId, Long userId, String principal, 
                                    String providerType, String providerId,
@@ -301,12 +351,25 @@ public class AuthService {
                     .ipAddress(request != null ? getClientIp(request) : null)
                     .userAgent(request != null ? request.getHeader("User-Agent") : null)
                     .build();
-            loginHistoryRepository.save(history);
+            afterCommit(() -> loginHistoryBuffer.recordSuccess(history));
         } catch (Exception e) {
             log.error("Failed to record login success", e);
         }
     }
     
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+    
     /**
      * PR-10E: 로그인 실패 기록 (provider_type 및 실패 사유 표준화)
      */
@@ -330,7 +393,7 @@ public class AuthService {
                     .success(false)
                     .failureReason(reason) // PR-10E: 실패 사유 표준화
                     .build();
-            loginHistoryRepository.save(history);
+            loginHistoryBuffer.recordFailure(history);
         } catch (Exception e) {
             log.error("Failed to record login failure", e);
         }
@@ -403,16 +466,10 @@ public class AuthService {
             // PR-10D: JWT 토큰 발급 (LOCAL과 동일한 모델)
             String accessToken = generateJwtToken(user.getUserId().toString(), tenantId.toString());
             
-            // PR-10E: 로그인 성공 기록 (provider_type 기록)
-            recordLoginSuccess(tenantId, user.getUserId(), principal, ssoProviderType, providerKey, request);
-            
-            log.info("SSO login successful: userId={}, tenantId={}, providerKey={}, principal={}", 
-                    user.getUserId(), tenantId, providerKey, principal);
-            
             List<PermissionDTO> permissions = getMyPermissions(user.getUserId(), tenantId);
             List<MenuNode> menus = menuService.getMenuTree(user.getUserId(), tenantId).getMenus();
             
-            return LoginResponse.builder()
+            LoginResponse response = LoginResponse.builder()
                     .accessToken(accessToken)
                     .tokenType("Bearer")
                     .expiresIn(tokenExpirationSeconds)
@@ -421,6 +478,14 @@ public class AuthService {
                     .permissions(permissions)
                     .menus(menus)
                     .build();
+            
+            // PR-10E: 로그인 성공 기록 (provider_type 기록, 응답 구성 후 커밋 시 적재)
+            recordLoginSuccess(tenantId, user.getUserId(), principal, ssoProviderType, providerKey, request);
+            
+            log.info("SSO login successful: userId={}, tenantId={}, providerKey={}, principal={}", 
+                    user.getUserId(), tenantId, providerKey, principal);
+            
+            return response;
                     
         } catch (BaseException e) {
             throw e;
@@ -5,26 +5,41 @@ import com.dwp.services.auth.dto.MenuNode;
 import com.dwp.services.auth.dto.MenuTreeResponse;
 import com.dwp.services.auth.entity.*;
 import com.dwp.services.auth.repository.*;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
 import com.dwp.services.auth.util.CodeResolver;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 메뉴 트리 서비스
  * 
  * 권한 기반으로 필터링된 메뉴 트리를 구성하여 반환합니다.
+ * 
+ * 캐시 구조 (요청당 DB 조회는 역할 ID 목록 1회):
+ * - 테넌트 메뉴 forest: 활성 메뉴 전체 + VIEW 권한 ID (테넌트당 1회 적재)
+ * - 메뉴 트리: (tenantId, 언어, 정렬된 역할 ID 집합) 단위 → 같은 역할 조합의 사용자는 같은 트리를 공유
+ * - 메뉴/리소스/역할 권한 변경 시 커밋 후 테넌트 단위 무효화 (다른 인스턴스는 권한 캐시 무효화 채널로 반영)
+ * 캐시된 트리는 사용자 간 공유되므로 호출 측에서 수정하지 않습니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @SuppressWarnings("null")
 public class MenuService {
     
+    private static final String MENU_TYPE_CODE = "MENU";
+    
     private final RoleMemberRepository roleMemberRepository;
     private final RolePermissionRepository rolePermissionRepository;
     private final ResourceRepository resourceRepository;
@@ -32,6 +47,55 @@ public class MenuService {
     private final MenuRepository menuRepository;
     private final CodeResolver codeResolver;
     
+    // 캐시: tenantId -> 활성 메뉴 forest
+    private final Cache<Long, MenuForest> forests;
+    
+    // 캐시: tenantId:언어:역할 ID 집합 -> 메뉴 트리
+    private final Cache<String, MenuTreeResponse> trees;
+    
+    public MenuService(RoleMemberRepository roleMemberRepository,
+                       RolePermissionRepository rolePermissionRepository,
+                       ResourceRepository resourceRepository,
+                       PermissionRepository permissionRepository,
+                       MenuRepository menuRepository,
+                       CodeResolver codeResolver,
+                       @Value("${rbac.cache.ttl-seconds:300}") long cacheTtlSeconds) {
+        this.roleMemberRepository = roleMemberRepository;
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.resourceRepository = resourceRepository;
+        this.permissionRepository = permissionRepository;
+        this.menuRepository = menuRepository;
+        this.codeResolver = codeResolver;
+        this.forests = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+    
+    /**
+     * 테넌트 활성 메뉴 forest (sortOrder 순)
+     */
+    private record MenuForest(Long viewPermissionId, List<MenuEntry> menus) {
+    }
+    
+    /**
+     * 메뉴 메타 스냅샷 (엔티티 대신 캐시에 보관)
+     */
+    private record MenuEntry(String menuKey, String parentMenuKey, String menuNameKo, String menuNameEn,
+                             String menuName, String path, String icon, String group,
+                             Integer depth, Integer sortOrder) {
+        
+        static MenuEntry of(Menu menu) {
+            return new MenuEntry(menu.getMenuKey(), menu.getParentMenuKey(), menu.getMenuNameKo(),
+                    menu.getMenuNameEn(), menu.getMenuName(), menu.getMenuPath(), menu.getMenuIcon(),
+                    menu.getMenuGroup(), menu.getDepth(), menu.getSortOrder());
+        }
+    }
+    
     /**
      * 사용자별 권한 기반 메뉴 트리 조회
      * 
@@ -49,161 +113,183 @@ public class MenuService {
             log.debug("Found {} roles for user", roleIds.size());
             if (roleIds.isEmpty()) {
                 log.debug("No roles found, returning empty menu tree");
-                return MenuTreeResponse.builder()
-                        .menus(Collections.emptyList())
-                        .groups(Collections.emptyList())
-                        .build();
-            }
-            
-            // 2. VIEW 권한 ID 조회
-            Permission viewPermission = permissionRepository.findByCode("VIEW")
-                    .orElseThrow(() -> {
-                        log.error("VIEW permission not found in database");
-                        return new IllegalStateException("VIEW permission not found");
-                    });
-            log.debug("Found VIEW permission: {}", viewPermission.getPermissionId());
-            
-            // 3. 역할-권한 매핑에서 MENU 타입 리소스의 VIEW=ALLOW 권한 조회
-            List<RolePermission> rolePermissions = rolePermissionRepository.findByTenantIdAndRoleIdIn(tenantId, roleIds);
-            List<Long> resourceIds = rolePermissions.stream()
-                    .filter(rp -> rp.getPermissionId().equals(viewPermission.getPermissionId()))
-                    .map(RolePermission::getResourceId)
-                    .distinct()
-                    .collect(Collectors.toList());
-            
-            log.debug("Found {} resources with VIEW permission", resourceIds.size());
-            if (resourceIds.isEmpty()) {
-                log.debug("No resources found, returning empty menu tree");
-                return MenuTreeResponse.builder()
-                        .menus(Collections.emptyList())
-                        .groups(Collections.emptyList())
-                        .build();
-            }
-            
-            // 4. 리소스 조회 (MENU 타입만 필터링)
-            List<Resource> resources = resourceRepository.findByResourceIdIn(resourceIds);
-            String menuTypeCode = "MENU";
-            Set<String> allowedMenuKeys = resources.stream()
-                    .filter(r -> codeResolver.validate("RESOURCE_TYPE", r.getType()) && 
-                                 menuTypeCode.equals(r.getType()))
-                    .map(Resource::getKey)
-                    .collect(Collectors.toSet());
-            
-            log.debug("Found {} menu keys with permission", allowedMenuKeys.size());
-            if (allowedMenuKeys.isEmpty()) {
-                log.debug("No menu keys found, returning empty menu tree");
-                return MenuTreeResponse.builder()
-                        .menus(Collections.emptyList())
-                        .groups(Collections.emptyList())
-                        .build();
-            }
-            
-            // 5. sys_menus에서 메뉴 메타 조회
-            List<Menu> menus = menuRepository.findByTenantIdAndMenuKeyIn(tenantId, new ArrayList<>(allowedMenuKeys));
-            log.debug("Found {} menus from sys_menus", menus.size());
-            
-            // 6. 부모 메뉴 키 수집 (자식이 허용되면 부모도 포함)
-            Set<String> parentMenuKeys = menus.stream()
-                    .map(Menu::getParentMenuKey)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet());
-            
-            // 부모 메뉴도 조회 (권한이 없어도 자식이 있으면 포함)
-            if (!parentMenuKeys.isEmpty()) {
-                log.debug("Found {} parent menu keys, fetching parent menus", parentMenuKeys.size());
-                List<Menu> parentMenus = menuRepository.findByTenantIdAndMenuKeyIn(tenantId, new ArrayList<>(parentMenuKeys));
-                // 중복 제거를 위해 Set으로 변환 후 다시 List로
-                Map<String, Menu> menuMap = menus.stream()
-                        .collect(Collectors.toMap(Menu::getMenuKey, m -> m, (m1, m2) -> m1));
-                parentMenus.forEach(m -> menuMap.putIfAbsent(m.getMenuKey(), m));
-                menus = new ArrayList<>(menuMap.values());
-                log.debug("Total menus after adding parents: {}", menus.size());
+                return emptyTree();
             }
             
-            // 7. 메뉴 트리 구성
-            Map<String, MenuNode> nodeMap = new HashMap<>();
-            List<MenuNode> rootNodes = new ArrayList<>();
-            
-            // 모든 메뉴를 MenuNode로 변환
-            // com_resources에서 resourceKind와 trackingEnabled 조회
-            Map<String, Resource> resourceMap = resources.stream()
-                    .filter(r -> codeResolver.validate("RESOURCE_TYPE", r.getType()) && 
-                                 menuTypeCode.equals(r.getType()))
-                    .collect(Collectors.toMap(Resource::getKey, r -> r, (r1, r2) -> r1));
-            
-            for (Menu menu : menus) {
-                Resource resource = resourceMap.get(menu.getMenuKey());
-                String resolvedMenuName = LocaleUtil.resolveLabel(menu.getMenuNameKo(), menu.getMenuNameEn(), menu.getMenuName());
-                MenuNode node = MenuNode.builder()
-                        .menuKey(menu.getMenuKey())
-                        .menuName(resolvedMenuName)
-                        .path(menu.getMenuPath())
-                        .icon(menu.getMenuIcon())
-                        .group(menu.getMenuGroup())
-                        .depth(menu.getDepth())
-                        .sortOrder(menu.getSortOrder())
-                        .resourceKind(resource != null && resource.getResourceKind() != null ? resource.getResourceKind() : "PAGE")  // 기본값: PAGE
-                        .trackingEnabled(resource != null && resource.getTrackingEnabled() != null ? resource.getTrackingEnabled() : true)  // 기본값: true
-                        .build();
-                
-                nodeMap.put(menu.getMenuKey(), node);
-            }
+            // 2. 같은 역할 조합이면 캐시된 트리 공유 (메뉴명은 언어별로 다르므로 키에 포함)
+            List<Long> roleSet = roleIds.stream().distinct().sorted().collect(Collectors.toList());
+            String cacheKey = tenantId + ":" + LocaleUtil.getLang() + ":" + roleSet;
+            return trees.get(cacheKey, key -> buildMenuTree(tenantId, roleSet));
+        } catch (Exception e) {
+            log.error("Error building menu tree for userId={}, tenantId={}", userId, tenantId, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * 메뉴/리소스/역할 권한 변경: 커밋 후 테넌트 메뉴 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPermissionModelChanged(PermissionModelChangedEvent event) {
+        invalidateTenant(event.tenantId());
+    }
+    
+    /**
+     * 다른 인스턴스의 변경 반영 (사용자 단위 메시지는 역할 조합 키로 구분되므로 무시)
+     */
+    @EventListener
+    public void onRemoteInvalidation(PermissionCacheInvalidation message) {
+        if (message.tenantId() == null) {
+            forests.invalidateAll();
+            trees.invalidateAll();
+        } else if (message.userId() == null) {
+            invalidateTenant(message.tenantId());
+        }
+    }
+    
+    private void invalidateTenant(Long tenantId) {
+        String prefix = tenantId + ":";
+        forests.invalidate(tenantId);
+        trees.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        log.debug("Menu tree cache invalidated: tenantId={}", tenantId);
+    }
+    
+    private MenuForest loadForest(Long tenantId) {
+        // VIEW 권한 ID 조회
+        Permission viewPermission = permissionRepository.findByCode("VIEW")
+                .orElseThrow(() -> {
+                    log.error("VIEW permission not found in database");
+                    return new IllegalStateException("VIEW permission not found");
+                });
+        List<MenuEntry> menus = menuRepository.findByTenantIdAndActive(tenantId).stream()
+                .map(MenuEntry::of)
+                .collect(Collectors.toList());
+        log.debug("Loaded menu forest: tenantId={}, menus={}", tenantId, menus.size());
+        return new MenuForest(viewPermission.getPermissionId(), menus);
+    }
+    
+    private MenuTreeResponse buildMenuTree(Long tenantId, List<Long> roleIds) {
+        MenuForest forest = forests.get(tenantId, this::loadForest);
+        
+        // 3. 역할-권한 매핑에서 MENU 타입 리소스의 VIEW=ALLOW 권한 조회
+        List<RolePermission> rolePermissions = rolePermissionRepository.findByTenantIdAndRoleIdIn(tenantId, roleIds);
+        List<Long> resourceIds = rolePermissions.stream()
+                .filter(rp -> rp.getPermissionId().equals(forest.viewPermissionId()))
+                .map(RolePermission::getResourceId)
+                .distinct()
+                .collect(Collectors.toList());
+        
+        log.debug("Found {} resources with VIEW permission", resourceIds.size());
+        if (resourceIds.isEmpty()) {
+            log.debug("No resources found, returning empty menu tree");
+            return emptyTree();
+        }
+        
+        // 4. 리소스 조회 (MENU 타입만 필터링)
+        // com_resources에서 resourceKind와 trackingEnabled 조회
+        Map<String, Resource> resourceMap = resourceRepository.findByResourceIdIn(resourceIds).stream()
+                .filter(r -> codeResolver.validate("RESOURCE_TYPE", r.getType()) && 
+                             MENU_TYPE_CODE.equals(r.getType()))
+                .collect(Collectors.toMap(Resource::getKey, r -> r, (r1, r2) -> r1));
+        
+        log.debug("Found {} menu keys with permission", resourceMap.size());
+        if (resourceMap.isEmpty()) {
+            log.debug("No menu keys found, returning empty menu tree");
+            return emptyTree();
+        }
+        
+        // 5. 메뉴 forest와 교집합 + 부모 메뉴 포함 (권한이 없어도 자식이 허용되면 포함)
+        Set<String> parentMenuKeys = forest.menus().stream()
+                .filter(menu -> resourceMap.containsKey(menu.menuKey()))
+                .map(MenuEntry::parentMenuKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<MenuEntry> menus = forest.menus().stream()
+                .filter(menu -> resourceMap.containsKey(menu.menuKey()) || parentMenuKeys.contains(menu.menuKey()))
+                .collect(Collectors.toList());
+        log.debug("Selected {} menus (including parents)", menus.size());
+        
+        // 6. 메뉴 트리 구성
+        Map<String, MenuNode> nodeMap = new HashMap<>();
+        List<MenuNode> rootNodes = new ArrayList<>();
+        
+        // 모든 메뉴를 MenuNode로 변환
+        for (MenuEntry menu : menus) {
+            Resource resource = resourceMap.get(menu.menuKey());
+            String resolvedMenuName = LocaleUtil.resolveLabel(menu.menuNameKo(), menu.menuNameEn(), menu.menuName());
+            MenuNode node = MenuNode.builder()
+                    .menuKey(menu.menuKey())
+                    .menuName(resolvedMenuName)
+                    .path(menu.path())
+                    .icon(menu.icon())
+                    .group(menu.group())
+                    .depth(menu.depth())
+                    .sortOrder(menu.sortOrder())
+                    .resourceKind(resource != null && resource.getResourceKind() != null ? resource.getResourceKind() : "PAGE")  // 기본값: PAGE
+                    .trackingEnabled(resource != null && resource.getTrackingEnabled() != null ? resource.getTrackingEnabled() : true)  // 기본값: true
+                    .build();
             
-            // 부모-자식 관계 구성
-            for (Menu menu : menus) {
-                MenuNode node = nodeMap.get(menu.getMenuKey());
-                if (menu.getParentMenuKey() == null) {
-                    // 루트 메뉴
-                    rootNodes.add(node);
-                } else {
-                    // 자식 메뉴
-                    MenuNode parentNode = nodeMap.get(menu.getParentMenuKey());
-                    if (parentNode != null) {
-                        parentNode.addChild(node);
-                        // 부모의 path가 없으면 첫번째 자식의 path로 fallback
-                        if (parentNode.getPath() == null && node.getPath() != null) {
-                            parentNode.setPath(node.getPath());
-                        }
-                    } else {
-                        // 부모가 없으면 루트로 처리
-                        rootNodes.add(node);
+            nodeMap.put(menu.menuKey(), node);
+        }
+        
+        // 부모-자식 관계 구성
+        for (MenuEntry menu : menus) {
+            MenuNode node = nodeMap.get(menu.menuKey());
+            if (menu.parentMenuKey() == null) {
+                // 루트 메뉴
+                rootNodes.add(node);
+            } else {
+                // 자식 메뉴
+                MenuNode parentNode = nodeMap.get(menu.parentMenuKey());
+                if (parentNode != null) {
+                    parentNode.addChild(node);
+                    // 부모의 path가 없으면 첫번째 자식의 path로 fallback
+                    if (parentNode.getPath() == null && node.getPath() != null) {
+                        parentNode.setPath(node.getPath());
                     }
+                } else {
+                    // 부모가 없으면 루트로 처리
+                    rootNodes.add(node);
                 }
             }
-            
-            // 8. 정렬 (sortOrder 기준)
-            rootNodes.sort(Comparator.comparing(MenuNode::getSortOrder));
-            nodeMap.values().forEach(node -> {
-                if (node.getChildren() != null && !node.getChildren().isEmpty()) {
-                    node.getChildren().sort(Comparator.comparing(MenuNode::getSortOrder));
-                }
-            });
-            
-            // 9. 그룹별 분류 (선택적)
-            Map<String, List<MenuNode>> groupMap = rootNodes.stream()
-                    .collect(Collectors.groupingBy(
-                            node -> node.getGroup() != null ? node.getGroup() : "DEFAULT",
-                            LinkedHashMap::new,
-                            Collectors.toList()
-                    ));
-            
-            List<MenuTreeResponse.MenuGroup> groups = groupMap.entrySet().stream()
-                    .map(entry -> MenuTreeResponse.MenuGroup.builder()
-                            .groupCode(entry.getKey())
-                            .groupName(getGroupName(entry.getKey()))
-                            .menus(entry.getValue())
-                            .build())
-                    .collect(Collectors.toList());
-            
-            log.debug("Built menu tree with {} root nodes, {} groups", rootNodes.size(), groups.size());
-            return MenuTreeResponse.builder()
-                    .menus(rootNodes)
-                    .groups(groups)
-                    .build();
-        } catch (Exception e) {
-            log.error("Error building menu tree for userId={}, tenantId={}", userId, tenantId, e);
-            throw e;
         }
+        
+        // 7. 정렬 (sortOrder 기준)
+        rootNodes.sort(Comparator.comparing(MenuNode::getSortOrder));
+        nodeMap.values().forEach(node -> {
+            if (node.getChildren() != null && !node.getChildren().isEmpty()) {
+                node.getChildren().sort(Comparator.comparing(MenuNode::getSortOrder));
+            }
+        });
+        
+        // 8. 그룹별 분류 (선택적)
+        Map<String, List<MenuNode>> groupMap = rootNodes.stream()
+                .collect(Collectors.groupingBy(
+                        node -> node.getGroup() != null ? node.getGroup() : "DEFAULT",
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+        
+        List<MenuTreeResponse.MenuGroup> groups = groupMap.entrySet().stream()
+                .map(entry -> MenuTreeResponse.MenuGroup.builder()
+                        .groupCode(entry.getKey())
+                        .groupName(getGroupName(entry.getKey()))
+                        .menus(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+        
+        log.debug("Built menu tree with {} root nodes, {} groups", rootNodes.size(), groups.size());
+        return MenuTreeResponse.builder()
+                .menus(rootNodes)
+                .groups(groups)
+                .build();
+    }
+    
+    private static MenuTreeResponse emptyTree() {
+        return MenuTreeResponse.builder()
+                .menus(Collections.emptyList())
+                .groups(Collections.emptyList())
+                .build();
     }
     
     /**
@@ -5,15 +5,19 @@ import com.dwp.services.auth.dto.monitoring.MonitoringSummaryKpi;
 import com.dwp.services.auth.entity.ApiCallHistory;
 import com.dwp.services.auth.entity.PageViewDailyStat;
 import com.dwp.services.auth.entity.PageViewEvent;
+import com.dwp.services.auth.repository.ApiCallHistoryBatchWriter;
 import com.dwp.services.auth.repository.ApiCallHistoryRepository;
 import com.dwp.services.auth.repository.MonitoringConfigRepository;
 import com.dwp.services.auth.repository.PageViewDailyStatRepository;
 import com.dwp.services.auth.repository.PageViewEventRepository;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupCounters;
 import com.dwp.services.auth.repository.projection.LatencyPercentilesView;
 import com.dwp.services.auth.repository.projection.TopCauseView;
 import com.dwp.services.auth.repository.projection.TopErrorView;
 import com.dwp.services.auth.repository.projection.TopSlowView;
 import com.dwp.services.auth.repository.projection.TopTrafficView;
+import com.dwp.services.auth.service.monitoring.ApiCallRollupService;
+import com.dwp.services.auth.service.monitoring.ApiCallRollupWindow;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +31,6 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -62,6 +65,8 @@ public class MonitoringService {
     private MonitoringService self;
 
     private final ApiCallHistoryRepository apiCallHistoryRepository;
+    private final ApiCallHistoryBatchWriter apiCallHistoryBatchWriter;
+    private final ApiCallRollupService apiCallRollupService;
     private final MonitoringConfigRepository monitoringConfigRepository;
     private final PageViewEventRepository pageViewEventRepository;
     private final PageViewDailyStatRepository pageViewDailyStatRepository;
@@ -92,35 +97,59 @@ public class MonitoringService {
     private static final double DEFAULT_ERROR_BUDGET_TOTAL = 100.0;
 
     /**
-     * API 호출 이력 비동기 저장 (Best-effort)
+     * API 호출 이력 비동기 저장 (Best-effort). 분 롤업 유지를 위해 벌크 적재와 같은 경로로 저장.
      */
     @Async
     @Transactional
     public void recordApiCallHistory(ApiCallHistoryRequest request) {
         try {
-            ApiCallHistory history = ApiCallHistory.builder()
-                    .tenantId(request.getTenantId())
-                    .userId(request.getUserId())
-                    .agentId(request.getAgentId())
-                    .method(request.getMethod())
-                    .path(request.getPath())
-                    .queryString(request.getQueryString())
-                    .statusCode(request.getStatusCode())
-                    .latencyMs(request.getLatencyMs())
-                    .requestSizeBytes(request.getRequestSizeBytes())
-                    .responseSizeBytes(request.getResponseSizeBytes())
-                    .ipAddress(request.getIpAddress())
-                    .userAgent(request.getUserAgent())
-                    .traceId(request.getTraceId())
-                    .errorCode(request.getErrorCode())
-                    .source(request.getSource())
-                    .build();
-            apiCallHistoryRepository.save(history);
+            if (request == null || request.getTenantId() == null || request.getMethod() == null
+                    || request.getPath() == null || request.getStatusCode() == null) {
+                log.warn("Skipped invalid API call history: {}", request);
+                return;
+            }
+            persistApiCallHistories(List.of(request));
         } catch (Exception e) {
             log.error("Failed to record API call history", e);
         }
     }
 
+    /**
+     * API 호출 이력 벌크 저장 (Gateway 마이크로 배치 전용).
+     * 필수 컬럼(tenantId, method, path, statusCode)이 없는 행은 건너뛰고, 나머지는 JDBC batch insert 1회로 저장.
+     * 같은 트랜잭션에서 분 단위 롤업(sys_api_call_*_rollups)도 누적합니다.
+     *
+     * @return 저장한 행 수
+     */
+    @Transactional
+    public int recordApiCallHistories(List<ApiCallHistoryRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return 0;
+        }
+        List<ApiCallHistoryRequest> valid = new ArrayList<>(requests.size());
+        for (ApiCallHistoryRequest r : requests) {
+            if (r != null && r.getTenantId() != null && r.getMethod() != null
+                    && r.getPath() != null && r.getStatusCode() != null) {
+                valid.add(r);
+            }
+        }
+        if (valid.size() < requests.size()) {
+            log.warn("Skipped {} invalid API call history rows in batch", requests.size() - valid.size());
+        }
+        return persistApiCallHistories(valid);
+    }
+
+    /** 원본 insert + 롤업 누적 (같은 적재 시각 사용) */
+    private int persistApiCallHistories(List<ApiCallHistoryRequest> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = apiCallHistoryBatchWriter.insertAll(rows, now);
+        apiCallRollupService.accumulate(rows, now);
+        return inserted;
+    }
+
     /**
      * 페이지뷰 기록 및 일별 집계 업데이트
      */
@@ -264,15 +293,17 @@ public class MonitoringService {
     /**
      * 한 구간(현재/비교)에 대한 PV·UV·이벤트·API 집계 및 KPI 조회.
      * 병렬 호출 시 각 스레드에서 별도 read-only 트랜잭션으로 실행.
+     * API 집계는 분 롤업 1회 조회(+ 경계 부분 분 원본)로 계산합니다.
      */
     @Transactional(readOnly = true)
     public SummaryPeriodData fetchSummaryPeriod(Long tenantId, LocalDateTime from, LocalDateTime to) {
         long pv = pageViewEventRepository.countPvByTenantIdAndCreatedAtBetween(tenantId, from, to);
         long uv = pageViewEventRepository.countUvByTenantIdAndCreatedAtBetween(tenantId, from, to);
         long events = pageViewEventRepository.countEventsByTenantIdAndCreatedAtBetween(tenantId, from, to);
-        long apiTotal = apiCallHistoryRepository.countByTenantIdAndCreatedAtBetween(tenantId, from, to);
-        MonitoringSummaryKpi kpi = buildKpi(tenantId, from, to, pv, uv, apiTotal);
-        long apiErrors = apiCallHistoryRepository.countErrorsByTenantIdAndCreatedAtBetween(tenantId, from, to);
+        ApiCallRollupWindow api = apiCallRollupService.loadSummaryWindow(tenantId, from, to);
+        long apiTotal = api.getTotals().getTotalCount();
+        MonitoringSummaryKpi kpi = buildKpi(tenantId, from, to, pv, uv, apiTotal, api);
+        long apiErrors = api.getTotals().getErrorCount();
         return new SummaryPeriodData(pv, uv, events, apiTotal, apiErrors, kpi);
     }
 
@@ -286,11 +317,13 @@ public class MonitoringService {
         MonitoringSummaryKpi kpi;
     }
 
-    private MonitoringSummaryKpi buildKpi(Long tenantId, LocalDateTime from, LocalDateTime to, long pv, long uv, long requestCount) {
-        long totalCount = apiCallHistoryRepository.countByTenantIdAndCreatedAtBetween(tenantId, from, to);
-        long successCount = apiCallHistoryRepository.countSuccessByTenantIdAndCreatedAtBetween(tenantId, from, to);
-        long count4xx = apiCallHistoryRepository.count4xxByTenantIdAndCreatedAtBetween(tenantId, from, to);
-        long count5xx = apiCallHistoryRepository.count5xxByTenantIdAndCreatedAtBetween(tenantId, from, to);
+    private MonitoringSummaryKpi buildKpi(Long tenantId, LocalDateTime from, LocalDateTime to, long pv, long uv, long requestCount,
+                                          ApiCallRollupWindow api) {
+        ApiCallRollupCounters totals = api.getTotals();
+        long totalCount = totals.getTotalCount();
+        long successCount = totals.getSuccessCount();
+        long count4xx = totals.getCount4xx();
+        long count5xx = totals.getCount5xx();
         long durationSec = Math.max(1, ChronoUnit.SECONDS.between(from, to));
 
         // 모니터링 설정 조회 (없으면 Fallback: AVAILABILITY_MIN_REQ_PER_MINUTE=1, AVAILABILITY_ERROR_RATE_THRESHOLD=5.0, AVAILABILITY_SLO_TARGET=99.9)
@@ -307,36 +340,31 @@ public class MonitoringService {
 
         // 1. Availability: 데이터 0건이어도 successRate=100.0, downtimeMinutes=0 명시 (프론트 - 방지)
         double successRate = totalCount > 0 ? Math.round((double) successCount / totalCount * 10000.0) / 100.0 : 100.0;
-        long downtimeBuckets1Min = apiCallHistoryRepository.countDowntimeBuckets1Min(tenantId, from, to, minReqPerMinute, errorRateThreshold);
-        int downtimeMinutes = totalCount > 0 ? (int) downtimeBuckets1Min : 0;
+        List<Long> downtimeBucketEpochs = api.findDowntimeBucketEpochs(minReqPerMinute, errorRateThreshold);
+        int downtimeMinutes = totalCount > 0 ? downtimeBucketEpochs.size() : 0;
 
         long totalPeriodMinutes = ChronoUnit.MINUTES.between(from, to);
         long uptimeMinutes = Math.max(0L, totalPeriodMinutes - downtimeMinutes);
 
         List<MonitoringSummaryKpi.DowntimeInterval> downtimeIntervals = new ArrayList<>();
-        List<Object[]> bucketStarts = apiCallHistoryRepository.findDowntimeBucketStarts(tenantId, from, to, minReqPerMinute, errorRateThreshold);
         Set<Long> downtimeEpochSeconds = new HashSet<>();
-        for (Object[] row : bucketStarts) {
-            if (row != null && row.length > 0 && row[0] != null) {
-                Instant start = row[0] instanceof Timestamp ? ((Timestamp) row[0]).toInstant() : null;
-                if (start != null) {
-                    downtimeEpochSeconds.add(start.getEpochSecond());
-                    Instant end = start.plusSeconds(60);
-                    downtimeIntervals.add(MonitoringSummaryKpi.DowntimeInterval.builder()
-                            .start(DateTimeFormatter.ISO_INSTANT.format(start))
-                            .end(DateTimeFormatter.ISO_INSTANT.format(end))
-                            .build());
-                }
-            }
+        for (Long bucketEpoch : downtimeBucketEpochs) {
+            Instant start = Instant.ofEpochSecond(bucketEpoch);
+            downtimeEpochSeconds.add(bucketEpoch);
+            Instant end = start.plusSeconds(60);
+            downtimeIntervals.add(MonitoringSummaryKpi.DowntimeInterval.builder()
+                    .start(DateTimeFormatter.ISO_INSTANT.format(start))
+                    .end(DateTimeFormatter.ISO_INSTANT.format(end))
+                    .build());
         }
 
         // Health Dots용 statusHistory: 기간을 버킷별로 나눠 UP|WARNING|DOWN|NO_DATA 및 가용성(%)
         int statusHistoryBucketSeconds = resolveStatusHistoryBucketSeconds(durationSec);
         List<MonitoringSummaryKpi.StatusHistoryItem> statusHistory = buildStatusHistory(
-                tenantId, from, to, statusHistoryBucketSeconds, downtimeEpochSeconds, sloTargetSuccessRate);
+                api, from, to, statusHistoryBucketSeconds, downtimeEpochSeconds, sloTargetSuccessRate);
 
         MonitoringSummaryKpi.TopCause topCause = null;
-        List<TopCauseView> top5xx = apiCallHistoryRepository.findTop5xxPath(tenantId, from, to);
+        List<TopCauseView> top5xx = api.findTop5xxPath();
         if (!top5xx.isEmpty()) {
             TopCauseView v = top5xx.get(0);
             topCause = MonitoringSummaryKpi.TopCause.builder()
@@ -346,21 +374,21 @@ public class MonitoringService {
                     .build();
         }
 
-        // 지연시간: 데이터 없으면 0 반환 (프론트 - 표시 방지)
+        // 지연시간: 데이터 없으면 0 반환 (프론트 - 표시 방지). 백분위는 분 롤업 지연시간 스케치(로그 스케일)를 병합해 산출 (상대 오차 1% 이내)
         long p50Ms = 0L;
         long p95Ms = 0L;
         long p99Ms = 0L;
-        LatencyPercentilesView percentiles = apiCallHistoryRepository.findLatencyPercentiles(tenantId, from, to);
+        LatencyPercentilesView percentiles = api.getLatencyPercentiles();
         if (percentiles != null) {
             p50Ms = toLongMsOrZero(percentiles.getP50Ms());
             p95Ms = toLongMsOrZero(percentiles.getP95Ms());
             p99Ms = toLongMsOrZero(percentiles.getP99Ms());
         }
-        Double avgLatencyDouble = apiCallHistoryRepository.findAvgLatencyMs(tenantId, from, to);
+        Double avgLatencyDouble = totals.getAvgLatencyMs();
         long avgLatency = avgLatencyDouble == null ? 0L : avgLatencyDouble.longValue();
 
         MonitoringSummaryKpi.TopSlow topSlow = null;
-        List<TopSlowView> topSlowList = apiCallHistoryRepository.findTopSlowPath(tenantId, from, to);
+        List<TopSlowView> topSlowList = api.findTopSlowPath();
         if (!topSlowList.isEmpty()) {
             TopSlowView v = topSlowList.get(0);
             topSlow = MonitoringSummaryKpi.TopSlow.builder()
@@ -371,15 +399,20 @@ public class MonitoringService {
 
         // RPS: rpsPeak = (조회 기간 내 window초 버킷별 요청 수 중 최댓값) / TRAFFIC_PEAK_WINDOW_SECONDS. 기본 60초=1분.
         int windowSec = Math.max(1, trafficPeakWindowSeconds);
-        Long maxInWindow = apiCallHistoryRepository.findMaxCountInWindow(tenantId, from, to, windowSec);
+        // 분 단위 배수 윈도우는 롤업으로 계산, 그 외(초 단위)만 원본 조회
+        Long maxInWindow = api.findMaxCountInWindow(windowSec);
+        if (maxInWindow == null) {
+            maxInWindow = apiCallHistoryRepository.findMaxCountInWindow(tenantId, from, to, windowSec);
+        }
         double rpsPeakRaw = maxInWindow != null && windowSec > 0 ? (double) maxInWindow / windowSec : 0.0;
         double rpsAvgRaw = durationSec > 0 ? (double) requestCount / durationSec : 0.0;
         double rpsAvg = Math.round(rpsAvgRaw * 100.0) / 100.0;
         double rpsPeak = Math.round(rpsPeakRaw * 100.0) / 100.0;
+        // 중복 제거 클라이언트 수는 합산 불가하므로 원본 조회 유지
         long totalUv = apiCallHistoryRepository.countDistinctClientsByTenantIdAndCreatedAtBetween(tenantId, from, to);
 
         MonitoringSummaryKpi.TopTraffic topTraffic = null;
-        List<TopTrafficView> topTrafficList = apiCallHistoryRepository.findTopTrafficPath(tenantId, from, to);
+        List<TopTrafficView> topTrafficList = api.findTopTrafficPath();
         if (!topTrafficList.isEmpty()) {
             TopTrafficView v = topTrafficList.get(0);
             topTraffic = MonitoringSummaryKpi.TopTraffic.builder()
@@ -413,7 +446,7 @@ public class MonitoringService {
 
         // Top Error Path: 해당 기간 가장 많이 발생한 에러 1건 (path, statusCode, count)
         MonitoringSummaryKpi.TopError topError = null;
-        List<TopErrorView> topErrorList = apiCallHistoryRepository.findTopErrorPathAndStatus(tenantId, from, to);
+        List<TopErrorView> topErrorList = api.findTopErrorPathAndStatus();
         if (!topErrorList.isEmpty()) {
             TopErrorView v = topErrorList.get(0);
             topError = MonitoringSummaryKpi.TopError.builder()
@@ -612,7 +645,7 @@ public class MonitoringService {
 
     /** Health Dots용 statusHistory: 버킷별 UP|WARNING|DOWN|NO_DATA 및 availability(%) */
     private List<MonitoringSummaryKpi.StatusHistoryItem> buildStatusHistory(
-            Long tenantId, LocalDateTime from, LocalDateTime to, int bucketSeconds,
+            ApiCallRollupWindow api, LocalDateTime from, LocalDateTime to, int bucketSeconds,
             Set<Long> downtimeEpochSeconds, double sloTargetSuccessRate) {
         List<MonitoringSummaryKpi.StatusHistoryItem> out = new ArrayList<>();
         long fromEpoch = from.atOffset(ZoneOffset.UTC).toEpochSecond();
@@ -621,20 +654,10 @@ public class MonitoringService {
         // 그렇지 않으면 statsMap 키와 currentBucket이 일치하지 않아 모든 구간이 NO_DATA로 나옴
         long startBucket = (fromEpoch / bucketSeconds) * bucketSeconds;
 
-        List<Object[]> rows = apiCallHistoryRepository.findAvailabilityBucketStats(tenantId, from, to, bucketSeconds);
+        // 1분 버킷을 bucketSeconds(60의 배수) 단위로 재집계
         Map<Long, long[]> statsMap = new HashMap<>();
-        for (Object[] row : rows) {
-            if (row != null && row.length >= 4 && row[0] != null) {
-                Instant inst = row[0] instanceof Timestamp ? ((Timestamp) row[0]).toInstant() : null;
-                if (inst != null) {
-                    long bucketEpoch = inst.getEpochSecond();
-                    long total = row[1] instanceof Number ? ((Number) row[1]).longValue() : 0L;
-                    long success = row[2] instanceof Number ? ((Number) row[2]).longValue() : 0L;
-                    long apiErrorCount = row[3] instanceof Number ? ((Number) row[3]).longValue() : 0L;
-                    statsMap.put(bucketEpoch, new long[]{total, success, apiErrorCount});
-                }
-            }
-        }
+        api.regroup(bucketSeconds).forEach((bucketEpoch, c) ->
+                statsMap.put(bucketEpoch, new long[]{c.getTotalCount(), c.getSuccessCount(), c.getErrorCount()}));
 
         // startBucket부터 toEpoch 전까지 버킷 생성 (DB와 동일 그리드)
         long currentBucket = startBucket;
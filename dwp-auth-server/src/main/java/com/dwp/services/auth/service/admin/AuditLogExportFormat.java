@@ -0,0 +1,33 @@
+package com.dwp.services.auth.service.admin;
+
+import com.dwp.core.common.ErrorCode;
+import com.dwp.core.exception.BaseException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 감사 로그 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AuditLogExportFormat {
+
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    /** 요청 파라미터 → 형식 (null/공백이면 XLSX) */
+    public static AuditLogExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return XLSX;
+        }
+        for (AuditLogExportFormat f : values()) {
+            if (f.extension.equalsIgnoreCase(value.trim())) {
+                return f;
+            }
+        }
+        throw new BaseException(ErrorCode.INVALID_FORMAT, "지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -7,21 +7,29 @@ import com.dwp.services.auth.dto.admin.AuditLogItem;
 import com.dwp.services.auth.dto.admin.ExportAuditLogsRequest;
 import com.dwp.services.auth.dto.admin.PageResponse;
 import com.dwp.services.auth.entity.AuditLog;
+import com.dwp.services.auth.repository.AuditLogExportReader;
 import com.dwp.services.auth.repository.AuditLogRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -40,10 +48,17 @@ import java.util.stream.Collectors;
 public class AuditLogQueryService {
     
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogExportReader auditLogExportReader;
     private final ObjectMapper objectMapper;
     
     // PR-08B: before/after 최대 길이 제한 (10KB)
     private static final int MAX_METADATA_LENGTH = 10 * 1024;
+
+    /** 내보내기 keyset 페이지 크기 */
+    static final int EXPORT_PAGE_SIZE = 1000;
+    private static final String[] EXPORT_HEADERS = {"ID", "Tenant ID", "Actor User ID", "Action", "Resource Type",
+            "Resource ID", "Metadata", "Created At"};
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     /**
      * PR-08A: 감사 로그 목록 조회
@@ -210,78 +225,189 @@ public class AuditLogQueryService {
     }
     
     /**
-     * PR-08C: 감사 로그 Excel 다운로드
-     * 
+     * PR-08C: 감사 로그 내보내기 (스트리밍)
+     *
+     * keyset 페이지(EXPORT_PAGE_SIZE건) 단위로 조회해 바로 out에 기록하므로 메모리 사용량이 행 수와 무관합니다.
+     * - CSV: 페이지마다 out으로 flush
+     * - XLSX: SXSSF 윈도우(SXSSF_WINDOW_ROWS행)만 메모리에 두고 나머지는 임시 파일로 내린 뒤 마지막에 기록.
+     *         시트당 최대 행 수를 넘으면 다음 시트로 이어서 기록.
+     *         조회/기록 중 예외가 나면 워크북을 기록하지 않음 (잘린 워크북이 완전한 파일처럼 내려가지 않도록)
+     * 긴 내보내기 동안 DB 커넥션/트랜잭션을 점유하지 않도록 페이지 조회마다 커넥션을 반환합니다.
+     *
      * @param tenantId 테넌트 ID
-     * @param request 필터 조건
-     * @return Excel 파일 바이트 배열
+     * @param request 필터 조건 (maxRows 미지정 시 전체)
+     * @param format 파일 형식
+     * @param out 응답 스트림 (닫지 않음)
+     * @return 기록한 행 수
      */
-    @Transactional(readOnly = true)
-    public byte[] exportAuditLogsToExcel(Long tenantId, ExportAuditLogsRequest request) throws IOException {
-        // 최대 row 수 제한 (기본 100)
-        int maxRows = request.getMaxRows() != null ? request.getMaxRows() : 100;
-        Pageable pageable = PageRequest.of(0, maxRows);
-        
-        // LocalDateTime을 문자열로 변환 (Native Query용)
-        String fromStr = request.getFrom() != null ? request.getFrom().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) : null;
-        String toStr = request.getTo() != null ? request.getTo().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) : null;
-        
-        Page<AuditLog> auditLogPage = auditLogRepository.findByTenantIdAndFilters(
-                tenantId, fromStr, toStr,
-                request.getActorUserId(), request.getActionType(),
-                request.getResourceType(), request.getKeyword(),
-                pageable);
-        
-        List<AuditLog> auditLogs = auditLogPage.getContent();
-        
-        // Excel 워크북 생성
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            
-            Sheet sheet = workbook.createSheet("Audit Logs");
-            
-            // 헤더 스타일
-            CellStyle headerStyle = workbook.createCellStyle();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportAuditLogs(Long tenantId, ExportAuditLogsRequest request, AuditLogExportFormat format,
+                                OutputStream out) throws IOException {
+        long limit = request.getMaxRows() != null && request.getMaxRows() > 0 ? request.getMaxRows() : Long.MAX_VALUE;
+        AuditLogExportReader.Filter filter = new AuditLogExportReader.Filter(
+                request.getFrom(), request.getTo(), request.getActorUserId(),
+                request.getActionType(), request.getResourceType(), request.getKeyword());
+
+        long written = 0L;
+        try (ExportSink sink = format == AuditLogExportFormat.CSV ? new CsvSink(out) : new XlsxSink(out)) {
+            AuditLogExportReader.Row last = null;
+            while (written < limit) {
+                int pageSize = (int) Math.min(EXPORT_PAGE_SIZE, limit - written);
+                List<AuditLogExportReader.Row> rows = auditLogExportReader.findPage(tenantId, filter, last, pageSize);
+                for (AuditLogExportReader.Row row : rows) {
+                    sink.write(row);
+                }
+                written += rows.size();
+                sink.flush();
+                if (rows.size() < pageSize) {
+                    break;
+                }
+                last = rows.get(rows.size() - 1);
+            }
+            sink.complete();
+        }
+        log.info("Audit log export completed: tenantId={}, format={}, rows={}", tenantId, format, written);
+        return written;
+    }
+
+    private interface ExportSink extends Closeable {
+        void write(AuditLogExportReader.Row row) throws IOException;
+
+        void flush() throws IOException;
+
+        /** 모든 행 기록 완료. 호출되지 않은 채 close되면 내보내기 실패로 간주 */
+        void complete() throws IOException;
+    }
+
+    /** CSV (UTF-8 BOM, RFC 4180 인용) */
+    private static final class CsvSink implements ExportSink {
+        private final Writer writer;
+
+        CsvSink(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write('\uFEFF');
+            writeLine(EXPORT_HEADERS);
+        }
+
+        @Override
+        public void write(AuditLogExportReader.Row r) throws IOException {
+            writeLine(new String[]{
+                    toText(r.auditLogId()), toText(r.tenantId()), toText(r.actorUserId()), r.action(), r.resourceType(),
+                    toText(r.resourceId()), r.metadataJson(),
+                    r.createdAt() != null ? r.createdAt().format(EXPORT_DATE_FORMAT) : null});
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String toText(Long value) {
+            return value != null ? String.valueOf(value) : null;
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void complete() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /** XLSX (SXSSF, autoSizeColumn 대신 고정 너비) */
+    private static final class XlsxSink implements ExportSink {
+        private static final int SXSSF_WINDOW_ROWS = 100;
+        private static final int MAX_CELL_TEXT = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+        private static final int[] COLUMN_WIDTHS = {12, 10, 14, 24, 18, 12, 80, 20};
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook = new SXSSFWorkbook(SXSSF_WINDOW_ROWS);
+        private final CellStyle headerStyle;
+        private Sheet sheet;
+        private int sheetCount;
+        private int rowNum;
+
+        XlsxSink(OutputStream out) {
+            this.out = out;
+            workbook.setCompressTempFiles(true);
+            headerStyle = workbook.createCellStyle();
             Font headerFont = workbook.createFont();
             headerFont.setBold(true);
             headerStyle.setFont(headerFont);
             headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
             headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            
-            // 헤더 생성
+            newSheet();
+        }
+
+        private void newSheet() {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? "Audit Logs" : "Audit Logs (" + sheetCount + ")");
             Row headerRow = sheet.createRow(0);
-            String[] headers = {"ID", "Tenant ID", "Actor User ID", "Action", "Resource Type", 
-                               "Resource ID", "Metadata", "Created At"};
-            for (int i = 0; i < headers.length; i++) {
+            for (int i = 0; i < EXPORT_HEADERS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
+                cell.setCellValue(EXPORT_HEADERS[i]);
                 cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
             }
-            
-            // 데이터 행 생성
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            int rowNum = 1;
-            for (AuditLog auditLog : auditLogs) {
-                Row row = sheet.createRow(rowNum++);
-                
-                row.createCell(0).setCellValue(auditLog.getAuditLogId() != null ? auditLog.getAuditLogId() : 0);
-                row.createCell(1).setCellValue(auditLog.getTenantId() != null ? auditLog.getTenantId() : 0);
-                row.createCell(2).setCellValue(auditLog.getActorUserId() != null ? auditLog.getActorUserId() : 0);
-                row.createCell(3).setCellValue(auditLog.getAction() != null ? auditLog.getAction() : "");
-                row.createCell(4).setCellValue(auditLog.getResourceType() != null ? auditLog.getResourceType() : "");
-                row.createCell(5).setCellValue(auditLog.getResourceId() != null ? auditLog.getResourceId() : 0);
-                row.createCell(6).setCellValue(auditLog.getMetadataJson() != null ? auditLog.getMetadataJson() : "");
-                row.createCell(7).setCellValue(
-                        auditLog.getCreatedAt() != null ? auditLog.getCreatedAt().format(formatter) : "");
-            }
-            
-            // 컬럼 너비 자동 조정
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+            rowNum = 1;
+        }
+
+        @Override
+        public void write(AuditLogExportReader.Row r) {
+            if (rowNum >= SpreadsheetVersion.EXCEL2007.getMaxRows()) {
+                newSheet();
             }
-            
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+            Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(r.auditLogId() != null ? r.auditLogId() : 0);
+            row.createCell(1).setCellValue(r.tenantId() != null ? r.tenantId() : 0);
+            row.createCell(2).setCellValue(r.actorUserId() != null ? r.actorUserId() : 0);
+            row.createCell(3).setCellValue(r.action() != null ? r.action() : "");
+            row.createCell(4).setCellValue(r.resourceType() != null ? r.resourceType() : "");
+            row.createCell(5).setCellValue(r.resourceId() != null ? r.resourceId() : 0);
+            String metadata = r.metadataJson() != null ? r.metadataJson() : "";
+            row.createCell(6).setCellValue(metadata.length() > MAX_CELL_TEXT ? metadata.substring(0, MAX_CELL_TEXT) : metadata);
+            row.createCell(7).setCellValue(r.createdAt() != null ? r.createdAt().format(EXPORT_DATE_FORMAT) : "");
+        }
+
+        @Override
+        public void flush() {
+            // SXSSF는 윈도우를 넘는 행을 임시 파일로 자동 flush
+        }
+
+        @Override
+        public void complete() throws IOException {
+            workbook.write(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // complete 전에 실패했으면 out에는 기록하지 않고 임시 파일만 정리
+            workbook.dispose();
+            workbook.close();
         }
     }
 }
@@ -11,11 +11,13 @@ import com.dwp.services.auth.entity.Resource;
 import com.dwp.services.auth.repository.MenuRepository;
 import com.dwp.services.auth.repository.ResourceRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
 import com.dwp.services.auth.util.CodeResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ public class MenuCommandService {
     private final AuditLogService auditLogService;
     @SuppressWarnings("unused") // 향후 metadata 처리 시 사용 예정
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * PR-05B: 메뉴 생성
@@ -87,6 +90,8 @@ public class MenuCommandService {
         
         // PR-05C: com_resources에 대응 MENU 리소스 자동 생성 (upsert)
         syncResourceFromMenu(tenantId, menu);
+        // 메뉴 트리 캐시: 커밋 후 테넌트 무효화
+        eventPublisher.publishEvent(PermissionModelChangedEvent.menusChanged(tenantId));
         
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "MENU_CREATE", "MENU", menu.getSysMenuId(),
@@ -160,6 +165,7 @@ public class MenuCommandService {
         
         // PR-05C: com_resources 동기화 (메뉴명 변경 시)
         syncResourceFromMenu(tenantId, menu);
+        eventPublisher.publishEvent(PermissionModelChangedEvent.menusChanged(tenantId));
         
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "MENU_UPDATE", "MENU", sysMenuId,
@@ -188,6 +194,7 @@ public class MenuCommandService {
         menu.setIsEnabled("N");
         menu.setIsVisible("N");
         menuRepository.save(menu);
+        eventPublisher.publishEvent(PermissionModelChangedEvent.menusChanged(tenantId));
         
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "MENU_DELETE", "MENU", sysMenuId,
@@ -232,6 +239,7 @@ public class MenuCommandService {
             auditLogService.recordAuditLog(tenantId, actorUserId, "MENU_REORDER", "MENU", item.getMenuId(),
                     before, menu, httpRequest);
         }
+        eventPublisher.publishEvent(PermissionModelChangedEvent.menusChanged(tenantId));
     }
     
     /**
@@ -268,7 +276,12 @@ public class MenuCommandService {
             resource.setEnabled("Y".equals(menu.getIsEnabled()));
         }
         
+        boolean created = resource.getResourceId() == null;
         resourceRepository.save(resource);
+        if (created) {
+            // 컴파일된 권한 모델: 새 리소스 키 반영 (커밋 후 테넌트 리소스 인덱스 재구성)
+            eventPublisher.publishEvent(PermissionModelChangedEvent.resourcesChanged(tenantId));
+        }
         log.info("Synced resource from menu: tenantId={}, menuKey={}, resourceId={}, resourceKey={}", 
                 tenantId, menu.getMenuKey(), resource.getResourceId(), resource.getKey());
     }
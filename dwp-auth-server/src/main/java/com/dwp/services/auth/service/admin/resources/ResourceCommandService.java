@@ -8,11 +8,13 @@ import com.dwp.services.auth.dto.admin.UpdateResourceRequest;
 import com.dwp.services.auth.entity.Resource;
 import com.dwp.services.auth.repository.ResourceRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
 import com.dwp.services.auth.util.CodeResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +36,7 @@ public class ResourceCommandService {
     private final CodeResolver codeResolver;
     private final AuditLogService auditLogService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * PR-04C: 리소스 생성 (운영 수준)
@@ -262,6 +265,8 @@ public class ResourceCommandService {
      */
     private void invalidateResourceCache(Long tenantId) {
         log.info("Resource cache invalidation requested: tenantId={}", tenantId);
+        // 컴파일된 권한 모델: 커밋 후 테넌트 리소스 인덱스 재구성
+        eventPublisher.publishEvent(PermissionModelChangedEvent.resourcesChanged(tenantId));
     }
     
     
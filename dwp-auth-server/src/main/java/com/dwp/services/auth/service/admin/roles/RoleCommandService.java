@@ -10,10 +10,12 @@ import com.dwp.services.auth.repository.RoleMemberRepository;
 import com.dwp.services.auth.repository.RolePermissionRepository;
 import com.dwp.services.auth.repository.RoleRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
 import com.dwp.services.auth.util.CodeResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class RoleCommandService {
     private final CodeResolver codeResolver;
     private final AuditLogService auditLogService;
     private final RoleQueryService roleQueryService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 역할 생성
@@ -109,6 +112,9 @@ public class RoleCommandService {
         
         role = roleRepository.save(role);
         
+        // 역할 코드/상태 변경은 멤버의 ADMIN 판정에 영향 → 커밋 후 테넌트 권한 캐시 무효화 (다른 인스턴스 포함)
+        eventPublisher.publishEvent(PermissionModelChangedEvent.roleChanged(tenantId, roleId));
+        
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "ROLE_UPDATE", "ROLE", roleId,
                 before, role, httpRequest);
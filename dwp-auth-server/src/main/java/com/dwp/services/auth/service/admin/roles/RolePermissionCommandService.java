@@ -10,14 +10,13 @@ import com.dwp.services.auth.repository.PermissionRepository;
 import com.dwp.services.auth.repository.ResourceRepository;
 import com.dwp.services.auth.repository.RolePermissionRepository;
 import com.dwp.services.auth.repository.RoleRepository;
-import com.dwp.services.auth.repository.RoleMemberRepository;
-import com.dwp.services.auth.repository.UserRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
-import com.dwp.services.auth.service.rbac.AdminGuardService;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
 import com.dwp.services.auth.util.CodeResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,14 +35,12 @@ public class RolePermissionCommandService {
     
     private final RoleRepository roleRepository;
     private final RolePermissionRepository rolePermissionRepository;
-    private final RoleMemberRepository roleMemberRepository;
-    private final UserRepository userRepository;
     private final ResourceRepository resourceRepository;
     private final PermissionRepository permissionRepository;
     private final CodeResolver codeResolver;
     private final AuditLogService auditLogService;
-    private final AdminGuardService adminGuardService;
     private final RoleAuditHelper roleAuditHelper;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 역할 권한 업데이트 (Bulk Upsert/Delete) - resourceKey/permissionCode 기반
@@ -160,8 +157,8 @@ public class RolePermissionCommandService {
         }
         
         // PR-03E: 캐시 무효화 (변경 즉시 반영)
-        // 해당 역할을 가진 모든 사용자의 캐시 무효화
-        invalidateRolePermissionCache(tenantId, roleId);
+        // 커밋 후 테넌트 권한 캐시 무효화 + 해당 역할 bitset만 재컴파일 (다른 인스턴스에는 메시지 1건으로 전파)
+        eventPublisher.publishEvent(PermissionModelChangedEvent.rolePermissionsChanged(tenantId, roleId));
         
         // 감사 로그 (diff 추적 강화)
         Map<String, Object> auditMetadata = new HashMap<>();
@@ -179,27 +176,4 @@ public class RolePermissionCommandService {
         auditLogService.recordAuditLog(tenantId, actorUserId, "ROLE_PERMISSION_BULK_UPDATE", 
                 "ROLE_PERMISSION", roleId, auditMetadata, httpRequest);
     }
-    
-    /**
-     * PR-03E: 역할 권한 변경 시 캐시 무효화
-     * 
-     * 해당 역할을 가진 모든 사용자의 캐시를 무효화합니다.
-     */
-    private void invalidateRolePermissionCache(Long tenantId, Long roleId) {
-        // 해당 역할을 가진 모든 멤버 조회
-        List<com.dwp.services.auth.entity.RoleMember> members = roleMemberRepository.findByTenantIdAndRoleId(tenantId, roleId);
-        for (com.dwp.services.auth.entity.RoleMember member : members) {
-            if ("USER".equals(member.getSubjectType())) {
-                adminGuardService.invalidateCache(tenantId, member.getSubjectId());
-            } else if ("DEPARTMENT".equals(member.getSubjectType())) {
-                // 부서의 모든 사용자 캐시 무효화
-                List<com.dwp.services.auth.entity.User> users = userRepository.findByTenantIdAndPrimaryDepartmentId(tenantId, member.getSubjectId());
-                for (com.dwp.services.auth.entity.User user : users) {
-                    if (user.getUserId() != null) {
-                        adminGuardService.invalidateCache(tenantId, user.getUserId());
-                    }
-                }
-            }
-        }
-    }
 }
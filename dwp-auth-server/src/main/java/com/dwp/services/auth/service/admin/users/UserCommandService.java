@@ -8,6 +8,8 @@ import com.dwp.services.auth.entity.UserAccount;
 import com.dwp.services.auth.repository.UserAccountRepository;
 import com.dwp.services.auth.repository.UserRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
+import com.dwp.services.auth.service.rbac.AdminGuardService;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation;
 import com.dwp.services.auth.util.CodeResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,7 @@ public class UserCommandService {
     private final UserValidator userValidator;
     private final UserMapper userMapper;
     private final UserQueryService userQueryService;
+    private final AdminGuardService adminGuardService;
     
     /**
      * 사용자 생성
@@ -133,6 +136,11 @@ public class UserCommandService {
         
         userRepository.save(user);
         
+        // 부서 변경 시 부서 role 반영을 위해 권한 캐시 무효화
+        if (request.getDepartmentId() != null && !request.getDepartmentId().equals(before.getPrimaryDepartmentId())) {
+            adminGuardService.invalidateCache(tenantId, userId, PermissionCacheInvalidation.Reason.DEPARTMENT);
+        }
+        
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "USER_UPDATE", "USER", userId,
                 before, user, httpRequest);
@@ -10,6 +10,7 @@ import com.dwp.services.auth.repository.RoleMemberRepository;
 import com.dwp.services.auth.repository.RoleRepository;
 import com.dwp.services.auth.repository.UserRepository;
 import com.dwp.services.auth.service.audit.AuditLogService;
+import com.dwp.services.auth.service.rbac.AdminGuardService;
 import com.dwp.services.auth.util.CodeResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ public class UserRoleService {
     private final RoleMemberRepository roleMemberRepository;
     private final CodeResolver codeResolver;
     private final AuditLogService auditLogService;
+    private final AdminGuardService adminGuardService;
     
     /**
      * 사용자 역할 업데이트
@@ -80,6 +82,9 @@ public class UserRoleService {
             }
         }
         
+        // 캐시 무효화 (변경 즉시 반영)
+        adminGuardService.invalidateCache(tenantId, userId);
+        
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "USER_ROLE_UPDATE", "USER", userId,
                 null, request, httpRequest);
@@ -117,6 +122,9 @@ public class UserRoleService {
                 .build();
         roleMemberRepository.save(member);
         
+        // 캐시 무효화 (변경 즉시 반영)
+        adminGuardService.invalidateCache(tenantId, userId);
+        
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "USER_ROLE_ADD", "USER", userId,
                 null, roleId, httpRequest);
@@ -159,6 +167,9 @@ public class UserRoleService {
         // 역할 멤버 삭제
         roleMemberRepository.delete(member);
         
+        // 캐시 무효화 (변경 즉시 반영)
+        adminGuardService.invalidateCache(tenantId, userId);
+        
         // 감사 로그
         auditLogService.recordAuditLog(tenantId, actorUserId, "USER_ROLE_REMOVE", "USER", userId,
                 roleId, null, httpRequest);
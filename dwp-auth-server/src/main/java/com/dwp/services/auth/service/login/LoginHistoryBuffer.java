@@ -0,0 +1,264 @@
+package com.dwp.services.auth.service.login;
+
+import com.dwp.services.auth.entity.LoginHistory;
+import com.dwp.services.auth.repository.LoginHistoryBatchWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 이력 bounded 버퍼 + 배치 적재기
+ *
+ * AuthService는 {@link #recordSuccess}/{@link #recordFailure}로 이력을 넣기만 하고 즉시 반환합니다
+ * (로그인 트랜잭션/지연시간이 이력 INSERT에 의존하지 않음).
+ * 적재는 별도 flush 스레드가 batch-size 도달 시 또는 flush-interval-ms 주기마다 JDBC 배치(multi-row INSERT)로 수행합니다.
+ *
+ * 연속 실패 집계:
+ * - 같은 (tenant, principal)의 동일 실패(사유/provider/사용자/IP 동일)가 적재 전에 반복되면 1행의 attempt_count만 증가
+ * - 해당 principal의 로그인 성공 또는 다른 실패가 들어오면 집계를 끊고 새 행 시작
+ *
+ * Backpressure: 버퍼가 가득 차면 신규 이력은 버리고 dropped 카운터만 증가 (로그인 경로는 대기하지 않음).
+ * 적재 실패한 배치도 재시도 없이 failed 카운터로 기록합니다.
+ *
+ * 메트릭 (Micrometer):
+ * - auth.login_history.enqueued / coalesced / dropped / written / failed (counter)
+ * - auth.login_history.buffer.size (gauge)
+ */
+@Slf4j
+@Component
+public class LoginHistoryBuffer {
+
+    private final LoginHistoryBatchWriter batchWriter;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<PendingHistory> queue;
+
+    // 적재 대기 중인 실패 집계: (tenantId, principal) -> 현재 이어지고 있는 실패 행
+    private final ConcurrentHashMap<FailureKey, PendingHistory> openFailures = new ConcurrentHashMap<>();
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "login-history-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public LoginHistoryBuffer(LoginHistoryBatchWriter batchWriter,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.login.history.buffer-capacity:10000}") int bufferCapacity,
+                              @Value("${auth.login.history.batch-size:500}") int batchSize,
+                              @Value("${auth.login.history.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.batchWriter = batchWriter;
+        this.bufferCapacity = Math.max(1, bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(50L, flushIntervalMs);
+        this.queue = new ArrayBlockingQueue<>(this.bufferCapacity);
+
+        FunctionCounter.builder("auth.login_history.enqueued", enqueuedCount, AtomicLong::get)
+                .description("버퍼에 적재된 로그인 이력 행 수").register(meterRegistry);
+        FunctionCounter.builder("auth.login_history.coalesced", coalescedCount, AtomicLong::get)
+                .description("연속 실패 집계로 기존 행에 합쳐진 로그인 시도 수").register(meterRegistry);
+        FunctionCounter.builder("auth.login_history.dropped", droppedCount, AtomicLong::get)
+                .description("버퍼 overflow로 버려진 로그인 이력 수").register(meterRegistry);
+        FunctionCounter.builder("auth.login_history.written", writtenCount, AtomicLong::get)
+                .description("DB에 적재된 로그인 이력 행 수").register(meterRegistry);
+        FunctionCounter.builder("auth.login_history.failed", failedCount, AtomicLong::get)
+                .description("적재 실패로 유실된 로그인 이력 행 수").register(meterRegistry);
+        Gauge.builder("auth.login_history.buffer.size", queue, BlockingQueue::size)
+                .description("적재 대기 중인 로그인 이력 행 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 로그인 성공 이력 적재 (non-blocking). 해당 principal의 연속 실패 집계를 끊습니다.
+     */
+    public boolean recordSuccess(LoginHistory history) {
+        openFailures.remove(FailureKey.of(history));
+        return enqueue(new PendingHistory(stamp(history)));
+    }
+
+    /**
+     * 로그인 실패 이력 적재 (non-blocking). 적재 전인 동일 실패가 있으면 attempt_count만 증가합니다.
+     */
+    public void recordFailure(LoginHistory history) {
+        LoginHistory stamped = stamp(history);
+        openFailures.compute(FailureKey.of(stamped), (key, open) -> {
+            if (open != null && open.tryCoalesce(stamped)) {
+                coalescedCount.incrementAndGet();
+                return open;
+            }
+            PendingHistory created = new PendingHistory(stamped);
+            return enqueue(created) ? created : null;
+        });
+    }
+
+    private boolean enqueue(PendingHistory pending) {
+        if (!queue.offer(pending)) {
+            long dropped = droppedCount.incrementAndGet();
+            // overflow가 지속되면 로그 폭주 방지를 위해 1000건마다 1회만 기록
+            if (dropped % 1000 == 1) {
+                log.warn("Login history buffer full (capacity={}), dropped so far: {}", bufferCapacity, dropped);
+            }
+            return false;
+        }
+        enqueuedCount.incrementAndGet();
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: shutdown()의 마지막 flush가 처리
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼를 batch-size 단위로 비우며 적재. 꺼낸 행은 집계를 닫은 뒤(seal) 기록합니다.
+     */
+    void flush() {
+        flushRequested.set(false);
+        while (!queue.isEmpty()) {
+            List<PendingHistory> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<LoginHistory> rows = new ArrayList<>(batch.size());
+            for (PendingHistory pending : batch) {
+                rows.add(pending.seal());
+                if (!Boolean.TRUE.equals(pending.history.getSuccess())) {
+                    openFailures.remove(FailureKey.of(pending.history), pending);
+                }
+            }
+            write(rows);
+        }
+    }
+
+    private void write(List<LoginHistory> rows) {
+        try {
+            writtenCount.addAndGet(batchWriter.insertAll(rows));
+        } catch (Exception e) {
+            failedCount.addAndGet(rows.size());
+            log.warn("Failed to write login history batch: size={}, error={}", rows.size(), e.getMessage());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush login history buffer", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdown();
+        // 종료 시 남은 이력 best-effort 적재
+        flushSafely();
+    }
+
+    private static LoginHistory stamp(LoginHistory history) {
+        LocalDateTime now = LocalDateTime.now();
+        history.setCreatedAt(now);
+        history.setUpdatedAt(now);
+        return history;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getBufferedCount() {
+        return queue.size();
+    }
+
+    private record FailureKey(Long tenantId, String principal) {
+
+        static FailureKey of(LoginHistory history) {
+            return new FailureKey(history.getTenantId(), history.getPrincipal());
+        }
+    }
+
+    /**
+     * 적재 대기 행. flush가 seal하기 전까지 동일 실패를 attempt_count로 합칩니다.
+     */
+    private static final class PendingHistory {
+
+        private final LoginHistory history;
+        private boolean sealed;
+
+        PendingHistory(LoginHistory history) {
+            this.history = history;
+        }
+
+        synchronized boolean tryCoalesce(LoginHistory next) {
+            if (sealed || !sameFailure(history, next)) {
+                return false;
+            }
+            history.setAttemptCount(history.getAttemptCount() + 1);
+            history.setUpdatedAt(next.getUpdatedAt());
+            return true;
+        }
+
+        synchronized LoginHistory seal() {
+            sealed = true;
+            return history;
+        }
+
+        private static boolean sameFailure(LoginHistory a, LoginHistory b) {
+            return Objects.equals(a.getFailureReason(), b.getFailureReason())
+                    && Objects.equals(a.getProviderType(), b.getProviderType())
+                    && Objects.equals(a.getProviderId(), b.getProviderId())
+                    && Objects.equals(a.getUserId(), b.getUserId())
+                    && Objects.equals(a.getIpAddress(), b.getIpAddress());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.dwp.services.auth.service.login;
+
+import com.dwp.core.common.ErrorCode;
+import com.dwp.core.exception.BaseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증 전용 실행기
+ *
+ * BCrypt 검증은 CPU 바운드 작업이므로 요청 스레드(Tomcat)에서 직접 실행하면 로그인 폭주 시
+ * 모든 요청 스레드가 해싱에 묶입니다. 고정 크기 풀과 제한된 대기열에서만 실행하고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 SERVICE_BUSY(503)로 거절합니다.
+ *
+ * 재해싱(auth.login.password.rehash-on-login=true): 검증 성공 시 저장된 해시의 cost가
+ * PasswordEncoder 설정(auth.login.password.bcrypt-cost)보다 낮으면 같은 작업 스레드에서 새 해시를 생성해 반환합니다.
+ *
+ * 설정 (auth.login.password.*):
+ * - threads: 검증 스레드 수 (0이면 CPU 코어 수)
+ * - queue-capacity: 대기열 크기
+ * - timeout-ms: 요청 스레드의 최대 대기 시간 (대기열 대기 + 검증)
+ */
+@Slf4j
+@Component
+public class PasswordVerificationExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final boolean rehashOnLogin;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordVerificationExecutor(PasswordEncoder passwordEncoder,
+                                        @Value("${auth.login.password.threads:0}") int threads,
+                                        @Value("${auth.login.password.queue-capacity:64}") int queueCapacity,
+                                        @Value("${auth.login.password.timeout-ms:3000}") long timeoutMillis,
+                                        @Value("${auth.login.password.rehash-on-login:false}") boolean rehashOnLogin) {
+        this.passwordEncoder = passwordEncoder;
+        this.rehashOnLogin = rehashOnLogin;
+        this.timeoutMillis = timeoutMillis;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-verify-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password verification executor initialized: threads={}, queueCapacity={}, timeoutMs={}, rehashOnLogin={}",
+                poolSize, queueCapacity, timeoutMillis, rehashOnLogin);
+    }
+
+    /**
+     * 비밀번호 검증 (전용 풀에서 실행, 결과 대기)
+     *
+     * @param rawPassword 입력 비밀번호
+     * @param passwordHash 저장된 해시
+     * @return 검증 결과 (재해싱 대상이면 새 해시 포함)
+     * @throws BaseException SERVICE_BUSY: 대기열 초과 또는 대기 시간 초과
+     */
+    public Verification verify(String rawPassword, String passwordHash) {
+        Future<Verification> future;
+        try {
+            future = executor.submit(() -> doVerify(rawPassword, passwordHash));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password verification rejected: queueDepth={}, activeThreads={}",
+                    executor.getQueue().size(), executor.getActiveCount());
+            throw new BaseException(ErrorCode.SERVICE_BUSY, "Too many concurrent login attempts");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password verification timed out: timeoutMs={}, queueDepth={}",
+                    timeoutMillis, executor.getQueue().size());
+            throw new BaseException(ErrorCode.SERVICE_BUSY, "Login verification timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BaseException(ErrorCode.SERVICE_BUSY, "Login verification interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    /**
+     * 현재 대기열 길이 (모니터링용)
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private Verification doVerify(String rawPassword, String passwordHash) {
+        if (!passwordEncoder.matches(rawPassword, passwordHash)) {
+            return Verification.MISMATCH;
+        }
+        if (rehashOnLogin && passwordEncoder.upgradeEncoding(passwordHash)) {
+            return new Verification(true, passwordEncoder.encode(rawPassword));
+        }
+        return Verification.MATCH;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matched 일치 여부
+     * @param upgradedHash 재해싱된 해시 (재해싱 대상이 아니면 null)
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+
+        static final Verification MATCH = new Verification(true, null);
+        static final Verification MISMATCH = new Verification(false, null);
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -42,6 +43,7 @@ public class AdminMonitoringService {
     private final EventLogRepository eventLogRepository;
     private final ApiCallHistoryRepository apiCallHistoryRepository;
     private final PageViewDailyStatRepository pageViewDailyStatRepository;
+    private final ApiCallRollupService apiCallRollupService;
     
     /**
      * 방문자 목록 조회 (DB 레벨 페이징)
@@ -120,7 +122,7 @@ public class AdminMonitoringService {
      * 시계열 데이터 조회.
      * <ul>
      *   <li><b>동적 그룹화</b>: 요청 interval(1m, 5m, 1h, 1d)을 파싱하여 SQL GROUP BY 시간 단위로 적용. (규격: docs/api-spec/ADMIN_MONITORING_TIMESERIES_INTERVAL_SPEC.md)</li>
-     *   <li><b>P95 정확성</b>: 각 구간 내 전체 모수에서 percentile_cont(0.95)로 p95 산출. 단순 평균(AVG) 사용 금지.</li>
+     *   <li><b>P95 정확성</b>: 각 구간의 분 롤업 지연시간 스케치(로그 스케일, 상대 오차 1%)를 병합한 뒤 p95 산출. 분별 p95의 단순 평균(AVG) 사용 금지.</li>
      *   <li><b>빈 구간 처리</b>: 데이터 없는 구간은 null 대신 0 또는 직전 구간 값으로 채워 차트 선이 끊기지 않게 함.</li>
      * </ul>
      */
@@ -261,27 +263,21 @@ public class AdminMonitoringService {
         }
     }
 
-    /** 동적 그룹화: normalizedInterval(1m|5m|1h|1d)에 따라 해당 GROUP BY 쿼리 호출 후, from~to 모든 버킷에 대해 라벨·값 생성.
+    /** 동적 그룹화: normalizedInterval(1m|5m|1h|1d) 단위로 분 롤업(+ 경계 부분 분 원본)을 합산한 뒤, from~to 모든 버킷에 대해 라벨·값 생성.
      * metric=API_ERROR일 때 valuesErrorRate에 (에러건수/전체요청)*100(%) 순서대로 채움. */
     private void fillTimeseriesFromApiBuckets(Long tenantId, LocalDateTime from, LocalDateTime to,
                                                String normalizedInterval, String metric, long bucketSeconds,
                                                List<String> labels, List<Double> values, List<Double> valuesErrorRate) {
-        List<Object[]> rows = switch (normalizedInterval) {
-            case "1m" -> apiCallHistoryRepository.findTimeseriesBucketStatsMinute(tenantId, from, to);
-            case "5m" -> apiCallHistoryRepository.findTimeseriesBucketStats5Min(tenantId, from, to);
-            case "1d" -> apiCallHistoryRepository.findTimeseriesBucketStatsDay(tenantId, from, to);
-            default -> apiCallHistoryRepository.findTimeseriesBucketStatsHour(tenantId, from, to);
-        };
+        ApiCallRollupWindow window = apiCallRollupService.loadTimeseriesWindow(tenantId, from, to, (int) bucketSeconds);
         DateTimeFormatter keyFmt = "1d".equals(normalizedInterval) ? LABEL_FMT_DATE : LABEL_FMT_HOUR_MIN;
         Map<String, Object[]> map = new LinkedHashMap<>();
-        for (Object[] row : rows) {
-            if (row[0] == null) continue;
-            Object ts = row[0];
-            java.time.LocalDateTime ldt = ts instanceof java.sql.Timestamp ? ((java.sql.Timestamp) ts).toLocalDateTime()
-                    : ts instanceof java.time.Instant ? java.time.LocalDateTime.ofInstant((java.time.Instant) ts, java.time.ZoneId.systemDefault()) : null;
-            String key = ldt != null ? ("1d".equals(normalizedInterval) ? ldt.toLocalDate().format(keyFmt) : ldt.format(keyFmt)) : String.valueOf(ts);
-            map.put(key, row);
-        }
+        window.getBuckets().forEach((bucketEpoch, c) -> {
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(bucketEpoch, 0, ZoneOffset.UTC);
+            String key = "1d".equals(normalizedInterval) ? ldt.toLocalDate().format(keyFmt) : ldt.format(keyFmt);
+            // 기존 버킷 쿼리와 동일한 행 형태: ts, total, 4xx, 5xx, success, p50, p95, p99
+            map.put(key, new Object[]{ldt, c.getTotalCount(), c.getCount4xx(), c.getCount5xx(), c.getSuccessCount(),
+                    roundOrNull(c.percentile(0.5)), roundOrNull(c.percentile(0.95)), roundOrNull(c.percentile(0.99))});
+        });
         if ("1d".equals(normalizedInterval)) {
             LocalDate startDate = from.toLocalDate();
             LocalDate endDate = to.toLocalDate();
@@ -323,6 +319,10 @@ public class AdminMonitoringService {
         return Math.round((count4xx + count5xx) / (double) total * 10000.0) / 100.0;
     }
 
+    private static Long roundOrNull(Double v) {
+        return v == null ? null : Math.round(v);
+    }
+
     private static LocalDateTime alignToBucketStart(LocalDateTime from, String normalizedInterval) {
         return switch (normalizedInterval) {
             case "1m" -> from.truncatedTo(ChronoUnit.MINUTES);
@@ -0,0 +1,125 @@
+package com.dwp.services.auth.service.monitoring;
+
+import com.dwp.services.auth.dto.ApiCallHistoryRequest;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupCounters;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository.ErrorKey;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository.MinuteKey;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository.PathKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 호출 분 단위 롤업 유지/조회
+ *
+ * 유지: Gateway 벌크 적재(MonitoringService.recordApiCallHistories)와 같은 트랜잭션에서
+ *       배치를 (tenant, 분), (tenant, 분, path), (tenant, 분, path, status) 단위로 메모리 집계 후 upsert.
+ *       원본 created_at과 같은 적재 시각(now)을 기준으로 분 버킷을 정하므로 원본/롤업이 항상 일치합니다.
+ *
+ * 조회: 구간 [from, to]를 다음과 같이 나누어 합산합니다.
+ * - 완결된 분 [ceil(from), floor(to)) : 롤업 테이블
+ * - 앞쪽 부분 분 [from, ceil(from)), 뒤쪽 진행 중인 분 [floor(to), to] : 원본 sys_api_call_histories
+ * 원본 조회는 최대 2분 이내 범위만 읽으므로 테이블 크기와 무관하게 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiCallRollupService {
+
+    private static final int MINUTE_SECONDS = 60;
+
+    private final ApiCallRollupRepository apiCallRollupRepository;
+
+    /**
+     * 적재 배치를 롤업에 누적. rows는 필수 컬럼(tenantId, path, statusCode) 검증을 마친 행이어야 함.
+     *
+     * @param createdAt 원본 행에 기록한 적재 시각
+     */
+    public void accumulate(List<ApiCallHistoryRequest> rows, LocalDateTime createdAt) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime bucketStart = createdAt.truncatedTo(ChronoUnit.MINUTES);
+        Map<MinuteKey, ApiCallRollupCounters> minutes = new HashMap<>();
+        Map<PathKey, ApiCallRollupCounters> paths = new HashMap<>();
+        Map<ErrorKey, Long> errors = new HashMap<>();
+        for (ApiCallHistoryRequest r : rows) {
+            int statusCode = r.getStatusCode();
+            minutes.computeIfAbsent(new MinuteKey(r.getTenantId(), bucketStart), k -> new ApiCallRollupCounters())
+                    .add(statusCode, r.getLatencyMs());
+            paths.computeIfAbsent(new PathKey(r.getTenantId(), bucketStart, r.getPath()), k -> new ApiCallRollupCounters())
+                    .add(statusCode, r.getLatencyMs());
+            if (statusCode >= 400) {
+                errors.merge(new ErrorKey(r.getTenantId(), bucketStart, r.getPath(), statusCode), 1L, Long::sum);
+            }
+        }
+        apiCallRollupRepository.upsertMinuteRollups(minutes, createdAt);
+        apiCallRollupRepository.upsertPathRollups(paths, createdAt);
+        apiCallRollupRepository.upsertErrorRollups(errors, createdAt);
+    }
+
+    /**
+     * 요약(KPI)용: 1분 버킷 시계열 + 구간 전체 지연시간 스케치 + path/에러 집계
+     */
+    public ApiCallRollupWindow loadSummaryWindow(Long tenantId, LocalDateTime from, LocalDateTime to) {
+        ApiCallRollupWindow window = new ApiCallRollupWindow(MINUTE_SECONDS);
+        load(window, tenantId, from, to, true, (fullStart, fullEnd) -> {
+            window.mergeBuckets(apiCallRollupRepository.findBuckets(tenantId, fullStart, fullEnd, MINUTE_SECONDS, false));
+            window.addTotalSketch(apiCallRollupRepository.findSketch(tenantId, fullStart, fullEnd));
+            window.mergePaths(apiCallRollupRepository.findPathTotals(tenantId, fullStart, fullEnd));
+            window.mergeErrors(apiCallRollupRepository.findErrorCounts(tenantId, fullStart, fullEnd));
+        });
+        return window;
+    }
+
+    /**
+     * 시계열용: bucketSeconds(60의 배수) 버킷별 건수 + 버킷별 지연시간 스케치. path 집계는 생략.
+     */
+    public ApiCallRollupWindow loadTimeseriesWindow(Long tenantId, LocalDateTime from, LocalDateTime to, int bucketSeconds) {
+        ApiCallRollupWindow window = new ApiCallRollupWindow(bucketSeconds);
+        load(window, tenantId, from, to, false, (fullStart, fullEnd) ->
+                window.mergeBuckets(apiCallRollupRepository.findBuckets(tenantId, fullStart, fullEnd, bucketSeconds, true)));
+        return window;
+    }
+
+    @FunctionalInterface
+    private interface RollupRangeLoader {
+        void load(LocalDateTime fullStart, LocalDateTime fullEnd);
+    }
+
+    private void load(ApiCallRollupWindow window, Long tenantId, LocalDateTime from, LocalDateTime to,
+                      boolean withPaths, RollupRangeLoader rollupLoader) {
+        if (to.isBefore(from)) {
+            return;
+        }
+        LocalDateTime fullStart = from.truncatedTo(ChronoUnit.MINUTES);
+        if (fullStart.isBefore(from)) {
+            fullStart = fullStart.plusMinutes(1);
+        }
+        LocalDateTime fullEnd = to.truncatedTo(ChronoUnit.MINUTES);
+        if (!fullStart.isBefore(fullEnd)) {
+            // 완결된 분이 없는 짧은 구간: 원본만 사용
+            loadRaw(window, tenantId, from, to, withPaths);
+            return;
+        }
+        if (from.isBefore(fullStart)) {
+            // PostgreSQL timestamp 정밀도(µs) 기준 fullStart 직전까지 (inclusive)
+            loadRaw(window, tenantId, from, fullStart.minus(1, ChronoUnit.MICROS), withPaths);
+        }
+        rollupLoader.load(fullStart, fullEnd);
+        loadRaw(window, tenantId, fullEnd, to, withPaths);
+    }
+
+    private void loadRaw(ApiCallRollupWindow window, Long tenantId, LocalDateTime from, LocalDateTime to, boolean withPaths) {
+        apiCallRollupRepository.forEachRaw(tenantId, from, to, (createdAt, path, statusCode, latencyMs) ->
+                window.addRaw(createdAt.toEpochSecond(ZoneOffset.UTC), path, statusCode, latencyMs, withPaths));
+    }
+}
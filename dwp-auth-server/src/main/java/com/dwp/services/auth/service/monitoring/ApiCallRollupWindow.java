@@ -0,0 +1,237 @@
+package com.dwp.services.auth.service.monitoring;
+
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupCounters;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository.PathStatus;
+import com.dwp.services.auth.repository.projection.LatencyPercentilesView;
+import com.dwp.services.auth.repository.projection.TopCauseView;
+import com.dwp.services.auth.repository.projection.TopErrorView;
+import com.dwp.services.auth.repository.projection.TopSlowView;
+import com.dwp.services.auth.repository.projection.TopTrafficView;
+import com.dwp.services.auth.util.LatencySketch;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회 구간 [from, to]의 API 호출 집계 (분 롤업 + 원본 경계 구간 합산 결과)
+ *
+ * {@link ApiCallRollupService#loadSummaryWindow}, {@link ApiCallRollupService#loadTimeseriesWindow}가 생성합니다.
+ * Top path 계열은 기존 ApiCallHistoryRepository 쿼리와 같은 projection 타입으로 반환해
+ * 호출부(MonitoringService)의 KPI 조립 로직을 그대로 사용합니다.
+ */
+@Getter
+public class ApiCallRollupWindow {
+
+    /** 버킷 크기(초). 요약은 60, 시계열은 interval 크기 */
+    private final int bucketSeconds;
+    /** 버킷 시작 epoch(초, UTC 기준) → 집계 */
+    private final TreeMap<Long, ApiCallRollupCounters> buckets = new TreeMap<>();
+    /** 구간 전체 합계 (지연시간 스케치 포함) */
+    private final ApiCallRollupCounters totals = new ApiCallRollupCounters();
+    private final Map<String, ApiCallRollupCounters> paths = new HashMap<>();
+    private final Map<PathStatus, Long> errors = new HashMap<>();
+
+    ApiCallRollupWindow(int bucketSeconds) {
+        this.bucketSeconds = bucketSeconds;
+    }
+
+    /** 원본 1건 누적 (경계 구간) */
+    void addRaw(long epochSecond, String path, int statusCode, Long latencyMs, boolean withPaths) {
+        long bucket = Math.floorDiv(epochSecond, bucketSeconds) * bucketSeconds;
+        buckets.computeIfAbsent(bucket, k -> new ApiCallRollupCounters()).add(statusCode, latencyMs);
+        totals.add(statusCode, latencyMs);
+        if (withPaths) {
+            paths.computeIfAbsent(path, k -> new ApiCallRollupCounters()).add(statusCode, latencyMs);
+            if (statusCode >= 400) {
+                errors.merge(new PathStatus(path, statusCode), 1L, Long::sum);
+            }
+        }
+    }
+
+    /** 버킷 집계 누적 (스케치는 버킷에만 병합, totals 스케치는 {@link #addTotalSketch}로 별도 누적) */
+    void mergeBuckets(Map<Long, ApiCallRollupCounters> rollupBuckets) {
+        rollupBuckets.forEach((bucket, c) -> {
+            buckets.computeIfAbsent(bucket, k -> new ApiCallRollupCounters()).merge(c);
+            totals.addCounts(c.getTotalCount(), c.getSuccessCount(), c.getCount4xx(), c.getCount5xx(),
+                    c.getLatencyCount(), c.getLatencySumMs());
+        });
+    }
+
+    void addTotalSketch(LatencySketch sketch) {
+        totals.mergeSketch(sketch);
+    }
+
+    void mergePaths(Map<String, ApiCallRollupCounters> rollupPaths) {
+        rollupPaths.forEach((path, c) -> paths.computeIfAbsent(path, k -> new ApiCallRollupCounters()).merge(c));
+    }
+
+    void mergeErrors(Map<PathStatus, Long> rollupErrors) {
+        rollupErrors.forEach((key, count) -> errors.merge(key, count, Long::sum));
+    }
+
+    /**
+     * 1분 버킷 중 (요청 수 >= minReqPerMinute 이고 5xx 비율 > threshold%) 버킷 시작 epoch 목록 (오름차순).
+     * 요약 window(bucketSeconds=60) 전용.
+     */
+    public List<Long> findDowntimeBucketEpochs(int minReqPerMinute, double errorRateThreshold) {
+        List<Long> out = new ArrayList<>();
+        buckets.forEach((bucket, c) -> {
+            long total = c.getTotalCount();
+            if (total > 0 && total >= minReqPerMinute
+                    && (double) c.getCount5xx() / total * 100.0 > errorRateThreshold) {
+                out.add(bucket);
+            }
+        });
+        return out;
+    }
+
+    /** 버킷을 더 큰 단위(targetSeconds, bucketSeconds의 배수)로 재집계 */
+    public TreeMap<Long, ApiCallRollupCounters> regroup(int targetSeconds) {
+        TreeMap<Long, ApiCallRollupCounters> out = new TreeMap<>();
+        buckets.forEach((bucket, c) -> out
+                .computeIfAbsent(Math.floorDiv(bucket, targetSeconds) * targetSeconds, k -> new ApiCallRollupCounters())
+                .merge(c));
+        return out;
+    }
+
+    /** windowSeconds 단위 버킷별 요청 수 최댓값. windowSeconds가 bucketSeconds의 배수가 아니면 null (원본 조회 필요) */
+    public Long findMaxCountInWindow(int windowSeconds) {
+        if (windowSeconds <= 0 || windowSeconds % bucketSeconds != 0) {
+            return null;
+        }
+        long max = 0L;
+        for (ApiCallRollupCounters c : regroup(windowSeconds).values()) {
+            max = Math.max(max, c.getTotalCount());
+        }
+        return max;
+    }
+
+    public LatencyPercentilesView getLatencyPercentiles() {
+        return new Percentiles(totals.percentile(0.5), totals.percentile(0.95), totals.percentile(0.99));
+    }
+
+    public List<TopCauseView> findTop5xxPath() {
+        String top = null;
+        long topCount = 0L;
+        for (Map.Entry<String, ApiCallRollupCounters> e : paths.entrySet()) {
+            long count = e.getValue().getCount5xx();
+            if (count > topCount) {
+                top = e.getKey();
+                topCount = count;
+            }
+        }
+        return top == null ? List.of() : List.of(new TopCause(top, topCount));
+    }
+
+    public List<TopSlowView> findTopSlowPath() {
+        String top = null;
+        Double topP95 = null;
+        for (Map.Entry<String, ApiCallRollupCounters> e : paths.entrySet()) {
+            Double p95 = e.getValue().percentile(0.95);
+            if (p95 != null && (topP95 == null || p95 > topP95)) {
+                top = e.getKey();
+                topP95 = p95;
+            }
+        }
+        return top == null ? List.of() : List.of(new TopSlow(top, topP95));
+    }
+
+    public List<TopTrafficView> findTopTrafficPath() {
+        String top = null;
+        long topCount = 0L;
+        for (Map.Entry<String, ApiCallRollupCounters> e : paths.entrySet()) {
+            long count = e.getValue().getTotalCount();
+            if (count > topCount) {
+                top = e.getKey();
+                topCount = count;
+            }
+        }
+        return top == null ? List.of() : List.of(new TopTraffic(top, topCount));
+    }
+
+    public List<TopErrorView> findTopErrorPathAndStatus() {
+        PathStatus top = null;
+        long topCount = 0L;
+        for (Map.Entry<PathStatus, Long> e : errors.entrySet()) {
+            if (e.getValue() > topCount) {
+                top = e.getKey();
+                topCount = e.getValue();
+            }
+        }
+        return top == null ? List.of() : List.of(new TopError(top.path(), top.statusCode(), topCount));
+    }
+
+    private record Percentiles(Double p50Ms, Double p95Ms, Double p99Ms) implements LatencyPercentilesView {
+        @Override
+        public Double getP50Ms() {
+            return p50Ms;
+        }
+
+        @Override
+        public Double getP95Ms() {
+            return p95Ms;
+        }
+
+        @Override
+        public Double getP99Ms() {
+            return p99Ms;
+        }
+    }
+
+    private record TopCause(String path, Long count) implements TopCauseView {
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+
+    private record TopSlow(String path, Double p95Ms) implements TopSlowView {
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public Double getP95Ms() {
+            return p95Ms;
+        }
+    }
+
+    private record TopTraffic(String path, Long requestCount) implements TopTrafficView {
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public Long getRequestCount() {
+            return requestCount;
+        }
+    }
+
+    private record TopError(String path, Integer statusCode, Long count) implements TopErrorView {
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public Integer getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.dwp.services.auth.service.monitoring;
+
+import com.dwp.services.auth.config.MonitoringPartitionConfig;
+import com.dwp.services.auth.entity.MonitoringConfig;
+import com.dwp.services.auth.repository.MonitoringConfigRepository;
+import com.dwp.services.auth.repository.monitoring.MonitoringPartitionRepository;
+import com.dwp.services.auth.repository.monitoring.MonitoringPartitionRepository.PartitionRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모니터링 원본 이력 파티션 관리 (sys_api_call_histories, sys_page_view_events) + 분 단위 롤업 보존기간 정리
+ *
+ * 1. 오늘부터 premakeDays일치 일 파티션이 없으면 생성 (DEFAULT 파티션 적재 방지)
+ *    - DEFAULT 파티션에 이미 들어간 해당 일 행은 새 파티션으로 옮김
+ * 2. 보존기간 만료 파티션 DROP 또는 DETACH
+ *    - 파티션에는 모든 테넌트 행이 섞여 있으므로, 기준은 전체 테넌트 보존기간 중 최댓값
+ * 3. 최댓값보다 보존기간이 짧은 테넌트는 해당 테넌트 행만 DELETE
+ *    - created_at 조건으로 두 보존기간 사이 파티션만 스캔
+ * 4. 롤업(sys_api_call_*_rollups)은 rollupRetentionDays(원본 최대 보존기간 이상) 지난 bucket을 배치 삭제
+ *    - 롤업은 테넌트·분 단위 집계라 원본보다 작고 장기 추이 조회에 쓰이므로 원본보다 길게 보존
+ *
+ * 여러 인스턴스 동시 실행은 트랜잭션 advisory lock으로 방지합니다. maintain 트랜잭션은 lock만 보유하고,
+ * 파티션 생성/삭제와 행 삭제는 작업마다 별도 트랜잭션(MonitoringPartitionRepository REQUIRES_NEW)으로 커밋합니다.
+ * 한 작업이 실패해도 로그만 남기고 나머지 작업은 계속합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonitoringPartitionManager {
+
+    static final List<String> PARTITIONED_TABLES = List.of("sys_api_call_histories", "sys_page_view_events");
+    static final List<String> ROLLUP_TABLES = List.of(
+            "sys_api_call_minute_rollups", "sys_api_call_path_rollups", "sys_api_call_error_rollups");
+    static final String CODE_DATA_RETENTION_DAYS = "DATA_RETENTION_DAYS";
+
+    private static final long ADVISORY_LOCK_KEY = 0x4D4F4E5F50415254L; // "MON_PART"
+
+    private final MonitoringPartitionConfig config;
+    private final MonitoringPartitionRepository partitionRepository;
+    private final MonitoringConfigRepository monitoringConfigRepository;
+
+    @Transactional
+    public void maintain(LocalDate today) {
+        if (!partitionRepository.tryAdvisoryXactLock(ADVISORY_LOCK_KEY)) {
+            log.info("Partition maintenance skipped: advisory lock not acquired (another instance running)");
+            return;
+        }
+        int defaultRetention = Math.max(1, config.getDefaultRetentionDays());
+        Map<Long, Integer> tenantRetention = findTenantRetentionDays(defaultRetention);
+        int maxRetention = tenantRetention.values().stream().reduce(defaultRetention, Math::max);
+
+        for (String table : PARTITIONED_TABLES) {
+            List<PartitionRange> partitions = partitionRepository.findPartitions(table);
+            createFuturePartitions(table, partitions, today);
+            expirePartitions(table, partitions, today.minusDays(maxRetention).atStartOfDay());
+            purgeShorterRetentionTenants(table, today, tenantRetention, defaultRetention, maxRetention);
+        }
+        purgeRollups(today.minusDays(Math.max(maxRetention, config.getRollupRetentionDays())).atStartOfDay());
+    }
+
+    private void createFuturePartitions(String table, List<PartitionRange> partitions, LocalDate today) {
+        String defaultPartition = partitions.stream().filter(PartitionRange::isDefault).map(PartitionRange::name)
+                .findFirst().orElse(null);
+        for (int i = 0; i < Math.max(1, config.getPremakeDays()); i++) {
+            LocalDate day = today.plusDays(i);
+            if (partitions.stream().noneMatch(p -> p.covers(day))) {
+                try {
+                    String name = partitionRepository.createDailyPartition(table, day, defaultPartition);
+                    log.info("Partition created table={} partition={}", table, name);
+                } catch (Exception e) {
+                    log.error("Partition create failed table={} day={}", table, day, e);
+                }
+            }
+        }
+    }
+
+    private void expirePartitions(String table, List<PartitionRange> partitions, LocalDateTime cutoff) {
+        for (PartitionRange p : partitions) {
+            if (p.isDefault() || p.to().isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                if (config.getExpireAction() == MonitoringPartitionConfig.ExpireAction.DETACH) {
+                    partitionRepository.detachPartition(table, p.name());
+                    log.info("Partition detached table={} partition={} to={}", table, p.name(), p.to());
+                } else {
+                    partitionRepository.dropPartition(p.name());
+                    log.info("Partition dropped table={} partition={} to={}", table, p.name(), p.to());
+                }
+            } catch (Exception e) {
+                log.error("Partition expire failed table={} partition={}", table, p.name(), e);
+            }
+        }
+    }
+
+    private void purgeShorterRetentionTenants(String table, LocalDate today, Map<Long, Integer> tenantRetention,
+                                              int defaultRetention, int maxRetention) {
+        tenantRetention.forEach((tenantId, days) -> {
+            if (days < maxRetention) {
+                try {
+                    int deleted = partitionRepository.deleteTenantRowsBefore(table, tenantId, today.minusDays(days).atStartOfDay());
+                    log.debug("Retention purge table={} tenant={} days={} deleted={}", table, tenantId, days, deleted);
+                } catch (Exception e) {
+                    log.error("Retention purge failed table={} tenant={}", table, tenantId, e);
+                }
+            }
+        });
+        if (defaultRetention < maxRetention) {
+            try {
+                int deleted = partitionRepository.deleteRowsBeforeExcludingTenants(table, tenantRetention.keySet(),
+                        today.minusDays(defaultRetention).atStartOfDay());
+                log.debug("Retention purge table={} default days={} deleted={}", table, defaultRetention, deleted);
+            } catch (Exception e) {
+                log.error("Retention purge failed table={} default days={}", table, defaultRetention, e);
+            }
+        }
+    }
+
+    private void purgeRollups(LocalDateTime cutoff) {
+        int batchSize = Math.max(1, config.getRollupDeleteBatchSize());
+        for (String table : ROLLUP_TABLES) {
+            try {
+                long total = 0;
+                int deleted;
+                do {
+                    deleted = partitionRepository.deleteRollupRowsBefore(table, cutoff, batchSize);
+                    total += deleted;
+                } while (deleted >= batchSize);
+                log.debug("Rollup retention purge table={} cutoff={} deleted={}", table, cutoff, total);
+            } catch (Exception e) {
+                log.error("Rollup retention purge failed table={}", table, e);
+            }
+        }
+    }
+
+    /** 테넌트별 DATA_RETENTION_DAYS (잘못된 값은 기본값으로 대체) */
+    private Map<Long, Integer> findTenantRetentionDays(int defaultRetention) {
+        Map<Long, Integer> out = new HashMap<>();
+        for (MonitoringConfig c : monitoringConfigRepository.findByConfigKey(CODE_DATA_RETENTION_DAYS)) {
+            out.put(c.getTenantId(), parseRetentionDays(c.getConfigValue(), defaultRetention));
+        }
+        return out;
+    }
+
+    private static int parseRetentionDays(String value, int defaultRetention) {
+        if (value == null || value.isBlank()) return defaultRetention;
+        try {
+            int v = Integer.parseInt(value.trim());
+            return v >= 1 ? v : defaultRetention;
+        } catch (NumberFormatException e) {
+            return defaultRetention;
+        }
+    }
+}
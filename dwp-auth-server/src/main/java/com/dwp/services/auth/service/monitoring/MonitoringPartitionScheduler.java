@@ -0,0 +1,39 @@
+package com.dwp.services.auth.service.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 모니터링 원본 이력 파티션 관리 스케줄러 (매일 + 기동 시 1회)
+ *
+ * 기동 시에도 실행해 서버가 며칠 내려가 있었던 경우에도 당일 파티션을 보장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "monitoring.partition.enabled", havingValue = "true", matchIfMissing = true)
+public class MonitoringPartitionScheduler {
+
+    private final MonitoringPartitionManager monitoringPartitionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        runMaintenance();
+    }
+
+    @Scheduled(cron = "${monitoring.partition.cron:0 10 0 * * *}")
+    public void runMaintenance() {
+        try {
+            monitoringPartitionManager.maintain(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Partition maintenance failed", e);
+        }
+    }
+}
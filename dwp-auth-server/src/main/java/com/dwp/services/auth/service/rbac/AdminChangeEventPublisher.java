@@ -0,0 +1,77 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.core.event.DomainEvent;
+import com.dwp.core.event.EventChannels;
+import com.dwp.core.event.RedisEventPublisher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 관리자 변경 이벤트 발행 (Redis Pub/Sub, dwp:events:admin)
+ *
+ * 권한/메뉴/역할 할당 변경이 커밋된 뒤 호출되어 테넌트 단위 ADMIN_DATA_CHANGED 이벤트를 발행합니다.
+ * 모든 Gateway 인스턴스의 응답 캐시(메뉴 트리, 내 권한, /me)가 이 채널을 구독해 해당 테넌트 캐시를 무효화하므로,
+ * 변경 요청이 다른 Gateway 인스턴스를 거쳤거나 Gateway를 거치지 않은 경우에도 반영됩니다.
+ *
+ * rbac.admin-events.enabled=true일 때만 동작 (Gateway의 dwp.response-cache.redis-invalidation-enabled와 같은 환경변수).
+ * Redis 발행은 blocking 호출이므로 전용 스레드에서 수행하며, 실패 시 Gateway 캐시는 TTL로만 만료됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rbac.admin-events.enabled", havingValue = "true")
+public class AdminChangeEventPublisher {
+
+    static final String EVENT_TYPE_ADMIN_DATA_CHANGED = "ADMIN_DATA_CHANGED";
+
+    private final RedisEventPublisher redisEventPublisher;
+
+    private final ExecutorService publishExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "admin-event-publish");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AdminChangeEventPublisher(RedisEventPublisher redisEventPublisher) {
+        this.redisEventPublisher = redisEventPublisher;
+    }
+
+    /**
+     * 테넌트 관리자 데이터 변경 발행 (커밋 후 호출)
+     *
+     * @param tenantId 테넌트 ID (null이면 전체)
+     * @param reason 변경 유형 (이벤트 data.reason)
+     */
+    public void publishTenantChanged(Long tenantId, String reason) {
+        DomainEvent event = DomainEvent.builder()
+                .eventType(EVENT_TYPE_ADMIN_DATA_CHANGED)
+                .source("dwp-auth-server")
+                .tenantId(tenantId != null ? tenantId.toString() : null)
+                .data(Map.of("reason", reason))
+                .build();
+        try {
+            publishExecutor.execute(() -> publish(event));
+        } catch (RejectedExecutionException e) {
+            log.debug("Admin change event skipped during shutdown: tenantId={}", tenantId);
+        }
+    }
+
+    private void publish(DomainEvent event) {
+        try {
+            redisEventPublisher.publishToChannel(EventChannels.ADMIN_EVENTS, event);
+        } catch (Exception e) {
+            log.warn("Failed to publish admin change event: tenantId={}, error={}", event.getTenantId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publishExecutor.shutdown();
+    }
+}
@@ -112,17 +112,14 @@ public class AdminGuardService {
     @Transactional(readOnly = true)
     public boolean hasAdminRole(Long tenantId, Long userId) {
         String cacheKey = tenantId + ":" + userId;
-        
-        Boolean cached = permissionCacheManager.getAdminRole(cacheKey);
-        if (cached != null) {
-            return cached;
-        }
-        
+        return permissionCacheManager.getAdminRole(cacheKey, () -> loadAdminRole(tenantId, userId));
+    }
+    
+    private boolean loadAdminRole(Long tenantId, Long userId) {
         // 1. 사용자의 역할 ID 목록 조회
         List<Long> roleIds = roleMemberRepository.findRoleIdsByTenantIdAndUserId(tenantId, userId);
         
         if (roleIds.isEmpty()) {
-            permissionCacheManager.putAdminRole(cacheKey, false);
             return false;
         }
         
@@ -137,7 +134,6 @@ public class AdminGuardService {
                                 adminRoleCode.equals(role.getCode()));
         
         log.debug("Admin role check: tenantId={}, userId={}, isAdmin={}", tenantId, userId, isAdmin);
-        permissionCacheManager.putAdminRole(cacheKey, isAdmin);
         return isAdmin;
     }
     
@@ -220,14 +216,8 @@ public class AdminGuardService {
     public List<PermissionDTO> getPermissions(Long userId, Long tenantId) {
         String cacheKey = tenantId + ":" + userId;
         
-        List<PermissionDTO> cached = permissionCacheManager.getPermissions(cacheKey);
-        if (cached != null) {
-            return cached;
-        }
-        
-        List<PermissionDTO> permissions = permissionQueryService.getPermissions(userId, tenantId);
-        permissionCacheManager.putPermissions(cacheKey, permissions);
-        return permissions;
+        return permissionCacheManager.getPermissions(
+                cacheKey, () -> permissionQueryService.getPermissions(userId, tenantId));
     }
     
     /**
@@ -268,6 +258,21 @@ public class AdminGuardService {
      * @param userId 사용자 ID (null이면 해당 tenant의 모든 캐시 무효화)
      */
     public void invalidateCache(Long tenantId, Long userId) {
-        permissionCacheManager.invalidateCache(tenantId, userId);
+        invalidateCache(tenantId, userId, PermissionCacheInvalidation.Reason.ROLE_MEMBER);
+    }
+    
+    /**
+     * 캐시 무효화 (변경 유형 지정, 다른 인스턴스로 전파되는 무효화 메시지에 기록)
+     * 
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID (null이면 해당 tenant의 모든 캐시 무효화)
+     * @param reason 변경 유형
+     */
+    public void invalidateCache(Long tenantId, Long userId, PermissionCacheInvalidation.Reason reason) {
+        if (userId == null) {
+            permissionCacheManager.invalidateTenantCache(tenantId);
+            return;
+        }
+        permissionCacheManager.invalidateCache(tenantId, userId, reason);
     }
 }
@@ -0,0 +1,319 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.services.auth.entity.Permission;
+import com.dwp.services.auth.entity.Resource;
+import com.dwp.services.auth.entity.RolePermission;
+import com.dwp.services.auth.repository.PermissionRepository;
+import com.dwp.services.auth.repository.ResourceRepository;
+import com.dwp.services.auth.repository.RolePermissionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 컴파일된 권한 모델 (canAccess 인메모리 판정)
+ *
+ * 요청마다 리소스/권한/역할 매핑을 DB에서 다시 읽지 않도록 권한 모델을 bitset으로 컴파일합니다.
+ * - 리소스(테넌트별)와 권한 코드(전역)를 조밀한 int id로 intern, (리소스, 권한) 쌍을 테넌트별 bit 위치(slot)로 매핑
+ * - 역할별 ALLOW / DENY bitset 컴파일 (처음 참조될 때 1회 조회)
+ * - 사용자 유효 권한 = 보유 역할 bitset의 OR, (tenantId, userId) 단위 캐시
+ * - 판정: DENY bit가 있으면 거부, 없고 ALLOW bit가 있으면 허용 (PermissionCalculator 정책과 동일)
+ *
+ * 증분 갱신:
+ * - 역할 권한 변경: 해당 역할 bitset만 제거 후 세대 증가 → 사용자 bitset은 캐시된 역할 목록으로 다시 OR (역할 할당 재조회 없음)
+ * - 리소스 변경: 테넌트 모델 재구성
+ * - 사용자 역할 할당/부서 변경: 사용자 항목 무효화 ({@link #invalidateUser})
+ * - 다른 인스턴스의 변경은 {@link PermissionCacheManager}가 무효화 메시지로 전달
+ * - 모든 항목은 rbac.cache.ttl-seconds 후 만료 (직접 DB 변경 대비).
+ *   사용자 역할 목록은 bitset을 다시 OR해 저장해도 연장되지 않고, 조회 시각부터 ttl-seconds가 지나면 다시 조회
+ */
+@Slf4j
+@Component
+public class PermissionBitmapEngine {
+
+    private static final String EFFECT_DENY = "DENY";
+    private static final String EFFECT_ALLOW = "ALLOW";
+
+    private final ResourceRepository resourceRepository;
+    private final PermissionRepository permissionRepository;
+    private final RolePermissionRepository rolePermissionRepository;
+    private final Ticker ticker;
+    private final long roleIdsTtlNanos;
+
+    // 테넌트별 컴파일 모델
+    private final Cache<Long, TenantModel> tenantModels;
+
+    // 캐시: tenantId:userId -> 사용자 유효 권한 bitset
+    private final Cache<String, UserBits> userBits;
+
+    // 권한 코드 -> permissionId, permissionId -> 조밀 int id (전역, 권한 카탈로그는 소규모)
+    private final ConcurrentHashMap<String, Long> permissionIdsByCode = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> permissionIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextPermissionIndex = new AtomicInteger();
+
+    @Autowired
+    public PermissionBitmapEngine(ResourceRepository resourceRepository,
+                                  PermissionRepository permissionRepository,
+                                  RolePermissionRepository rolePermissionRepository,
+                                  @Value("${rbac.cache.ttl-seconds:300}") long cacheTtlSeconds,
+                                  @Value("${rbac.bitmap.max-users:10000}") long maxUsers) {
+        this(resourceRepository, permissionRepository, rolePermissionRepository, cacheTtlSeconds, maxUsers,
+                Ticker.systemTicker());
+    }
+
+    PermissionBitmapEngine(ResourceRepository resourceRepository,
+                           PermissionRepository permissionRepository,
+                           RolePermissionRepository rolePermissionRepository,
+                           long cacheTtlSeconds,
+                           long maxUsers,
+                           Ticker ticker) {
+        this.resourceRepository = resourceRepository;
+        this.permissionRepository = permissionRepository;
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.ticker = ticker;
+        this.roleIdsTtlNanos = TimeUnit.SECONDS.toNanos(cacheTtlSeconds);
+        this.tenantModels = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .build();
+        this.userBits = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * resourceKey + permissionCode 권한 판정 (DENY 우선)
+     *
+     * @param roleIdsLoader 사용자 역할 ID 조회 (USER + DEPARTMENT, 캐시 미스 시에만 호출)
+     * @return 권한이 있으면 true
+     */
+    public boolean canAccess(Long tenantId, Long userId, String resourceKey, String permissionCode,
+                             Supplier<List<Long>> roleIdsLoader) {
+        if (tenantId == null || userId == null) {
+            return false;
+        }
+        TenantModel model = tenantModels.get(tenantId, TenantModel::new);
+        int resourceIndex = resourceIndex(model, resourceKey);
+        if (resourceIndex < 0) {
+            log.warn("Resource not found: tenantId={}, resourceKey={}", tenantId, resourceKey);
+            return false;
+        }
+        int permissionIndex = permissionIndex(permissionCode);
+        if (permissionIndex < 0) {
+            log.warn("Permission not found: permissionCode={}", permissionCode);
+            return false;
+        }
+
+        UserBits bits = userBits(model, tenantId, userId, roleIdsLoader);
+        if (bits.roleIds().isEmpty()) {
+            return false;
+        }
+        // slot은 역할 컴파일 시 생성되므로 사용자 bitset 확보 후 조회 (없으면 어떤 역할도 매핑하지 않은 쌍)
+        Integer slot = model.slots.get(slotKey(resourceIndex, permissionIndex));
+        return slot != null && !bits.deny().get(slot) && bits.allow().get(slot);
+    }
+
+    /**
+     * 사용자 항목 무효화 (역할 할당/부서 변경)
+     */
+    public void invalidateUser(Long tenantId, Long userId) {
+        userBits.invalidate(tenantId + ":" + userId);
+    }
+
+    /**
+     * 역할 bitset 무효화 (역할 권한 매핑 변경). 해당 역할만 다음 판정 시 재컴파일
+     * 세대를 먼저 올린 뒤 제거합니다: 컴파일 중인 스레드는 캐시 삽입 후 세대를 다시 확인하므로
+     * 이 제거보다 늦게 삽입된 이전 세대 bitset은 그 스레드가 직접 제거합니다 ({@link #combine}).
+     */
+    public void invalidateRole(Long tenantId, Long roleId) {
+        TenantModel model = tenantModels.getIfPresent(tenantId);
+        if (model != null) {
+            model.roleGeneration.incrementAndGet();
+            model.roles.remove(roleId);
+        }
+    }
+
+    /**
+     * 테넌트 모델 무효화 (리소스 변경)
+     */
+    public void invalidateTenant(Long tenantId) {
+        tenantModels.invalidate(tenantId);
+    }
+
+    /**
+     * 전체 무효화 (무효화 채널 재구독 시 누락 메시지 대비)
+     */
+    public void invalidateAll() {
+        tenantModels.invalidateAll();
+        userBits.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPermissionModelChanged(PermissionModelChangedEvent event) {
+        if (event.reason() == PermissionCacheInvalidation.Reason.MENU) {
+            return;
+        }
+        if (event.roleId() == null) {
+            invalidateTenant(event.tenantId());
+        } else {
+            invalidateRole(event.tenantId(), event.roleId());
+        }
+        log.debug("Permission model invalidated: tenantId={}, roleId={}", event.tenantId(), event.roleId());
+    }
+
+    private UserBits userBits(TenantModel model, Long tenantId, Long userId, Supplier<List<Long>> roleIdsLoader) {
+        String cacheKey = tenantId + ":" + userId;
+        UserBits bits = userBits.get(cacheKey, key -> combine(model, List.copyOf(roleIdsLoader.get()), ticker.read()));
+        long now = ticker.read();
+        if (now - bits.roleIdsLoadedAt() >= roleIdsTtlNanos) {
+            // 다시 OR해 저장된 항목은 expireAfterWrite가 연장되므로 역할 목록 만료는 조회 시각 기준으로 직접 확인
+            bits = combine(model, List.copyOf(roleIdsLoader.get()), now);
+            userBits.put(cacheKey, bits);
+        } else if (bits.model() != model || bits.generation() != model.roleGeneration.get()) {
+            // 역할 권한 또는 리소스 변경: 역할 목록은 유지하고 bitset만 다시 OR
+            bits = combine(model, bits.roleIds(), bits.roleIdsLoadedAt());
+            userBits.put(cacheKey, bits);
+        }
+        return bits;
+    }
+
+    /**
+     * 역할 bitset OR (미컴파일 역할은 한 번에 조회하여 컴파일)
+     */
+    private UserBits combine(TenantModel model, List<Long> roleIds, long roleIdsLoadedAt) {
+        long generation = model.roleGeneration.get();
+        Map<Long, RoleBits> resolved = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long roleId : roleIds) {
+            RoleBits roleBits = model.roles.get(roleId);
+            if (roleBits != null) {
+                resolved.put(roleId, roleBits);
+            } else {
+                missing.add(roleId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, List<RolePermission>> byRole = rolePermissionRepository
+                    .findByTenantIdAndRoleIdIn(model.tenantId, missing).stream()
+                    .collect(Collectors.groupingBy(RolePermission::getRoleId));
+            for (Long roleId : missing) {
+                RoleBits compiled = compileRole(model, byRole.getOrDefault(roleId, List.of()));
+                resolved.put(roleId, compiled);
+                // 먼저 삽입한 뒤 세대를 다시 확인: 조회 이후 역할이 변경되었으면 이번에 넣은 항목만 제거 (다음 판정에서 재컴파일)
+                // (확인 후 삽입하면 그 사이의 무효화가 제거할 항목이 아직 없어 이전 bitset이 남을 수 있음)
+                if (model.roles.putIfAbsent(roleId, compiled) == null && model.roleGeneration.get() != generation) {
+                    model.roles.remove(roleId, compiled);
+                }
+            }
+        }
+        BitSet allow = new BitSet();
+        BitSet deny = new BitSet();
+        for (RoleBits roleBits : resolved.values()) {
+            allow.or(roleBits.allow());
+            deny.or(roleBits.deny());
+        }
+        return new UserBits(model, generation, roleIds, roleIdsLoadedAt, allow, deny);
+    }
+
+    private RoleBits compileRole(TenantModel model, List<RolePermission> rolePermissions) {
+        BitSet allow = new BitSet();
+        BitSet deny = new BitSet();
+        for (RolePermission rolePermission : rolePermissions) {
+            boolean isDeny = EFFECT_DENY.equals(rolePermission.getEffect());
+            if (!isDeny && !EFFECT_ALLOW.equals(rolePermission.getEffect())) {
+                continue;
+            }
+            int resourceIndex = model.resourceIndexes.computeIfAbsent(rolePermission.getResourceId(),
+                    id -> model.nextResourceIndex.getAndIncrement());
+            int permissionIndex = permissionIndexes.computeIfAbsent(rolePermission.getPermissionId(),
+                    id -> nextPermissionIndex.getAndIncrement());
+            int slot = model.slots.computeIfAbsent(slotKey(resourceIndex, permissionIndex),
+                    key -> model.nextSlot.getAndIncrement());
+            (isDeny ? deny : allow).set(slot);
+        }
+        return new RoleBits(allow, deny);
+    }
+
+    /**
+     * resourceKey -> 리소스 int id (테넌트 전용 리소스 우선, 없으면 공용 리소스). 미존재 시 -1 (캐시하지 않음)
+     */
+    private int resourceIndex(TenantModel model, String resourceKey) {
+        Integer index = model.resourceKeyIndexes.get(resourceKey);
+        if (index != null) {
+            return index;
+        }
+        List<Resource> resources = resourceRepository.findByTenantIdAndKey(model.tenantId, resourceKey);
+        if (resources.isEmpty()) {
+            return -1;
+        }
+        int resolved = model.resourceIndexes.computeIfAbsent(resources.get(0).getResourceId(),
+                id -> model.nextResourceIndex.getAndIncrement());
+        model.resourceKeyIndexes.putIfAbsent(resourceKey, resolved);
+        return resolved;
+    }
+
+    /**
+     * permissionCode -> 권한 int id. 미존재 시 -1 (캐시하지 않음)
+     */
+    private int permissionIndex(String permissionCode) {
+        Long permissionId = permissionIdsByCode.get(permissionCode);
+        if (permissionId == null) {
+            Permission permission = permissionRepository.findByCode(permissionCode).orElse(null);
+            if (permission == null) {
+                return -1;
+            }
+            permissionId = permission.getPermissionId();
+            permissionIdsByCode.putIfAbsent(permissionCode, permissionId);
+        }
+        return permissionIndexes.computeIfAbsent(permissionId, id -> nextPermissionIndex.getAndIncrement());
+    }
+
+    private static long slotKey(int resourceIndex, int permissionIndex) {
+        return ((long) resourceIndex << 32) | (permissionIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 테넌트 컴파일 모델 (리소스 intern, (리소스, 권한) slot, 역할 bitset)
+     */
+    private static final class TenantModel {
+        private final Long tenantId;
+        private final ConcurrentHashMap<String, Integer> resourceKeyIndexes = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Integer> resourceIndexes = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Integer> slots = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, RoleBits> roles = new ConcurrentHashMap<>();
+        private final AtomicInteger nextResourceIndex = new AtomicInteger();
+        private final AtomicInteger nextSlot = new AtomicInteger();
+        private final AtomicLong roleGeneration = new AtomicLong();
+
+        private TenantModel(Long tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    private record RoleBits(BitSet allow, BitSet deny) {
+    }
+
+    private record UserBits(TenantModel model, long generation, List<Long> roleIds, long roleIdsLoadedAt,
+                            BitSet allow, BitSet deny) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.dwp.services.auth.service.rbac;
+
+/**
+ * 권한 캐시 무효화 메시지 (Redis Pub/Sub, dwp:events:permission-cache)
+ *
+ * - userId 지정: 해당 사용자 캐시만 무효화
+ * - userId null: 테넌트 전체 캐시 무효화 (roleId 지정 시 컴파일된 권한 모델은 해당 역할만 재컴파일)
+ * - tenantId null: 전체 무효화 (채널 재구독 시 로컬에서만 발행)
+ *
+ * 수신한 메시지는 로컬 애플리케이션 이벤트로 재발행되어 권한/메뉴 캐시가 각각 반영합니다.
+ *
+ * @param tenantId 테넌트 ID (null이면 전체)
+ * @param userId 사용자 ID (null이면 테넌트 전체)
+ * @param roleId 역할 ID (역할/역할 권한 변경 시)
+ * @param reason 변경 유형
+ * @param version 무효화 후 버전 (사용자 단위면 사용자 버전, 테넌트 단위면 테넌트 버전)
+ * @param origin 발행 인스턴스 ID (자기 메시지 무시용)
+ */
+public record PermissionCacheInvalidation(Long tenantId, Long userId, Long roleId, Reason reason,
+                                          long version, String origin) {
+
+    public enum Reason {
+        /** 역할 수정/삭제 (코드 변경 시 ADMIN 판정 변화) */
+        ROLE,
+        /** 역할 멤버 추가/삭제 */
+        ROLE_MEMBER,
+        /** 역할 권한 매핑 변경 */
+        ROLE_PERMISSION,
+        /** 사용자 부서 변경 (부서 단위 역할 할당) */
+        DEPARTMENT,
+        /** 리소스 생성/수정/삭제 */
+        RESOURCE,
+        /** 메뉴 생성/수정/삭제/정렬 (권한 캐시는 영향 없음, 메뉴 트리 캐시만 무효화) */
+        MENU,
+        /** 운영 목적 테넌트 전체 무효화 */
+        TENANT
+    }
+}
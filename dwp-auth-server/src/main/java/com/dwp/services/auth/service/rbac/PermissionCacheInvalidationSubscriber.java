@@ -0,0 +1,51 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 권한 캐시 무효화 메시지 구독 (dwp:events:permission-cache)
+ *
+ * 다른 인스턴스가 발행한 메시지만 로컬 애플리케이션 이벤트로 재발행합니다 (자기 메시지는 발행 시 이미 반영).
+ * {@link PermissionCacheManager}(권한 캐시)와 MenuService(메뉴 트리 캐시)가 이 이벤트를 구독합니다.
+ * 채널 (재)구독 시 전체 무효화 이벤트(tenantId null)를 발행하여 연결 단절 동안 누락된 메시지를 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rbac.cache.redis.enabled", havingValue = "true")
+public class PermissionCacheInvalidationSubscriber implements MessageListener, SubscriptionListener {
+
+    private final PermissionCacheRedisTier sharedTier;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        PermissionCacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), PermissionCacheInvalidation.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed permission cache invalidation: {}", e.getMessage());
+            return;
+        }
+        if (sharedTier.getNodeId().equals(invalidation.origin())) {
+            return;
+        }
+        eventPublisher.publishEvent(invalidation);
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        eventPublisher.publishEvent(new PermissionCacheInvalidation(
+                null, null, null, PermissionCacheInvalidation.Reason.TENANT, 0L, sharedTier.getNodeId()));
+        log.info("Permission cache invalidation channel subscribed, local caches cleared");
+    }
+}
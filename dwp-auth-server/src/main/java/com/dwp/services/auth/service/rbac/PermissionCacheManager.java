@@ -1,136 +1,243 @@
 package com.dwp.services.auth.service.rbac;
 
 import com.dwp.services.auth.dto.PermissionDTO;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation.Reason;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * 권한 캐시 관리 컴포넌트
- * 
+ *
  * 권한 관련 캐시를 중앙에서 관리합니다.
+ * - 1단계: 인스턴스 로컬 Caffeine (tenantId:userId 키)
+ * - 2단계: Redis 공유 계층 ({@link PermissionCacheRedisTier}, rbac.cache.redis.enabled=true일 때)
+ *
+ * 무효화는 로컬 캐시와 {@link PermissionBitmapEngine}을 즉시 비우고, 트랜잭션 커밋 후 한 번 더 비운 뒤
+ * 공유 계층 버전을 올려 다른 인스턴스에 전파합니다 (커밋 전 데이터로 다시 채워진 항목 제거).
+ * 명시적 무효화가 전파되므로 Redis 사용 시 rbac.cache.ttl-seconds를 시간 단위로 늘릴 수 있습니다.
+ * 커밋된 변경은 {@link AdminChangeEventPublisher}(rbac.admin-events.enabled=true일 때)로 Gateway 응답 캐시에도 알립니다.
  */
 @Slf4j
 @Component
 public class PermissionCacheManager {
-    
-    @Value("${rbac.cache.ttl-seconds:300}")  // 기본 5분
-    private long cacheTtlSeconds;
-    
+
+    private static final String ADMIN_ROLE_CACHE = "adminRole";
+    private static final String PERMISSIONS_CACHE = "permissions";
+    private static final String PERMISSION_SET_CACHE = "permissionSet";
+
+    private static final TypeReference<Boolean> ADMIN_ROLE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<PermissionDTO>> PERMISSIONS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Set<PermissionCalculator.PermissionTuple>> PERMISSION_SET_TYPE = new TypeReference<>() {};
+
+    private final PermissionBitmapEngine permissionBitmapEngine;
+    private final PermissionCacheRedisTier sharedTier;
+    private final AdminChangeEventPublisher adminEvents;
+
     // 캐시: userId+tenantId -> ADMIN 여부
-    private final Cache<String, Boolean> adminRoleCache = Caffeine.newBuilder()
-            .maximumSize(1000)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .build();
-    
-    // 캐시: userId+tenantId -> 권한 목록 (5분 TTL)
-    private final Cache<String, List<PermissionDTO>> permissionsCache = Caffeine.newBuilder()
-            .maximumSize(500)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .build();
-    
+    private final Cache<String, Boolean> adminRoleCache;
+
+    // 캐시: userId+tenantId -> 권한 목록
+    private final Cache<String, List<PermissionDTO>> permissionsCache;
+
     // 캐시: userId+tenantId -> 권한 Set<(resourceKey, permissionCode, effect)> (Ultra Enhanced)
-    private final Cache<String, Set<PermissionCalculator.PermissionTuple>> permissionSetCache = Caffeine.newBuilder()
-            .maximumSize(500)
-            .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
-            .build();
-    
-    /**
-     * ADMIN 역할 캐시 조회
-     */
-    public Boolean getAdminRole(String cacheKey) {
-        return adminRoleCache.getIfPresent(cacheKey);
+    private final Cache<String, Set<PermissionCalculator.PermissionTuple>> permissionSetCache;
+
+    public PermissionCacheManager(@Value("${rbac.cache.ttl-seconds:300}") long cacheTtlSeconds,  // 기본 5분
+                                  PermissionBitmapEngine permissionBitmapEngine,
+                                  ObjectProvider<PermissionCacheRedisTier> sharedTier,
+                                  ObjectProvider<AdminChangeEventPublisher> adminEvents) {
+        this.permissionBitmapEngine = permissionBitmapEngine;
+        this.sharedTier = sharedTier.getIfAvailable();
+        this.adminEvents = adminEvents.getIfAvailable();
+        this.adminRoleCache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.permissionsCache = Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.permissionSetCache = Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .build();
     }
-    
+
     /**
-     * ADMIN 역할 캐시 저장
+     * ADMIN 역할 캐시에서 조회 (없으면 supplier 실행)
      */
-    public void putAdminRole(String cacheKey, Boolean isAdmin) {
-        adminRoleCache.put(cacheKey, isAdmin);
+    public Boolean getAdminRole(String cacheKey, Supplier<Boolean> supplier) {
+        return get(adminRoleCache, ADMIN_ROLE_CACHE, ADMIN_ROLE_TYPE, cacheKey, supplier);
     }
-    
+
     /**
-     * ADMIN 역할 캐시에서 조회 (없으면 supplier 실행)
+     * 권한 목록 캐시에서 조회 (없으면 supplier 실행)
      */
-    public Boolean getAdminRole(String cacheKey, java.util.function.Supplier<Boolean> supplier) {
-        return adminRoleCache.get(cacheKey, key -> supplier.get());
+    public List<PermissionDTO> getPermissions(String cacheKey, Supplier<List<PermissionDTO>> supplier) {
+        return get(permissionsCache, PERMISSIONS_CACHE, PERMISSIONS_TYPE, cacheKey, supplier);
     }
-    
+
     /**
-     * 권한 목록 캐시 조회
+     * 권한 Set 캐시에서 조회 (없으면 supplier 실행)
      */
-    public List<PermissionDTO> getPermissions(String cacheKey) {
-        return permissionsCache.getIfPresent(cacheKey);
+    public Set<PermissionCalculator.PermissionTuple> getPermissionSet(String cacheKey,
+                                                                        Supplier<Set<PermissionCalculator.PermissionTuple>> supplier) {
+        return get(permissionSetCache, PERMISSION_SET_CACHE, PERMISSION_SET_TYPE, cacheKey, supplier);
     }
-    
+
+    private <T> T get(Cache<String, T> localCache, String cacheName, TypeReference<T> type,
+                      String cacheKey, Supplier<T> supplier) {
+        return localCache.get(cacheKey, key -> sharedTier != null
+                ? sharedTier.get(cacheName, key, type, supplier)
+                : supplier.get());
+    }
+
     /**
-     * 권한 목록 캐시 저장
+     * 사용자 캐시 무효화 (역할 멤버 변경)
+     *
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID
      */
-    public void putPermissions(String cacheKey, List<PermissionDTO> permissions) {
-        permissionsCache.put(cacheKey, permissions);
+    public void invalidateCache(Long tenantId, Long userId) {
+        invalidateCache(tenantId, userId, Reason.ROLE_MEMBER);
     }
-    
+
     /**
-     * 권한 목록 캐시에서 조회 (없으면 supplier 실행)
+     * 사용자 캐시 무효화
+     *
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID
+     * @param reason 변경 유형 (무효화 메시지에 기록)
      */
-    public List<PermissionDTO> getPermissions(String cacheKey, java.util.function.Supplier<List<PermissionDTO>> supplier) {
-        return permissionsCache.get(cacheKey, key -> supplier.get());
+    public void invalidateCache(Long tenantId, Long userId, Reason reason) {
+        evictUser(tenantId, userId);
+        afterCommit(() -> {
+            evictUser(tenantId, userId);
+            if (sharedTier != null) {
+                sharedTier.invalidateUser(tenantId, userId, reason);
+            }
+            publishAdminChange(tenantId, reason);
+        });
+        log.debug("Cache invalidated: tenantId={}, userId={}, reason={}", tenantId, userId, reason);
     }
-    
+
     /**
-     * 권한 Set 캐시 조회
+     * PR-03E: 테넌트 전체 캐시 무효화
+     *
+     * 테넌트의 모든 사용자 캐시와 컴파일된 권한 모델을 무효화하고 다른 인스턴스에 전파합니다.
+     *
+     * @param tenantId 테넌트 ID
      */
-    public Set<PermissionCalculator.PermissionTuple> getPermissionSet(String cacheKey) {
-        return permissionSetCache.getIfPresent(cacheKey);
+    public void invalidateTenantCache(Long tenantId) {
+        evictTenant(tenantId);
+        permissionBitmapEngine.invalidateTenant(tenantId);
+        afterCommit(() -> {
+            evictTenant(tenantId);
+            permissionBitmapEngine.invalidateTenant(tenantId);
+            if (sharedTier != null) {
+                sharedTier.invalidateTenant(tenantId, null, Reason.TENANT);
+            }
+            publishAdminChange(tenantId, Reason.TENANT);
+        });
+        log.info("Tenant cache invalidated: tenantId={}", tenantId);
     }
-    
+
     /**
-     * 권한 Set 캐시 저장
+     * 역할/역할 권한/리소스 변경: 테넌트 캐시 무효화 후 전파 (컴파일된 권한 모델은 PermissionBitmapEngine이 직접 처리)
+     * 메뉴 변경은 권한 캐시와 무관하므로 전파만 합니다 (다른 인스턴스의 메뉴 트리 캐시 무효화)
      */
-    public void putPermissionSet(String cacheKey, Set<PermissionCalculator.PermissionTuple> permissionSet) {
-        permissionSetCache.put(cacheKey, permissionSet);
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPermissionModelChanged(PermissionModelChangedEvent event) {
+        if (event.reason() != Reason.MENU) {
+            evictTenant(event.tenantId());
+        }
+        if (sharedTier != null) {
+            sharedTier.invalidateTenant(event.tenantId(), event.roleId(), event.reason());
+        }
+        publishAdminChange(event.tenantId(), event.reason());
+        log.debug("Tenant cache invalidated: tenantId={}, roleId={}, reason={}",
+                event.tenantId(), event.roleId(), event.reason());
     }
-    
+
     /**
-     * 권한 Set 캐시에서 조회 (없으면 supplier 실행)
+     * 다른 인스턴스가 발행한 무효화 메시지 반영 (로컬 캐시만, 재전파 없음)
      */
-    public Set<PermissionCalculator.PermissionTuple> getPermissionSet(String cacheKey, 
-                                                                        java.util.function.Supplier<Set<PermissionCalculator.PermissionTuple>> supplier) {
-        return permissionSetCache.get(cacheKey, key -> supplier.get());
+    @EventListener
+    public void applyRemoteInvalidation(PermissionCacheInvalidation message) {
+        Long tenantId = message.tenantId();
+        if (tenantId == null) {
+            invalidateAllLocal();
+        } else if (message.reason() == Reason.MENU) {
+            log.trace("Menu change message ignored by permission cache: tenantId={}", tenantId);
+        } else if (message.userId() != null) {
+            evictUser(tenantId, message.userId());
+        } else {
+            evictTenant(tenantId);
+            if (message.roleId() != null) {
+                permissionBitmapEngine.invalidateRole(tenantId, message.roleId());
+            } else {
+                permissionBitmapEngine.invalidateTenant(tenantId);
+            }
+        }
+        log.debug("Remote permission cache invalidation applied: {}", message);
     }
-    
+
     /**
-     * 사용자 캐시 무효화
-     * 
-     * @param tenantId 테넌트 ID
-     * @param userId 사용자 ID
+     * 로컬 캐시 전체 무효화 (무효화 채널 재구독 시, 구독 중단 동안 누락된 메시지 대비)
      */
-    public void invalidateCache(Long tenantId, Long userId) {
+    public void invalidateAllLocal() {
+        adminRoleCache.invalidateAll();
+        permissionsCache.invalidateAll();
+        permissionSetCache.invalidateAll();
+        permissionBitmapEngine.invalidateAll();
+    }
+
+    private void evictUser(Long tenantId, Long userId) {
         String cacheKey = tenantId + ":" + userId;
         adminRoleCache.invalidate(cacheKey);
         permissionsCache.invalidate(cacheKey);
         permissionSetCache.invalidate(cacheKey);
-        log.debug("Cache invalidated: tenantId={}, userId={}", tenantId, userId);
+        permissionBitmapEngine.invalidateUser(tenantId, userId);
     }
-    
-    /**
-     * PR-03E: 테넌트 전체 캐시 무효화 (Role 변경 시)
-     * 
-     * RoleMembers/RolePermissions 변경 시 모든 사용자의 캐시를 무효화합니다.
-     * 
-     * @param tenantId 테넌트 ID
-     */
-    public void invalidateTenantCache(Long tenantId) {
-        // 모든 캐시 항목을 순회하며 해당 tenantId를 가진 항목만 무효화
-        // Caffeine 캐시는 키 기반이므로 전체 무효화는 비효율적
-        // 대신 캐시 만료 시간(5분)을 신뢰하거나, Role 변경 시 해당 역할을 가진 사용자만 무효화
-        log.info("Tenant cache invalidation requested: tenantId={} (Note: Individual user cache invalidation recommended)", tenantId);
-        // 실제 구현은 Role 변경 시 해당 역할을 가진 사용자들의 캐시를 개별적으로 무효화하는 것이 더 효율적
+
+    private void evictTenant(Long tenantId) {
+        String prefix = tenantId + ":";
+        adminRoleCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        permissionsCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        permissionSetCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void publishAdminChange(Long tenantId, Reason reason) {
+        if (adminEvents != null) {
+            adminEvents.publishTenantChanged(tenantId, reason.name());
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 }
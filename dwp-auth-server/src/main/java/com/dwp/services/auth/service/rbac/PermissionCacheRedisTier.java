@@ -0,0 +1,144 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.core.event.EventChannels;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation.Reason;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 권한 캐시 Redis 공유 계층 (rbac.cache.redis.enabled=true)
+ *
+ * 로컬 Caffeine 캐시 미스 시 인스턴스 간 계산 결과를 공유하고, 변경을 버전으로 무효화합니다.
+ * - 버전 키: dwp:rbac:ver:{tenantId} (테넌트), dwp:rbac:ver:{tenantId}:{userId} (사용자)
+ * - 사용자 버전은 테넌트별 단조 증가 시퀀스(dwp:rbac:seq:{tenantId}, 만료 없음)에서 발급하므로,
+ *   사용자 버전 키가 만료된 뒤 다시 무효화되어도 이전 버전 값이 재사용되지 않음
+ * - 값 키: dwp:rbac:{cache}:{tenantId}:{userId} = "{테넌트 버전}:{사용자 버전}|{JSON}"
+ * - 조회: 값과 두 버전을 MGET 1회로 읽고, 저장 시점 버전이 현재 버전과 같을 때만 적중
+ *   (미스 시 계산 전에 읽은 버전으로 저장하므로, 계산 중 무효화되면 다음 조회에서 버려짐)
+ * - 무효화: 버전 INCR 후 무효화 메시지 발행 → 다른 인스턴스는 로컬 캐시만 비움 (Redis 값은 버전 불일치로 자연 폐기)
+ *
+ * Redis 오류 시 DB 계산으로 진행합니다 (fail-open). 무효화 발행 실패 시 다른 인스턴스는 로컬 TTL로만 만료됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rbac.cache.redis.enabled", havingValue = "true")
+public class PermissionCacheRedisTier {
+
+    private static final String KEY_PREFIX = "dwp:rbac:";
+    private static final String VERSION_PREFIX = KEY_PREFIX + "ver:";
+    private static final String USER_VERSION_SEQUENCE_PREFIX = KEY_PREFIX + "seq:";
+    private static final String INITIAL_VERSION = "0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration valueTtl;
+    private final Duration userVersionTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PermissionCacheRedisTier(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${rbac.cache.redis.ttl-seconds:21600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueTtl = Duration.ofSeconds(ttlSeconds);
+        // 사용자 버전 키가 먼저 만료되면 초기 버전(0)으로 저장된 값이 다시 유효해지므로 값 TTL보다 길게 유지
+        this.userVersionTtl = valueTtl.multipliedBy(2);
+    }
+
+    /**
+     * 이 인스턴스 ID (무효화 메시지 origin)
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 공유 계층 조회 (없거나 버전 불일치 시 loader 실행 후 저장)
+     *
+     * @param cacheName 캐시 이름 (adminRole, permissions, permissionSet)
+     * @param cacheKey tenantId:userId
+     */
+    public <T> T get(String cacheName, String cacheKey, TypeReference<T> type, Supplier<T> loader) {
+        String valueKey = KEY_PREFIX + cacheName + ":" + cacheKey;
+        String stamp;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                    valueKey, VERSION_PREFIX + tenantPart(cacheKey), VERSION_PREFIX + cacheKey));
+            if (values == null) {
+                return loader.get();
+            }
+            stamp = versionOf(values.get(1)) + ":" + versionOf(values.get(2));
+            String raw = values.get(0);
+            if (raw != null && raw.startsWith(stamp + "|")) {
+                return objectMapper.readValue(raw.substring(stamp.length() + 1), type);
+            }
+        } catch (Exception e) {
+            log.warn("Permission cache shared tier read failed, computing locally: key={}, error={}", valueKey, e.getMessage());
+            return loader.get();
+        }
+
+        T value = loader.get();
+        try {
+            redisTemplate.opsForValue().set(valueKey, stamp + "|" + objectMapper.writeValueAsString(value), valueTtl);
+        } catch (Exception e) {
+            log.warn("Permission cache shared tier write failed: key={}, error={}", valueKey, e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * 사용자 버전 갱신 + 무효화 메시지 발행
+     *
+     * 새 버전은 테넌트 시퀀스에서 발급합니다. 사용자 버전 키를 INCR하면 키 만료 후 1부터 다시 시작해,
+     * 만료 전에 같은 버전으로 저장된 (무효화 이전) 값이 다시 적중할 수 있습니다.
+     */
+    public void invalidateUser(Long tenantId, Long userId, Reason reason) {
+        String versionKey = VERSION_PREFIX + tenantId + ":" + userId;
+        try {
+            Long version = redisTemplate.opsForValue().increment(USER_VERSION_SEQUENCE_PREFIX + tenantId);
+            redisTemplate.opsForValue().set(versionKey, String.valueOf(version), userVersionTtl);
+            publish(new PermissionCacheInvalidation(tenantId, userId, null, reason, version != null ? version : 0L, nodeId));
+        } catch (Exception e) {
+            log.warn("Permission cache user invalidation broadcast failed: tenantId={}, userId={}, error={}",
+                    tenantId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 테넌트 버전 증가 + 무효화 메시지 발행 (테넌트 버전 키는 만료 없음)
+     * 메뉴 변경은 공유 계층 값(권한)과 무관하므로 버전을 유지하고 메시지만 발행합니다.
+     */
+    public void invalidateTenant(Long tenantId, Long roleId, Reason reason) {
+        try {
+            Long version = reason == Reason.MENU ? null : redisTemplate.opsForValue().increment(VERSION_PREFIX + tenantId);
+            publish(new PermissionCacheInvalidation(tenantId, null, roleId, reason, version != null ? version : 0L, nodeId));
+        } catch (Exception e) {
+            log.warn("Permission cache tenant invalidation broadcast failed: tenantId={}, error={}",
+                    tenantId, e.getMessage());
+        }
+    }
+
+    private void publish(PermissionCacheInvalidation message) throws Exception {
+        redisTemplate.convertAndSend(EventChannels.PERMISSION_CACHE_EVENTS, objectMapper.writeValueAsString(message));
+        log.debug("Permission cache invalidation published: {}", message);
+    }
+
+    private static String tenantPart(String cacheKey) {
+        int separator = cacheKey.indexOf(':');
+        return separator < 0 ? cacheKey : cacheKey.substring(0, separator);
+    }
+
+    private static String versionOf(String version) {
+        return version != null ? version : INITIAL_VERSION;
+    }
+}
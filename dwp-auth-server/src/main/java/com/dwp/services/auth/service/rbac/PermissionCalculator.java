@@ -10,6 +10,8 @@ import com.dwp.services.auth.repository.RoleMemberRepository;
 import com.dwp.services.auth.repository.RolePermissionRepository;
 import com.dwp.services.auth.repository.UserRepository;
 import com.dwp.services.auth.util.CodeResolver;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -34,6 +36,7 @@ public class PermissionCalculator {
     private final PermissionRepository permissionRepository;
     private final UserRepository userRepository;
     private final CodeResolver codeResolver;
+    private final PermissionBitmapEngine permissionBitmapEngine;
     
     /**
      * 사용자의 모든 역할 ID 조회 (USER + DEPARTMENT)
@@ -69,6 +72,8 @@ public class PermissionCalculator {
      * 3) ALLOW 하나라도 있으면 허용 (DENY 없을 때)
      * 4) 아무것도 없으면 거부
      * 
+     * 판정은 {@link PermissionBitmapEngine}의 컴파일된 역할 bitset으로 수행합니다.
+     * 
      * @param userId 사용자 ID
      * @param tenantId 테넌트 ID
      * @param resourceKey 리소스 키 (예: menu.admin.users)
@@ -78,59 +83,17 @@ public class PermissionCalculator {
     public boolean canAccess(Long userId, Long tenantId, String resourceKey, String permissionCode) {
         // CodeResolver 기반 검증 (하드코딩 금지)
         codeResolver.require("PERMISSION_CODE", permissionCode);
+        codeResolver.require("EFFECT_TYPE", "DENY");
+        codeResolver.require("EFFECT_TYPE", "ALLOW");
         
-        // 1. 리소스 조회 (resourceKey 기반)
-        List<Resource> resources = resourceRepository.findByTenantIdAndKey(tenantId, resourceKey);
-        if (resources.isEmpty()) {
-            log.warn("Resource not found: tenantId={}, resourceKey={}", tenantId, resourceKey);
-            return false;
-        }
-        Resource resource = resources.get(0);  // tenant-specific 우선
-        
-        // 2. 권한 조회 (permissionCode 기반)
-        Permission permission = permissionRepository.findByCode(permissionCode)
-                .orElse(null);
-        if (permission == null) {
-            log.warn("Permission not found: permissionCode={}", permissionCode);
-            return false;
-        }
-        
-        // 3. 사용자의 모든 역할 ID 조회 (USER + DEPARTMENT)
-        List<Long> roleIds = getAllRoleIds(tenantId, userId);
-        if (roleIds.isEmpty()) {
-            return false;
-        }
-        
-        // 4. 역할-권한 매핑 조회
-        List<RolePermission> rolePermissions = rolePermissionRepository.findByTenantIdAndRoleIdIn(tenantId, roleIds);
-        
-        // 5. DENY 우선 정책 적용 (CodeResolver 기반 검증)
-        String denyEffect = "DENY";
-        String allowEffect = "ALLOW";
-        codeResolver.require("EFFECT_TYPE", denyEffect);
-        codeResolver.require("EFFECT_TYPE", allowEffect);
-        
-        boolean hasDeny = rolePermissions.stream()
-                .anyMatch(rp -> rp.getResourceId().equals(resource.getResourceId()) &&
-                               rp.getPermissionId().equals(permission.getPermissionId()) &&
-                               denyEffect.equals(rp.getEffect()));
-        
-        if (hasDeny) {
-            log.debug("Permission DENY: userId={}, tenantId={}, resourceKey={}, permissionCode={}",
-                    userId, tenantId, resourceKey, permissionCode);
-            return false;  // DENY 우선
-        }
-        
-        // 6. ALLOW 확인
-        boolean hasAllow = rolePermissions.stream()
-                .anyMatch(rp -> rp.getResourceId().equals(resource.getResourceId()) &&
-                               rp.getPermissionId().equals(permission.getPermissionId()) &&
-                               allowEffect.equals(rp.getEffect()));
+        // 컴파일된 권한 bitset으로 판정 (역할 할당 조회는 사용자 캐시 미스 시에만)
+        boolean allowed = permissionBitmapEngine.canAccess(tenantId, userId, resourceKey, permissionCode,
+                () -> getAllRoleIds(tenantId, userId));
         
-        log.debug("Permission check: userId={}, tenantId={}, resourceKey={}, permissionCode={}, hasAllow={}",
-                userId, tenantId, resourceKey, permissionCode, hasAllow);
+        log.debug("Permission check: userId={}, tenantId={}, resourceKey={}, permissionCode={}, allowed={}",
+                userId, tenantId, resourceKey, permissionCode, allowed);
         
-        return hasAllow;
+        return allowed;
     }
     
     /**
@@ -196,14 +159,17 @@ public class PermissionCalculator {
     }
     
     /**
-     * 권한 튜플 (내부 클래스)
+     * 권한 튜플 (내부 클래스, Redis 공유 캐시 JSON 직렬화 대상)
      */
     public static class PermissionTuple {
         private final String resourceKey;
         private final String permissionCode;
         private final String effect;
         
-        public PermissionTuple(String resourceKey, String permissionCode, String effect) {
+        @JsonCreator
+        public PermissionTuple(@JsonProperty("resourceKey") String resourceKey,
+                               @JsonProperty("permissionCode") String permissionCode,
+                               @JsonProperty("effect") String effect) {
             this.resourceKey = resourceKey;
             this.permissionCode = permissionCode;
             this.effect = effect;
@@ -0,0 +1,37 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation.Reason;
+
+/**
+ * 권한 모델 변경 이벤트 ({@link PermissionBitmapEngine} 증분 갱신, {@link PermissionCacheManager}, 메뉴 트리 캐시 테넌트 무효화용)
+ *
+ * 트랜잭션 커밋 후 처리됩니다.
+ * - roleId 지정: 역할 변경(ROLE) 또는 해당 역할의 권한 매핑(role_permission) 변경 → 해당 역할 bitset만 재컴파일
+ * - roleId null: 테넌트 리소스 변경(생성/키 변경/삭제) → 테넌트 모델 전체 재구성
+ * - reason MENU: 메뉴 변경(생성/수정/삭제/정렬) → 권한 모델/권한 캐시는 유지
+ * 모든 변경은 테넌트의 메뉴 트리 캐시를, MENU 외에는 권한 목록/ADMIN 판정 캐시를 전체 무효화하며 다른 인스턴스에도 전파됩니다.
+ *
+ * 사용자 역할 할당(role_member, 부서 변경)은 {@link AdminGuardService#invalidateCache(Long, Long)}로 사용자 단위 무효화합니다.
+ *
+ * @param tenantId 테넌트 ID
+ * @param roleId 역할 ID (null이면 테넌트 전체)
+ * @param reason 변경 유형
+ */
+public record PermissionModelChangedEvent(Long tenantId, Long roleId, Reason reason) {
+
+    public static PermissionModelChangedEvent roleChanged(Long tenantId, Long roleId) {
+        return new PermissionModelChangedEvent(tenantId, roleId, Reason.ROLE);
+    }
+
+    public static PermissionModelChangedEvent rolePermissionsChanged(Long tenantId, Long roleId) {
+        return new PermissionModelChangedEvent(tenantId, roleId, Reason.ROLE_PERMISSION);
+    }
+
+    public static PermissionModelChangedEvent resourcesChanged(Long tenantId) {
+        return new PermissionModelChangedEvent(tenantId, null, Reason.RESOURCE);
+    }
+
+    public static PermissionModelChangedEvent menusChanged(Long tenantId) {
+        return new PermissionModelChangedEvent(tenantId, null, Reason.MENU);
+    }
+}
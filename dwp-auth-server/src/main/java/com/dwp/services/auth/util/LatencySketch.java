@@ -0,0 +1,181 @@
+package com.dwp.services.auth.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 병합 가능한 지연시간 분위수 스케치 (DDSketch 방식, 로그 스케일 버킷)
+ *
+ * 값 x(ms, x > 0)는 인덱스 i = ceil(log_γ(x)) 버킷에 기록되고, 분위수 조회 시 버킷 대표값 2γ^i/(γ+1)을 반환합니다.
+ * γ = (1+α)/(1-α) 이므로 반환값은 실제 순위 값 대비 상대 오차 α({@link #RELATIVE_ACCURACY}, 1%) 이내가 보장됩니다.
+ * 0ms 이하 값은 별도 버킷({@link #ZERO_INDEX})에 기록하며 조회 시 0을 반환합니다.
+ *
+ * 병합은 인덱스별 건수 덧셈이므로 (tenant, path, 분) 단위 스케치를 임의 구간으로 합쳐도 오차 보장이 유지됩니다.
+ *
+ * 직렬화 형식 (롤업 테이블 latency_sketch BYTEA, V35 dwp_latency_sketch_merge 함수와 동일):
+ * [version:1byte=0x01] + 인덱스 오름차순 [index:int32 BE][count:int64 BE] 반복
+ */
+public final class LatencySketch {
+
+    /** 상대 오차 한계 α */
+    public static final double RELATIVE_ACCURACY = 0.01;
+    /** 0 이하 값 전용 인덱스 (직렬화 정렬 시 항상 맨 앞) */
+    static final int ZERO_INDEX = Integer.MIN_VALUE;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ENTRY_BYTES = Integer.BYTES + Long.BYTES;
+
+    /** 인덱스 오름차순 정렬, [0, size) 유효 */
+    private int[] indexes;
+    private long[] counts;
+    private int size;
+    private long totalCount;
+
+    public LatencySketch() {
+        this.indexes = new int[8];
+        this.counts = new long[8];
+    }
+
+    public static int indexOf(long valueMs) {
+        if (valueMs <= 0) {
+            return ZERO_INDEX;
+        }
+        return (int) Math.ceil(Math.log(valueMs) / LOG_GAMMA);
+    }
+
+    static double valueOf(int index) {
+        if (index == ZERO_INDEX) {
+            return 0.0;
+        }
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    public void add(long valueMs) {
+        addToIndex(indexOf(valueMs), 1L);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /** this += other (정렬된 두 배열의 선형 병합) */
+    public void merge(LatencySketch other) {
+        if (other == null || other.size == 0) {
+            return;
+        }
+        if (size == 0) {
+            indexes = Arrays.copyOf(other.indexes, other.size);
+            counts = Arrays.copyOf(other.counts, other.size);
+            size = other.size;
+            totalCount = other.totalCount;
+            return;
+        }
+        int[] mergedIndexes = new int[size + other.size];
+        long[] mergedCounts = new long[size + other.size];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && indexes[i] < other.indexes[j])) {
+                mergedIndexes[n] = indexes[i];
+                mergedCounts[n++] = counts[i++];
+            } else if (i >= size || other.indexes[j] < indexes[i]) {
+                mergedIndexes[n] = other.indexes[j];
+                mergedCounts[n++] = other.counts[j++];
+            } else {
+                mergedIndexes[n] = indexes[i];
+                mergedCounts[n++] = counts[i++] + other.counts[j++];
+            }
+        }
+        indexes = mergedIndexes;
+        counts = mergedCounts;
+        size = n;
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * 분위수 추정 (q: 0.0~1.0). 상대 오차 {@link #RELATIVE_ACCURACY} 이내.
+     *
+     * @return 데이터가 없으면 null
+     */
+    public Double quantile(double q) {
+        if (totalCount == 0) {
+            return null;
+        }
+        double rank = Math.max(0.0, Math.min(1.0, q)) * (totalCount - 1);
+        long cumulative = 0;
+        for (int i = 0; i < size; i++) {
+            cumulative += counts[i];
+            if (cumulative > rank) {
+                return valueOf(indexes[i]);
+            }
+        }
+        return valueOf(indexes[size - 1]);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buf = ByteBuffer.allocate(1 + size * ENTRY_BYTES);
+        buf.put(FORMAT_VERSION);
+        for (int i = 0; i < size; i++) {
+            buf.putInt(indexes[i]);
+            buf.putLong(counts[i]);
+        }
+        return buf.array();
+    }
+
+    /**
+     * 직렬화 바이트 복원. 인덱스 중복/비정렬 입력도 허용(합산)합니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static LatencySketch fromBytes(byte[] bytes) {
+        LatencySketch sketch = new LatencySketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        if (bytes[0] != FORMAT_VERSION || (bytes.length - 1) % ENTRY_BYTES != 0) {
+            throw new IllegalArgumentException("Unsupported latency sketch format");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        int entries = (bytes.length - 1) / ENTRY_BYTES;
+        sketch.indexes = new int[Math.max(8, entries)];
+        sketch.counts = new long[Math.max(8, entries)];
+        for (int k = 0; k < entries; k++) {
+            sketch.addToIndex(buf.getInt(), buf.getLong());
+        }
+        return sketch;
+    }
+
+    private void addToIndex(int index, long count) {
+        if (count <= 0) {
+            return;
+        }
+        totalCount += count;
+        // 직렬화/병합 결과는 정렬 상태이므로 대부분 맨 뒤 append 경로
+        if (size > 0 && indexes[size - 1] == index) {
+            counts[size - 1] += count;
+            return;
+        }
+        int pos = size > 0 && indexes[size - 1] < index ? -(size + 1) : Arrays.binarySearch(indexes, 0, size, index);
+        if (pos >= 0) {
+            counts[pos] += count;
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == indexes.length) {
+            indexes = Arrays.copyOf(indexes, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        System.arraycopy(indexes, insertAt, indexes, insertAt + 1, size - insertAt);
+        System.arraycopy(counts, insertAt, counts, insertAt + 1, size - insertAt);
+        indexes[insertAt] = index;
+        counts[insertAt] = count;
+        size++;
+    }
+}
@@ -0,0 +1,176 @@
+-- V35: API 호출 이력 분 단위 롤업 (모니터링 요약/시계열 조회 가속)
+-- 목적: getSummary, getTimeseries가 sys_api_call_histories 원본을 매번 COUNT/percentile 스캔하지 않도록
+--       ingest 시점(Gateway 벌크 적재)에 테넌트·분 단위로 누적 집계.
+-- latency_sketch: 병합 가능한 로그 스케일 분위수 스케치 (상대 오차 1%), 조회 시 병합하여 p50/p95/p99 및 Top Slow path 산출
+-- 직렬화 형식 (LatencySketch와 동일): 0x01 + 인덱스 오름차순 [index:int4 BE][count:int8 BE] 반복
+-- 인덱스: latency_ms <= 0 이면 -2147483648, 그 외 ceil(ln(latency_ms) / ln(1.01 / 0.99))
+
+-- 0. 스케치 함수 (upsert 병합 및 백필용)
+CREATE OR REPLACE FUNCTION dwp_latency_sketch_index(latency_ms BIGINT)
+RETURNS INTEGER LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE
+        WHEN latency_ms <= 0 THEN -2147483648
+        ELSE CEIL(LN(latency_ms::double precision) / LN(1.01::double precision / 0.99::double precision))::integer
+    END
+$$;
+
+CREATE OR REPLACE FUNCTION dwp_latency_sketch_entries(sketch BYTEA)
+RETURNS TABLE (idx INTEGER, cnt BIGINT) LANGUAGE sql IMMUTABLE AS $$
+    SELECT ('x' || encode(substring(sketch FROM 2 + o * 12 FOR 4), 'hex'))::bit(32)::integer,
+           ('x' || encode(substring(sketch FROM 6 + o * 12 FOR 8), 'hex'))::bit(64)::bigint
+    FROM generate_series(0, (length(sketch) - 1) / 12 - 1) AS o
+$$;
+
+CREATE OR REPLACE FUNCTION dwp_latency_sketch_merge(a BYTEA, b BYTEA)
+RETURNS BYTEA LANGUAGE sql IMMUTABLE AS $$
+    SELECT CASE
+        WHEN a IS NULL THEN b
+        WHEN b IS NULL THEN a
+        ELSE '\x01'::bytea || COALESCE((
+            SELECT string_agg(int4send(e.idx) || int8send(e.cnt), ''::bytea ORDER BY e.idx)
+            FROM (
+                SELECT x.idx, SUM(x.cnt)::bigint AS cnt
+                FROM (
+                    SELECT * FROM dwp_latency_sketch_entries(a)
+                    UNION ALL
+                    SELECT * FROM dwp_latency_sketch_entries(b)
+                ) x
+                GROUP BY x.idx
+            ) e
+        ), ''::bytea)
+    END
+$$;
+
+COMMENT ON FUNCTION dwp_latency_sketch_merge(BYTEA, BYTEA) IS '지연시간 스케치 병합 (인덱스별 건수 합산)';
+
+-- 1. 테넌트·분 단위 롤업
+CREATE TABLE IF NOT EXISTS sys_api_call_minute_rollups (
+    api_call_minute_rollup_id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    success_count BIGINT NOT NULL DEFAULT 0,
+    count_4xx BIGINT NOT NULL DEFAULT 0,
+    count_5xx BIGINT NOT NULL DEFAULT 0,
+    latency_count BIGINT NOT NULL DEFAULT 0,
+    latency_sum_ms BIGINT NOT NULL DEFAULT 0,
+    latency_sketch BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by BIGINT,
+    CONSTRAINT uk_sys_api_call_minute_rollups UNIQUE (tenant_id, bucket_start)
+);
+
+COMMENT ON TABLE sys_api_call_minute_rollups IS 'API 호출 이력 분 단위 롤업 (테넌트별)';
+COMMENT ON COLUMN sys_api_call_minute_rollups.bucket_start IS '버킷 시작 시각 (date_trunc minute)';
+COMMENT ON COLUMN sys_api_call_minute_rollups.success_count IS '200~399 건수';
+COMMENT ON COLUMN sys_api_call_minute_rollups.latency_count IS 'latency_ms 존재 건수';
+COMMENT ON COLUMN sys_api_call_minute_rollups.latency_sum_ms IS 'latency_ms 합계 (평균 산출용)';
+COMMENT ON COLUMN sys_api_call_minute_rollups.latency_sketch IS '지연시간 분위수 스케치 (상대 오차 1%, latency 없으면 NULL)';
+
+-- 2. 테넌트·분·path 단위 롤업 (Top Traffic / Top 5xx / Top Slow)
+CREATE TABLE IF NOT EXISTS sys_api_call_path_rollups (
+    api_call_path_rollup_id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    path VARCHAR(500) NOT NULL,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    count_4xx BIGINT NOT NULL DEFAULT 0,
+    count_5xx BIGINT NOT NULL DEFAULT 0,
+    latency_count BIGINT NOT NULL DEFAULT 0,
+    latency_sum_ms BIGINT NOT NULL DEFAULT 0,
+    latency_sketch BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by BIGINT,
+    CONSTRAINT uk_sys_api_call_path_rollups UNIQUE (tenant_id, bucket_start, path)
+);
+
+COMMENT ON TABLE sys_api_call_path_rollups IS 'API 호출 이력 분 단위 롤업 (테넌트·path별)';
+COMMENT ON COLUMN sys_api_call_path_rollups.latency_sketch IS '지연시간 분위수 스케치 (상대 오차 1%, latency 없으면 NULL)';
+
+-- 3. 테넌트·분·path·status 단위 에러 롤업 (status_code >= 400, Top Error)
+CREATE TABLE IF NOT EXISTS sys_api_call_error_rollups (
+    api_call_error_rollup_id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    path VARCHAR(500) NOT NULL,
+    status_code INTEGER NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by BIGINT,
+    CONSTRAINT uk_sys_api_call_error_rollups UNIQUE (tenant_id, bucket_start, path, status_code)
+);
+
+COMMENT ON TABLE sys_api_call_error_rollups IS 'API 호출 에러(4xx/5xx) 분 단위 롤업 (테넌트·path·status별)';
+
+-- 4. 기존 원본 데이터 백필
+WITH sketch_entries AS (
+    SELECT tenant_id, date_trunc('minute', created_at) AS bucket_start,
+           dwp_latency_sketch_index(latency_ms) AS idx, COUNT(*) AS cnt
+    FROM sys_api_call_histories
+    WHERE latency_ms IS NOT NULL
+    GROUP BY 1, 2, 3
+), sketches AS (
+    SELECT tenant_id, bucket_start,
+           '\x01'::bytea || string_agg(int4send(idx) || int8send(cnt), ''::bytea ORDER BY idx) AS latency_sketch
+    FROM sketch_entries
+    GROUP BY tenant_id, bucket_start
+), counts AS (
+    SELECT tenant_id, date_trunc('minute', created_at) AS bucket_start,
+           COUNT(*) AS total_count,
+           COUNT(*) FILTER (WHERE status_code >= 200 AND status_code < 400) AS success_count,
+           COUNT(*) FILTER (WHERE status_code >= 400 AND status_code < 500) AS count_4xx,
+           COUNT(*) FILTER (WHERE status_code >= 500 AND status_code < 600) AS count_5xx,
+           COUNT(latency_ms) AS latency_count,
+           COALESCE(SUM(latency_ms), 0) AS latency_sum_ms
+    FROM sys_api_call_histories
+    GROUP BY 1, 2
+)
+INSERT INTO sys_api_call_minute_rollups (tenant_id, bucket_start, total_count, success_count, count_4xx, count_5xx,
+                                         latency_count, latency_sum_ms, latency_sketch)
+SELECT c.tenant_id, c.bucket_start, c.total_count, c.success_count, c.count_4xx, c.count_5xx,
+       c.latency_count, c.latency_sum_ms, s.latency_sketch
+FROM counts c
+LEFT JOIN sketches s ON s.tenant_id = c.tenant_id AND s.bucket_start = c.bucket_start
+ON CONFLICT (tenant_id, bucket_start) DO NOTHING;
+
+WITH sketch_entries AS (
+    SELECT tenant_id, date_trunc('minute', created_at) AS bucket_start, path,
+           dwp_latency_sketch_index(latency_ms) AS idx, COUNT(*) AS cnt
+    FROM sys_api_call_histories
+    WHERE latency_ms IS NOT NULL
+    GROUP BY 1, 2, 3, 4
+), sketches AS (
+    SELECT tenant_id, bucket_start, path,
+           '\x01'::bytea || string_agg(int4send(idx) || int8send(cnt), ''::bytea ORDER BY idx) AS latency_sketch
+    FROM sketch_entries
+    GROUP BY tenant_id, bucket_start, path
+), counts AS (
+    SELECT tenant_id, date_trunc('minute', created_at) AS bucket_start, path,
+           COUNT(*) AS total_count,
+           COUNT(*) FILTER (WHERE status_code >= 400 AND status_code < 500) AS count_4xx,
+           COUNT(*) FILTER (WHERE status_code >= 500 AND status_code < 600) AS count_5xx,
+           COUNT(latency_ms) AS latency_count,
+           COALESCE(SUM(latency_ms), 0) AS latency_sum_ms
+    FROM sys_api_call_histories
+    GROUP BY 1, 2, 3
+)
+INSERT INTO sys_api_call_path_rollups (tenant_id, bucket_start, path, total_count, count_4xx, count_5xx,
+                                       latency_count, latency_sum_ms, latency_sketch)
+SELECT c.tenant_id, c.bucket_start, c.path, c.total_count, c.count_4xx, c.count_5xx,
+       c.latency_count, c.latency_sum_ms, s.latency_sketch
+FROM counts c
+LEFT JOIN sketches s ON s.tenant_id = c.tenant_id AND s.bucket_start = c.bucket_start AND s.path = c.path
+ON CONFLICT (tenant_id, bucket_start, path) DO NOTHING;
+
+INSERT INTO sys_api_call_error_rollups (tenant_id, bucket_start, path, status_code, request_count)
+SELECT tenant_id, date_trunc('minute', created_at), path, status_code, COUNT(*)
+FROM sys_api_call_histories
+WHERE status_code >= 400
+GROUP BY 1, 2, 3, 4
+ON CONFLICT (tenant_id, bucket_start, path, status_code) DO NOTHING;
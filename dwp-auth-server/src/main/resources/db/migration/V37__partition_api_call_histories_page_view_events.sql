@@ -0,0 +1,89 @@
+-- ========================================
+-- V37: sys_api_call_histories / sys_page_view_events 일 단위 RANGE 파티셔닝
+-- 목적: 모니터링 조회(tenant_id + created_at 구간)에서 파티션 프루닝,
+--       보존기간 만료 데이터를 DELETE 대신 파티션 DROP(또는 DETACH)으로 정리.
+-- 운영: 미래 파티션 사전 생성/만료 파티션 정리는 MonitoringPartitionManager(스케줄러)가 수행
+--
+-- 전환 방식 (데이터 복사 없음)
+-- - 기존 테이블을 <table>_p_legacy로 이름 변경 후 [MINVALUE, 내일 0시) 구간 파티션으로 ATTACH
+-- - 이후 일 단위 파티션 <table>_pYYYYMMDD 를 7일치 생성, 범위 밖 행은 <table>_p_default 로 적재
+-- - PK는 파티션 키 포함 필요 → (id, created_at). 시퀀스는 새 부모 테이블 소유로 이전
+--   (legacy 파티션 DROP 시 시퀀스가 함께 삭제되지 않도록)
+-- ========================================
+
+-- 1. sys_api_call_histories
+ALTER TABLE sys_api_call_histories RENAME TO sys_api_call_histories_p_legacy;
+ALTER TABLE sys_api_call_histories_p_legacy RENAME CONSTRAINT sys_api_call_histories_pkey TO sys_api_call_histories_p_legacy_pkey;
+ALTER INDEX idx_sys_api_call_histories_tenant_id RENAME TO idx_sys_api_call_histories_p_legacy_tenant_id;
+ALTER INDEX idx_sys_api_call_histories_user_id RENAME TO idx_sys_api_call_histories_p_legacy_user_id;
+ALTER INDEX idx_sys_api_call_histories_created_at RENAME TO idx_sys_api_call_histories_p_legacy_created_at;
+ALTER INDEX idx_sys_api_call_histories_tenant_created RENAME TO idx_sys_api_call_histories_p_legacy_tenant_created;
+
+CREATE TABLE sys_api_call_histories (
+    LIKE sys_api_call_histories_p_legacy INCLUDING DEFAULTS INCLUDING COMMENTS,
+    CONSTRAINT sys_api_call_histories_pkey PRIMARY KEY (api_call_history_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE sys_api_call_histories_api_call_history_id_seq OWNED BY sys_api_call_histories.api_call_history_id;
+
+CREATE INDEX idx_sys_api_call_histories_tenant_created ON sys_api_call_histories(tenant_id, created_at);
+CREATE INDEX idx_sys_api_call_histories_created_at ON sys_api_call_histories(created_at);
+CREATE INDEX idx_sys_api_call_histories_user_id ON sys_api_call_histories(user_id);
+
+COMMENT ON TABLE sys_api_call_histories IS 'API 호출 이력 (Gateway/서비스 추적, created_at 일 단위 RANGE 파티션)';
+
+-- 2. sys_page_view_events
+ALTER TABLE sys_page_view_events RENAME TO sys_page_view_events_p_legacy;
+ALTER TABLE sys_page_view_events_p_legacy RENAME CONSTRAINT sys_page_view_events_pkey TO sys_page_view_events_p_legacy_pkey;
+ALTER INDEX idx_sys_page_view_events_tenant_id RENAME TO idx_sys_page_view_events_p_legacy_tenant_id;
+ALTER INDEX idx_sys_page_view_events_user_id RENAME TO idx_sys_page_view_events_p_legacy_user_id;
+ALTER INDEX idx_sys_page_view_events_created_at RENAME TO idx_sys_page_view_events_p_legacy_created_at;
+ALTER INDEX idx_sys_page_view_events_tenant_created RENAME TO idx_sys_page_view_events_p_legacy_tenant_created;
+
+CREATE TABLE sys_page_view_events (
+    LIKE sys_page_view_events_p_legacy INCLUDING DEFAULTS INCLUDING COMMENTS,
+    CONSTRAINT sys_page_view_events_pkey PRIMARY KEY (page_view_event_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE sys_page_view_events_page_view_event_id_seq OWNED BY sys_page_view_events.page_view_event_id;
+
+CREATE INDEX idx_sys_page_view_events_tenant_created ON sys_page_view_events(tenant_id, created_at);
+CREATE INDEX idx_sys_page_view_events_created_at ON sys_page_view_events(created_at);
+CREATE INDEX idx_sys_page_view_events_user_id ON sys_page_view_events(user_id);
+
+COMMENT ON TABLE sys_page_view_events IS 'PV/UV Raw 이벤트 (대용량, created_at 일 단위 RANGE 파티션)';
+
+-- 3. legacy ATTACH + 일 단위 파티션 7일치 + default 파티션
+DO $$
+DECLARE
+    t TEXT;
+    legacy_end DATE;
+    d DATE;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['sys_api_call_histories', 'sys_page_view_events'] LOOP
+        -- 미래 시각 행이 있더라도 legacy 범위에 포함되도록 max(created_at) 기준으로 확장
+        EXECUTE format('SELECT GREATEST(CURRENT_DATE + 1, (SELECT (MAX(created_at))::date + 1 FROM %I))', t || '_p_legacy')
+            INTO legacy_end;
+        EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                       t, t || '_p_legacy', legacy_end::timestamp);
+
+        d := legacy_end;
+        WHILE d < legacy_end + 7 LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           t || '_p' || to_char(d, 'YYYYMMDD'), t, d::timestamp, (d + 1)::timestamp);
+            d := d + 1;
+        END LOOP;
+
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', t || '_p_default', t);
+    END LOOP;
+END $$;
+
+-- 4. 테넌트별 보존기간 설정 키 (sys_monitoring_configs, 미설정 시 monitoring.partition.default-retention-days)
+INSERT INTO sys_codes (group_key, code, name, description, sort_order, is_active, created_at, updated_at)
+VALUES
+    ('MONITORING_CONFIG_KEY', 'DATA_RETENTION_DAYS', '원본 이력 보존기간(일)', 'API 호출 이력/페이지뷰 원본 보존 일수. 전체 테넌트 최댓값을 넘긴 일 파티션은 DROP, 그보다 짧은 테넌트는 해당 테넌트 행만 삭제', 110, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+ON CONFLICT (group_key, code) DO UPDATE SET
+    name = EXCLUDED.name,
+    description = EXCLUDED.description,
+    sort_order = EXCLUDED.sort_order,
+    updated_at = CURRENT_TIMESTAMP;
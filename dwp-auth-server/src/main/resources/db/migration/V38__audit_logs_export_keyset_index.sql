@@ -0,0 +1,8 @@
+-- ========================================
+-- V38: 감사 로그 내보내기 keyset 조회 인덱스
+-- 목적: 스트리밍 내보내기(AuditLogExportReader)가 (created_at, audit_log_id) 내림차순 keyset으로
+--       페이지를 이어 읽을 때 정렬 없이 테넌트 범위 인덱스 스캔만 수행
+-- ========================================
+
+CREATE INDEX IF NOT EXISTS idx_com_audit_logs_tenant_created_id
+ON com_audit_logs(tenant_id, created_at DESC, audit_log_id DESC);
@@ -0,0 +1,11 @@
+-- ========================================
+-- V39: 로그인 이력 연속 실패 집계 컬럼
+-- 목적: 로그인 이력을 비동기 배치로 적재하면서 같은 (tenant, principal)의 연속된 동일 실패를
+--       1행으로 합쳐 기록 (credential stuffing 시 INSERT 폭증 방지)
+--       created_at = 첫 시도 시각, updated_at = 마지막 시도 시각
+-- ========================================
+
+ALTER TABLE sys_login_histories
+    ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 1;
+
+COMMENT ON COLUMN sys_login_histories.attempt_count IS '시도 횟수 (연속된 동일 실패 집계, 기본 1)';
@@ -0,0 +1,7 @@
+-- V40: 분 단위 롤업 보존기간 삭제용 bucket_start 인덱스
+-- 목적: MonitoringPartitionManager가 rollup-retention-days 지난 bucket을 배치 삭제할 때
+--       (tenant_id, bucket_start ...) 유니크 인덱스는 선두 컬럼이 tenant_id라 사용할 수 없으므로 bucket_start 단독 인덱스 추가
+
+CREATE INDEX IF NOT EXISTS idx_sys_api_call_minute_rollups_bucket_start ON sys_api_call_minute_rollups(bucket_start);
+CREATE INDEX IF NOT EXISTS idx_sys_api_call_path_rollups_bucket_start ON sys_api_call_path_rollups(bucket_start);
+CREATE INDEX IF NOT EXISTS idx_sys_api_call_error_rollups_bucket_start ON sys_api_call_error_rollups(bucket_start);
@@ -0,0 +1,82 @@
+package com.dwp.services.auth.config;
+
+import com.dwp.services.auth.config.AdminEndpointPolicyRegistry.RequiredPermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdminEndpointPolicyRegistry 테스트
+ *
+ * 검증 항목:
+ * - 리터럴/ID(\d+)/와일드카드 세그먼트 trie 매칭이 정규식 전체 매칭과 동일
+ * - 한 경로가 여러 정책에 해당하면 모두 반환
+ * - trie로 표현할 수 없는 정규식은 fallback으로 매칭
+ * - 조회 후 정책 추가 시 인덱스 재컴파일
+ */
+@DisplayName("AdminEndpointPolicyRegistry 테스트")
+@SuppressWarnings("null")
+class AdminEndpointPolicyRegistryTest {
+
+    private AdminEndpointPolicyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AdminEndpointPolicyRegistry();
+        registry.initializePolicies();
+    }
+
+    @Test
+    @DisplayName("기본 정책: 리터럴/ID 세그먼트와 메서드 구분")
+    void findsInitialPolicies() {
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/users"))).containsExactly("menu.admin.users:VIEW");
+        assertThat(codes(registry.findPolicies("get", "/api/admin/users/42"))).containsExactly("menu.admin.users:VIEW");
+        assertThat(codes(registry.findPolicies("DELETE", "/api/admin/roles/1/members/2"))).containsExactly("menu.admin.roles:EDIT");
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/resources/tree"))).containsExactly("menu.admin.resources:VIEW");
+        assertThat(codes(registry.findPolicies("PUT", "/api/admin/menus/reorder"))).containsExactly("menu.admin.menus:EXECUTE");
+
+        assertThat(registry.findPolicies("DELETE", "/api/admin/users")).isEmpty();
+        assertThat(registry.findPolicies("GET", "/api/admin/users/abc")).isEmpty();
+        assertThat(registry.findPolicies("GET", "/api/admin/users/")).isEmpty();
+        assertThat(registry.findPolicies("GET", "/api/admin/users/1/extra")).isEmpty();
+        assertThat(registry.findPolicies("GET", "/api/admin/unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 정규화 캐시: 다른 id도 같은 정책, 리터럴과 ID가 겹치면 모두 반환")
+    void resolvesAllMatchingPolicies() {
+        registry.registerPolicy("GET", "^/api/admin/reports/[^/]+$", "menu.admin.reports", "VIEW");
+        registry.registerPolicy("GET", "^/api/admin/reports/\\d+$", "menu.admin.reports", "EXECUTE");
+
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/reports/7")))
+                .containsExactlyInAnyOrder("menu.admin.reports:VIEW", "menu.admin.reports:EXECUTE");
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/reports/8")))
+                .containsExactlyInAnyOrder("menu.admin.reports:VIEW", "menu.admin.reports:EXECUTE");
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/reports/summary")))
+                .containsExactly("menu.admin.reports:VIEW");
+    }
+
+    @Test
+    @DisplayName("trie로 표현할 수 없는 정규식은 fallback 매칭, 숫자 리터럴 세그먼트는 id와 구분")
+    void matchesRegexFallbackAndNumericLiterals() {
+        registry.registerPolicy("GET", "^/api/admin/files/.*\\.csv$", "menu.admin.files", "VIEW");
+        registry.registerPolicy("GET", "^/api/admin/stats/2024$", "menu.admin.stats", "EXECUTE");
+        registry.registerPolicy("GET", "^/api/admin/stats/\\d+$", "menu.admin.stats", "VIEW");
+
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/files/a/b.csv"))).containsExactly("menu.admin.files:VIEW");
+        assertThat(registry.findPolicies("GET", "/api/admin/files/a/b.txt")).isEmpty();
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/stats/2024")))
+                .containsExactlyInAnyOrder("menu.admin.stats:EXECUTE", "menu.admin.stats:VIEW");
+        assertThat(codes(registry.findPolicies("GET", "/api/admin/stats/2023"))).containsExactly("menu.admin.stats:VIEW");
+    }
+
+    private static List<String> codes(List<RequiredPermission> permissions) {
+        return permissions.stream()
+                .map(permission -> permission.getResourceKey() + ":" + permission.getPermissionCode())
+                .toList();
+    }
+}
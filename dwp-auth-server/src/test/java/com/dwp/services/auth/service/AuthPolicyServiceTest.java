@@ -9,7 +9,6 @@ import com.dwp.services.auth.util.CodeResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,13 +32,13 @@ class AuthPolicyServiceTest {
     @Mock
     private CodeResolver codeResolver;
     
-    @InjectMocks
     private AuthPolicyService authPolicyService;
     
     private Long tenantId;
     
     @BeforeEach
     void setUp() {
+        authPolicyService = new AuthPolicyService(authPolicyRepository, codeResolver, 60L);
         tenantId = 1L;
     }
     
@@ -141,4 +140,22 @@ class AuthPolicyServiceTest {
             authPolicyService.getAuthPolicy(tenantId);
         });
     }
+    
+    @Test
+    void getAuthPolicy_CachedUntilEvicted() {
+        // Given
+        when(authPolicyRepository.findByTenantId(tenantId))
+                .thenReturn(Optional.empty());
+        doNothing().when(codeResolver).require(eq("LOGIN_TYPE"), any());
+        
+        // When
+        AuthPolicyResponse first = authPolicyService.getAuthPolicy(tenantId);
+        AuthPolicyResponse second = authPolicyService.getAuthPolicy(tenantId);
+        authPolicyService.evictAuthPolicy(tenantId);
+        authPolicyService.getAuthPolicy(tenantId);
+        
+        // Then
+        assertSame(first, second);
+        verify(authPolicyRepository, times(2)).findByTenantId(tenantId);
+    }
 }
@@ -4,6 +4,8 @@ import com.dwp.core.exception.BaseException;
 import com.dwp.services.auth.dto.*;
 import com.dwp.services.auth.entity.*;
 import com.dwp.services.auth.repository.*;
+import com.dwp.services.auth.service.login.LoginHistoryBuffer;
+import com.dwp.services.auth.service.login.PasswordVerificationExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +13,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -32,8 +33,8 @@ class AuthServiceTest {
     @Mock private ResourceRepository resourceRepository;
     @Mock private PermissionRepository permissionRepository;
     @Mock private RoleRepository roleRepository;
-    @Mock private LoginHistoryRepository loginHistoryRepository;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private LoginHistoryBuffer loginHistoryBuffer;
+    @Mock private PasswordVerificationExecutor passwordVerificationExecutor;
     @Mock private MenuService menuService;
     @Mock private com.dwp.services.auth.service.AuthPolicyService authPolicyService;
     @Mock private com.dwp.services.auth.util.CodeResolver codeResolver;
@@ -65,7 +66,8 @@ class AuthServiceTest {
         when(authPolicyService.getAuthPolicy(1L)).thenReturn(policy);
         when(userAccountRepository.findByTenantIdAndProviderTypeAndProviderIdAndPrincipal(anyLong(), anyString(), anyString(), anyString()))
                 .thenReturn(Optional.of(account));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordVerificationExecutor.verify(anyString(), anyString()))
+                .thenReturn(new PasswordVerificationExecutor.Verification(true, null));
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
         when(menuService.getMenuTree(anyLong(), anyLong()))
                 .thenReturn(MenuTreeResponse.builder().menus(List.of()).groups(List.of()).build());
@@ -79,7 +81,7 @@ class AuthServiceTest {
         assertEquals("1", response.getTenantId());
         assertNotNull(response.getPermissions());
         assertNotNull(response.getMenus());
-        verify(loginHistoryRepository, times(1)).save(any());
+        verify(loginHistoryBuffer, times(1)).recordSuccess(any());
     }
 
     @Test
@@ -93,11 +95,94 @@ class AuthServiceTest {
 
         when(userAccountRepository.findByTenantIdAndProviderTypeAndProviderIdAndPrincipal(anyLong(), anyString(), anyString(), anyString()))
                 .thenReturn(Optional.of(account));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordVerificationExecutor.verify(anyString(), anyString()))
+                .thenReturn(new PasswordVerificationExecutor.Verification(false, null));
 
         // when & then
         assertThrows(BaseException.class, () -> authService.login(request));
-        verify(loginHistoryRepository, times(1)).save(any());
+        verify(loginHistoryBuffer, times(1)).recordFailure(any());
+    }
+
+    @Test
+    @DisplayName("응답 구성 중(메뉴 트리) 실패 시 성공 이력 없이 SYSTEM_ERROR 실패 이력만 기록")
+    @SuppressWarnings("null")
+    void noSuccessHistoryWhenResponseFails() {
+        // given
+        LoginRequest request = new LoginRequest("admin", "admin1234!", "1");
+        UserAccount account = UserAccount.builder()
+                .userId(1L).tenantId(1L).status("ACTIVE").passwordHash("encodedHash").build();
+        User user = User.builder().userId(1L).tenantId(1L).status("ACTIVE").build();
+        AuthPolicyResponse policy = AuthPolicyResponse.builder()
+                .localLoginEnabled(true)
+                .allowedLoginTypes(List.of("LOCAL"))
+                .build();
+
+        when(authPolicyService.getAuthPolicy(1L)).thenReturn(policy);
+        when(userAccountRepository.findByTenantIdAndProviderTypeAndProviderIdAndPrincipal(anyLong(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(account));
+        when(passwordVerificationExecutor.verify(anyString(), anyString()))
+                .thenReturn(new PasswordVerificationExecutor.Verification(true, null));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(menuService.getMenuTree(anyLong(), anyLong())).thenThrow(new IllegalStateException("menu load failed"));
+
+        // when & then
+        assertThrows(BaseException.class, () -> authService.login(request));
+        verify(loginHistoryBuffer, never()).recordSuccess(any());
+        verify(loginHistoryBuffer, times(1)).recordFailure(argThat(h -> "SYSTEM_ERROR".equals(h.getFailureReason())));
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 재해싱 결과를 계정 해시에 반영")
+    @SuppressWarnings("null")
+    void loginUpgradesPasswordHash() {
+        // given
+        LoginRequest request = new LoginRequest("admin", "admin1234!", "dev");
+        UserAccount account = UserAccount.builder()
+                .userId(1L).tenantId(1L).status("ACTIVE").passwordHash("cost10Hash").build();
+        User user = User.builder().userId(1L).tenantId(1L).status("ACTIVE").build();
+        AuthPolicyResponse policy = AuthPolicyResponse.builder()
+                .localLoginEnabled(true)
+                .allowedLoginTypes(List.of("LOCAL"))
+                .build();
+
+        when(tenantRepository.findByCode("dev")).thenReturn(Optional.of(Tenant.builder().tenantId(1L).code("dev").build()));
+        when(authPolicyService.getAuthPolicy(1L)).thenReturn(policy);
+        when(userAccountRepository.findByTenantIdAndProviderTypeAndProviderIdAndPrincipal(anyLong(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(account));
+        when(passwordVerificationExecutor.verify(anyString(), anyString()))
+                .thenReturn(new PasswordVerificationExecutor.Verification(true, "cost12Hash"));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(menuService.getMenuTree(anyLong(), anyLong()))
+                .thenReturn(MenuTreeResponse.builder().menus(List.of()).groups(List.of()).build());
+
+        // when
+        authService.login(request);
+        authService.login(request);
+
+        // then: 재해싱 반영, 테넌트 code 해석은 캐시 사용
+        assertEquals("cost12Hash", account.getPasswordHash());
+        verify(tenantRepository, times(1)).findByCode("dev");
+    }
+
+    @Test
+    @DisplayName("테넌트 code 캐시 무효화 후 다음 로그인은 code를 다시 조회")
+    @SuppressWarnings("null")
+    void evictTenantCodeReloads() {
+        LoginRequest request = new LoginRequest("admin", "admin1234!", "dev");
+        when(tenantRepository.findByCode("dev"))
+                .thenReturn(Optional.of(Tenant.builder().tenantId(1L).code("dev").build()))
+                .thenReturn(Optional.empty());
+        when(authPolicyService.getAuthPolicy(1L)).thenReturn(AuthPolicyResponse.builder()
+                .localLoginEnabled(false)
+                .allowedLoginTypes(List.of("SSO"))
+                .build());
+
+        assertThrows(BaseException.class, () -> authService.login(request));
+        authService.evictTenantCode("dev");
+        BaseException e = assertThrows(BaseException.class, () -> authService.login(request));
+
+        assertTrue(e.getMessage().contains("Invalid tenant"));
+        verify(tenantRepository, times(2)).findByCode("dev");
     }
 
     @Test
@@ -0,0 +1,154 @@
+package com.dwp.services.auth.service;
+
+import com.dwp.services.auth.dto.MenuNode;
+import com.dwp.services.auth.dto.MenuTreeResponse;
+import com.dwp.services.auth.entity.Menu;
+import com.dwp.services.auth.entity.Permission;
+import com.dwp.services.auth.entity.Resource;
+import com.dwp.services.auth.entity.RolePermission;
+import com.dwp.services.auth.repository.MenuRepository;
+import com.dwp.services.auth.repository.PermissionRepository;
+import com.dwp.services.auth.repository.ResourceRepository;
+import com.dwp.services.auth.repository.RoleMemberRepository;
+import com.dwp.services.auth.repository.RolePermissionRepository;
+import com.dwp.services.auth.service.rbac.PermissionModelChangedEvent;
+import com.dwp.services.auth.util.CodeResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MenuService 테스트
+ *
+ * 검증 항목:
+ * - 허용 메뉴 + 부모 메뉴로 트리 구성, sortOrder 정렬
+ * - 같은 역할 조합의 사용자는 캐시된 트리 공유 (역할 ID 조회만 수행)
+ * - 메뉴 변경 이벤트 시 테넌트 메뉴 forest/트리 재구성
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuService 테스트")
+@SuppressWarnings("null")
+class MenuServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private RoleMemberRepository roleMemberRepository;
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private CodeResolver codeResolver;
+
+    private MenuService menuService;
+
+    @BeforeEach
+    void setUp() {
+        menuService = new MenuService(roleMemberRepository, rolePermissionRepository, resourceRepository,
+                permissionRepository, menuRepository, codeResolver, 300L);
+        when(permissionRepository.findByCode("VIEW"))
+                .thenReturn(Optional.of(Permission.builder().permissionId(1L).code("VIEW").build()));
+        when(menuRepository.findByTenantIdAndActive(TENANT_ID)).thenReturn(List.of(
+                menu("menu.admin", null, null, 1),
+                menu("menu.admin.users", "menu.admin", "/admin/users", 1),
+                menu("menu.admin.roles", "menu.admin", "/admin/roles", 2),
+                menu("menu.apps", null, "/apps", 2)));
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(eq(TENANT_ID), anyList())).thenReturn(List.of(
+                view(100L), view(101L)));
+        when(resourceRepository.findByResourceIdIn(anyList())).thenReturn(List.of(
+                menuResource(100L, "menu.admin.roles"), menuResource(101L, "menu.admin.users")));
+        when(codeResolver.validate(eq("RESOURCE_TYPE"), anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("허용 메뉴와 부모 메뉴로 트리 구성, 자식은 sortOrder 정렬, 부모 path는 첫 자식으로 보완")
+    void buildsTreeWithParents() {
+        when(roleMemberRepository.findRoleIdsByTenantIdAndUserId(TENANT_ID, 10L)).thenReturn(List.of(2L));
+
+        MenuTreeResponse tree = menuService.getMenuTree(10L, TENANT_ID);
+
+        assertThat(tree.getMenus()).extracting(MenuNode::getMenuKey).containsExactly("menu.admin");
+        MenuNode admin = tree.getMenus().get(0);
+        assertThat(admin.getChildren()).extracting(MenuNode::getMenuKey)
+                .containsExactly("menu.admin.users", "menu.admin.roles");
+        assertThat(admin.getPath()).isEqualTo("/admin/users");
+    }
+
+    @Test
+    @DisplayName("같은 역할 조합의 사용자는 트리 공유: 역할-권한/리소스/메뉴 재조회 없음")
+    void sharesTreeAcrossSameRoleSet() {
+        when(roleMemberRepository.findRoleIdsByTenantIdAndUserId(TENANT_ID, 10L)).thenReturn(List.of(2L, 3L));
+        when(roleMemberRepository.findRoleIdsByTenantIdAndUserId(TENANT_ID, 11L)).thenReturn(List.of(3L, 2L));
+
+        MenuTreeResponse first = menuService.getMenuTree(10L, TENANT_ID);
+        MenuTreeResponse second = menuService.getMenuTree(11L, TENANT_ID);
+
+        assertThat(second).isSameAs(first);
+        verify(rolePermissionRepository, times(1)).findByTenantIdAndRoleIdIn(TENANT_ID, List.of(2L, 3L));
+        verify(resourceRepository, times(1)).findByResourceIdIn(anyList());
+        verify(menuRepository, times(1)).findByTenantIdAndActive(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("메뉴 변경 이벤트: 테넌트 메뉴 forest와 트리 재구성")
+    void rebuildsAfterMenuChange() {
+        when(roleMemberRepository.findRoleIdsByTenantIdAndUserId(TENANT_ID, 10L)).thenReturn(List.of(2L));
+        menuService.getMenuTree(10L, TENANT_ID);
+
+        menuService.onPermissionModelChanged(PermissionModelChangedEvent.menusChanged(TENANT_ID));
+        menuService.getMenuTree(10L, TENANT_ID);
+
+        verify(menuRepository, times(2)).findByTenantIdAndActive(TENANT_ID);
+        verify(rolePermissionRepository, times(2)).findByTenantIdAndRoleIdIn(TENANT_ID, List.of(2L));
+    }
+
+    private static Menu menu(String key, String parentKey, String path, int sortOrder) {
+        return Menu.builder()
+                .tenantId(TENANT_ID)
+                .menuKey(key)
+                .menuName(key)
+                .menuPath(path)
+                .parentMenuKey(parentKey)
+                .sortOrder(sortOrder)
+                .depth(parentKey == null ? 1 : 2)
+                .build();
+    }
+
+    private static RolePermission view(Long resourceId) {
+        return RolePermission.builder()
+                .tenantId(TENANT_ID)
+                .roleId(2L)
+                .resourceId(resourceId)
+                .permissionId(1L)
+                .effect("ALLOW")
+                .build();
+    }
+
+    private static Resource menuResource(Long resourceId, String key) {
+        return Resource.builder().resourceId(resourceId).tenantId(TENANT_ID).type("MENU").key(key).build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.dwp.services.auth.service.admin;
+
+import com.dwp.services.auth.dto.admin.ExportAuditLogsRequest;
+import com.dwp.services.auth.repository.AuditLogExportReader;
+import com.dwp.services.auth.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuditLogQueryService 스트리밍 내보내기 테스트
+ *
+ * 검증 항목:
+ * - keyset 페이지를 마지막 행 기준으로 이어 읽고, 짧은 페이지에서 종료
+ * - CSV 인용 처리 / XLSX 출력이 유효한 워크북
+ * - XLSX: 내보내기 도중 조회가 실패하면 잘린 워크북을 기록하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogQueryService 내보내기 테스트")
+@SuppressWarnings("null")
+class AuditLogQueryServiceExportTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 10, 10, 0, 0);
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private AuditLogExportReader auditLogExportReader;
+
+    private AuditLogQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditLogQueryService(auditLogRepository, auditLogExportReader, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("CSV: keyset으로 다음 페이지를 이어 읽고 행 수 제한 없이 기록")
+    void testCsvKeysetPaging() throws Exception {
+        List<AuditLogExportReader.Row> first = rows(0, AuditLogQueryService.EXPORT_PAGE_SIZE);
+        List<AuditLogExportReader.Row> second = rows(AuditLogQueryService.EXPORT_PAGE_SIZE, 3);
+        AuditLogExportReader.Row lastOfFirst = first.get(first.size() - 1);
+        when(auditLogExportReader.findPage(eq(TENANT_ID), any(), isNull(), anyInt())).thenReturn(first);
+        when(auditLogExportReader.findPage(eq(TENANT_ID), any(), eq(lastOfFirst), anyInt())).thenReturn(second);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = service.exportAuditLogs(TENANT_ID, ExportAuditLogsRequest.builder().build(),
+                AuditLogExportFormat.CSV, out);
+
+        assertThat(written).isEqualTo(AuditLogQueryService.EXPORT_PAGE_SIZE + 3L);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv.split("\r\n")).hasSize(AuditLogQueryService.EXPORT_PAGE_SIZE + 4);
+        assertThat(csv).contains("\"{\"\"k\"\":\"\"a,b\"\"}\"");
+        verify(auditLogExportReader).findPage(eq(TENANT_ID), any(), eq(lastOfFirst), anyInt());
+    }
+
+    @Test
+    @DisplayName("XLSX: maxRows 적용 후 유효한 워크북 출력")
+    void testXlsxMaxRows() throws Exception {
+        when(auditLogExportReader.findPage(eq(TENANT_ID), any(), isNull(), eq(5))).thenReturn(rows(0, 5));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = service.exportAuditLogs(TENANT_ID, ExportAuditLogsRequest.builder().maxRows(5).build(),
+                AuditLogExportFormat.XLSX, out);
+
+        assertThat(written).isEqualTo(5);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(workbook.getSheetAt(0).getLastRowNum()).isEqualTo(5);
+            assertThat(workbook.getSheetAt(0).getRow(1).getCell(3).getStringCellValue()).isEqualTo("USER_UPDATE");
+        }
+    }
+
+    @Test
+    @DisplayName("XLSX: 다음 페이지 조회 실패 시 예외를 전파하고 워크북을 기록하지 않음")
+    void testXlsxFailureWritesNothing() {
+        List<AuditLogExportReader.Row> first = rows(0, AuditLogQueryService.EXPORT_PAGE_SIZE);
+        AuditLogExportReader.Row lastOfFirst = first.get(first.size() - 1);
+        when(auditLogExportReader.findPage(eq(TENANT_ID), any(), isNull(), anyInt())).thenReturn(first);
+        when(auditLogExportReader.findPage(eq(TENANT_ID), any(), eq(lastOfFirst), anyInt()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> service.exportAuditLogs(TENANT_ID, ExportAuditLogsRequest.builder().build(),
+                AuditLogExportFormat.XLSX, out))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(out.size()).isZero();
+    }
+
+    private static List<AuditLogExportReader.Row> rows(int offset, int count) {
+        List<AuditLogExportReader.Row> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = 100_000L - offset - i;
+            out.add(new AuditLogExportReader.Row(id, TENANT_ID, 7L, "USER_UPDATE", "USER", 42L,
+                    "{\"k\":\"a,b\"}", BASE.minusSeconds(offset + i)));
+        }
+        return out;
+    }
+}
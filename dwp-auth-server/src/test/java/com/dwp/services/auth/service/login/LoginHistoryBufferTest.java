@@ -0,0 +1,130 @@
+package com.dwp.services.auth.service.login;
+
+import com.dwp.services.auth.entity.LoginHistory;
+import com.dwp.services.auth.repository.LoginHistoryBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * LoginHistoryBuffer 테스트
+ *
+ * 검증 항목:
+ * - 같은 (tenant, principal)의 연속된 동일 실패는 1행으로 합쳐 attempt_count 증가
+ * - 로그인 성공 또는 flush 이후의 실패는 새 행으로 시작
+ * - 버퍼 용량 초과 시 drop (적재 호출 없이 dropped 카운터 증가)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginHistoryBuffer 테스트")
+@SuppressWarnings({"null", "unchecked"})
+class LoginHistoryBufferTest {
+
+    @Mock
+    private LoginHistoryBatchWriter batchWriter;
+
+    @Test
+    @DisplayName("연속된 동일 실패는 1행으로 합쳐지고 attempt_count가 증가")
+    void coalescesConsecutiveFailures() {
+        LoginHistoryBuffer buffer = buffer(100);
+        stubWriter();
+
+        buffer.recordFailure(failure("admin", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("admin", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("admin", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("guest", "INVALID_PASSWORD"));
+        buffer.flush();
+
+        List<LoginHistory> rows = captureWrites(1).get(0);
+        assertThat(rows).extracting(LoginHistory::getPrincipal).containsExactly("admin", "guest");
+        assertThat(rows).extracting(LoginHistory::getAttemptCount).containsExactly(3, 1);
+        assertThat(buffer.getCoalescedCount()).isEqualTo(2);
+        assertThat(buffer.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 또는 다른 사유가 끼면 집계를 끊고, flush 이후 실패는 새 행으로 시작")
+    void startsNewRowAfterSuccessOrFlush() {
+        LoginHistoryBuffer buffer = buffer(100);
+        stubWriter();
+
+        buffer.recordFailure(failure("admin", "INVALID_PASSWORD"));
+        buffer.recordSuccess(success("admin"));
+        buffer.recordFailure(failure("admin", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("admin", "USER_LOCKED"));
+        buffer.flush();
+        buffer.recordFailure(failure("admin", "USER_LOCKED"));
+        buffer.flush();
+
+        List<List<LoginHistory>> writes = captureWrites(2);
+        assertThat(writes.get(0)).extracting(LoginHistory::getAttemptCount).containsExactly(1, 1, 1, 1);
+        assertThat(writes.get(1)).extracting(LoginHistory::getFailureReason).containsExactly("USER_LOCKED");
+        assertThat(buffer.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 신규 이력은 drop되고 카운터가 증가")
+    void dropsOnOverflow() {
+        LoginHistoryBuffer buffer = buffer(2);
+
+        buffer.recordFailure(failure("a", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("b", "INVALID_PASSWORD"));
+        buffer.recordFailure(failure("c", "INVALID_PASSWORD"));
+        // 버퍼에 남아 있는 행에는 계속 합쳐짐
+        buffer.recordFailure(failure("a", "INVALID_PASSWORD"));
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(2);
+        assertThat(buffer.getEnqueuedCount()).isEqualTo(2);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(buffer.getCoalescedCount()).isEqualTo(1);
+        verifyNoInteractions(batchWriter);
+    }
+
+    private LoginHistoryBuffer buffer(int capacity) {
+        return new LoginHistoryBuffer(batchWriter, new SimpleMeterRegistry(), capacity, 500, 1000L);
+    }
+
+    private void stubWriter() {
+        when(batchWriter.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    private List<List<LoginHistory>> captureWrites(int times) {
+        ArgumentCaptor<List<LoginHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, times(times)).insertAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static LoginHistory failure(String principal, String reason) {
+        return LoginHistory.builder()
+                .tenantId(1L)
+                .providerType("LOCAL")
+                .providerId("local")
+                .principal(principal)
+                .success(false)
+                .failureReason(reason)
+                .build();
+    }
+
+    private static LoginHistory success(String principal) {
+        return LoginHistory.builder()
+                .tenantId(1L)
+                .userId(1L)
+                .providerType("LOCAL")
+                .providerId("local")
+                .principal(principal)
+                .success(true)
+                .build();
+    }
+}
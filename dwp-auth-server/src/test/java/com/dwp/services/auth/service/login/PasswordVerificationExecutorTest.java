@@ -0,0 +1,101 @@
+package com.dwp.services.auth.service.login;
+
+import com.dwp.core.common.ErrorCode;
+import com.dwp.core.exception.BaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PasswordVerificationExecutor 테스트
+ *
+ * 검증 항목:
+ * - 대기열이 가득 차면 SERVICE_BUSY로 즉시 거절
+ * - rehash-on-login: 검증 성공 + cost 상향 대상이면 새 해시 반환, 불일치 시 재해싱 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordVerificationExecutor 테스트")
+@SuppressWarnings("null")
+class PasswordVerificationExecutorTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private PasswordVerificationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("검증 스레드와 대기열이 모두 차면 SERVICE_BUSY로 거절")
+    void rejectsWhenQueueFull() throws Exception {
+        executor = new PasswordVerificationExecutor(passwordEncoder, 1, 1, 5000L, false);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        CompletableFuture<PasswordVerificationExecutor.Verification> running =
+                CompletableFuture.supplyAsync(() -> executor.verify("pw", "hash"));
+        CompletableFuture<PasswordVerificationExecutor.Verification> queued =
+                CompletableFuture.supplyAsync(() -> executor.verify("pw", "hash"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getQueueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> executor.verify("pw", "hash"))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_BUSY);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).matched()).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS).matched()).isTrue();
+    }
+
+    @Test
+    @DisplayName("rehash-on-login: 검증 성공 + cost 상향 대상이면 새 해시 반환")
+    void rehashesOnSuccessfulLogin() {
+        executor = new PasswordVerificationExecutor(passwordEncoder, 1, 4, 5000L, true);
+        when(passwordEncoder.matches("pw", "oldHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+        when(passwordEncoder.encode("pw")).thenReturn("newHash");
+
+        PasswordVerificationExecutor.Verification verification = executor.verify("pw", "oldHash");
+
+        assertThat(verification.matched()).isTrue();
+        assertThat(verification.upgradedHash()).isEqualTo("newHash");
+    }
+
+    @Test
+    @DisplayName("비밀번호 불일치 시 재해싱하지 않음")
+    void noRehashOnMismatch() {
+        executor = new PasswordVerificationExecutor(passwordEncoder, 1, 4, 5000L, true);
+        when(passwordEncoder.matches("wrong", "oldHash")).thenReturn(false);
+
+        PasswordVerificationExecutor.Verification verification = executor.verify("wrong", "oldHash");
+
+        assertThat(verification.matched()).isFalse();
+        assertThat(verification.upgradedHash()).isNull();
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+}
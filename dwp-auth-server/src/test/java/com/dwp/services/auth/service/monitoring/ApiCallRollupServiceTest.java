@@ -0,0 +1,145 @@
+package com.dwp.services.auth.service.monitoring;
+
+import com.dwp.services.auth.dto.ApiCallHistoryRequest;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupCounters;
+import com.dwp.services.auth.repository.monitoring.ApiCallRollupRepository;
+import com.dwp.services.auth.util.LatencySketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ApiCallRollupService 테스트
+ *
+ * 검증 항목:
+ * - ingest 배치를 (tenant, 분) / (tenant, 분, path) / 에러 키로 집계해 upsert
+ * - 조회 구간을 [완결된 분: 롤업] + [앞/뒤 부분 분: 원본]으로 분할
+ * - 완결된 분이 없는 짧은 구간은 원본만 조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiCallRollupService 테스트")
+@SuppressWarnings({"null", "unchecked"})
+class ApiCallRollupServiceTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @Mock
+    private ApiCallRollupRepository apiCallRollupRepository;
+
+    @InjectMocks
+    private ApiCallRollupService apiCallRollupService;
+
+    @Test
+    @DisplayName("배치 적재 시 분/경로/에러 단위로 집계하여 upsert")
+    void testAccumulate() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 10, 10, 0, 42);
+        List<ApiCallHistoryRequest> rows = List.of(
+                history("/api/a", 200, 12L),
+                history("/api/a", 500, 900L),
+                history("/api/b", 404, null));
+
+        apiCallRollupService.accumulate(rows, now);
+
+        ArgumentCaptor<Map<ApiCallRollupRepository.MinuteKey, ApiCallRollupCounters>> minutes = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<ApiCallRollupRepository.PathKey, ApiCallRollupCounters>> paths = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<ApiCallRollupRepository.ErrorKey, Long>> errors = ArgumentCaptor.forClass(Map.class);
+        verify(apiCallRollupRepository).upsertMinuteRollups(minutes.capture(), eq(now));
+        verify(apiCallRollupRepository).upsertPathRollups(paths.capture(), eq(now));
+        verify(apiCallRollupRepository).upsertErrorRollups(errors.capture(), eq(now));
+
+        LocalDateTime bucket = now.truncatedTo(ChronoUnit.MINUTES);
+        ApiCallRollupCounters minute = minutes.getValue().get(new ApiCallRollupRepository.MinuteKey(TENANT_ID, bucket));
+        assertThat(minute.getTotalCount()).isEqualTo(3);
+        assertThat(minute.getSuccessCount()).isEqualTo(1);
+        assertThat(minute.getCount4xx()).isEqualTo(1);
+        assertThat(minute.getCount5xx()).isEqualTo(1);
+        assertThat(minute.getLatencyCount()).isEqualTo(2);
+        assertThat(minute.getLatencySumMs()).isEqualTo(912);
+
+        assertThat(paths.getValue()).hasSize(2);
+        assertThat(paths.getValue().get(new ApiCallRollupRepository.PathKey(TENANT_ID, bucket, "/api/a")).getTotalCount()).isEqualTo(2);
+        assertThat(errors.getValue()).containsOnlyKeys(
+                new ApiCallRollupRepository.ErrorKey(TENANT_ID, bucket, "/api/a", 500),
+                new ApiCallRollupRepository.ErrorKey(TENANT_ID, bucket, "/api/b", 404));
+    }
+
+    @Test
+    @DisplayName("요약 조회: 완결된 분은 롤업, 앞/뒤 부분 분은 원본에서 합산")
+    void testLoadSummaryWindowSplitsRange() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 10, 10, 0, 30);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 10, 10, 5, 20);
+        LocalDateTime fullStart = LocalDateTime.of(2026, 1, 10, 10, 1);
+        LocalDateTime fullEnd = LocalDateTime.of(2026, 1, 10, 10, 5);
+
+        TreeMap<Long, ApiCallRollupCounters> rollupBuckets = new TreeMap<>();
+        ApiCallRollupCounters rolled = new ApiCallRollupCounters();
+        rolled.addCounts(10, 9, 0, 1, 0, 0);
+        rollupBuckets.put(fullStart.toEpochSecond(ZoneOffset.UTC), rolled);
+        when(apiCallRollupRepository.findBuckets(TENANT_ID, fullStart, fullEnd, 60, false)).thenReturn(rollupBuckets);
+        when(apiCallRollupRepository.findSketch(TENANT_ID, fullStart, fullEnd)).thenReturn(new LatencySketch());
+        when(apiCallRollupRepository.findPathTotals(TENANT_ID, fullStart, fullEnd)).thenReturn(new HashMap<>());
+        when(apiCallRollupRepository.findErrorCounts(TENANT_ID, fullStart, fullEnd)).thenReturn(new HashMap<>());
+        doAnswer(inv -> {
+            ApiCallRollupRepository.RawRowConsumer consumer = inv.getArgument(3);
+            consumer.accept(inv.getArgument(1), "/api/a", 200, 20L);
+            return null;
+        }).when(apiCallRollupRepository).forEachRaw(eq(TENANT_ID), any(), any(), any());
+
+        ApiCallRollupWindow window = apiCallRollupService.loadSummaryWindow(TENANT_ID, from, to);
+
+        verify(apiCallRollupRepository).forEachRaw(eq(TENANT_ID), eq(from), eq(fullStart.minus(1, ChronoUnit.MICROS)), any());
+        verify(apiCallRollupRepository).forEachRaw(eq(TENANT_ID), eq(fullEnd), eq(to), any());
+        // 롤업 10건 + 앞/뒤 원본 각 1건
+        assertThat(window.getTotals().getTotalCount()).isEqualTo(12);
+        assertThat(window.getBuckets()).hasSize(3);
+        assertThat(window.findTopTrafficPath()).hasSize(1);
+        assertThat(window.findTopTrafficPath().get(0).getRequestCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("1분 미만 구간은 롤업을 조회하지 않고 원본만 사용")
+    void testShortRangeUsesRawOnly() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 10, 10, 0, 10);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 10, 10, 0, 50);
+
+        apiCallRollupService.loadSummaryWindow(TENANT_ID, from, to);
+
+        verify(apiCallRollupRepository).forEachRaw(eq(TENANT_ID), eq(from), eq(to), any());
+        verify(apiCallRollupRepository, never()).findBuckets(any(), any(), any(), anyInt(), anyBoolean());
+        verify(apiCallRollupRepository, never()).findPathTotals(any(), any(), any());
+        verify(apiCallRollupRepository, never()).upsertMinuteRollups(anyMap(), any());
+    }
+
+    private static ApiCallHistoryRequest history(String path, int statusCode, Long latencyMs) {
+        ApiCallHistoryRequest r = new ApiCallHistoryRequest();
+        r.setTenantId(TENANT_ID);
+        r.setMethod("GET");
+        r.setPath(path);
+        r.setStatusCode(statusCode);
+        r.setLatencyMs(latencyMs);
+        return r;
+    }
+}
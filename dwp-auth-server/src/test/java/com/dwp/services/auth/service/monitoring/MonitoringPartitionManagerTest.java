@@ -0,0 +1,147 @@
+package com.dwp.services.auth.service.monitoring;
+
+import com.dwp.services.auth.config.MonitoringPartitionConfig;
+import com.dwp.services.auth.entity.MonitoringConfig;
+import com.dwp.services.auth.repository.MonitoringConfigRepository;
+import com.dwp.services.auth.repository.monitoring.MonitoringPartitionRepository;
+import com.dwp.services.auth.repository.monitoring.MonitoringPartitionRepository.PartitionRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MonitoringPartitionManager 테스트
+ *
+ * 검증 항목:
+ * - 없는 미래 일 파티션만 생성 (DEFAULT 파티션 이름 전달 → 해당 일 행 이동)
+ * - 전체 테넌트 최대 보존기간을 지난 파티션만 DROP (DEFAULT 파티션 제외)
+ * - 보존기간이 더 짧은 테넌트는 행 단위 삭제
+ * - 작업 하나가 실패해도 나머지 생성/DROP은 계속
+ * - 롤업은 max(rollupRetentionDays, 원본 최대 보존기간) 기준으로 배치 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonitoringPartitionManager 테스트")
+@SuppressWarnings("null")
+class MonitoringPartitionManagerTest {
+
+    private static final String API_TABLE = "sys_api_call_histories";
+    private static final String PV_TABLE = "sys_page_view_events";
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private MonitoringPartitionRepository partitionRepository;
+
+    @Mock
+    private MonitoringConfigRepository monitoringConfigRepository;
+
+    private MonitoringPartitionConfig config;
+    private MonitoringPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        config = new MonitoringPartitionConfig();
+        config.setPremakeDays(3);
+        config.setDefaultRetentionDays(30);
+        manager = new MonitoringPartitionManager(config, partitionRepository, monitoringConfigRepository);
+        when(partitionRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("미래 파티션 생성 + 최대 보존기간 경과 파티션 DROP")
+    void testCreateAndDropPartitions() {
+        when(monitoringConfigRepository.findByConfigKey("DATA_RETENTION_DAYS")).thenReturn(List.of());
+        List<PartitionRange> partitions = new ArrayList<>();
+        partitions.add(new PartitionRange(API_TABLE + "_p_legacy", null, TODAY.minusDays(40).atStartOfDay()));
+        partitions.add(daily(TODAY.minusDays(30)));
+        partitions.add(daily(TODAY));
+        partitions.add(new PartitionRange(API_TABLE + "_p_default", null, null));
+        when(partitionRepository.findPartitions(API_TABLE)).thenReturn(partitions);
+        when(partitionRepository.findPartitions(PV_TABLE)).thenReturn(List.of());
+
+        manager.maintain(TODAY);
+
+        verify(partitionRepository, never()).createDailyPartition(eq(API_TABLE), eq(TODAY), any());
+        verify(partitionRepository).createDailyPartition(API_TABLE, TODAY.plusDays(1), API_TABLE + "_p_default");
+        verify(partitionRepository).createDailyPartition(API_TABLE, TODAY.plusDays(2), API_TABLE + "_p_default");
+        verify(partitionRepository, times(3)).createDailyPartition(eq(PV_TABLE), any(LocalDate.class), isNull());
+        verify(partitionRepository).dropPartition(API_TABLE + "_p_legacy");
+        verify(partitionRepository, never()).dropPartition(daily(TODAY.minusDays(30)).name());
+        verify(partitionRepository, never()).dropPartition(API_TABLE + "_p_default");
+        verify(partitionRepository, never()).deleteTenantRowsBefore(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("테넌트 보존기간이 다르면 최댓값 기준 DROP, 짧은 쪽은 행 삭제")
+    void testPerTenantRetention() {
+        when(monitoringConfigRepository.findByConfigKey("DATA_RETENTION_DAYS")).thenReturn(List.of(
+                MonitoringConfig.builder().tenantId(1L).configKey("DATA_RETENTION_DAYS").configValue("60").build(),
+                MonitoringConfig.builder().tenantId(2L).configKey("DATA_RETENTION_DAYS").configValue("7").build()));
+        when(partitionRepository.findPartitions(anyString())).thenReturn(List.of(daily(TODAY.minusDays(45))));
+
+        manager.maintain(TODAY);
+
+        verify(partitionRepository, never()).dropPartition(anyString());
+        verify(partitionRepository, never()).deleteTenantRowsBefore(anyString(), eq(1L), any());
+        verify(partitionRepository).deleteTenantRowsBefore(API_TABLE, 2L, TODAY.minusDays(7).atStartOfDay());
+        verify(partitionRepository).deleteRowsBeforeExcludingTenants(API_TABLE, Set.of(1L, 2L), TODAY.minusDays(30).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("파티션 생성 하나가 실패해도 다음 생성과 만료 DROP은 계속")
+    void testContinuesAfterStepFailure() {
+        when(monitoringConfigRepository.findByConfigKey("DATA_RETENTION_DAYS")).thenReturn(List.of());
+        when(partitionRepository.findPartitions(API_TABLE)).thenReturn(List.of(
+                new PartitionRange(API_TABLE + "_p_legacy", null, TODAY.minusDays(40).atStartOfDay()), daily(TODAY)));
+        when(partitionRepository.findPartitions(PV_TABLE)).thenReturn(List.of());
+        when(partitionRepository.createDailyPartition(API_TABLE, TODAY.plusDays(1), null))
+                .thenThrow(new IllegalStateException("lock timeout"));
+
+        manager.maintain(TODAY);
+
+        verify(partitionRepository).createDailyPartition(API_TABLE, TODAY.plusDays(2), null);
+        verify(partitionRepository).dropPartition(API_TABLE + "_p_legacy");
+        verify(partitionRepository, times(3)).createDailyPartition(eq(PV_TABLE), any(LocalDate.class), isNull());
+    }
+
+    @Test
+    @DisplayName("롤업은 max(rollupRetentionDays, 원본 최대 보존기간) 이전 bucket을 배치 반복 삭제")
+    void testRollupRetention() {
+        config.setRollupRetentionDays(40);
+        config.setRollupDeleteBatchSize(2);
+        when(monitoringConfigRepository.findByConfigKey("DATA_RETENTION_DAYS")).thenReturn(List.of(
+                MonitoringConfig.builder().tenantId(1L).configKey("DATA_RETENTION_DAYS").configValue("60").build()));
+        when(partitionRepository.findPartitions(anyString())).thenReturn(List.of());
+        LocalDateTime cutoff = TODAY.minusDays(60).atStartOfDay();
+        when(partitionRepository.deleteRollupRowsBefore("sys_api_call_minute_rollups", cutoff, 2)).thenReturn(2, 1);
+
+        manager.maintain(TODAY);
+
+        verify(partitionRepository, times(2)).deleteRollupRowsBefore("sys_api_call_minute_rollups", cutoff, 2);
+        verify(partitionRepository).deleteRollupRowsBefore("sys_api_call_path_rollups", cutoff, 2);
+        verify(partitionRepository).deleteRollupRowsBefore("sys_api_call_error_rollups", cutoff, 2);
+    }
+
+    private static PartitionRange daily(LocalDate day) {
+        return new PartitionRange(API_TABLE + "_p" + day.toString().replace("-", ""),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,167 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.services.auth.entity.Permission;
+import com.dwp.services.auth.entity.Resource;
+import com.dwp.services.auth.entity.RolePermission;
+import com.dwp.services.auth.repository.PermissionRepository;
+import com.dwp.services.auth.repository.ResourceRepository;
+import com.dwp.services.auth.repository.RolePermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PermissionBitmapEngine 테스트
+ *
+ * 검증 항목:
+ * - DENY 우선, ALLOW 허용, 매핑 없으면 거부 (PermissionCalculator 정책과 동일)
+ * - 캐시 적중 시 역할 할당/역할-권한 재조회 없음
+ * - 역할 권한 변경 이벤트 시 해당 역할만 재컴파일, 역할 할당은 재조회하지 않음
+ * - 역할 컴파일 중 무효화되면 이전 bitset을 캐시에 남기지 않음
+ * - 역할 권한 변경으로 bitset을 다시 OR해도 역할 목록은 최초 조회 시각 기준 TTL 후 재조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionBitmapEngine 테스트")
+@SuppressWarnings("null")
+class PermissionBitmapEngineTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    private PermissionBitmapEngine engine;
+    private final AtomicInteger roleLookups = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        engine = new PermissionBitmapEngine(resourceRepository, permissionRepository, rolePermissionRepository, 300L, 100L,
+                nanos::get);
+        when(resourceRepository.findByTenantIdAndKey(TENANT_ID, "menu.admin.users"))
+                .thenReturn(List.of(Resource.builder().resourceId(100L).tenantId(TENANT_ID).key("menu.admin.users").build()));
+        when(permissionRepository.findByCode("VIEW"))
+                .thenReturn(Optional.of(Permission.builder().permissionId(1L).code("VIEW").build()));
+    }
+
+    @Test
+    @DisplayName("ALLOW 역할 + DENY 역할 공존 시 DENY 우선, 매핑 없는 권한은 거부")
+    void denyWinsOverAllow() {
+        when(permissionRepository.findByCode("EDIT"))
+                .thenReturn(Optional.of(Permission.builder().permissionId(2L).code("EDIT").build()));
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(eq(TENANT_ID), anyList())).thenReturn(List.of(
+                grant(1L, 1L, "ALLOW"),
+                grant(2L, 1L, "DENY"),
+                grant(1L, 2L, "ALLOW")));
+
+        assertThat(canAccess("VIEW", List.of(1L, 2L))).isFalse();
+        assertThat(canAccess("EDIT", List.of(1L, 2L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 역할 할당/역할-권한 재조회 없음")
+    void cachesUserBits() {
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(eq(TENANT_ID), anyList()))
+                .thenReturn(List.of(grant(1L, 1L, "ALLOW")));
+
+        assertThat(canAccess("VIEW", List.of(1L))).isTrue();
+        assertThat(canAccess("VIEW", List.of(1L))).isTrue();
+
+        assertThat(roleLookups.get()).isEqualTo(1);
+        verify(rolePermissionRepository, times(1)).findByTenantIdAndRoleIdIn(eq(TENANT_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("역할 권한 변경 이벤트: 해당 역할만 재컴파일, 역할 할당은 재조회하지 않음")
+    void recompilesChangedRoleOnly() {
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(TENANT_ID, List.of(1L, 2L)))
+                .thenReturn(List.of(grant(1L, 1L, "ALLOW")));
+        assertThat(canAccess("VIEW", List.of(1L, 2L))).isTrue();
+
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(TENANT_ID, List.of(2L)))
+                .thenReturn(List.of(grant(2L, 1L, "DENY")));
+        engine.onPermissionModelChanged(PermissionModelChangedEvent.rolePermissionsChanged(TENANT_ID, 2L));
+
+        assertThat(canAccess("VIEW", List.of(1L, 2L))).isFalse();
+        assertThat(roleLookups.get()).isEqualTo(1);
+        verify(rolePermissionRepository).findByTenantIdAndRoleIdIn(TENANT_ID, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("역할 컴파일 조회 중 무효화되면 조회한 bitset을 캐시에 남기지 않고 재컴파일")
+    void discardsRoleCompiledDuringInvalidation() {
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(TENANT_ID, List.of(1L)))
+                .thenAnswer(invocation -> {
+                    // 조회 직후(캐시 삽입 전) 같은 역할의 권한 변경이 커밋됨
+                    engine.invalidateRole(TENANT_ID, 1L);
+                    return List.of(grant(1L, 1L, "ALLOW"));
+                })
+                .thenReturn(List.of(grant(1L, 1L, "DENY")));
+
+        // 세대 불일치로 같은 판정에서 바로 재컴파일 → 변경 후 권한(DENY) 반영, 이후 판정은 캐시 적중
+        assertThat(canAccess("VIEW", List.of(1L))).isFalse();
+        assertThat(canAccess("VIEW", List.of(1L))).isFalse();
+
+        verify(rolePermissionRepository, times(2)).findByTenantIdAndRoleIdIn(TENANT_ID, List.of(1L));
+        assertThat(roleLookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역할 권한 변경으로 다시 OR해도 역할 목록은 조회 시각 기준 TTL이 지나면 재조회")
+    void reloadsRoleIdsAfterTtlDespiteRecombine() {
+        when(rolePermissionRepository.findByTenantIdAndRoleIdIn(eq(TENANT_ID), anyList()))
+                .thenReturn(List.of(grant(1L, 1L, "ALLOW")));
+        assertThat(canAccess("VIEW", List.of(1L))).isTrue();
+
+        // TTL 이전 역할 권한 변경: 역할 목록은 유지한 채 다시 OR (캐시 항목 write 시각 갱신)
+        nanos.set(TimeUnit.SECONDS.toNanos(200));
+        engine.invalidateRole(TENANT_ID, 1L);
+        assertThat(canAccess("VIEW", List.of(1L))).isTrue();
+        assertThat(roleLookups.get()).isEqualTo(1);
+
+        // 최초 조회 후 TTL 경과: 서비스 밖에서 회수된 역할 할당(1 → 2)이 반영되어야 함
+        nanos.set(TimeUnit.SECONDS.toNanos(301));
+        assertThat(canAccess("VIEW", List.of(2L))).isFalse();
+        assertThat(roleLookups.get()).isEqualTo(2);
+    }
+
+    private boolean canAccess(String permissionCode, List<Long> roleIds) {
+        return engine.canAccess(TENANT_ID, USER_ID, "menu.admin.users", permissionCode, () -> {
+            roleLookups.incrementAndGet();
+            return roleIds;
+        });
+    }
+
+    private static RolePermission grant(Long roleId, Long permissionId, String effect) {
+        return RolePermission.builder()
+                .tenantId(TENANT_ID)
+                .roleId(roleId)
+                .resourceId(100L)
+                .permissionId(permissionId)
+                .effect(effect)
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.dwp.services.auth.service.rbac;
+
+import com.dwp.core.event.EventChannels;
+import com.dwp.services.auth.service.rbac.PermissionCacheInvalidation.Reason;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PermissionCacheManager 테스트
+ *
+ * 검증 항목:
+ * - 사용자 무효화는 해당 사용자만, 권한 모델 변경은 해당 테넌트만 로컬 캐시에서 제거
+ * - 다른 인스턴스의 무효화 메시지 반영 (컴파일된 권한 모델 포함)
+ * - Redis 공유 계층: 저장 시점 버전이 현재 버전과 같을 때만 적중, 무효화 시 버전 증가 + 메시지 발행
+ * - 사용자 버전 키 만료 후 재무효화되어도 이전 버전이 재사용되지 않음 (무효화 이전 값 부활 방지)
+ * - 관리자 변경 이벤트(rbac.admin-events.enabled) 활성화 시 커밋된 변경을 테넌트 단위로 발행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionCacheManager 테스트")
+@SuppressWarnings({"null", "unchecked"})
+class PermissionCacheManagerTest {
+
+    private static final TypeReference<Boolean> ADMIN_ROLE_TYPE = new TypeReference<>() {};
+
+    @Mock
+    private PermissionBitmapEngine permissionBitmapEngine;
+
+    @Mock
+    private ObjectProvider<PermissionCacheRedisTier> sharedTierProvider;
+
+    @Mock
+    private ObjectProvider<AdminChangeEventPublisher> adminEventsProvider;
+
+    @Mock
+    private AdminChangeEventPublisher adminEvents;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PermissionCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new PermissionCacheManager(300L, permissionBitmapEngine, sharedTierProvider, adminEventsProvider);
+    }
+
+    @Test
+    @DisplayName("사용자 무효화: 해당 사용자만 재계산, 컴파일된 권한 모델도 무효화")
+    void invalidatesSingleUser() {
+        adminRole("1:10");
+        adminRole("1:11");
+
+        cacheManager.invalidateCache(1L, 10L);
+        adminRole("1:10");
+        adminRole("1:11");
+
+        assertThat(loads.get()).isEqualTo(3);
+        verify(permissionBitmapEngine).invalidateUser(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("권한 모델 변경 이벤트: 해당 테넌트 항목만 제거")
+    void invalidatesTenantOnModelChange() {
+        adminRole("1:10");
+        adminRole("2:10");
+
+        cacheManager.onPermissionModelChanged(PermissionModelChangedEvent.rolePermissionsChanged(1L, 5L));
+        adminRole("1:10");
+        adminRole("2:10");
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("원격 무효화 메시지: 로컬 캐시와 역할 bitset 무효화")
+    void appliesRemoteInvalidation() {
+        adminRole("1:10");
+
+        cacheManager.applyRemoteInvalidation(
+                new PermissionCacheInvalidation(1L, null, 5L, Reason.ROLE_PERMISSION, 3L, "other-node"));
+        adminRole("1:10");
+
+        assertThat(loads.get()).isEqualTo(2);
+        verify(permissionBitmapEngine).invalidateRole(1L, 5L);
+        verify(permissionBitmapEngine, never()).invalidateTenant(1L);
+    }
+
+    @Test
+    @DisplayName("공유 계층: 버전 일치 시 적중, 불일치 시 재계산 후 현재 버전으로 저장")
+    void sharedTierHonoursVersionStamp() {
+        PermissionCacheRedisTier tier = new PermissionCacheRedisTier(redisTemplate, objectMapper, 3600L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("2:1|true", "2", "1"));
+        assertThat(tier.get("adminRole", "1:10", ADMIN_ROLE_TYPE, this::load)).isTrue();
+        assertThat(loads.get()).isZero();
+
+        // 테넌트 버전 증가 후 (2 → 3): 저장된 값 폐기
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("2:1|true", "3", "1"));
+        assertThat(tier.get("adminRole", "1:10", ADMIN_ROLE_TYPE, this::load)).isTrue();
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set("dwp:rbac:adminRole:1:10", "3:1|true", Duration.ofSeconds(3600));
+    }
+
+    @Test
+    @DisplayName("공유 계층 사용 시 사용자 무효화: 사용자 버전 증가 + 무효화 메시지 발행")
+    void broadcastsUserInvalidation() {
+        PermissionCacheRedisTier tier = new PermissionCacheRedisTier(redisTemplate, objectMapper, 3600L);
+        when(sharedTierProvider.getIfAvailable()).thenReturn(tier);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("dwp:rbac:seq:1")).thenReturn(4L);
+        cacheManager = new PermissionCacheManager(300L, permissionBitmapEngine, sharedTierProvider, adminEventsProvider);
+
+        cacheManager.invalidateCache(1L, 10L, Reason.DEPARTMENT);
+
+        verify(valueOperations).set("dwp:rbac:ver:1:10", "4", Duration.ofSeconds(7200));
+        verify(redisTemplate).convertAndSend(eq(EventChannels.PERMISSION_CACHE_EVENTS), contains("\"reason\":\"DEPARTMENT\""));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("공유 계층: 사용자 버전 키 만료 후 재무효화해도 만료 전 버전으로 저장된 값은 적중하지 않음")
+    void userVersionNotReusedAfterExpiry() {
+        Map<String, String> redis = new HashMap<>();
+        PermissionCacheRedisTier tier = new PermissionCacheRedisTier(redisTemplate, objectMapper, 3600L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation ->
+                ((List<String>) invocation.getArgument(0)).stream().map(redis::get).collect(Collectors.toList()));
+        when(valueOperations.increment(anyString())).thenAnswer(invocation ->
+                Long.valueOf(redis.merge(invocation.getArgument(0), "1", (a, b) -> String.valueOf(Long.parseLong(a) + 1))));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        tier.invalidateUser(1L, 10L, Reason.ROLE_MEMBER);
+        assertThat(tier.get("adminRole", "1:10", ADMIN_ROLE_TYPE, () -> true)).isTrue();
+        // 사용자 버전 키만 TTL 만료 (값은 남아 있음) → 이후 역할 회수
+        redis.remove("dwp:rbac:ver:1:10");
+        tier.invalidateUser(1L, 10L, Reason.ROLE_MEMBER);
+
+        assertThat(redis.get("dwp:rbac:ver:1:10")).isEqualTo("2");
+        assertThat(tier.get("adminRole", "1:10", ADMIN_ROLE_TYPE, () -> false)).isFalse();
+        assertThat(redis.get("dwp:rbac:adminRole:1:10")).isEqualTo("0:2|false");
+    }
+
+    @Test
+    @DisplayName("관리자 변경 이벤트 활성화 시 메뉴/사용자 변경을 테넌트 단위로 발행 (Gateway 응답 캐시 무효화)")
+    void publishesAdminChanges() {
+        when(adminEventsProvider.getIfAvailable()).thenReturn(adminEvents);
+        cacheManager = new PermissionCacheManager(300L, permissionBitmapEngine, sharedTierProvider, adminEventsProvider);
+
+        cacheManager.onPermissionModelChanged(PermissionModelChangedEvent.menusChanged(1L));
+        cacheManager.invalidateCache(1L, 10L, Reason.DEPARTMENT);
+
+        verify(adminEvents).publishTenantChanged(1L, "MENU");
+        verify(adminEvents).publishTenantChanged(1L, "DEPARTMENT");
+    }
+
+    private void adminRole(String cacheKey) {
+        cacheManager.getAdminRole(cacheKey, this::load);
+    }
+
+    private Boolean load() {
+        loads.incrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package com.dwp.services.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LatencySketch 테스트
+ *
+ * 검증 항목:
+ * - 분할 기록 후 병합한 스케치의 분위수가 실제 값 대비 상대 오차 1% 이내
+ * - 직렬화/역직렬화 왕복 시 동일 결과
+ * - 빈 스케치 / 0ms 처리
+ */
+@DisplayName("LatencySketch 테스트")
+class LatencySketchTest {
+
+    @Test
+    @DisplayName("분 단위 스케치를 병합해도 p50/p95/p99 상대 오차 1% 이내")
+    void testMergedQuantileWithinRelativeError() {
+        Random random = new Random(42);
+        List<Long> all = new ArrayList<>();
+        LatencySketch merged = new LatencySketch();
+        for (int minute = 0; minute < 60; minute++) {
+            LatencySketch sketch = new LatencySketch();
+            for (int i = 0; i < 500; i++) {
+                long latency = Math.max(1L, (long) Math.exp(random.nextGaussian() * 1.2 + 4.5));
+                all.add(latency);
+                sketch.add(latency);
+            }
+            merged.merge(sketch);
+        }
+        Collections.sort(all);
+
+        assertThat(merged.getTotalCount()).isEqualTo(all.size());
+        for (double q : new double[]{0.5, 0.95, 0.99}) {
+            long exact = all.get((int) Math.floor(q * (all.size() - 1)));
+            double estimate = merged.quantile(q);
+            assertThat(Math.abs(estimate - exact) / exact).isLessThanOrEqualTo(LatencySketch.RELATIVE_ACCURACY);
+        }
+    }
+
+    @Test
+    @DisplayName("직렬화 왕복 후 분위수가 동일")
+    void testSerializationRoundTrip() {
+        LatencySketch sketch = new LatencySketch();
+        for (long v : new long[]{0, 3, 15, 15, 120, 980, 30000}) {
+            sketch.add(v);
+        }
+
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getTotalCount()).isEqualTo(7);
+        assertThat(restored.quantile(0.0)).isEqualTo(0.0);
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        assertThat(restored.quantile(1.0)).isEqualTo(sketch.quantile(1.0));
+    }
+
+    @Test
+    @DisplayName("빈 스케치는 null, 잘못된 형식은 예외")
+    void testEmptyAndInvalid() {
+        assertThat(new LatencySketch().quantile(0.95)).isNull();
+        assertThat(LatencySketch.fromBytes(null).isEmpty()).isTrue();
+        assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -11,6 +11,7 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "E1002", "허용되지 않은 HTTP 메서드입니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "E1003", "접근이 거부되었습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E1004", "요청한 리소스를 찾을 수 없습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "E1005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     
     // 인증/인가 에러 (2000번대)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "E2000", "인증이 필요합니다."),
@@ -41,7 +41,19 @@ public final class EventChannels {
      * AI 에이전트 작업 이벤트 채널
      */
     public static final String AGENT_TASK_EVENTS = "dwp:events:agent-task";
-    
+
+    /**
+     * 관리자 변경 이벤트 채널 (메뉴/코드/권한 등)
+     * Gateway 응답 캐시가 이 채널을 구독하여 테넌트 캐시를 무효화합니다.
+     */
+    public static final String ADMIN_EVENTS = "dwp:events:admin";
+
+    /**
+     * 권한 캐시 무효화 채널 (역할/역할 멤버/역할 권한/부서/리소스 변경)
+     * auth-server 인스턴스들이 이 채널을 구독하여 로컬 권한 캐시를 무효화합니다.
+     */
+    public static final String PERMISSION_CACHE_EVENTS = "dwp:events:permission-cache";
+
     /**
      * 테넌트별 이벤트 채널 생성
      * 
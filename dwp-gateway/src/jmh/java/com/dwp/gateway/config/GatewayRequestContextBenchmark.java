@@ -0,0 +1,210 @@
+package com.dwp.gateway.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 헤더 처리: 기존 필터별 파싱/mutate vs GatewayRequestContextFilter 단일 패스 비교 (요청당 CPU/할당량)
+ *
+ * - legacyFilters: 기존 CorrelationIdFilter → RequiredHeaderFilter → TenantIdNormalizationFilter
+ *   → HeaderPropagationFilter → ApiCallHistoryFilter(요청 단계) 재현. 필터마다 헤더 재조회, request/exchange mutate,
+ *   UUID.randomUUID() 2~3회
+ * - contextFilter: GatewayRequestContextFilter (1회 파싱, request.mutate() 1회, TraceIdGenerator,
+ *   JWT 서명 검증은 VerifiedJwtCache 적중 경로)
+ *
+ * 1 op = 요청 1건. exchange 생성(수신 재현)은 양쪽 동일 비용.
+ * 실행: ./gradlew :dwp-gateway:jmh  (gc 프로파일러: gc.alloc.rate.norm = 요청당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GatewayRequestContextBenchmark {
+
+    private static final Pattern NUMERIC = Pattern.compile("^\\d+$");
+    private static final String[] EXCLUDED_PATHS = {
+        "/api/auth/login", "/api/auth/policy", "/api/auth/idp",
+        "/api/monitoring/page-view", "/api/monitoring/event", "/internal/"
+    };
+
+    /** aura: SSE 스트림 요청 (POST /api/aura/test/stream), admin: 일반 API 요청 */
+    @Param({"aura", "admin"})
+    private String requestType;
+
+    private final JwtVerificationProperties jwtProperties = new JwtVerificationProperties();
+    private final GatewayRequestContextFilter contextFilter = new GatewayRequestContextFilter(
+            new VerifiedJwtCache(jwtProperties, new SimpleMeterRegistry()));
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        authorization = "Bearer " + Jwts.builder()
+                .subject("100")
+                .claim("tenant_id", "1")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+        // 로그 출력 비용은 비교 대상이 아니므로 제외 (기존 HeaderPropagationFilter도 Aura 요청마다 INFO 로그)
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+    }
+
+    @Benchmark
+    public void legacyFilters(Blackhole blackhole) {
+        ServerWebExchange exchange = correlationId(newExchange());
+        exchange = requiredHeaders(exchange);
+        exchange = tenantNormalization(exchange, blackhole);
+        exchange = headerPropagation(exchange, blackhole);
+        ServerWebExchange finalExchange = apiCallHistory(exchange, blackhole);
+        blackhole.consume(finalExchange);
+    }
+
+    @Benchmark
+    public void contextFilter(Blackhole blackhole) {
+        GatewayFilterChain chain = exchange -> {
+            blackhole.consume(exchange);
+            return Mono.empty();
+        };
+        contextFilter.filter(newExchange(), chain).block();
+    }
+
+    @Benchmark
+    public String uuidRandom() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String traceIdGenerator() {
+        return TraceIdGenerator.next();
+    }
+
+    private ServerWebExchange newExchange() {
+        MockServerHttpRequest.BaseBuilder<?> builder = "aura".equals(requestType)
+                ? MockServerHttpRequest.post("/api/aura/test/stream").header(HttpHeaders.ACCEPT, "text/event-stream")
+                : MockServerHttpRequest.get("/api/admin/users");
+        return MockServerWebExchange.from(builder
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header("X-Tenant-ID", "1")
+                .header("X-User-ID", "100")
+                .header("X-Agent-ID", "aura-finance")
+                .header(HttpHeaders.USER_AGENT, "Mozilla/5.0"));
+    }
+
+    private static ServerWebExchange correlationId(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        String correlationId = request.getHeaders().getFirst("X-Correlation-ID");
+        if (correlationId == null || correlationId.isBlank()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        ServerHttpRequest mutated = request.mutate().header("X-Correlation-ID", correlationId).build();
+        return exchange.mutate().request(mutated).build();
+    }
+
+    private static ServerWebExchange requiredHeaders(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getPath();
+        for (String excluded : EXCLUDED_PATHS) {
+            if (path.startsWith(excluded)) {
+                return exchange;
+            }
+        }
+        String tenantId = request.getHeaders().getFirst("X-Tenant-ID");
+        if (tenantId == null || tenantId.trim().isEmpty()) {
+            return exchange;
+        }
+        String source = request.getHeaders().getFirst("X-DWP-Source");
+        if (source == null || source.trim().isEmpty()) {
+            ServerHttpRequest mutated = request.mutate().header("X-DWP-Source", "FRONTEND").build();
+            exchange = exchange.mutate().request(mutated).build();
+        }
+        String callerType = request.getHeaders().getFirst("X-DWP-Caller-Type");
+        if (callerType == null || callerType.trim().isEmpty()) {
+            ServerHttpRequest mutated = exchange.getRequest().mutate().header("X-DWP-Caller-Type", "USER").build();
+            exchange = exchange.mutate().request(mutated).build();
+        }
+        return exchange;
+    }
+
+    private static ServerWebExchange tenantNormalization(ServerWebExchange exchange, Blackhole blackhole) {
+        String path = exchange.getRequest().getURI().getPath();
+        if (path == null || !path.startsWith("/api/aura/")) {
+            return exchange;
+        }
+        // 벤치마크 요청은 숫자 테넌트 → 통과 경로만 재현
+        String tenantId = exchange.getRequest().getHeaders().getFirst("X-Tenant-ID");
+        blackhole.consume(tenantId != null && !tenantId.isBlank() && NUMERIC.matcher(tenantId.trim()).matches());
+        return exchange;
+    }
+
+    private static ServerWebExchange headerPropagation(ServerWebExchange exchange, Blackhole blackhole) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpRequest.Builder requestBuilder = request.mutate();
+        HttpHeaders headers = request.getHeaders();
+        for (String name : new String[]{HttpHeaders.AUTHORIZATION, "X-Tenant-ID", "X-DWP-Source", "X-DWP-Caller-Type",
+                "X-User-ID", "X-Agent-ID", "Last-Event-ID"}) {
+            blackhole.consume(headers.getFirst(name));
+        }
+        blackhole.consume(request.getURI().getPath().contains("/api/aura/"));
+        return exchange.mutate().request(requestBuilder.build()).build();
+    }
+
+    private static ServerWebExchange apiCallHistory(ServerWebExchange exchange, Blackhole blackhole) {
+        ServerHttpRequest request = exchange.getRequest();
+        String existingTraceId = request.getHeaders().getFirst("X-Trace-Id");
+        String traceId = (existingTraceId != null && !existingTraceId.trim().isEmpty())
+                ? existingTraceId : UUID.randomUUID().toString();
+        String gatewayRequestId = request.getHeaders().getFirst("X-Gateway-Request-Id");
+        if (gatewayRequestId == null || gatewayRequestId.isBlank()) {
+            gatewayRequestId = UUID.randomUUID().toString();
+        }
+        exchange.getAttributes().put("traceId", traceId);
+        exchange.getAttributes().put("gatewayRequestId", gatewayRequestId);
+        exchange.getResponse().getHeaders().addIfAbsent("X-Trace-Id", traceId);
+        exchange.getResponse().getHeaders().addIfAbsent("X-Gateway-Request-Id", gatewayRequestId);
+        ServerHttpRequest mutated = request.mutate()
+                .header("X-Trace-Id", traceId)
+                .header("X-Gateway-Request-Id", gatewayRequestId)
+                .build();
+        ServerWebExchange mutatedExchange = exchange.mutate().request(mutated).build();
+        String tenantIdStr = request.getHeaders().getFirst("X-Tenant-ID");
+        String userIdStr = request.getHeaders().getFirst("X-User-ID");
+        String agentId = request.getHeaders().getFirst("X-Agent-ID");
+        String path = request.getURI().getPath();
+        Mono.empty()
+                .contextWrite(Context.of(
+                        "traceId", traceId,
+                        "tenantId", tenantIdStr != null ? tenantIdStr : "",
+                        "userId", userIdStr != null ? userIdStr : "",
+                        "agentId", agentId != null ? agentId : "",
+                        "path", path))
+                .block();
+        blackhole.consume(mutatedExchange);
+        return mutatedExchange;
+    }
+}
@@ -0,0 +1,121 @@
+package com.dwp.gateway.config;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE id 주입: 바이트 스캔 프레이머 vs 기존 String 변환 방식 비교
+ *
+ * - legacyStringRewrite: 기존 SseReconnectionFilter 경로 재현. 청크마다 byte[] 복사 → String 디코딩 → split("\n\n")
+ *   → StringBuilder 재조립 → 재인코딩 → wrap
+ * - framer: SseEventFramer. 청크를 제자리 스캔, payload는 split/CompositeByteBuf로 전달
+ *
+ * 1 op = LLM 토큰 스트림 1개(이벤트 200개)를 chunkSize 단위 청크로 처리. 청크 버퍼 생성(네트워크 수신 재현)은 양쪽 동일 비용.
+ * 실행: ./gradlew :dwp-gateway:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseEventFramerBenchmark {
+
+    private static final int EVENTS = 200;
+
+    /** 업스트림 청크 크기 (토큰 단위 소형 청크 ~ 대형 청크) */
+    @Param({"64", "512", "4096"})
+    private int chunkSize;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private final AtomicLong counter = new AtomicLong();
+    private byte[][] chunks;
+
+    @Setup
+    public void setUp() {
+        StringBuilder body = new StringBuilder();
+        for (int e = 0; e < EVENTS; e++) {
+            body.append("event: token\ndata: {\"type\":\"token\",\"content\":\"토큰 ").append(e)
+                    .append("\",\"agentId\":\"aura-finance\"}\n\n");
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        int count = (bytes.length + chunkSize - 1) / chunkSize;
+        chunks = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            chunks[i] = Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize));
+        }
+    }
+
+    @Benchmark
+    public void legacyStringRewrite(Blackhole blackhole) {
+        for (byte[] chunk : chunks) {
+            DataBuffer dataBuffer = receive(chunk);
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            DataBufferUtils.release(dataBuffer);
+            String content = new String(bytes, StandardCharsets.UTF_8);
+            String modifiedContent = addEventIdIfNeeded(content);
+            consume(blackhole, bufferFactory.wrap(modifiedContent.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Benchmark
+    public void framer(Blackhole blackhole) {
+        SseEventFramer framer = new SseEventFramer(bufferFactory, () -> String.valueOf(counter.incrementAndGet()));
+        for (byte[] chunk : chunks) {
+            DataBuffer out = framer.next(receive(chunk));
+            if (out != null) {
+                consume(blackhole, out);
+            }
+        }
+        DataBuffer tail = framer.flush();
+        if (tail != null) {
+            consume(blackhole, tail);
+        }
+    }
+
+    /** 네트워크 수신 재현 (pooled direct 버퍼에 청크 적재) */
+    private DataBuffer receive(byte[] chunk) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(chunk.length);
+        buffer.write(chunk);
+        return buffer;
+    }
+
+    private static void consume(Blackhole blackhole, DataBuffer buffer) {
+        blackhole.consume(buffer.readableByteCount());
+        DataBufferUtils.release(buffer);
+    }
+
+    /** 기존 SseReconnectionFilter.addEventIdIfNeeded 구현 (비교 기준) */
+    private String addEventIdIfNeeded(String content) {
+        if (content.contains("id:")) {
+            return content;
+        }
+        String[] events = content.split("\n\n");
+        StringBuilder result = new StringBuilder();
+        for (String event : events) {
+            if (event.trim().isEmpty()) {
+                result.append("\n\n");
+                continue;
+            }
+            long eventId = System.currentTimeMillis() * 1000 + counter.incrementAndGet() % 1000;
+            result.append("id: ").append(eventId).append("\n");
+            result.append(event);
+            result.append("\n\n");
+        }
+        return result.toString();
+    }
+}
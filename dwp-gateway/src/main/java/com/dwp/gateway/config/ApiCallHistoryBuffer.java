@@ -0,0 +1,193 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 호출 이력 bounded 버퍼 + 마이크로 배치 전송기
+ *
+ * ApiCallHistoryFilter는 {@link #offer}로 이력을 넣기만 하고 즉시 반환합니다.
+ * 전송은 별도 flush 스레드가 담당하며, 다음 조건에서 배치를 만들어 auth-server로 보냅니다.
+ * - 버퍼 적재 건수가 batch-size 이상이 되었을 때 (size trigger)
+ * - flush-interval-ms 주기마다 (time trigger)
+ *
+ * Backpressure:
+ * - 버퍼가 가득 차면 offer는 실패하고 dropped 카운터만 증가 (요청 경로는 절대 대기하지 않음)
+ * - 전송 중 배치 수가 max-in-flight-batches에 도달하면 남은 이력은 버퍼에 대기
+ *
+ * 메트릭 (Micrometer):
+ * - gateway.api_call_history.enqueued / dropped / sent / failed (counter)
+ * - gateway.api_call_history.buffer.size (gauge)
+ */
+@Slf4j
+@Component
+@SuppressWarnings("null")
+public class ApiCallHistoryBuffer {
+
+    private final WebClient webClient;
+    private final ApiCallHistoryProperties properties;
+    private final BlockingQueue<ApiCallHistoryFilter.ApiCallHistoryRequest> queue;
+    private final Semaphore inFlight;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "api-call-history-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Value("${dwp.internal-api.auth-server-url:http://localhost:8001}")
+    private String authServerUrl;
+
+    public ApiCallHistoryBuffer(WebClient webClient, ApiCallHistoryProperties properties, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferCapacity()));
+        this.inFlight = new Semaphore(Math.max(1, properties.getMaxInFlightBatches()));
+
+        FunctionCounter.builder("gateway.api_call_history.enqueued", enqueuedCount, AtomicLong::get)
+                .description("버퍼에 적재된 API 호출 이력 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.api_call_history.dropped", droppedCount, AtomicLong::get)
+                .description("버퍼 overflow로 버려진 API 호출 이력 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.api_call_history.sent", sentCount, AtomicLong::get)
+                .description("auth-server로 전송 완료된 API 호출 이력 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.api_call_history.failed", failedCount, AtomicLong::get)
+                .description("전송 실패로 유실된 API 호출 이력 수").register(meterRegistry);
+        Gauge.builder("gateway.api_call_history.buffer.size", queue, BlockingQueue::size)
+                .description("전송 대기 중인 API 호출 이력 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = Math.max(50L, properties.getFlushIntervalMs());
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이력 적재 (non-blocking). 버퍼가 가득 차면 버리고 false 반환.
+     */
+    public boolean offer(ApiCallHistoryFilter.ApiCallHistoryRequest historyRequest) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (!queue.offer(historyRequest)) {
+            long dropped = droppedCount.incrementAndGet();
+            // overflow가 지속되면 로그 폭주 방지를 위해 1000건마다 1회만 기록
+            if (dropped % 1000 == 1) {
+                log.warn("API call history buffer full (capacity={}), dropped so far: {}", properties.getBufferCapacity(), dropped);
+            }
+            return false;
+        }
+        enqueuedCount.incrementAndGet();
+        if (queue.size() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: shutdown()의 마지막 flush가 처리
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼를 batch-size 단위로 비우며 전송. in-flight 한도에 도달하면 중단하고 다음 flush에 이어서 처리.
+     */
+    void flush() {
+        flushRequested.set(false);
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (!queue.isEmpty()) {
+            if (!inFlight.tryAcquire()) {
+                return;
+            }
+            List<ApiCallHistoryFilter.ApiCallHistoryRequest> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+            send(batch);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush API call history buffer", e);
+        }
+    }
+
+    private void send(List<ApiCallHistoryFilter.ApiCallHistoryRequest> batch) {
+        int size = batch.size();
+        webClient.post()
+                .uri(authServerUrl + properties.getBatchPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(batch)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .timeout(Duration.ofMillis(properties.getSendTimeoutMs()))
+                .doFinally(signal -> inFlight.release())
+                .subscribe(
+                        null,
+                        ex -> {
+                            failedCount.addAndGet(size);
+                            log.warn("Failed to send API call history batch to auth-server: size={}, error={}", size, ex.getMessage());
+                        },
+                        () -> sentCount.addAndGet(size)
+                );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdown();
+        // 종료 시 남은 이력 best-effort 전송
+        flushSafely();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getBufferedCount() {
+        return queue.size();
+    }
+}
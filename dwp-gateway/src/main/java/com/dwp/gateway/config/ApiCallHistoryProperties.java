@@ -0,0 +1,44 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API 호출 이력 적재 파이프라인 설정 (dwp.api-call-history.*)
+ *
+ * Gateway는 이력을 요청 경로에서 바로 전송하지 않고 bounded 버퍼에 적재한 뒤,
+ * 크기(batch-size) 또는 시간(flush-interval-ms) 조건으로 auth-server 벌크 엔드포인트에 묶어서 전송합니다.
+ *
+ * 정책:
+ * - 버퍼가 가득 차면 신규 이력은 버림(drop-on-overflow) → 요청 지연에 영향 없음
+ * - 동시에 전송 중인 배치 수는 max-in-flight-batches로 제한 (auth-server 보호)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.api-call-history")
+@Getter
+@Setter
+public class ApiCallHistoryProperties {
+
+    /** 파이프라인 활성화 여부 (false면 이력 적재 생략) */
+    private boolean enabled = true;
+
+    /** 버퍼 최대 보관 건수 (초과 시 drop) */
+    private int bufferCapacity = 10_000;
+
+    /** 배치 1건당 최대 이력 수 */
+    private int batchSize = 200;
+
+    /** 주기적 flush 간격(ms). 배치가 덜 찼어도 이 간격마다 전송 */
+    private long flushIntervalMs = 1_000L;
+
+    /** 동시에 전송 중일 수 있는 최대 배치 수 (초과 시 다음 flush까지 버퍼에 대기) */
+    private int maxInFlightBatches = 4;
+
+    /** 배치 전송 타임아웃(ms) */
+    private long sendTimeoutMs = 5_000L;
+
+    /** auth-server 벌크 적재 경로 */
+    private String batchPath = "/internal/api-call-history/batch";
+}
@@ -0,0 +1,208 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.util.context.Context;
+
+/**
+ * 요청 단위 Gateway 컨텍스트
+ *
+ * 헤더와 경로를 필터마다 다시 읽고 파싱하지 않도록 GatewayRequestContextFilter가 요청 진입 시 한 번만 파싱해
+ * exchange attribute({@link #ATTRIBUTE})로 공유합니다.
+ * - 테넌트/사용자/에이전트/출처/호출자 유형, Authorization, Last-Event-ID
+ * - correlation id / trace id / gateway request id (없으면 {@link TraceIdGenerator}로 생성)
+ * - 경로 분류(RouteClass), 필수 헤더 검증 제외 여부, SSE 요청 여부
+ * - 서명 검증된 JWT 클레임 (VerifiedJwtCache, 검증 실패/토큰 없음이면 null)
+ *
+ * 이후 필터(SSE, body 로깅, API 호출 이력)는 {@link #from(ServerWebExchange)}로 조회만 합니다.
+ * 빈 문자열(공백) 헤더는 없는 것(null)으로 취급합니다.
+ */
+@Getter
+public final class GatewayRequestContext {
+
+    public static final String ATTRIBUTE = GatewayRequestContext.class.getName();
+
+    public static final String HEADER_TENANT_ID = "X-Tenant-ID";
+    public static final String HEADER_USER_ID = "X-User-ID";
+    public static final String HEADER_AGENT_ID = "X-Agent-ID";
+    public static final String HEADER_DWP_SOURCE = "X-DWP-Source";
+    public static final String HEADER_DWP_CALLER_TYPE = "X-DWP-Caller-Type";
+    public static final String HEADER_CORRELATION_ID = "X-Correlation-ID";
+    public static final String HEADER_TRACE_ID = "X-Trace-Id";
+    public static final String HEADER_GATEWAY_REQUEST_ID = "X-Gateway-Request-Id";
+    public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
+    /** Gateway가 서명 검증한 JWT 클레임 (다운스트림 재파싱 생략용, 클라이언트 값은 Gateway에서 제거) */
+    public static final String HEADER_VERIFIED_TENANT_ID = "X-DWP-Verified-Tenant-ID";
+    public static final String HEADER_VERIFIED_USER_ID = "X-DWP-Verified-User-ID";
+
+    public static final String DEFAULT_SOURCE = "FRONTEND";
+    public static final String DEFAULT_CALLER_TYPE = "USER";
+
+    private static final String TEXT_EVENT_STREAM = "text/event-stream";
+
+    // 필수 헤더 검증 제외 경로 (공개 API / 내부 API)
+    private static final String[] HEADER_CHECK_EXEMPT_PATHS = {
+        "/api/auth/login",
+        "/api/auth/policy",
+        "/api/auth/idp",
+        "/api/monitoring/page-view",
+        "/api/monitoring/event",
+        "/internal/"
+    };
+
+    /**
+     * 경로 분류 (접두어 기준, 요청당 1회 판정)
+     */
+    public enum RouteClass {
+        /** /api/aura/** (Aura-Platform) */
+        AURA,
+        /** /api/auth/** (Auth Server) */
+        AUTH,
+        /** /internal/** */
+        INTERNAL,
+        OTHER
+    }
+
+    private final String path;
+    private final String method;
+    private final RouteClass routeClass;
+    private final boolean headerCheckExempt;
+    private final boolean sseRequest;
+
+    private String tenantId;
+    private final String userId;
+    private final String agentId;
+    private final String source;
+    private final String callerType;
+    private final String authorization;
+    private final String lastEventId;
+
+    private final String correlationId;
+    private final String traceId;
+    // 클라이언트 헤더 값을 그대로 쓸 수 있으므로 추적 용도로만 사용 (슬롯/lease 등 고유성이 필요한 키로 사용 금지)
+    private final String gatewayRequestId;
+
+    private VerifiedJwtCache.VerifiedJwt verifiedJwt;
+
+    private GatewayRequestContext(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        String rawPath = request.getURI().getPath();
+        this.path = rawPath != null ? rawPath : "";
+        this.method = request.getMethod().name();
+        this.routeClass = classify(path);
+        this.headerCheckExempt = matchesExemptPath(path);
+
+        String accept = headers.getFirst(HttpHeaders.ACCEPT);
+        this.sseRequest = (accept != null && accept.contains(TEXT_EVENT_STREAM)) || path.contains("/stream");
+
+        this.tenantId = nonBlank(headers.getFirst(HEADER_TENANT_ID));
+        this.userId = nonBlank(headers.getFirst(HEADER_USER_ID));
+        this.agentId = nonBlank(headers.getFirst(HEADER_AGENT_ID));
+        this.source = nonBlank(headers.getFirst(HEADER_DWP_SOURCE));
+        this.callerType = nonBlank(headers.getFirst(HEADER_DWP_CALLER_TYPE));
+        this.authorization = nonBlank(headers.getFirst(HttpHeaders.AUTHORIZATION));
+        this.lastEventId = nonBlank(headers.getFirst(HEADER_LAST_EVENT_ID));
+
+        String existingCorrelationId = nonBlank(headers.getFirst(HEADER_CORRELATION_ID));
+        String existingTraceId = nonBlank(headers.getFirst(HEADER_TRACE_ID));
+        String existingGatewayRequestId = nonBlank(headers.getFirst(HEADER_GATEWAY_REQUEST_ID));
+        this.correlationId = existingCorrelationId != null ? existingCorrelationId : TraceIdGenerator.next();
+        this.traceId = existingTraceId != null ? existingTraceId : TraceIdGenerator.next();
+        this.gatewayRequestId = existingGatewayRequestId != null ? existingGatewayRequestId : TraceIdGenerator.next();
+    }
+
+    /**
+     * 요청 헤더/경로를 1회 파싱 (exchange에는 등록하지 않음)
+     */
+    public static GatewayRequestContext parse(ServerHttpRequest request) {
+        return new GatewayRequestContext(request);
+    }
+
+    /**
+     * exchange에 등록된 컨텍스트 조회. GatewayRequestContextFilter를 거치지 않은 경우(단위 테스트 등) 현재 요청으로 파싱 후 등록.
+     */
+    public static GatewayRequestContext from(ServerWebExchange exchange) {
+        GatewayRequestContext context = exchange.getAttribute(ATTRIBUTE);
+        if (context == null) {
+            context = parse(exchange.getRequest());
+            exchange.getAttributes().put(ATTRIBUTE, context);
+        }
+        return context;
+    }
+
+    public boolean isAuraRequest() {
+        return routeClass == RouteClass.AURA;
+    }
+
+    public boolean isAuthRequest() {
+        return routeClass == RouteClass.AUTH;
+    }
+
+    /**
+     * Aura 라우팅 시 비숫자 X-Tenant-ID를 JWT claim 값으로 교체 (GatewayRequestContextFilter 전용)
+     */
+    void normalizeTenantId(String normalizedTenantId) {
+        this.tenantId = normalizedTenantId;
+    }
+
+    /**
+     * 서명 검증 결과 설정 (GatewayRequestContextFilter 전용)
+     */
+    void setVerifiedJwt(VerifiedJwtCache.VerifiedJwt verifiedJwt) {
+        this.verifiedJwt = verifiedJwt;
+    }
+
+    /**
+     * 로깅 추적용 Reactor Context (MDC는 Thread-local이므로 Reactive 환경에서는 Context로 전파)
+     */
+    public Context toReactorContext() {
+        return Context.of(
+                "traceId", traceId,
+                "tenantId", tenantId != null ? tenantId : "",
+                "userId", userId != null ? userId : "",
+                "agentId", agentId != null ? agentId : "",
+                "path", path
+        );
+    }
+
+    static boolean isNumeric(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RouteClass classify(String path) {
+        if (path.startsWith("/api/aura/")) {
+            return RouteClass.AURA;
+        }
+        if (path.startsWith("/api/auth/")) {
+            return RouteClass.AUTH;
+        }
+        if (path.startsWith("/internal/")) {
+            return RouteClass.INTERNAL;
+        }
+        return RouteClass.OTHER;
+    }
+
+    private static boolean matchesExemptPath(String path) {
+        for (String exempt : HEADER_CHECK_EXEMPT_PATHS) {
+            if (path.startsWith(exempt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String nonBlank(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,155 @@
+package com.dwp.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 컨텍스트 단일 패스 필터 (가장 먼저 실행)
+ *
+ * 기존 CorrelationIdFilter, RequiredHeaderFilter, TenantIdNormalizationFilter, HeaderPropagationFilter와
+ * ApiCallHistoryFilter의 id 생성/헤더 전파를 하나로 합쳤습니다.
+ * 헤더와 경로는 {@link GatewayRequestContext}로 1회만 파싱하고, 요청 헤더 변경은 request.mutate() 1회로 적용합니다.
+ *
+ * 정책:
+ * - X-Correlation-ID, X-Trace-Id, X-Gateway-Request-Id: 없으면 생성 후 다운스트림 전파
+ * - X-Tenant-ID 없으면 400 (공개 API /api/auth/login 등, 내부 API /internal/** 제외)
+ * - X-DWP-Source 없으면 "FRONTEND", X-DWP-Caller-Type 없으면 "USER" (제외 경로는 설정하지 않음)
+ * - /api/aura/**: X-Tenant-ID가 비숫자면 서명 검증된 JWT tenant_id claim으로 교체, 해결 불가 시 400 (Synapse Audit ingest는 숫자만 처리)
+ * - Bearer 토큰은 {@link VerifiedJwtCache}로 서명 검증(캐시) 후 X-DWP-Verified-Tenant-ID / X-DWP-Verified-User-ID 전달
+ *   (클라이언트가 보낸 신뢰 헤더는 항상 제거, 검증 실패 시 거부하지 않고 신뢰 헤더만 생략)
+ * - 응답 헤더에 X-Trace-Id, X-Gateway-Request-Id 포함 (DevErrorPanel 등)
+ * - Reactor Context에 traceId/tenantId/userId/agentId/path 설정 (로깅 추적성)
+ *
+ * Authorization, Last-Event-ID 등 나머지 헤더는 Gateway가 기본으로 그대로 전파합니다.
+ */
+@Slf4j
+@Component
+public class GatewayRequestContextFilter implements GlobalFilter, Ordered {
+
+    private static final String NON_NUMERIC_TENANT_BODY = "{\"error\":\"X-Tenant-ID must be numeric (e.g. 1) for Aura API. "
+            + "Non-numeric values like 'tenant1' cause Audit ingest to be skipped.\"}";
+
+    private final VerifiedJwtCache verifiedJwtCache;
+
+    public GatewayRequestContextFilter(VerifiedJwtCache verifiedJwtCache) {
+        this.verifiedJwtCache = verifiedJwtCache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        GatewayRequestContext context = GatewayRequestContext.parse(request);
+        String path = context.getPath();
+
+        // X-Tenant-ID 필수 검증
+        boolean applyDefaults = !context.isHeaderCheckExempt();
+        if (applyDefaults && context.getTenantId() == null) {
+            log.warn("Missing required header X-Tenant-ID for path: {}", path);
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return exchange.getResponse().setComplete();
+        }
+
+        // JWT 서명 검증 (토큰 해시 기준 캐시, 요청당 payload 재파싱 없음)
+        VerifiedJwtCache.VerifiedJwt verifiedJwt = verifiedJwtCache.verify(context.getAuthorization());
+        context.setVerifiedJwt(verifiedJwt);
+
+        // Aura 라우팅 시 X-Tenant-ID 숫자 정규화 (검증된 토큰의 tenant_id만 사용)
+        String rawTenantId = context.getTenantId();
+        boolean tenantNormalized = false;
+        if (context.isAuraRequest() && rawTenantId != null && !GatewayRequestContext.isNumeric(rawTenantId.trim())) {
+            String normalized = verifiedJwt != null ? verifiedJwt.tenantId() : null;
+            if (normalized == null) {
+                log.warn("X-Tenant-ID non-numeric and no JWT tenant_id: {} for path: {}. Aura Audit ingest will skip.", rawTenantId, path);
+                return rejectNonNumericTenant(exchange);
+            }
+            log.debug("X-Tenant-ID normalized: {} -> {} (from JWT) for path: {}", rawTenantId, normalized, path);
+            context.normalizeTenantId(normalized);
+            tenantNormalized = true;
+        }
+
+        exchange.getAttributes().put(GatewayRequestContext.ATTRIBUTE, context);
+        exchange.getAttributes().put("traceId", context.getTraceId());
+        exchange.getAttributes().put("gatewayRequestId", context.getGatewayRequestId());
+
+        HttpHeaders responseHeaders = exchange.getResponse().getHeaders();
+        responseHeaders.addIfAbsent(GatewayRequestContext.HEADER_TRACE_ID, context.getTraceId());
+        responseHeaders.addIfAbsent(GatewayRequestContext.HEADER_GATEWAY_REQUEST_ID, context.getGatewayRequestId());
+
+        // 요청 헤더 변경은 한 번에 적용 (필터마다 mutate 시 헤더 맵이 매번 복사됨)
+        boolean setTenantId = tenantNormalized;
+        boolean setSource = applyDefaults && context.getSource() == null;
+        boolean setCallerType = applyDefaults && context.getCallerType() == null;
+        ServerHttpRequest mutatedRequest = request.mutate()
+                .headers(headers -> {
+                    headers.remove(GatewayRequestContext.HEADER_VERIFIED_TENANT_ID);
+                    headers.remove(GatewayRequestContext.HEADER_VERIFIED_USER_ID);
+                    if (verifiedJwt != null) {
+                        if (verifiedJwt.tenantId() != null) {
+                            headers.set(GatewayRequestContext.HEADER_VERIFIED_TENANT_ID, verifiedJwt.tenantId());
+                        }
+                        if (verifiedJwt.userId() != null) {
+                            headers.set(GatewayRequestContext.HEADER_VERIFIED_USER_ID, verifiedJwt.userId());
+                        }
+                    }
+                    headers.set(GatewayRequestContext.HEADER_CORRELATION_ID, context.getCorrelationId());
+                    headers.set(GatewayRequestContext.HEADER_TRACE_ID, context.getTraceId());
+                    headers.set(GatewayRequestContext.HEADER_GATEWAY_REQUEST_ID, context.getGatewayRequestId());
+                    if (setTenantId) {
+                        headers.set(GatewayRequestContext.HEADER_TENANT_ID, context.getTenantId());
+                    }
+                    if (setSource) {
+                        headers.set(GatewayRequestContext.HEADER_DWP_SOURCE, GatewayRequestContext.DEFAULT_SOURCE);
+                    }
+                    if (setCallerType) {
+                        headers.set(GatewayRequestContext.HEADER_DWP_CALLER_TYPE, GatewayRequestContext.DEFAULT_CALLER_TYPE);
+                    }
+                })
+                .build();
+
+        logPropagation(context, setSource, setCallerType);
+
+        return chain.filter(exchange.mutate().request(mutatedRequest).build())
+                .contextWrite(context.toReactorContext());
+    }
+
+    private void logPropagation(GatewayRequestContext context, boolean defaultSource, boolean defaultCallerType) {
+        String source = defaultSource ? GatewayRequestContext.DEFAULT_SOURCE : context.getSource();
+        String callerType = defaultCallerType ? GatewayRequestContext.DEFAULT_CALLER_TYPE : context.getCallerType();
+        if (context.isAuraRequest()) {
+            log.info("Routing to Aura-Platform: {} with headers: Authorization={}, X-Tenant-ID={}, X-DWP-Source={}, X-DWP-Caller-Type={}",
+                    context.getPath(),
+                    context.getAuthorization() != null ? "present" : "missing",
+                    context.getTenantId() != null ? context.getTenantId() : "missing",
+                    source != null ? source : "missing",
+                    callerType != null ? callerType : "missing");
+        } else if (log.isDebugEnabled()) {
+            log.debug("Request context: path={}, correlationId={}, traceId={}, tenantId={}, userId={}, agentId={}, source={}, callerType={}, lastEventId={}",
+                    context.getPath(), context.getCorrelationId(), context.getTraceId(), context.getTenantId(),
+                    context.getUserId(), context.getAgentId(), source, callerType, context.getLastEventId());
+        }
+    }
+
+    private Mono<Void> rejectNonNumericTenant(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = NON_NUMERIC_TENANT_BODY.getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public int getOrder() {
+        // 가장 먼저 실행 (이후 필터는 GatewayRequestContext.from(exchange)로 조회)
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
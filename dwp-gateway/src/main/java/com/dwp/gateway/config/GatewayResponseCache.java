@@ -0,0 +1,122 @@
+package com.dwp.gateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway 응답 캐시 저장소 (메모리, body 크기 기준 bounded)
+ *
+ * 테넌트 무효화는 항목을 순회하지 않고 테넌트 세대(generation) 번호를 올리는 방식입니다.
+ * 캐시 키에 세대 번호가 포함되므로 무효화 즉시 이전 항목은 적중 불가가 되고, TTL/용량 정책으로 회수됩니다.
+ *
+ * 메트릭: gateway.response_cache.hits / misses / not_modified / invalidations (counter), size / bytes (gauge)
+ */
+@Slf4j
+@Component
+public class GatewayResponseCache {
+
+    /**
+     * 캐시된 응답
+     *
+     * @param contentType Content-Type 헤더 (없으면 null)
+     * @param etag 강한 ETag (따옴표 포함)
+     */
+    public record CachedResponse(String contentType, String etag, byte[] body) {
+    }
+
+    private final Cache<String, CachedResponse> cache;
+    private final ConcurrentHashMap<String, AtomicLong> tenantGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public GatewayResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxTotalBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1L, properties.getTtlSeconds())))
+                .removalListener((String key, CachedResponse value, RemovalCause cause) -> {
+                    if (value != null) {
+                        totalBytes.addAndGet(-value.body().length);
+                    }
+                })
+                .build();
+
+        FunctionCounter.builder("gateway.response_cache.hits", hitCount, AtomicLong::get)
+                .description("응답 캐시 적중 수 (304 포함)").register(meterRegistry);
+        FunctionCounter.builder("gateway.response_cache.misses", missCount, AtomicLong::get)
+                .description("응답 캐시 미스 수 (업스트림 호출)").register(meterRegistry);
+        FunctionCounter.builder("gateway.response_cache.not_modified", notModifiedCount, AtomicLong::get)
+                .description("If-None-Match 일치로 304 응답한 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.response_cache.invalidations", invalidationCount, AtomicLong::get)
+                .description("테넌트/전체 캐시 무효화 수").register(meterRegistry);
+        Gauge.builder("gateway.response_cache.size", cache, Cache::estimatedSize)
+                .description("응답 캐시 항목 수").register(meterRegistry);
+        Gauge.builder("gateway.response_cache.bytes", totalBytes, AtomicLong::get)
+                .description("응답 캐시 body 총 크기").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성 (테넌트 세대 번호 포함)
+     */
+    public String key(String tenantId, String userId, String pathAndQuery, String acceptLanguage) {
+        long generation = tenantGenerations.computeIfAbsent(tenantId, t -> new AtomicLong()).get();
+        return tenantId + '#' + generation + '|' + userId + '|' + pathAndQuery + '|' + (acceptLanguage != null ? acceptLanguage : "");
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return cached;
+    }
+
+    public CachedResponse put(String key, String contentType, byte[] body) {
+        CachedResponse response = new CachedResponse(contentType, etag(body), body);
+        totalBytes.addAndGet(body.length);
+        cache.put(key, response);
+        return response;
+    }
+
+    void recordNotModified() {
+        notModifiedCount.incrementAndGet();
+    }
+
+    /**
+     * 테넌트 캐시 무효화 (세대 번호 증가). tenantId가 null이면 전체 무효화.
+     */
+    public void invalidateTenant(String tenantId) {
+        invalidationCount.incrementAndGet();
+        if (tenantId == null) {
+            cache.invalidateAll();
+            log.debug("Response cache invalidated: all tenants");
+            return;
+        }
+        tenantGenerations.computeIfAbsent(tenantId, t -> new AtomicLong()).incrementAndGet();
+        log.debug("Response cache invalidated: tenantId={}", tenantId);
+    }
+
+    public static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
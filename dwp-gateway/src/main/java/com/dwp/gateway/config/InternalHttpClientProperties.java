@@ -0,0 +1,86 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 내부 호출용 HTTP 클라이언트 설정 (dwp.internal-http-client.*)
+ *
+ * API 호출 이력 전송 등 Gateway가 직접 보내는 내부 호출은 전용 커넥션 풀(dwp-internal)을 사용합니다.
+ * 사용자 요청 프록시 풀(spring.cloud.gateway.httpclient.pool)과 분리되어 서로의 커넥션/대기열을 점유하지 않습니다.
+ *
+ * 정책:
+ * - 풀은 원격 호스트(host:port)별로 생성되며 max-connections는 호스트당 상한, hosts로 호스트별 재정의
+ * - 커넥션 획득 대기는 pending-acquire-max-count / pending-acquire-timeout-millis로 제한 (초과 시 즉시 실패)
+ * - max-idle-time-seconds는 다운스트림 keep-alive 타임아웃보다 짧게 (서버가 먼저 닫은 커넥션 재사용 방지)
+ * - metrics-enabled면 reactor.netty.connection.provider.* (active/idle/pending/total connections, name=dwp-internal) 등록
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.internal-http-client")
+@Getter
+@Setter
+public class InternalHttpClientProperties {
+
+    /** 호스트당 최대 커넥션 수 */
+    private int maxConnections = 100;
+
+    /** 호스트당 커넥션 획득 대기 요청 상한 (초과 시 즉시 실패) */
+    private int pendingAcquireMaxCount = 500;
+
+    /** 커넥션 획득 대기 타임아웃(ms) */
+    private long pendingAcquireTimeoutMillis = 3_000L;
+
+    /** 유휴 커넥션 유지 시간(초) */
+    private long maxIdleTimeSeconds = 20L;
+
+    /** 커넥션 최대 수명(초). 다운스트림 재배포/DNS 변경 반영 */
+    private long maxLifeTimeSeconds = 300L;
+
+    /** 유휴/수명 초과 커넥션 백그라운드 정리 주기(초, 0이면 획득 시점에만 정리) */
+    private long evictInBackgroundSeconds = 30L;
+
+    /** HTTP keep-alive 및 TCP SO_KEEPALIVE 사용 여부 */
+    private boolean keepAlive = true;
+
+    /** 연결 타임아웃(ms) */
+    private int connectTimeoutMillis = 2_000;
+
+    /** 응답 타임아웃(ms). 호출별 timeout이 더 짧으면 그 값이 우선 */
+    private long responseTimeoutMillis = 10_000L;
+
+    /**
+     * 사용 프로토콜 (HTTP11, H2C, H2)
+     * - H2C,HTTP11: 평문 HTTP/2 업그레이드 시도, 미지원 서버는 HTTP/1.1 유지
+     * - H2: https 다운스트림 전용 (ALPN)
+     */
+    private List<HttpProtocol> protocols = new ArrayList<>(List.of(HttpProtocol.HTTP11));
+
+    /** 커넥션 풀 메트릭 등록 여부 */
+    private boolean metricsEnabled = true;
+
+    /** 호스트별 풀 재정의 */
+    private List<HostPool> hosts = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class HostPool {
+
+        /** 원격 호스트 (요청 URL의 host와 동일하게) */
+        private String host;
+
+        /** 원격 포트 */
+        private int port;
+
+        /** 호스트 최대 커넥션 수 */
+        private int maxConnections = 100;
+
+        /** 호스트 커넥션 획득 대기 요청 상한 */
+        private int pendingAcquireMaxCount = 500;
+    }
+}
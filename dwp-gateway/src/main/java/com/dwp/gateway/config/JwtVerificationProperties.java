@@ -0,0 +1,37 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway JWT 검증 설정 (dwp.jwt-verification.*)
+ *
+ * GatewayRequestContextFilter가 Authorization Bearer 토큰의 HS256 서명을 로컬에서 1회 검증하고,
+ * 검증된 클레임을 토큰 해시 기준으로 캐시합니다 ({@link VerifiedJwtCache}).
+ *
+ * 정책:
+ * - 검증 성공 시 X-DWP-Verified-Tenant-ID / X-DWP-Verified-User-ID 헤더를 다운스트림에 전달 (클라이언트가 보낸 값은 항상 제거)
+ * - 검증 실패 토큰은 Gateway에서 거부하지 않음 (기존과 동일하게 다운스트림이 인증 판단), 신뢰 헤더만 전달하지 않음
+ * - Aura 요청의 비숫자 X-Tenant-ID 정규화는 검증된 토큰의 tenant_id만 사용
+ * - 캐시 항목은 토큰 만료(exp)와 cache-max-ttl-seconds 중 이른 시점에 만료
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.jwt-verification")
+@Getter
+@Setter
+public class JwtVerificationProperties {
+
+    /** JWT 검증 활성화 여부 (false면 검증/신뢰 헤더 전달 없음) */
+    private boolean enabled = true;
+
+    /** HS256 공유 시크릿 (dwp-auth-server jwt.secret과 동일해야 함) */
+    private String secret = "your_shared_secret_key_must_be_at_least_256_bits_long_for_HS256";
+
+    /** 검증 결과 캐시 최대 항목 수 */
+    private long cacheMaxEntries = 10_000L;
+
+    /** 캐시 항목 최대 보관 시간(초). 토큰 만료가 더 이르면 만료 시점까지만 보관 */
+    private long cacheMaxTtlSeconds = 300L;
+}
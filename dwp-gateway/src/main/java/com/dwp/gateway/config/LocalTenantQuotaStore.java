@@ -0,0 +1,88 @@
+package com.dwp.gateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 메모리 쿼터 저장소 (단일 Gateway)
+ *
+ * - 토큰 버킷: 키별 버킷을 Caffeine에 보관, local-idle-seconds 동안 미사용 시 회수
+ * - 동시 스트림: 키별 카운터, 0이 되면 제거 (해제는 필터의 doFinally가 보장)
+ */
+@Component
+@ConditionalOnProperty(prefix = "dwp.tenant-rate-limit", name = "backend", havingValue = "local", matchIfMissing = true)
+public class LocalTenantQuotaStore implements TenantQuotaStore {
+
+    private final Cache<String, TokenBucket> buckets;
+    private final ConcurrentHashMap<String, Integer> streams = new ConcurrentHashMap<>();
+
+    public LocalTenantQuotaStore(TenantRateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(Math.max(1L, properties.getLocalIdleSeconds())))
+                .build();
+    }
+
+    @Override
+    public Mono<Long> tryConsume(String key, double replenishRate, long burstCapacity) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(burstCapacity));
+        return Mono.just(bucket.tryConsume(replenishRate, burstCapacity, System.nanoTime()));
+    }
+
+    @Override
+    public Mono<Boolean> tryAcquireStream(String key, int maxConcurrent, String leaseId) {
+        boolean[] acquired = new boolean[1];
+        streams.compute(key, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxConcurrent) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return Mono.just(acquired[0]);
+    }
+
+    @Override
+    public Mono<Void> renewStream(String key, String leaseId) {
+        // 메모리 카운터는 만료가 없으므로 갱신 불필요
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> releaseStream(String key, String leaseId) {
+        streams.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+        return Mono.empty();
+    }
+
+    int getActiveStreams(String key) {
+        return streams.getOrDefault(key, 0);
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(long burstCapacity) {
+            this.tokens = burstCapacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized long tryConsume(double replenishRate, long burstCapacity, long nowNanos) {
+            double elapsedSeconds = (nowNanos - lastRefillNanos) / 1_000_000_000.0;
+            tokens = Math.min(burstCapacity, tokens + elapsedSeconds * replenishRate);
+            lastRefillNanos = nowNanos;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            return Math.max(1L, (long) Math.ceil((1.0 - tokens) * 1000.0 / replenishRate));
+        }
+    }
+}
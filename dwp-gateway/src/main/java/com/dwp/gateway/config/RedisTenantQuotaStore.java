@@ -0,0 +1,103 @@
+package com.dwp.gateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Redis 쿼터 저장소 (다중 Gateway 인스턴스 공유)
+ *
+ * - 토큰 버킷: Hash(tokens, ts) + Lua 스크립트, 시각은 Redis TIME 기준 (인스턴스 간 시계 차이 무관)
+ * - 동시 스트림: Sorted Set(member=leaseId, score=lease 만료 시각). 획득 시 만료 lease를 먼저 회수하므로
+ *   인스턴스가 비정상 종료되어도 stream-lease-seconds 후 슬롯이 반환됨.
+ *   열린 스트림은 필터가 lease의 1/3 주기로 만료 시각을 갱신하므로 lease보다 오래 유지되는 스트림도 슬롯을 계속 점유
+ * - 스크립트 1회 호출로 판정 (요청당 Redis 왕복 1회/키)
+ */
+@Component
+@ConditionalOnProperty(prefix = "dwp.tenant-rate-limit", name = "backend", havingValue = "redis")
+public class RedisTenantQuotaStore implements TenantQuotaStore {
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = RedisScript.of("""
+            local rate = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local retry = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+            else
+              retry = math.max(1, math.ceil((1 - tokens) * 1000 / rate))
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return retry
+            """, Long.class);
+
+    private static final RedisScript<Long> ACQUIRE_STREAM_SCRIPT = RedisScript.of("""
+            local now = tonumber(redis.call('TIME')[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[3])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
+    // 이미 회수된 lease도 다시 등록 (열린 스트림은 한도 판정에 포함되어야 함)
+    private static final RedisScript<Long> RENEW_STREAM_SCRIPT = RedisScript.of("""
+            local now = tonumber(redis.call('TIME')[1])
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[1]), ARGV[2])
+            redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+            return 1
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TenantRateLimitProperties properties;
+
+    public RedisTenantQuotaStore(ReactiveStringRedisTemplate redisTemplate, TenantRateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Long> tryConsume(String key, double replenishRate, long burstCapacity) {
+        return redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(redisKey(key)),
+                        List.of(Double.toString(replenishRate), Long.toString(burstCapacity)))
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Boolean> tryAcquireStream(String key, int maxConcurrent, String leaseId) {
+        return redisTemplate.execute(ACQUIRE_STREAM_SCRIPT, List.of(redisKey(key)),
+                        List.of(Integer.toString(maxConcurrent), Long.toString(properties.getStreamLeaseSeconds()), leaseId))
+                .next()
+                .map(result -> result == 1L)
+                .defaultIfEmpty(Boolean.TRUE);
+    }
+
+    @Override
+    public Mono<Void> renewStream(String key, String leaseId) {
+        return redisTemplate.execute(RENEW_STREAM_SCRIPT, List.of(redisKey(key)),
+                        List.of(Long.toString(properties.getStreamLeaseSeconds()), leaseId))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> releaseStream(String key, String leaseId) {
+        return redisTemplate.opsForZSet().remove(redisKey(key), leaseId).then();
+    }
+
+    private String redisKey(String key) {
+        return properties.getRedisKeyPrefix() + ":" + key;
+    }
+}
@@ -3,9 +3,10 @@ package com.dwp.gateway.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.stereotype.Component;
@@ -13,7 +14,9 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 요청 Body 로깅 및 전달 보장 필터
@@ -25,22 +28,35 @@ import java.nio.charset.StandardCharsets;
  * 
  * 특히 프론트엔드의 POST /api/aura/test/stream 요청의 body (prompt, context)가
  * Aura-Platform까지 정상적으로 전달되는지 보장합니다.
+ * 
+ * body 전체를 join/버퍼링하지 않습니다:
+ * - DEBUG 로그 또는 라우트별 샘플링에 해당할 때만 body tap을 설치 (그 외 요청은 body에 관여하지 않음)
+ * - 샘플링(INFO)은 Aura 요청에만 적용. Auth 요청(로그인 비밀번호 포함)은 DEBUG에서만 tap을 설치하고,
+ *   body 내용은 어떤 레벨에서도 로깅하지 않음 (길이와 필수 필드 존재 여부만 기록)
+ * - tap은 DataBuffer를 그대로 업스트림에 흘려보내면서 앞부분 preview-bytes만 복사하고, body 종료 시 1회 로깅
+ * - 필수 필드 확인(prompt/context, username/tenantId)은 미리보기 범위 안에서만 수행
  */
 @Slf4j
 @Component
 public class RequestBodyLoggingFilter implements GlobalFilter, Ordered {
 
+    private final RequestBodyLoggingProperties properties;
+
+    public RequestBodyLoggingFilter(RequestBodyLoggingProperties properties) {
+        this.properties = properties;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String path = request.getURI().getPath();
-        String method = request.getMethod() != null ? request.getMethod().name() : "";
+        GatewayRequestContext context = GatewayRequestContext.from(exchange);
+        String path = context.getPath();
         
         // POST 요청에 대한 body 로깅 (Aura-Platform 및 Auth Server)
-        boolean isAuraRequest = path.contains("/api/aura/");
-        boolean isAuthRequest = path.contains("/api/auth/");
+        boolean isAuraRequest = context.isAuraRequest();
+        boolean isAuthRequest = context.isAuthRequest();
         
-        if ((!isAuraRequest && !isAuthRequest) || !"POST".equals(method)) {
+        if ((!isAuraRequest && !isAuthRequest) || !"POST".equals(context.getMethod())) {
             return chain.filter(exchange);
         }
         
@@ -48,70 +64,111 @@ public class RequestBodyLoggingFilter implements GlobalFilter, Ordered {
         if (request.getHeaders().getContentLength() == 0) {
             return chain.filter(exchange);
         }
-        
-        // 요청 body를 읽고 로깅한 후 재사용 가능하도록 캐싱
-        return DataBufferUtils.join(request.getBody())
-                .flatMap(dataBuffer -> {
-                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(bytes);
-                    DataBufferUtils.release(dataBuffer);
-                    
-                    String body = new String(bytes, StandardCharsets.UTF_8);
-                    
-                    // Body 내용 로깅 (민감 정보 제외)
-                    if (body.length() > 0) {
-                        // Body가 너무 크면 일부만 로깅
-                        String logBody = body.length() > 500 
-                            ? body.substring(0, 500) + "... (truncated)" 
-                            : body;
-                        
-                        if (isAuraRequest) {
-                            log.debug("POST request body for Aura-Platform: path={}, bodyLength={}, bodyPreview={}", 
-                                    path, body.length(), logBody);
-                            
-                            // Body에 prompt와 context가 포함되어 있는지 확인
-                            if (body.contains("\"prompt\"") && body.contains("\"context\"")) {
-                                log.debug("✅ Request body contains required fields: prompt and context");
-                            } else {
-                                log.warn("⚠️ Request body may be missing required fields (prompt or context)");
-                            }
-                        } else if (isAuthRequest) {
-                            log.debug("POST request body for Auth Server: path={}, bodyLength={}, bodyPreview={}", 
-                                    path, body.length(), logBody);
-                            
-                            // Body에 username과 tenantId가 포함되어 있는지 확인
-                            if (body.contains("\"username\"") && body.contains("\"tenantId\"")) {
-                                log.debug("✅ Request body contains required fields: username and tenantId");
-                            } else {
-                                log.warn("⚠️ Request body may be missing required fields (username or tenantId)");
-                            }
-                        }
-                    } else {
-                        log.warn("⚠️ POST request body is empty: path={}", path);
-                    }
-                    
-                    // Body를 다시 읽을 수 있도록 DataBuffer로 변환
-                    DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(bytes);
-                    ServerHttpRequestDecorator decoratedRequest = new ServerHttpRequestDecorator(request) {
-                        @Override
-                        @SuppressWarnings("null")
-                        public Flux<DataBuffer> getBody() {
-                            return Flux.just(buffer);
-                        }
-                    };
-                    
-                    return chain.filter(exchange.mutate().request(decoratedRequest).build());
-                })
-                .onErrorResume(e -> {
-                    log.error("Error reading request body for path: {}", path, e);
-                    // 에러 발생 시에도 요청은 계속 진행
-                    return chain.filter(exchange);
-                });
+
+        // DEBUG 레벨이 아니면 샘플링된 Aura 요청만 INFO로 기록 (Auth 요청은 샘플링 대상 아님)
+        boolean debug = log.isDebugEnabled();
+        if (!debug && !(isAuraRequest && isSampled(exchange))) {
+            return chain.filter(exchange);
+        }
+
+        BodyTap tap = new BodyTap(path, isAuraRequest, debug, Math.max(0, properties.getPreviewBytes()));
+        ServerHttpRequestDecorator decoratedRequest = new ServerHttpRequestDecorator(request) {
+            @Override
+            @SuppressWarnings("null")
+            public Flux<DataBuffer> getBody() {
+                return super.getBody()
+                        .doOnNext(tap::capture)
+                        .doOnComplete(tap::logSummary);
+            }
+        };
+        return chain.filter(exchange.mutate().request(decoratedRequest).build());
+    }
+
+    private boolean isSampled(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Double routeRate = route != null ? properties.getRouteSampleRates().get(route.getId()) : null;
+        double rate = routeRate != null ? routeRate : properties.getDefaultSampleRate();
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * body를 흘려보내면서 앞부분만 복사하는 tap (버퍼 읽기 위치는 변경하지 않음)
+     */
+    static class BodyTap {
+
+        private final String path;
+        private final boolean auraRequest;
+        private final boolean debug;
+        private final byte[] preview;
+        private int previewLength;
+        private long totalBytes;
+
+        BodyTap(String path, boolean auraRequest, boolean debug, int previewBytes) {
+            this.path = path;
+            this.auraRequest = auraRequest;
+            this.debug = debug;
+            this.preview = new byte[previewBytes];
+        }
+
+        void capture(DataBuffer buffer) {
+            totalBytes += buffer.readableByteCount();
+            if (previewLength == preview.length) {
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext() && previewLength < preview.length) {
+                    ByteBuffer byteBuffer = iterator.next();
+                    int length = Math.min(byteBuffer.remaining(), preview.length - previewLength);
+                    byteBuffer.get(preview, previewLength, length);
+                    previewLength += length;
+                }
+            }
+        }
+
+        String previewText() {
+            String text = new String(preview, 0, previewLength, StandardCharsets.UTF_8);
+            return totalBytes > previewLength ? text + "... (truncated)" : text;
+        }
+
+        /** 로그에 남길 body 미리보기. Auth 요청은 자격 증명이 포함되므로 항상 가림 */
+        String loggablePreview() {
+            return auraRequest ? previewText() : "(redacted)";
+        }
+
+        long getTotalBytes() {
+            return totalBytes;
+        }
+
+        void logSummary() {
+            if (totalBytes == 0) {
+                log.warn("⚠️ POST request body is empty: path={}", path);
+                return;
+            }
+            String bodyPreview = previewText();
+            boolean truncated = totalBytes > previewLength;
+            String target = auraRequest ? "Aura-Platform" : "Auth Server";
+            String[] fields = auraRequest
+                    ? new String[]{"\"prompt\"", "\"context\""}
+                    : new String[]{"\"username\"", "\"tenantId\""};
+            boolean hasFields = bodyPreview.contains(fields[0]) && bodyPreview.contains(fields[1]);
+            if (debug) {
+                log.debug("POST request body for {}: path={}, bodyLength={}, bodyPreview={}",
+                        target, path, totalBytes, loggablePreview());
+            } else {
+                log.info("POST request body for {} (sampled): path={}, bodyLength={}, bodyPreview={}",
+                        target, path, totalBytes, loggablePreview());
+            }
+            if (hasFields) {
+                log.debug("✅ Request body contains required fields: {} and {}", fields[0], fields[1]);
+            } else if (!truncated) {
+                log.warn("⚠️ Request body may be missing required fields ({} or {})", fields[0], fields[1]);
+            }
+        }
     }
 
     @Override
     public int getOrder() {
-        // HeaderPropagationFilter보다 나중에 실행되어 body를 확인
+        // GatewayRequestContextFilter보다 나중에 실행되어 body를 확인
         return -90;
     }
 }
@@ -0,0 +1,34 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 Body 미리보기 로깅 설정 (dwp.request-body-logging.*)
+ *
+ * RequestBodyLoggingFilter는 body를 버퍼링하지 않고 흘려보내면서 앞부분 preview-bytes만 복사합니다.
+ * 다음 중 하나일 때만 동작합니다 (그 외에는 body에 전혀 관여하지 않음):
+ * - RequestBodyLoggingFilter 로거가 DEBUG 레벨 → 전체 대상 요청을 DEBUG로 기록
+ * - 라우트별 샘플링 비율(route-sample-rates, 없으면 default-sample-rate)에 당첨 → INFO로 기록
+ *   (샘플링은 Aura 요청에만 적용되며, Auth 요청 body 내용은 DEBUG에서도 로깅하지 않음)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.request-body-logging")
+@Getter
+@Setter
+public class RequestBodyLoggingProperties {
+
+    /** 미리보기로 복사할 최대 바이트 수 */
+    private int previewBytes = 500;
+
+    /** 라우트별 설정이 없을 때의 샘플링 비율 (0.0 ~ 1.0, Aura 요청에만 적용) */
+    private double defaultSampleRate = 0.0;
+
+    /** 라우트 id별 샘플링 비율 (예: aura-platform: 0.01) */
+    private Map<String, Double> routeSampleRates = new HashMap<>();
+}
@@ -0,0 +1,264 @@
+package com.dwp.gateway.config;
+
+import com.dwp.core.event.DomainEvent;
+import com.dwp.core.event.EventChannels;
+import com.dwp.core.event.RedisEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gateway 응답 캐시 필터 (화이트리스트 GET 경로)
+ *
+ * 메뉴 트리, 코드, 내 권한 등 변경이 드문 조회 API를 Gateway에서 응답하여 auth-server/DB 호출을 줄입니다.
+ *
+ * 정책:
+ * - 대상: dwp.response-cache.paths에 일치하는 GET, 서명 검증된 JWT가 있고 X-Tenant-ID가 토큰 tenant_id와 같은 요청만
+ *   (키: 테넌트 + 사용자 + 경로/쿼리 + Accept-Language, 클라이언트 헤더만으로는 다른 사용자 응답 조회 불가)
+ * - 저장: 업스트림 200 응답 중 max-body-bytes 이하, Set-Cookie/Cache-Control: no-store 없는 응답
+ * - 적중 시 업스트림 호출 없이 응답 (X-Gateway-Cache: HIT), 미스 시 MISS
+ * - ETag 부여, If-None-Match 일치 시 304
+ * - invalidation-paths에 대한 2xx 변경 요청 후 해당 테넌트 캐시 무효화,
+ *   redis-invalidation-enabled면 RedisEventPublisher로 dwp:events:admin 발행 ({@link ResponseCacheInvalidationListener}가 구독)
+ * - auth-server도 권한/메뉴/역할 할당 변경 커밋 시 같은 채널로 발행하므로, 다른 Gateway 인스턴스를 거치거나
+ *   Gateway를 거치지 않은 변경도 반영 (redis-invalidation-enabled=false면 TTL로만 만료)
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    static final String HEADER_CACHE_STATUS = "X-Gateway-Cache";
+    static final String EVENT_TYPE_ADMIN_DATA_CHANGED = "ADMIN_DATA_CHANGED";
+    private static final String CACHE_CONTROL_VALUE = "private, no-cache";
+
+    private final ResponseCacheProperties properties;
+    private final GatewayResponseCache cache;
+    private final ApiCallHistoryFilter apiCallHistoryFilter;
+    private final ObjectProvider<RedisEventPublisher> eventPublisher;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ResponseCacheFilter(ResponseCacheProperties properties,
+                               GatewayResponseCache cache,
+                               ApiCallHistoryFilter apiCallHistoryFilter,
+                               ObjectProvider<RedisEventPublisher> eventPublisher) {
+        this.properties = properties;
+        this.cache = cache;
+        this.apiCallHistoryFilter = apiCallHistoryFilter;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        GatewayRequestContext context = GatewayRequestContext.from(exchange);
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+
+        if (HttpMethod.GET.equals(method)) {
+            if (!matches(properties.getPaths(), context.getPath())) {
+                return chain.filter(exchange);
+            }
+            String key = cacheKey(context, request);
+            if (key == null) {
+                return chain.filter(exchange);
+            }
+            GatewayResponseCache.CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                return serve(exchange, cached);
+            }
+            return chain.filter(exchange.mutate().response(capture(exchange, key)).build());
+        }
+
+        if (isMutation(method) && matches(properties.getInvalidationPaths(), context.getPath())) {
+            String tenantId = context.getTenantId();
+            return chain.filter(exchange).doOnSuccess(v -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status != null && status.is2xxSuccessful()) {
+                    invalidate(tenantId, context.getPath());
+                }
+            });
+        }
+        return chain.filter(exchange);
+    }
+
+    private String cacheKey(GatewayRequestContext context, ServerHttpRequest request) {
+        VerifiedJwtCache.VerifiedJwt verifiedJwt = context.getVerifiedJwt();
+        String tenantId = context.getTenantId();
+        if (verifiedJwt == null || verifiedJwt.userId() == null || tenantId == null || !tenantId.equals(verifiedJwt.tenantId())) {
+            return null;
+        }
+        String rawQuery = request.getURI().getRawQuery();
+        String pathAndQuery = rawQuery != null ? context.getPath() + "?" + rawQuery : context.getPath();
+        return cache.key(tenantId, verifiedJwt.userId(), pathAndQuery, request.getHeaders().getFirst(HttpHeaders.ACCEPT_LANGUAGE));
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, GatewayResponseCache.CachedResponse cached) {
+        long startTime = System.currentTimeMillis();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.setCacheControl(CACHE_CONTROL_VALUE);
+        headers.set(HEADER_CACHE_STATUS, "HIT");
+        if (etagMatches(exchange.getRequest(), cached.etag())) {
+            cache.recordNotModified();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            apiCallHistoryFilter.recordShortCircuited(exchange, null, startTime);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        apiCallHistoryFilter.recordShortCircuited(exchange, null, startTime);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * 업스트림 200 응답을 모아 캐시에 저장하고 ETag를 부여하는 응답 데코레이터
+     * (대상 경로는 작은 JSON 응답이므로 body 전체를 모은 뒤 1회 기록)
+     */
+    private ServerHttpResponseDecorator capture(ServerWebExchange exchange, String key) {
+        ServerHttpRequest request = exchange.getRequest();
+        int maxBodyBytes = properties.getMaxBodyBytes();
+        return new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            @SuppressWarnings("null")
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isCacheable(this)) {
+                    getHeaders().set(HEADER_CACHE_STATUS, "BYPASS");
+                    return super.writeWith(body);
+                }
+                return Flux.from(body).collectList().flatMap(buffers -> {
+                    int size = 0;
+                    for (DataBuffer buffer : buffers) {
+                        size += buffer.readableByteCount();
+                    }
+                    if (size > maxBodyBytes) {
+                        getHeaders().set(HEADER_CACHE_STATUS, "BYPASS");
+                        return super.writeWith(Flux.fromIterable(buffers));
+                    }
+                    byte[] bytes = new byte[size];
+                    int offset = 0;
+                    for (DataBuffer buffer : buffers) {
+                        int length = buffer.readableByteCount();
+                        buffer.read(bytes, offset, length);
+                        offset += length;
+                        DataBufferUtils.release(buffer);
+                    }
+                    GatewayResponseCache.CachedResponse entry = cache.put(key, contentType(this), bytes);
+                    HttpHeaders headers = getHeaders();
+                    headers.setETag(entry.etag());
+                    headers.setCacheControl(CACHE_CONTROL_VALUE);
+                    headers.set(HEADER_CACHE_STATUS, "MISS");
+                    if (etagMatches(request, entry.etag())) {
+                        cache.recordNotModified();
+                        getDelegate().setStatusCode(HttpStatus.NOT_MODIFIED);
+                        headers.remove(HttpHeaders.CONTENT_LENGTH);
+                        return getDelegate().setComplete();
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+    }
+
+    private boolean isCacheable(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        HttpHeaders headers = response.getHeaders();
+        if (status == null || status.value() != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        if (headers.getContentLength() > properties.getMaxBodyBytes()) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return false;
+        }
+        MediaType contentType = headers.getContentType();
+        return contentType == null || !MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType);
+    }
+
+    private static String contentType(ServerHttpResponse response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        return contentType != null ? contentType.toString() : null;
+    }
+
+    private static boolean etagMatches(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidate(String tenantId, String path) {
+        cache.invalidateTenant(tenantId);
+        if (!properties.isRedisInvalidationEnabled()) {
+            return;
+        }
+        RedisEventPublisher publisher = eventPublisher.getIfAvailable();
+        if (publisher == null) {
+            return;
+        }
+        DomainEvent event = DomainEvent.builder()
+                .eventType(EVENT_TYPE_ADMIN_DATA_CHANGED)
+                .source("dwp-gateway")
+                .tenantId(tenantId)
+                .data(Map.of("path", path))
+                .build();
+        // RedisEventPublisher는 blocking 호출이므로 이벤트 루프 밖에서 발행
+        Mono.fromRunnable(() -> publisher.publishToChannel(EventChannels.ADMIN_EVENTS, event))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("Failed to publish response cache invalidation: tenantId={}, error={}",
+                        tenantId, e.getMessage()));
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMutation(HttpMethod method) {
+        return HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+                || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method);
+    }
+
+    @Override
+    public int getOrder() {
+        // TenantRateLimitFilter(-100) 다음 (캐시 적중도 유입 한도에 포함), SSE 필터(-50)보다 먼저
+        return -80;
+    }
+}
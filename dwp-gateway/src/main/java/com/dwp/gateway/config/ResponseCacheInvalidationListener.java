@@ -0,0 +1,78 @@
+package com.dwp.gateway.config;
+
+import com.dwp.core.event.EventChannels;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 응답 캐시 무효화 이벤트 구독 (Redis Pub/Sub, dwp:events:admin)
+ *
+ * RedisEventPublisher가 발행한 DomainEvent JSON의 tenantId로 해당 테넌트 캐시를 무효화합니다 (tenantId 없으면 전체).
+ * 다른 Gateway 인스턴스(ResponseCacheFilter)와 auth-server(AdminChangeEventPublisher, 권한/메뉴/역할 할당 변경 커밋 시)가
+ * 발행한 관리자 변경 이벤트를 반영합니다.
+ * 연결 실패 시 backoff로 재구독합니다 (구독 중단 동안은 TTL로만 만료).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "dwp.response-cache", name = "redis-invalidation-enabled", havingValue = "true")
+public class ResponseCacheInvalidationListener {
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final GatewayResponseCache cache;
+    private final ObjectMapper objectMapper;
+
+    private ReactiveRedisMessageListenerContainer container;
+    private Disposable subscription;
+
+    public ResponseCacheInvalidationListener(ReactiveRedisConnectionFactory connectionFactory,
+                                             GatewayResponseCache cache,
+                                             ObjectMapper objectMapper) {
+        this.connectionFactory = connectionFactory;
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        container = new ReactiveRedisMessageListenerContainer(connectionFactory);
+        subscription = container.receive(ChannelTopic.of(EventChannels.ADMIN_EVENTS))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::onMessage)
+                .doOnError(e -> log.warn("Response cache invalidation subscription failed: {}", e.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+        log.info("Response cache invalidation listener subscribed: channel={}", EventChannels.ADMIN_EVENTS);
+    }
+
+    void onMessage(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            cache.invalidateTenant(event.path("tenantId").asText(null));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed admin event: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (container != null) {
+            container.destroyLater().subscribe();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 응답 캐시 설정 (dwp.response-cache.*)
+ *
+ * {@link ResponseCacheFilter}가 화이트리스트 GET 경로의 200 응답을 메모리에 캐시합니다 ({@link GatewayResponseCache}).
+ * - 캐시 키: 테넌트 + 검증된 JWT 사용자 + 경로/쿼리 + Accept-Language (서명 검증된 토큰이 없으면 캐시하지 않음)
+ * - ETag 부여, If-None-Match 일치 시 304
+ * - invalidation-paths에 대한 성공한 변경 요청(POST/PUT/PATCH/DELETE) 시 해당 테넌트 캐시 무효화
+ * - redis-invalidation-enabled=true면 무효화 이벤트를 dwp:events:admin 채널로 발행/구독
+ *   (auth-server도 rbac.admin-events.enabled로 권한/메뉴 변경 커밋 시 발행). false면 같은 인스턴스를 거친 변경만 즉시 반영되고
+ *   나머지는 ttl-seconds로만 만료되므로, Gateway가 2대 이상이면 반드시 true
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    /** 응답 캐시 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 캐시 대상 GET 경로 (Ant 패턴) */
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/auth/menus/tree",
+            "/api/auth/me",
+            "/api/auth/permissions",
+            "/api/admin/codes/**"));
+
+    /** 성공 시 테넌트 캐시를 무효화하는 변경 요청 경로 (Ant 패턴) */
+    private List<String> invalidationPaths = new ArrayList<>(List.of("/api/admin/**"));
+
+    /** 항목 TTL(초) */
+    private long ttlSeconds = 60L;
+
+    /** 캐시 전체 최대 크기(byte, body 기준) */
+    private long maxTotalBytes = 64L * 1024 * 1024;
+
+    /** 항목당 최대 body 크기(byte). 초과 응답은 캐시하지 않음 */
+    private int maxBodyBytes = 256 * 1024;
+
+    /** Redis Pub/Sub 무효화 이벤트 발행/구독 여부 (RedisEventPublisher, dwp:events:admin). 다중 Gateway에서는 필수 */
+    private boolean redisInvalidationEnabled = false;
+}
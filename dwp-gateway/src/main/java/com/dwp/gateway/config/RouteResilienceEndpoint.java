@@ -0,0 +1,53 @@
+package com.dwp.gateway.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 라우트별 장애 격리 상태 조회 (GET /actuator/routeresilience)
+ *
+ * circuit breaker 상태/실패율/느린 호출 비율, bulkhead 가용 슬롯, 즉시 실패/hedged 요청 수를 반환합니다.
+ * 요청이 한 번 이상 들어온 라우트만 표시됩니다.
+ */
+@Component
+@Endpoint(id = "routeresilience")
+public class RouteResilienceEndpoint {
+
+    private final RouteResilienceRegistry registry;
+
+    public RouteResilienceEndpoint(RouteResilienceRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> routes() {
+        Map<String, Object> result = new TreeMap<>();
+        for (RouteResilienceRegistry.RouteResilience route : registry.getAll()) {
+            CircuitBreaker.Metrics metrics = route.circuitBreaker().getMetrics();
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", route.circuitBreaker().getState().name());
+            status.put("failureRate", metrics.getFailureRate());
+            status.put("slowCallRate", metrics.getSlowCallRate());
+            status.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+            status.put("failedCalls", metrics.getNumberOfFailedCalls());
+            status.put("slowCalls", metrics.getNumberOfSlowCalls());
+            status.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+            Bulkhead bulkhead = route.bulkhead();
+            if (bulkhead != null) {
+                status.put("bulkheadAvailable", bulkhead.getMetrics().getAvailableConcurrentCalls());
+                status.put("bulkheadMax", bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+            }
+            status.put("rejectedRequests", route.rejectedRequests().get());
+            status.put("hedgedRequests", route.hedgedRequests().get());
+            result.put(route.routeId(), status);
+        }
+        return result;
+    }
+}
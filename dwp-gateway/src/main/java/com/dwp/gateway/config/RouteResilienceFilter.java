@@ -0,0 +1,248 @@
+package com.dwp.gateway.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 라우트별 장애 격리 필터 (bulkhead + circuit breaker + 선택적 hedged GET)
+ *
+ * 느린/장애 다운스트림 하나가 Gateway 전체 커넥션과 이벤트 루프를 점유하지 않도록 라우트 id 단위로 격리합니다.
+ *
+ * 정책:
+ * - bulkhead: 라우트 동시 요청이 max-concurrent-requests 초과 시 대기 없이 503 (BULKHEAD_FULL)
+ * - circuit breaker: 최근 sliding-window-size 호출의 실패율(연결 오류, 타임아웃, 5xx) 또는 느린 호출 비율이
+ *   임계치 초과 시 OPEN, open-state-seconds 동안 업스트림 호출 없이 503 + Retry-After (CIRCUIT_OPEN)
+ * - SSE 스트림은 지속 시간을 느린 호출로 집계하지 않음, 클라이언트 취소는 실패로 집계하지 않음
+ * - hedge-enabled 라우트의 GET(SSE 제외): hedge-delay-millis 내 응답이 없으면 같은 요청을 1회 더 보내고 먼저 온 응답 사용
+ *   (hedged 요청도 사용자 트래픽이므로 내부 호출 풀이 아닌 Gateway 프록시 HttpClient 사용)
+ *   hedged 응답은 본문 전체를 모아 쓰므로 작은 응답 전용: hedge-max-body-bytes 초과 시 hedge 없이 일반 프록시 경로로 재요청
+ * - 연결/응답 타임아웃은 라우트 metadata(connect-timeout, response-timeout)로 NettyRoutingFilter가 적용
+ * - 즉시 실패 요청은 ApiCallHistoryFilter 이력 파이프라인에 기록
+ */
+@Slf4j
+@Component
+public class RouteResilienceFilter implements GlobalFilter, Ordered {
+
+    static final String ERROR_CODE_CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    static final String ERROR_CODE_BULKHEAD_FULL = "BULKHEAD_FULL";
+    private static final Duration DEFAULT_HEDGE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RouteResilienceProperties properties;
+    private final RouteResilienceRegistry registry;
+    private final ApiCallHistoryFilter apiCallHistoryFilter;
+    private final WebClient webClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    public RouteResilienceFilter(RouteResilienceProperties properties,
+                                 RouteResilienceRegistry registry,
+                                 ApiCallHistoryFilter apiCallHistoryFilter,
+                                 HttpClient gatewayHttpClient,
+                                 ObjectProvider<List<HttpHeadersFilter>> headersFilters) {
+        this.properties = properties;
+        this.registry = registry;
+        this.apiCallHistoryFilter = apiCallHistoryFilter;
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(gatewayHttpClient))
+                .build();
+        this.headersFilters = headersFilters;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+        RouteResilienceRegistry.RouteResilience resilience = registry.get(route.getId());
+        CircuitBreaker circuitBreaker = resilience.circuitBreaker();
+        Bulkhead bulkhead = resilience.bulkhead();
+
+        if (bulkhead != null && !bulkhead.tryAcquirePermission()) {
+            return fastFail(exchange, resilience, ERROR_CODE_BULKHEAD_FULL, 1L);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            if (bulkhead != null) {
+                bulkhead.onComplete();
+            }
+            return fastFail(exchange, resilience, ERROR_CODE_CIRCUIT_OPEN, resilience.policy().getOpenStateSeconds());
+        }
+
+        boolean streaming = GatewayRequestContext.from(exchange).isSseRequest();
+        long start = System.nanoTime();
+        Mono<Void> call = shouldHedge(exchange, resilience, streaming)
+                ? hedged(exchange, chain, route, resilience)
+                : chain.filter(exchange);
+        return call
+                .doOnSuccess(v -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    long duration = streaming ? 0L : System.nanoTime() - start;
+                    if (status != null && status.is5xxServerError()) {
+                        circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, new UpstreamServerErrorException(status.value()));
+                    } else {
+                        circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                    }
+                })
+                .doOnError(e -> circuitBreaker.onError(streaming ? 0L : System.nanoTime() - start, TimeUnit.NANOSECONDS, e))
+                .doOnCancel(circuitBreaker::releasePermission)
+                .doFinally(signal -> {
+                    if (bulkhead != null) {
+                        bulkhead.onComplete();
+                    }
+                });
+    }
+
+    private boolean shouldHedge(ServerWebExchange exchange, RouteResilienceRegistry.RouteResilience resilience, boolean streaming) {
+        if (!resilience.policy().isHedgeEnabled() || streaming || !HttpMethod.GET.equals(exchange.getRequest().getMethod())) {
+            return false;
+        }
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        return url != null && ("http".equals(url.getScheme()) || "https".equals(url.getScheme()));
+    }
+
+    /**
+     * 멱등 GET hedged 요청: 첫 요청 후 hedge-delay-millis 내 응답이 없으면 같은 요청을 1회 더 보내고 먼저 완료된 응답을 기록.
+     * 응답은 Gateway가 직접 쓰고 already-routed 표시 후 체인을 이어 NettyRoutingFilter는 건너뜀 (이력 필터는 그대로 실행).
+     * 본문이 hedge-max-body-bytes를 넘으면 모으기를 중단하고 hedge 없이 체인(NettyRoutingFilter 스트리밍)으로 재요청.
+     */
+    private Mono<Void> hedged(ServerWebExchange exchange, GatewayFilterChain chain, Route route,
+                              RouteResilienceRegistry.RouteResilience resilience) {
+        URI url = exchange.getRequiredAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.addAll(HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange));
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            requestHeaders.remove(HttpHeaders.HOST);
+        }
+        Duration timeout = responseTimeout(route);
+        int maxBodyBytes = Math.max(1, resilience.policy().getHedgeMaxBodyBytes());
+        AtomicBoolean tooLarge = new AtomicBoolean();
+        Mono<UpstreamResponse> attempt = Mono.defer(() -> webClient.get()
+                        .uri(url)
+                        .headers(headers -> headers.addAll(requestHeaders))
+                        .exchangeToMono(response -> DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), maxBodyBytes)
+                                .map(RouteResilienceFilter::toBytes)
+                                .defaultIfEmpty(new byte[0])
+                                .map(body -> new UpstreamResponse(response.statusCode(), response.headers().asHttpHeaders(), body))))
+                .doOnError(DataBufferLimitException.class, e -> tooLarge.set(true))
+                .timeout(timeout);
+        Mono<UpstreamResponse> hedge = Mono.delay(Duration.ofMillis(resilience.policy().getHedgeDelayMillis()))
+                .doOnNext(tick -> registry.recordHedged(resilience))
+                .then(attempt);
+
+        return Mono.firstWithValue(attempt, hedge)
+                .flatMap(upstream -> {
+                    ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                    return write(exchange, upstream).then(Mono.defer(() -> chain.filter(exchange)));
+                })
+                .onErrorResume(e -> {
+                    if (ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                        // 응답 기록 이후(이력 필터 등)의 오류는 그대로 전파
+                        return Mono.error(e);
+                    }
+                    if (tooLarge.get()) {
+                        log.debug("Hedged response exceeds {} bytes, falling back to proxy: route={}", maxBodyBytes, route.getId());
+                        return chain.filter(exchange);
+                    }
+                    return Mono.error(new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Hedged upstream request failed", e));
+                });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, UpstreamResponse upstream) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(upstream.status());
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(), upstream.headers(), exchange,
+                HttpHeadersFilter.Type.RESPONSE);
+        response.getHeaders().putAll(filtered);
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        response.getHeaders().setContentLength(upstream.body().length);
+        if (upstream.body().length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(upstream.body())));
+    }
+
+    private Mono<Void> fastFail(ServerWebExchange exchange, RouteResilienceRegistry.RouteResilience resilience,
+                                String errorCode, long retryAfterSeconds) {
+        registry.recordRejected(resilience);
+        log.debug("Route fast-fail: route={}, reason={}", resilience.routeId(), errorCode);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1L, retryAfterSeconds)));
+        apiCallHistoryFilter.recordShortCircuited(exchange, errorCode, System.currentTimeMillis());
+        byte[] body = ("{\"error\":\"Service temporarily unavailable\",\"route\":\"" + resilience.routeId()
+                + "\",\"reason\":\"" + errorCode + "\"}").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static Duration responseTimeout(Route route) {
+        Object value = route.getMetadata().get(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR);
+        if (value == null) {
+            return DEFAULT_HEDGE_TIMEOUT;
+        }
+        try {
+            long millis = value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+            return millis > 0 ? Duration.ofMillis(millis) : DEFAULT_HEDGE_TIMEOUT;
+        } catch (NumberFormatException e) {
+            return DEFAULT_HEDGE_TIMEOUT;
+        }
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private record UpstreamResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    /** 업스트림 5xx 응답을 circuit breaker 실패로 집계하기 위한 표식 (스택 트레이스 없음) */
+    private static final class UpstreamServerErrorException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private UpstreamServerErrorException(int status) {
+            super("Upstream responded " + status, null, false, false);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // RouteToRequestUrlFilter(10000) 이후: 최종 요청 URL 확정 후 격리/hedge, NettyRoutingFilter(LOWEST) 이전
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 200;
+    }
+}
@@ -0,0 +1,79 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 라우트별 장애 격리 설정 (dwp.route-resilience.*)
+ *
+ * {@link RouteResilienceFilter}가 라우트 id 단위로 bulkhead(동시 요청 상한)와 circuit breaker(슬라이딩 윈도우)를 적용합니다.
+ * 연결/응답 타임아웃은 라우트 metadata(connect-timeout, response-timeout)로 설정합니다.
+ * - routes에 없는 라우트는 default-policy 적용
+ * - routes 항목은 default-policy를 상속하지 않고 필드 기본값에서 시작 (변경할 항목만 지정)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.route-resilience")
+@Getter
+@Setter
+public class RouteResilienceProperties {
+
+    /** 장애 격리 활성화 여부 */
+    private boolean enabled = true;
+
+    /** routes에 없는 라우트의 정책 */
+    private RoutePolicy defaultPolicy = new RoutePolicy();
+
+    /** 라우트 id별 정책 */
+    private Map<String, RoutePolicy> routes = new HashMap<>();
+
+    public RoutePolicy policyFor(String routeId) {
+        RoutePolicy policy = routes.get(routeId);
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    @Getter
+    @Setter
+    public static class RoutePolicy {
+
+        /** 라우트 동시 처리 요청 상한 (bulkhead, 0이면 무제한). 초과 시 대기 없이 503 */
+        private int maxConcurrentRequests = 200;
+
+        /** circuit breaker 슬라이딩 윈도우 크기 (최근 호출 수) */
+        private int slidingWindowSize = 50;
+
+        /** 실패율 계산 최소 호출 수 */
+        private int minimumCalls = 20;
+
+        /** OPEN 전환 실패율(%) (연결 오류, 타임아웃, 5xx) */
+        private float failureRateThreshold = 50f;
+
+        /** 느린 호출 기준(ms). SSE 스트림은 제외 */
+        private long slowCallDurationMillis = 5000L;
+
+        /** OPEN 전환 느린 호출 비율(%) */
+        private float slowCallRateThreshold = 80f;
+
+        /** OPEN 유지 시간(초). 이후 HALF_OPEN에서 시험 호출 */
+        private long openStateSeconds = 10L;
+
+        /** HALF_OPEN 시험 호출 수 */
+        private int halfOpenCalls = 5;
+
+        /** 멱등 GET hedged 요청 여부 (hedge-delay-millis 내 응답 없으면 동일 요청 1회 추가, 먼저 온 응답 사용) */
+        private boolean hedgeEnabled = false;
+
+        /** hedged 요청 지연(ms) */
+        private long hedgeDelayMillis = 300L;
+
+        /**
+         * hedged 응답 본문 최대 바이트. hedge는 응답 전체를 메모리에 모은 뒤 쓰므로 작은 응답 전용이며,
+         * 초과 시 hedge 없이 일반 프록시 경로로 다시 요청
+         */
+        private int hedgeMaxBodyBytes = 256 * 1024;
+    }
+}
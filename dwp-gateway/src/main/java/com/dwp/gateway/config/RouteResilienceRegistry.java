@@ -0,0 +1,91 @@
+package com.dwp.gateway.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트별 circuit breaker / bulkhead 보관소 (첫 요청 시 생성)
+ *
+ * 메트릭: gateway.route_resilience.rejected (OPEN/bulkhead 초과로 즉시 실패한 요청 수),
+ * gateway.route_resilience.hedged (hedged 요청 발생 수)
+ * 라우트별 상태는 actuator routeresilience 엔드포인트로 조회합니다 ({@link RouteResilienceEndpoint}).
+ */
+@Component
+public class RouteResilienceRegistry {
+
+    /**
+     * 라우트 장애 격리 상태
+     *
+     * @param bulkhead max-concurrent-requests가 0이면 null
+     */
+    public record RouteResilience(String routeId,
+                                  RouteResilienceProperties.RoutePolicy policy,
+                                  CircuitBreaker circuitBreaker,
+                                  Bulkhead bulkhead,
+                                  AtomicLong rejectedRequests,
+                                  AtomicLong hedgedRequests) {
+    }
+
+    private final RouteResilienceProperties properties;
+    private final ConcurrentHashMap<String, RouteResilience> routes = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong hedgedCount = new AtomicLong();
+
+    public RouteResilienceRegistry(RouteResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        FunctionCounter.builder("gateway.route_resilience.rejected", rejectedCount, AtomicLong::get)
+                .description("circuit OPEN 또는 bulkhead 초과로 즉시 실패한 요청 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.route_resilience.hedged", hedgedCount, AtomicLong::get)
+                .description("hedged 요청 발생 수").register(meterRegistry);
+    }
+
+    public RouteResilience get(String routeId) {
+        return routes.computeIfAbsent(routeId, this::create);
+    }
+
+    public Collection<RouteResilience> getAll() {
+        return routes.values();
+    }
+
+    void recordRejected(RouteResilience route) {
+        route.rejectedRequests().incrementAndGet();
+        rejectedCount.incrementAndGet();
+    }
+
+    void recordHedged(RouteResilience route) {
+        route.hedgedRequests().incrementAndGet();
+        hedgedCount.incrementAndGet();
+    }
+
+    private RouteResilience create(String routeId) {
+        RouteResilienceProperties.RoutePolicy policy = properties.policyFor(routeId);
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(policy.getSlidingWindowSize())
+                .minimumNumberOfCalls(policy.getMinimumCalls())
+                .failureRateThreshold(policy.getFailureRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(policy.getSlowCallDurationMillis()))
+                .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+                .waitDurationInOpenState(Duration.ofSeconds(policy.getOpenStateSeconds()))
+                .permittedNumberOfCallsInHalfOpenState(policy.getHalfOpenCalls())
+                .build();
+        Bulkhead bulkhead = policy.getMaxConcurrentRequests() > 0
+                ? Bulkhead.of(routeId, BulkheadConfig.custom()
+                        .maxConcurrentCalls(policy.getMaxConcurrentRequests())
+                        .maxWaitDuration(Duration.ZERO)
+                        .build())
+                : null;
+        return new RouteResilience(routeId, policy, CircuitBreaker.of(routeId, circuitBreakerConfig), bulkhead,
+                new AtomicLong(), new AtomicLong());
+    }
+}
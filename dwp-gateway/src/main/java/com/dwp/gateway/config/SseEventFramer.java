@@ -0,0 +1,284 @@
+package com.dwp.gateway.config;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * SSE 이벤트 프레이머 (스트림 1개당 1개 인스턴스)
+ *
+ * 응답 DataBuffer를 복사/디코딩하지 않고 바이트 단위로 스캔하여 이벤트 경계(빈 줄)를 찾습니다.
+ * - 청크 경계에 걸친 이벤트는 경계가 올 때까지 조각(split)을 보류했다가 이벤트 단위로 내보냄
+ * - 줄 시작의 id 필드만 인식 (data 본문 안의 "id:" 문자열은 무시)
+ * - id 필드가 없고 data 필드가 있는 이벤트 앞에 "id: N\n" 버퍼를 붙여 join (Netty는 CompositeByteBuf, payload 복사 없음)
+ * - LF / CRLF / CR 줄바꿈 모두 지원 (SSE 표준)
+ * - 경계 없이 maxPendingBytes를 넘는 이벤트는 id 주입 없이 그대로 통과 (메모리 보호)
+ * - id를 주입한 이벤트는 {@link EventListener}로 알림 (SseReplayStream 재생 버퍼 적재)
+ *
+ * Reactive Streams 신호는 직렬이지만 cancel은 다른 스레드에서 올 수 있어 상태 변경 메서드는 synchronized 입니다.
+ */
+public class SseEventFramer {
+
+    /** 경계 없이 보류할 수 있는 최대 바이트 (초과 시 해당 이벤트는 id 주입 없이 통과) */
+    public static final int DEFAULT_MAX_PENDING_BYTES = 1024 * 1024;
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte COLON = ':';
+    private static final byte[] ID_PREFIX = "id: ".getBytes(StandardCharsets.US_ASCII);
+
+    /** 필드명 바이트를 long에 packing 하여 비교 ("id", "data") */
+    private static final long FIELD_ID = ('i' << 8) | 'd';
+    private static final long FIELD_DATA = ((long) 'd' << 24) | ('a' << 16) | ('t' << 8) | 'a';
+    private static final int MAX_FIELD_NAME = 4;
+
+    private final DataBufferFactory bufferFactory;
+    private final Supplier<String> idGenerator;
+    private final EventListener eventListener;
+    private final int maxPendingBytes;
+
+    /** 아직 경계를 만나지 못한 현재 이벤트 조각 */
+    private final List<DataBuffer> pending = new ArrayList<>(4);
+    private int pendingBytes;
+
+    // 줄 단위 상태
+    private int lineLength;
+    private int fieldNameLength = -1;
+    private long fieldName;
+    private boolean lastWasCr;
+    /** CR로 끝난 빈 줄: 다음 바이트가 LF면 그 LF까지 현재 이벤트에 포함 */
+    private boolean crBoundaryPending;
+
+    // 이벤트 단위 상태
+    private boolean eventHasId;
+    private boolean eventHasData;
+    private boolean passthrough;
+    private boolean released;
+    /** 현재 청크 전체가 이벤트 끝으로 전달됨 (next 종료 시 해제/보류 대상 아님) */
+    private boolean chunkHandedOff;
+
+    /**
+     * id를 주입한 이벤트 완성 알림. parts는 id 라인을 포함한 이벤트 전체 조각이며 소유권은 프레이머에 있으므로
+     * 읽기 위치를 바꾸지 않고 복사만 해야 합니다.
+     */
+    @FunctionalInterface
+    public interface EventListener {
+        void onEvent(String id, List<DataBuffer> parts);
+    }
+
+    public SseEventFramer(DataBufferFactory bufferFactory, Supplier<String> idGenerator) {
+        this(bufferFactory, idGenerator, null, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    public SseEventFramer(DataBufferFactory bufferFactory, Supplier<String> idGenerator, int maxPendingBytes) {
+        this(bufferFactory, idGenerator, null, maxPendingBytes);
+    }
+
+    public SseEventFramer(DataBufferFactory bufferFactory, Supplier<String> idGenerator, EventListener eventListener,
+                          int maxPendingBytes) {
+        this.bufferFactory = bufferFactory;
+        this.idGenerator = idGenerator;
+        this.eventListener = eventListener;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * 응답 본문 전체에 프레이밍 적용. 완료 시 남은 조각을 flush, 취소/에러 시 보류 버퍼를 해제합니다.
+     */
+    public Flux<DataBuffer> frame(Publisher<? extends DataBuffer> body) {
+        return Flux.from(body)
+                .<DataBuffer>handle((chunk, sink) -> {
+                    DataBuffer out = next(chunk);
+                    if (out != null) {
+                        sink.next(out);
+                    }
+                })
+                .concatWith(Mono.fromSupplier(this::flush))
+                .doFinally(signal -> release());
+    }
+
+    /**
+     * 청크 1개 처리. 완성된 이벤트가 없으면 null (청크는 보류 목록으로 이동).
+     * 입력 청크의 소유권은 프레이머로 넘어오며, 반환 버퍼의 해제는 호출자 책임입니다.
+     */
+    public synchronized DataBuffer next(DataBuffer chunk) {
+        if (released) {
+            DataBufferUtils.release(chunk);
+            return null;
+        }
+        List<DataBuffer> out = null;
+        int start = chunk.readPosition();
+        int end = chunk.writePosition();
+        // split 후 남은 버퍼의 인덱스는 split 위치만큼 당겨짐
+        int base = 0;
+        for (int i = start; i < end; i++) {
+            byte b = chunk.getByte(i - base);
+            if (crBoundaryPending) {
+                crBoundaryPending = false;
+                if (b == LF) {
+                    lastWasCr = false;
+                    out = completeEvent(chunk, i + 1 - base, out);
+                    base = i + 1;
+                    continue;
+                }
+                out = completeEvent(chunk, i - base, out);
+                base = i;
+            }
+            if (b == LF || b == CR) {
+                boolean crlf = b == LF && lastWasCr;
+                lastWasCr = b == CR;
+                if (crlf) {
+                    continue;
+                }
+                if (lineLength > 0) {
+                    endLine();
+                } else if (b == CR) {
+                    crBoundaryPending = true;
+                } else {
+                    out = completeEvent(chunk, i + 1 - base, out);
+                    base = i + 1;
+                }
+            } else {
+                lastWasCr = false;
+                appendLineByte(b);
+            }
+        }
+
+        if (chunkHandedOff) {
+            chunkHandedOff = false;
+        } else if (chunk.readableByteCount() == 0) {
+            DataBufferUtils.release(chunk);
+        } else if (passthrough) {
+            out = add(out, chunk);
+        } else {
+            pending.add(chunk);
+            pendingBytes += chunk.readableByteCount();
+            if (pendingBytes > maxPendingBytes) {
+                passthrough = true;
+                out = drainPending(out);
+            }
+        }
+        return join(out);
+    }
+
+    /**
+     * 스트림 완료 시 호출. 보류 중인 불완전 이벤트는 id 주입 없이 그대로 내보냅니다.
+     */
+    public synchronized DataBuffer flush() {
+        if (released) {
+            return null;
+        }
+        List<DataBuffer> out = null;
+        if (crBoundaryPending) {
+            crBoundaryPending = false;
+            out = completeEvent(null, 0, null);
+        }
+        return join(drainPending(out));
+    }
+
+    /** 취소/에러 시 보류 버퍼 해제. 이후 들어오는 청크는 즉시 해제됩니다. */
+    public synchronized void release() {
+        released = true;
+        pending.forEach(DataBufferUtils::release);
+        pending.clear();
+        pendingBytes = 0;
+    }
+
+    private void appendLineByte(byte b) {
+        if (fieldNameLength < 0) {
+            if (b == COLON) {
+                fieldNameLength = lineLength;
+            } else if (lineLength < MAX_FIELD_NAME) {
+                fieldName = (fieldName << 8) | (b & 0xFF);
+            }
+        }
+        lineLength++;
+    }
+
+    /** 비어 있지 않은 줄 종료: 필드명 판정 (콜론이 없으면 줄 전체가 필드명) */
+    private void endLine() {
+        int nameLength = fieldNameLength >= 0 ? fieldNameLength : lineLength;
+        if (nameLength == 2 && fieldName == FIELD_ID) {
+            eventHasId = true;
+        } else if (nameLength == 4 && fieldName == FIELD_DATA) {
+            eventHasData = true;
+        }
+        lineLength = 0;
+        fieldNameLength = -1;
+        fieldName = 0;
+    }
+
+    /**
+     * 현재 이벤트 완성: [id 라인] + 보류 조각 + chunk의 index 이전 부분
+     *
+     * @param chunk 현재 청크 (null이면 보류 조각만으로 완성)
+     * @param index chunk 기준 split 위치 (이 위치 이전까지가 현재 이벤트)
+     */
+    private List<DataBuffer> completeEvent(DataBuffer chunk, int index, List<DataBuffer> out) {
+        boolean injectId = !passthrough && eventHasData && !eventHasId;
+        String id = null;
+        int from = out == null ? 0 : out.size();
+        if (injectId) {
+            id = idGenerator.get();
+            out = add(out, idLine(id));
+        }
+        out = drainPending(out);
+        if (chunk != null && index > chunk.readPosition()) {
+            // 청크 끝까지가 이벤트면 split 없이 청크 자체를 넘김 (next에서 readableByteCount 0으로 처리되지 않도록 표시)
+            if (index == chunk.writePosition()) {
+                chunkHandedOff = true;
+                out = add(out, chunk);
+            } else {
+                out = add(out, chunk.split(index));
+            }
+        }
+        if (id != null && eventListener != null) {
+            eventListener.onEvent(id, out.subList(from, out.size()));
+        }
+        eventHasId = false;
+        eventHasData = false;
+        passthrough = false;
+        return out;
+    }
+
+    private DataBuffer idLine(String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        DataBuffer buffer = bufferFactory.allocateBuffer(ID_PREFIX.length + bytes.length + 1);
+        buffer.write(ID_PREFIX);
+        buffer.write(bytes);
+        buffer.write(LF);
+        return buffer;
+    }
+
+    private List<DataBuffer> drainPending(List<DataBuffer> out) {
+        for (DataBuffer buffer : pending) {
+            out = add(out, buffer);
+        }
+        pending.clear();
+        pendingBytes = 0;
+        return out;
+    }
+
+    private static List<DataBuffer> add(List<DataBuffer> out, DataBuffer buffer) {
+        if (out == null) {
+            out = new ArrayList<>(4);
+        }
+        out.add(buffer);
+        return out;
+    }
+
+    private DataBuffer join(List<DataBuffer> out) {
+        if (out == null || out.isEmpty()) {
+            return null;
+        }
+        return out.size() == 1 ? out.get(0) : bufferFactory.join(out);
+    }
+}
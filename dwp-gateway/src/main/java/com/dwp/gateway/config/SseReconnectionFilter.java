@@ -1,13 +1,14 @@
 package com.dwp.gateway.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
@@ -15,15 +16,13 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.util.concurrent.atomic.AtomicLong;
-
 /**
  * SSE 재연결 지원 필터
  * 
  * SSE 응답에 id: 라인을 추가하여 재연결을 지원합니다.
  * - Last-Event-ID 헤더를 Aura-Platform으로 전달
- * - SSE 응답에 id: 라인 추가 (이벤트 ID 생성)
+ * - SSE 응답에 id: 라인 추가 (이벤트 ID 생성, SseEventFramer로 바이트 단위 스트리밍 처리)
+ * - 스트림별 id("{streamId}-{seq}")와 재생 버퍼(SseReplayStore)로 Last-Event-ID 재연결 시 놓친 구간을 로컬 재생
  * 
  * SSE 표준:
  * - 각 이벤트는 id: 라인을 포함할 수 있음
@@ -34,50 +33,60 @@ import java.util.concurrent.atomic.AtomicLong;
 @Component
 public class SseReconnectionFilter implements GlobalFilter, Ordered {
 
-    private static final String TEXT_EVENT_STREAM = "text/event-stream";
-    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
-    private static final AtomicLong eventIdCounter = new AtomicLong(0);
+    private final SseReplayStore replayStore;
+
+    public SseReconnectionFilter(SseReplayStore replayStore) {
+        this.replayStore = replayStore;
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        String acceptHeader = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
-        String path = request.getURI().getPath();
-        
-        // SSE 요청인지 확인
-        boolean isSseRequest = (acceptHeader != null && acceptHeader.contains(TEXT_EVENT_STREAM))
-                || (path != null && path.contains("/stream"));
-        
-        if (!isSseRequest) {
+        // SSE 요청인지 확인 (Accept 헤더 또는 /stream 경로, GatewayRequestContext에서 1회 판정)
+        GatewayRequestContext context = GatewayRequestContext.from(exchange);
+        if (!context.isSseRequest()) {
             return chain.filter(exchange);
         }
 
-        // Last-Event-ID 헤더 확인 및 로깅
-        String lastEventId = request.getHeaders().getFirst(LAST_EVENT_ID_HEADER);
-        if (lastEventId != null && !lastEventId.isEmpty()) {
+        String path = context.getPath();
+        String ownerKey = SseReplayStore.ownerKey(context.getTenantId(), context.getUserId(), context.getAuthorization());
+
+        // Last-Event-ID 재연결: 재생 버퍼에 남아 있으면 업스트림 재호출 없이 로컬 재생 (진행 중이면 이어서 re-attach)
+        String lastEventId = context.getLastEventId();
+        if (lastEventId != null) {
+            Flux<DataBuffer> replay = replayStore.isEnabled() ? replayStore.resume(lastEventId, ownerKey) : null;
+            if (replay != null) {
+                log.info("SSE reconnection resumed from replay buffer: Last-Event-ID={}, path={}", lastEventId, path);
+                ServerHttpResponse response = exchange.getResponse();
+                response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+                return response.writeAndFlushWith(replay.map(Flux::just));
+            }
+            // 재생 불가 (만료/다른 인스턴스/업스트림 id): Last-Event-ID는 그대로 Aura-Platform으로 전달
             log.info("SSE reconnection detected: Last-Event-ID={}, path={}", lastEventId, path);
-            // Last-Event-ID 헤더를 Aura-Platform으로 전달 (HeaderPropagationFilter가 처리)
         }
 
         // SSE 응답에 id: 라인 추가를 위한 데코레이터
-        // 주의: 변환된 Flux를 반드시 originalResponse.writeWith(...)로 써야 클라이언트에 전달됨
+        // 주의: 변환된 Flux를 반드시 원본 응답의 writeWith(...)로 써야 클라이언트에 전달됨
+        // NettyWriteResponseFilter는 text/event-stream 응답을 writeAndFlushWith로 쓰므로 두 경로 모두 프레이밍
         ServerHttpResponse originalResponse = exchange.getResponse();
         ServerHttpResponseDecorator decoratedResponse = new ServerHttpResponseDecorator(originalResponse) {
             @Override
             @SuppressWarnings("null")
-            public Mono<Void> writeWith(org.reactivestreams.Publisher<? extends DataBuffer> body) {
-                Flux<DataBuffer> modifiedFlux = Flux.from(body)
-                        .map(dataBuffer -> {
-                            byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                            dataBuffer.read(bytes);
-                            DataBufferUtils.release(dataBuffer);
-                            String content = new String(bytes, StandardCharsets.UTF_8);
-                            String modifiedContent = addEventIdIfNeeded(content);
-                            return originalResponse.bufferFactory().wrap(
-                                    modifiedContent.getBytes(StandardCharsets.UTF_8)
-                            );
-                        });
-                return originalResponse.writeWith(modifiedFlux);
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isEventStream(getHeaders())) {
+                    return super.writeWith(body);
+                }
+                return super.writeWith(frame(body, bufferFactory(), ownerKey));
+            }
+
+            @Override
+            @SuppressWarnings("null")
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                if (!isEventStream(getHeaders())) {
+                    return super.writeAndFlushWith(body);
+                }
+                // 이벤트 단위로 flush (토큰 지연 없이 완성된 이벤트마다 전송)
+                Flux<DataBuffer> flattened = Flux.from(body).concatMap(inner -> Flux.<DataBuffer>from(inner));
+                return super.writeAndFlushWith(frame(flattened, bufferFactory(), ownerKey).map(Flux::just));
             }
         };
 
@@ -85,38 +94,25 @@ public class SseReconnectionFilter implements GlobalFilter, Ordered {
     }
 
     /**
-     * SSE 이벤트에 id: 라인이 없으면 추가
-     * 
-     * @param content 원본 SSE 이벤트 내용
-     * @return id: 라인이 추가된 SSE 이벤트 내용
+     * 응답 Content-Type이 없거나 text/event-stream일 때만 프레이밍 (에러 JSON 응답 등은 그대로 통과)
      */
-    private String addEventIdIfNeeded(String content) {
-        // 이미 id: 라인이 있으면 그대로 반환
-        if (content.contains("id:")) {
-            return content;
-        }
-        
-        // SSE 이벤트 형식: data: ...\n\n 또는 data: ...\n\n\n
-        // 각 이벤트 블록에 id: 라인 추가
-        String[] events = content.split("\n\n");
-        StringBuilder result = new StringBuilder();
-        
-        for (String event : events) {
-            if (event.trim().isEmpty()) {
-                result.append("\n\n");
-                continue;
-            }
-            
-            // 이벤트 ID 생성 (타임스탬프 + 카운터)
-            long eventId = System.currentTimeMillis() * 1000 + eventIdCounter.incrementAndGet() % 1000;
-            
-            // id: 라인을 맨 앞에 추가
-            result.append("id: ").append(eventId).append("\n");
-            result.append(event);
-            result.append("\n\n");
+    private static boolean isEventStream(HttpHeaders headers) {
+        MediaType contentType = headers.getContentType();
+        return contentType == null || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType);
+    }
+
+    /**
+     * 스트림별 id("{streamId}-{seq}") 주입. 재생 버퍼를 확보하면 id 주입 이벤트를 적재하고
+     * 클라이언트 연결 종료 후에도 업스트림을 grace 동안 유지합니다.
+     */
+    private Flux<DataBuffer> frame(Publisher<? extends DataBuffer> body, DataBufferFactory bufferFactory, String ownerKey) {
+        SseReplayStream stream = replayStore.open(ownerKey);
+        if (stream == null) {
+            return new SseEventFramer(bufferFactory, SseReplayStore.localIdGenerator()).frame(body);
         }
-        
-        return result.toString();
+        SseEventFramer framer = new SseEventFramer(bufferFactory, stream::nextEventId, stream::record,
+                SseEventFramer.DEFAULT_MAX_PENDING_BYTES);
+        return replayStore.relay(stream, framer.frame(body));
     }
 
     @Override
@@ -0,0 +1,46 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SSE 재생 버퍼 설정 (dwp.sse-replay.*)
+ *
+ * Gateway가 스트림별로 최근 이벤트를 off-heap(pooled direct ByteBuf)에 보관하고,
+ * Last-Event-ID 재연결 시 놓친 구간을 Aura-Platform 재호출 없이 로컬에서 재생합니다.
+ *
+ * 정책:
+ * - 스트림별 최근 max-events건 / max-bytes-per-stream / retention-seconds 이내 이벤트만 보관
+ * - 클라이언트 연결이 끊겨도 detach-grace-seconds 동안 업스트림을 계속 수신하여 버퍼에 적재 (재연결 시 re-attach)
+ * - 보관 스트림 수가 max-streams에 도달하면 신규 스트림은 재생 버퍼 없이 전달 (id만 부여)
+ * - 인스턴스 로컬 버퍼이므로 다중 Gateway 구성에서는 sticky 라우팅 필요 (미적중 시 업스트림으로 Last-Event-ID 전달)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.sse-replay")
+@Getter
+@Setter
+public class SseReplayProperties {
+
+    /** 재생 버퍼 활성화 여부 (false면 스트림별 id만 부여하고 재연결은 업스트림으로 전달) */
+    private boolean enabled = true;
+
+    /** 스트림별 최대 보관 이벤트 수 */
+    private int maxEvents = 1_000;
+
+    /** 스트림별 최대 보관 바이트 */
+    private int maxBytesPerStream = 1024 * 1024;
+
+    /** 이벤트 보관 시간(초). 완료된 스트림도 이 시간 동안 재생 가능 */
+    private long retentionSeconds = 120L;
+
+    /** 클라이언트 연결 종료 후 업스트림을 계속 수신하는 시간(초). 재연결된 구독자가 있으면 연장 */
+    private long detachGraceSeconds = 60L;
+
+    /** 동시에 보관하는 최대 스트림 수 */
+    private int maxStreams = 5_000;
+
+    /** 만료 스트림 정리 주기(ms) */
+    private long sweepIntervalMs = 5_000L;
+}
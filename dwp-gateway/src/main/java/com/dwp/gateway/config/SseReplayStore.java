@@ -0,0 +1,203 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SSE 재생 버퍼 저장소 (스트림 id → {@link SseReplayStream})
+ *
+ * SseReconnectionFilter가 신규 SSE 응답마다 {@link #open}으로 스트림을 만들고,
+ * Last-Event-ID 재연결 시 {@link #resume}으로 놓친 구간을 로컬 재생합니다.
+ * - 스트림 id는 128bit 난수(base64url)라 추측 불가. 추가로 소유자 키(테넌트 + 사용자 + Authorization 해시)가 일치해야 재생
+ * - 보관 한도(max-streams) 초과 시 open은 null → 필터는 재생 버퍼 없이 스트림별 id만 부여
+ * - 완료 후 retention이 지난 스트림은 sweep 스레드가 off-heap 버퍼를 해제
+ *
+ * 메트릭 (Micrometer):
+ * - gateway.sse_replay.resumed / missed / rejected (counter)
+ * - gateway.sse_replay.streams / bytes (gauge)
+ */
+@Slf4j
+@Component
+public class SseReplayStore {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SseReplayProperties properties;
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private final Map<String, SseReplayStream> streams = new ConcurrentHashMap<>();
+    private final Scheduler detachScheduler = Schedulers.parallel();
+
+    private final AtomicLong resumedCount = new AtomicLong();
+    private final AtomicLong missedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final ScheduledExecutorService sweepExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-replay-sweep");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SseReplayStore(SseReplayProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        FunctionCounter.builder("gateway.sse_replay.resumed", resumedCount, AtomicLong::get)
+                .description("재생 버퍼로 로컬 재개된 SSE 재연결 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.sse_replay.missed", missedCount, AtomicLong::get)
+                .description("재생 버퍼 미적중으로 업스트림에 전달된 SSE 재연결 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.sse_replay.rejected", rejectedCount, AtomicLong::get)
+                .description("max-streams 초과로 재생 버퍼 없이 시작된 SSE 스트림 수").register(meterRegistry);
+        Gauge.builder("gateway.sse_replay.streams", streams, Map::size)
+                .description("보관 중인 SSE 재생 스트림 수").register(meterRegistry);
+        Gauge.builder("gateway.sse_replay.bytes", this, SseReplayStore::getRetainedBytes)
+                .description("재생 버퍼 off-heap 사용량(bytes)").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = Math.max(100L, properties.getSweepIntervalMs());
+        sweepExecutor.scheduleWithFixedDelay(this::sweepSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 신규 스트림 등록. 비활성화 또는 max-streams 초과 시 null.
+     */
+    public SseReplayStream open(String ownerKey) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        if (streams.size() >= properties.getMaxStreams()) {
+            rejectedCount.incrementAndGet();
+            return null;
+        }
+        SseReplayStream stream = new SseReplayStream(newStreamId(), ownerKey, allocator, properties);
+        streams.put(stream.getStreamId(), stream);
+        return stream;
+    }
+
+    /**
+     * Last-Event-ID("{streamId}-{seq}")로 재생 Flux 조회. 로컬 재생이 불가하면 null (업스트림 전달).
+     */
+    public Flux<DataBuffer> resume(String lastEventId, String ownerKey) {
+        int separator = lastEventId.lastIndexOf('-');
+        SseReplayStream stream = separator > 0 ? streams.get(lastEventId.substring(0, separator)) : null;
+        long afterSeq = stream != null ? parseSeq(lastEventId.substring(separator + 1)) : -1L;
+        if (stream == null || afterSeq < 0 || !stream.isOwnedBy(ownerKey) || !stream.canResumeFrom(afterSeq)) {
+            missedCount.incrementAndGet();
+            return null;
+        }
+        resumedCount.incrementAndGet();
+        return stream.follow(afterSeq);
+    }
+
+    /** 원 클라이언트 응답: 연결 종료 후에도 detach-grace 동안 업스트림 수신 유지 */
+    public Flux<DataBuffer> relay(SseReplayStream stream, Flux<DataBuffer> framed) {
+        return stream.relay(framed, Duration.ofSeconds(Math.max(1L, properties.getDetachGraceSeconds())), detachScheduler);
+    }
+
+    /**
+     * 재생 버퍼 미사용 시 id 생성기 (스트림 범위 "{streamId}-{seq}", 형식은 재생 버퍼와 동일)
+     */
+    public static Supplier<String> localIdGenerator() {
+        String streamId = newStreamId();
+        AtomicLong seq = new AtomicLong();
+        return () -> streamId + "-" + seq.incrementAndGet();
+    }
+
+    /**
+     * 재생 소유자 키: 테넌트 + 사용자 + Authorization SHA-256 (토큰 원문은 보관하지 않음)
+     */
+    public static String ownerKey(String tenantId, String userId, String authorization) {
+        String authHash = "";
+        if (authorization != null) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.UTF_8));
+                authHash = ID_ENCODER.encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+        return tenantId + "|" + userId + "|" + authHash;
+    }
+
+    void sweep() {
+        long now = System.nanoTime();
+        streams.values().removeIf(stream -> {
+            if (!stream.isExpired(now)) {
+                return false;
+            }
+            stream.close();
+            return true;
+        });
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("Failed to sweep SSE replay streams", e);
+        }
+    }
+
+    public long getRetainedBytes() {
+        long bytes = 0;
+        for (SseReplayStream stream : streams.values()) {
+            bytes += stream.getRetainedBytes();
+        }
+        return bytes;
+    }
+
+    public int getStreamCount() {
+        return streams.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweepExecutor.shutdown();
+        streams.values().forEach(SseReplayStream::close);
+        streams.clear();
+    }
+
+    private static String newStreamId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return ID_ENCODER.encodeToString(bytes);
+    }
+
+    private static long parseSeq(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
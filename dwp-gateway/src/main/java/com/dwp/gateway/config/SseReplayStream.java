@@ -0,0 +1,269 @@
+package com.dwp.gateway.config;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 스트림 1개의 재생 버퍼
+ *
+ * - 이벤트 id는 스트림 범위: "{streamId}-{seq}" (seq는 1부터 증가)
+ * - id가 주입된 이벤트만 off-heap ByteBuf로 복사해 보관 (최근 maxEvents건 / maxBytes / retention 이내)
+ * - {@link #relay}: 원 클라이언트 연결이 끊겨도 업스트림 구독을 grace 동안 유지하여 버퍼 적재 계속
+ * - {@link #follow}: 재연결 구독자에게 afterSeq 이후 보관 이벤트 재생 후 실시간 이벤트 전달 (완료 스트림은 재생 후 종료)
+ *
+ * 상태 변경은 모두 this 모니터로 직렬화합니다. 재생 버퍼는 retainedDuplicate로 전달하므로 재생 시 복사가 없습니다.
+ * relay는 원 클라이언트의 demand만큼만 업스트림에 요청하고, follow는 구독자별 대기 이벤트를 maxEvents로 제한합니다
+ * (초과 시 오류로 종료 → 클라이언트가 Last-Event-ID로 재연결).
+ */
+public class SseReplayStream {
+
+    private static final NettyDataBufferFactory REPLAY_BUFFER_FACTORY = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+
+    private final String streamId;
+    private final String ownerKey;
+    private final ByteBufAllocator allocator;
+    private final int maxEvents;
+    private final int maxBytes;
+    private final long retentionNanos;
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final List<FluxSink<DataBuffer>> followers = new ArrayList<>(1);
+    private long retainedBytes;
+    private long lastSeq;
+    /** 보관 한도로 버린 마지막 seq (이 값 이전 Last-Event-ID는 로컬 재생 불가) */
+    private long evictedSeq;
+    private boolean completed;
+    private boolean closed;
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    private record Entry(long seq, ByteBuf content, long recordedNanos) {}
+
+    SseReplayStream(String streamId, String ownerKey, ByteBufAllocator allocator, SseReplayProperties properties) {
+        this.streamId = streamId;
+        this.ownerKey = ownerKey;
+        this.allocator = allocator;
+        this.maxEvents = Math.max(1, properties.getMaxEvents());
+        this.maxBytes = Math.max(1, properties.getMaxBytesPerStream());
+        this.retentionNanos = TimeUnit.SECONDS.toNanos(Math.max(1L, properties.getRetentionSeconds()));
+    }
+
+    public String getStreamId() {
+        return streamId;
+    }
+
+    boolean isOwnedBy(String ownerKey) {
+        return this.ownerKey.equals(ownerKey);
+    }
+
+    /** 프레이머 id 생성기: 스트림 범위 seq 증가 */
+    public synchronized String nextEventId() {
+        return streamId + "-" + (++lastSeq);
+    }
+
+    /**
+     * 프레이머 이벤트 리스너: 직전에 발급한 seq로 이벤트를 off-heap 버퍼에 복사 (parts의 읽기 위치는 변경하지 않음)
+     */
+    public void record(String id, List<DataBuffer> parts) {
+        int length = 0;
+        for (DataBuffer part : parts) {
+            length += part.readableByteCount();
+        }
+        ByteBuf content = allocator.directBuffer(length, length);
+        for (DataBuffer part : parts) {
+            try (DataBuffer.ByteBufferIterator iterator = part.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    content.writeBytes(iterator.next());
+                }
+            }
+        }
+        synchronized (this) {
+            if (closed) {
+                content.release();
+                return;
+            }
+            long now = System.nanoTime();
+            Entry entry = new Entry(lastSeq, content, now);
+            entries.addLast(entry);
+            retainedBytes += length;
+            evict(now);
+            // follower가 overflow로 종료되면 onDispose에서 목록이 바뀌므로 복사본으로 순회
+            for (FluxSink<DataBuffer> follower : List.copyOf(followers)) {
+                follower.next(wrap(entry));
+            }
+            lastActivityNanos = now;
+        }
+    }
+
+    /**
+     * 원 클라이언트 응답 본문. 클라이언트가 취소해도 업스트림은 grace 동안 계속 수신(버퍼 적재)하며,
+     * grace 만료 시점에 재연결 구독자가 없으면 업스트림을 끊고 스트림을 완료 처리합니다.
+     * 클라이언트 연결 중에는 클라이언트 demand를 그대로 업스트림에 전달하고, 취소 후에만 제한 없이 수신합니다.
+     */
+    public Flux<DataBuffer> relay(Flux<DataBuffer> framed, Duration grace, Scheduler scheduler) {
+        return Flux.<DataBuffer>create(sink -> {
+            BaseSubscriber<DataBuffer> upstream = new BaseSubscriber<>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    // 요청은 sink.onRequest에서 클라이언트 demand만큼 전달
+                }
+
+                @Override
+                protected void hookOnNext(DataBuffer buffer) {
+                    if (sink.isCancelled()) {
+                        DataBufferUtils.release(buffer);
+                    } else {
+                        sink.next(buffer);
+                    }
+                }
+
+                @Override
+                protected void hookOnError(Throwable error) {
+                    complete();
+                    sink.error(error);
+                }
+
+                @Override
+                protected void hookOnComplete() {
+                    complete();
+                    sink.complete();
+                }
+            };
+            framed.subscribe(upstream);
+            sink.onRequest(upstream::request);
+            sink.onCancel(() -> {
+                // 원 클라이언트 종료 후에는 재생 버퍼 적재를 위해 업스트림을 제한 없이 수신
+                upstream.requestUnbounded();
+                scheduleDetach(upstream, grace, scheduler);
+            });
+        }).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private void scheduleDetach(Disposable upstream, Duration grace, Scheduler scheduler) {
+        scheduler.schedule(() -> {
+            boolean attached;
+            synchronized (this) {
+                attached = !completed && !followers.isEmpty();
+            }
+            if (attached) {
+                scheduleDetach(upstream, grace, scheduler);
+                return;
+            }
+            upstream.dispose();
+            complete();
+        }, grace.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 재생 가능 여부: afterSeq 다음 이벤트가 아직 보관 중이어야 함
+     */
+    public synchronized boolean canResumeFrom(long afterSeq) {
+        return !closed && afterSeq >= evictedSeq && afterSeq <= lastSeq;
+    }
+
+    /**
+     * afterSeq 이후 보관 이벤트를 재생하고, 진행 중인 스트림이면 이어서 실시간 이벤트를 전달
+     * (구독자가 소비하지 못한 이벤트는 maxEvents건까지만 대기, 초과 시 overflow 오류로 종료)
+     */
+    public Flux<DataBuffer> follow(long afterSeq) {
+        return Flux.<DataBuffer>create(sink -> {
+            synchronized (this) {
+                for (Entry entry : entries) {
+                    if (entry.seq() > afterSeq) {
+                        sink.next(wrap(entry));
+                    }
+                }
+                if (completed || closed) {
+                    sink.complete();
+                    return;
+                }
+                followers.add(sink);
+                lastActivityNanos = System.nanoTime();
+            }
+            sink.onDispose(() -> {
+                synchronized (this) {
+                    followers.remove(sink);
+                    lastActivityNanos = System.nanoTime();
+                }
+            });
+        }).onBackpressureBuffer(maxEvents, DataBufferUtils::release, BufferOverflowStrategy.ERROR)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /** 업스트림 종료: 재연결 구독자 완료 처리. 보관 이벤트는 retention 동안 재생 가능 */
+    public void complete() {
+        List<FluxSink<DataBuffer>> toComplete;
+        synchronized (this) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            lastActivityNanos = System.nanoTime();
+            toComplete = new ArrayList<>(followers);
+            followers.clear();
+        }
+        toComplete.forEach(FluxSink::complete);
+    }
+
+    /**
+     * 정리 대상 여부: 완료 후 retention 경과 (보관 이벤트의 retention 만료도 함께 처리)
+     */
+    synchronized boolean isExpired(long nowNanos) {
+        evict(nowNanos);
+        return completed && nowNanos - lastActivityNanos > retentionNanos;
+    }
+
+    /** 보관 버퍼 해제 (스토어 정리 시) */
+    void close() {
+        List<FluxSink<DataBuffer>> toComplete;
+        synchronized (this) {
+            closed = true;
+            completed = true;
+            entries.forEach(entry -> entry.content().release());
+            entries.clear();
+            retainedBytes = 0;
+            toComplete = new ArrayList<>(followers);
+            followers.clear();
+        }
+        toComplete.forEach(FluxSink::complete);
+    }
+
+    synchronized long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    private void evict(long nowNanos) {
+        while (!entries.isEmpty()) {
+            Entry oldest = entries.peekFirst();
+            boolean overflow = entries.size() > maxEvents || retainedBytes > maxBytes;
+            boolean stale = nowNanos - oldest.recordedNanos() > retentionNanos;
+            if (!overflow && !stale) {
+                return;
+            }
+            entries.pollFirst();
+            retainedBytes -= oldest.content().readableBytes();
+            evictedSeq = oldest.seq();
+            oldest.content().release();
+        }
+    }
+
+    private static DataBuffer wrap(Entry entry) {
+        return REPLAY_BUFFER_FACTORY.wrap(entry.content().retainedDuplicate());
+    }
+}
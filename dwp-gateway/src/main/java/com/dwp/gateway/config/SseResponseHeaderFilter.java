@@ -5,7 +5,6 @@ import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
@@ -35,7 +34,6 @@ import reactor.core.publisher.Mono;
 @Component
 public class SseResponseHeaderFilter implements GlobalFilter, Ordered {
 
-    private static final String ACCEPT_HEADER = "Accept";
     private static final String TEXT_EVENT_STREAM = "text/event-stream";
     private static final String CONTENT_TYPE = "Content-Type";
     private static final String CACHE_CONTROL = "Cache-Control";
@@ -49,33 +47,19 @@ public class SseResponseHeaderFilter implements GlobalFilter, Ordered {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        
-        // SSE 요청인지 확인
-        // 1. Accept 헤더에 text/event-stream 포함 여부 확인
-        String acceptHeader = request.getHeaders().getFirst(ACCEPT_HEADER);
-        boolean hasAcceptHeader = acceptHeader != null && acceptHeader.contains(TEXT_EVENT_STREAM);
-        
-        // 2. POST 요청도 SSE를 지원하므로 (프론트엔드 요구사항), 경로로도 확인
-        String path = request.getURI().getPath();
-        boolean isStreamPath = path != null && path.contains("/stream");
-        
-        // SSE 요청인지 판단 (Accept 헤더 또는 /stream 경로)
-        boolean isSseRequest = hasAcceptHeader || isStreamPath;
+        // SSE 요청인지 판단 (Accept: text/event-stream 또는 /stream 경로, GatewayRequestContext에서 1회 판정)
+        // POST 요청도 SSE를 지원하므로 (프론트엔드 요구사항), 경로로도 확인
+        GatewayRequestContext context = GatewayRequestContext.from(exchange);
         
         // SSE 요청이 아니면 일반 필터 체인 진행
-        if (!isSseRequest) {
+        if (!context.isSseRequest()) {
             return chain.filter(exchange);
         }
 
         // C29: SSE 스트리밍 시작 로깅 강화 (추적용 헤더 포함)
-        String correlationId = request.getHeaders().getFirst("X-Correlation-ID");
-        String agentId = request.getHeaders().getFirst("X-Agent-ID");
-        String tenantId = request.getHeaders().getFirst("X-Tenant-ID");
-        String userId = request.getHeaders().getFirst("X-User-ID");
-        
         log.info("SSE stream started: method={}, path={}, correlationId={}, agentId={}, tenantId={}, userId={}", 
-                request.getMethod(), path, correlationId, agentId, tenantId, userId);
+                context.getMethod(), context.getPath(), context.getCorrelationId(), context.getAgentId(),
+                context.getTenantId(), context.getUserId());
 
         // 응답 헤더를 보장하기 위한 데코레이터 생성
         ServerHttpResponse originalResponse = exchange.getResponse();
@@ -126,7 +110,7 @@ public class SseResponseHeaderFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        // HeaderPropagationFilter보다 나중에 실행되어 응답 헤더를 보장
+        // GatewayRequestContextFilter보다 나중에 실행되어 응답 헤더를 보장
         return -50;
     }
 }
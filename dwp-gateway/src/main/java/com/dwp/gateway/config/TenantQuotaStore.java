@@ -0,0 +1,38 @@
+package com.dwp.gateway.config;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 테넌트 쿼터 저장소 (토큰 버킷 + 동시 스트림 슬롯)
+ *
+ * 구현:
+ * - {@link LocalTenantQuotaStore}: 인스턴스 메모리 (dwp.tenant-rate-limit.backend=local, 기본값)
+ * - {@link RedisTenantQuotaStore}: Redis Lua 스크립트로 원자 처리 (backend=redis, 다중 Gateway 공유)
+ */
+public interface TenantQuotaStore {
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 대기 시간(ms)
+     */
+    Mono<Long> tryConsume(String key, double replenishRate, long burstCapacity);
+
+    /**
+     * 동시 스트림 슬롯 획득 시도
+     *
+     * @param leaseId 해제/갱신 시 사용할 id (Gateway가 획득마다 생성하는 고유값, 클라이언트 헤더 사용 금지)
+     * @return 획득 여부
+     */
+    Mono<Boolean> tryAcquireStream(String key, int maxConcurrent, String leaseId);
+
+    /**
+     * 동시 스트림 lease 갱신 (스트림이 열려 있는 동안 주기적으로 호출)
+     */
+    Mono<Void> renewStream(String key, String leaseId);
+
+    /**
+     * 동시 스트림 슬롯 해제
+     */
+    Mono<Void> releaseStream(String key, String leaseId);
+}
@@ -0,0 +1,206 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테넌트/사용자 단위 유입 제어 필터 (토큰 버킷 + 동시 SSE 스트림 제한)
+ *
+ * 정책:
+ * - 라우트별 한도는 {@link TenantRateLimitProperties} (dwp.tenant-rate-limit.routes.{routeId})
+ * - 요청 속도: 테넌트 버킷 → 사용자 버킷 순으로 토큰 소비, 부족하면 429 + Retry-After(다음 토큰까지 초)
+ * - 동시 스트림: SSE 요청만 대상, 테넌트/사용자 슬롯 획득 실패 시 429 + Retry-After(concurrency-retry-after-seconds)
+ *   슬롯 lease id는 획득마다 Gateway가 생성 (X-Gateway-Request-Id 등 클라이언트 값을 쓰면 같은 id 재사용으로 한도 우회 가능)
+ *   스트림이 열려 있는 동안 stream-lease-seconds의 1/3 주기로 lease를 갱신하고, 종료/취소/오류 시 doFinally로 해제
+ * - 거부 요청은 업스트림 호출 없이 즉시 응답하고, ApiCallHistoryFilter 이력 파이프라인에
+ *   errorCode RATE_LIMITED / CONCURRENCY_LIMITED로 기록
+ * - 쿼터 저장소 오류(Redis 장애 등) 시 허용 (fail-open, gateway.tenant_rate_limit.store_errors 집계)
+ *
+ * 메트릭: gateway.tenant_rate_limit.admitted / rejected_rate / rejected_concurrency / store_errors
+ */
+@Slf4j
+@Component
+public class TenantRateLimitFilter implements GlobalFilter, Ordered {
+
+    static final String ERROR_CODE_RATE_LIMITED = "RATE_LIMITED";
+    static final String ERROR_CODE_CONCURRENCY_LIMITED = "CONCURRENCY_LIMITED";
+
+    private final TenantRateLimitProperties properties;
+    private final TenantQuotaStore quotaStore;
+    private final ApiCallHistoryFilter apiCallHistoryFilter;
+
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong rateRejectedCount = new AtomicLong();
+    private final AtomicLong concurrencyRejectedCount = new AtomicLong();
+    private final AtomicLong storeErrorCount = new AtomicLong();
+
+    public TenantRateLimitFilter(TenantRateLimitProperties properties,
+                                 TenantQuotaStore quotaStore,
+                                 ApiCallHistoryFilter apiCallHistoryFilter,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.quotaStore = quotaStore;
+        this.apiCallHistoryFilter = apiCallHistoryFilter;
+
+        FunctionCounter.builder("gateway.tenant_rate_limit.admitted", admittedCount, AtomicLong::get)
+                .description("한도 검사 통과 요청 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.tenant_rate_limit.rejected_rate", rateRejectedCount, AtomicLong::get)
+                .description("요청 속도 한도 초과로 거부된 요청 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.tenant_rate_limit.rejected_concurrency", concurrencyRejectedCount, AtomicLong::get)
+                .description("동시 스트림 한도 초과로 거부된 요청 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.tenant_rate_limit.store_errors", storeErrorCount, AtomicLong::get)
+                .description("쿼터 저장소 오류로 검사 없이 허용된 요청 수").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "none";
+        TenantRateLimitProperties.RouteLimit limit = properties.limitFor(route != null ? route.getId() : null);
+        GatewayRequestContext context = GatewayRequestContext.from(exchange);
+        String tenantId = context.getTenantId();
+        boolean streamLimited = context.isSseRequest() && limit.hasStreamLimit();
+        if (tenantId == null || (!limit.hasRateLimit() && !streamLimited)) {
+            return chain.filter(exchange);
+        }
+        String userId = resolveUserId(context);
+        String tenantKey = routeId + ":t:" + tenantId;
+        String userKey = userId != null ? routeId + ":u:" + tenantId + ":" + userId : null;
+
+        return consume(tenantKey, limit.getTenantReplenishRate(), limit.getTenantBurstCapacity())
+                .flatMap(retryAfterMillis -> retryAfterMillis > 0 || userKey == null
+                        ? Mono.just(retryAfterMillis)
+                        : consume(userKey, limit.getUserReplenishRate(), limit.getUserBurstCapacity()))
+                .flatMap(retryAfterMillis -> {
+                    if (retryAfterMillis > 0) {
+                        rateRejectedCount.incrementAndGet();
+                        log.debug("Rate limited: route={}, tenantId={}, userId={}, retryAfterMs={}",
+                                routeId, tenantId, userId, retryAfterMillis);
+                        return reject(exchange, ERROR_CODE_RATE_LIMITED, (retryAfterMillis + 999) / 1000);
+                    }
+                    if (!streamLimited) {
+                        admittedCount.incrementAndGet();
+                        return chain.filter(exchange);
+                    }
+                    return admitStream(exchange, chain, limit, tenantKey, userKey, TraceIdGenerator.next());
+                });
+    }
+
+    private Mono<Void> admitStream(ServerWebExchange exchange, GatewayFilterChain chain,
+                                   TenantRateLimitProperties.RouteLimit limit,
+                                   String tenantKey, String userKey, String leaseId) {
+        List<String> leases = new ArrayList<>(2);
+        Mono<Boolean> acquired = acquire(tenantKey, limit.getMaxConcurrentStreamsPerTenant(), leaseId, leases)
+                .flatMap(ok -> ok && userKey != null
+                        ? acquire(userKey, limit.getMaxConcurrentStreamsPerUser(), leaseId, leases)
+                        : Mono.just(ok));
+        return acquired.flatMap(ok -> {
+            if (!ok) {
+                release(leases, leaseId);
+                concurrencyRejectedCount.incrementAndGet();
+                log.debug("Concurrent stream limit reached: keys={}, leaseId={}", leases, leaseId);
+                return reject(exchange, ERROR_CODE_CONCURRENCY_LIMITED, properties.getConcurrencyRetryAfterSeconds());
+            }
+            admittedCount.incrementAndGet();
+            Disposable renewal = scheduleRenewal(leases, leaseId);
+            return chain.filter(exchange).doFinally(signal -> {
+                renewal.dispose();
+                release(leases, leaseId);
+            });
+        });
+    }
+
+    private Disposable scheduleRenewal(List<String> leases, String leaseId) {
+        if (leases.isEmpty()) {
+            return Disposables.disposed();
+        }
+        Duration interval = Duration.ofSeconds(Math.max(1L, properties.getStreamLeaseSeconds() / 3));
+        return Flux.interval(interval)
+                .concatMap(tick -> Flux.fromIterable(leases)
+                        .concatMap(key -> quotaStore.renewStream(key, leaseId)
+                                .onErrorResume(e -> {
+                                    log.warn("Failed to renew stream slot: key={}, error={}", key, e.getMessage());
+                                    return Mono.empty();
+                                })))
+                .subscribe();
+    }
+
+    private Mono<Long> consume(String key, double replenishRate, long burstCapacity) {
+        if (replenishRate <= 0 || burstCapacity <= 0) {
+            return Mono.just(0L);
+        }
+        return quotaStore.tryConsume(key, replenishRate, burstCapacity)
+                .onErrorResume(e -> {
+                    storeErrorCount.incrementAndGet();
+                    log.warn("Rate limit store unavailable, admitting request: key={}, error={}", key, e.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    private Mono<Boolean> acquire(String key, int maxConcurrent, String leaseId, List<String> leases) {
+        if (maxConcurrent <= 0) {
+            return Mono.just(Boolean.TRUE);
+        }
+        return quotaStore.tryAcquireStream(key, maxConcurrent, leaseId)
+                .doOnNext(ok -> {
+                    if (ok) {
+                        leases.add(key);
+                    }
+                })
+                .onErrorResume(e -> {
+                    storeErrorCount.incrementAndGet();
+                    log.warn("Stream quota store unavailable, admitting request: key={}, error={}", key, e.getMessage());
+                    return Mono.just(Boolean.TRUE);
+                });
+    }
+
+    private void release(List<String> leases, String leaseId) {
+        for (String key : leases) {
+            quotaStore.releaseStream(key, leaseId)
+                    .subscribe(null, e -> log.warn("Failed to release stream slot: key={}, error={}", key, e.getMessage()));
+        }
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String errorCode, long retryAfterSeconds) {
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1L, retryAfterSeconds)));
+        apiCallHistoryFilter.recordShortCircuited(exchange, errorCode, System.currentTimeMillis());
+        return exchange.getResponse().setComplete();
+    }
+
+    private static String resolveUserId(GatewayRequestContext context) {
+        VerifiedJwtCache.VerifiedJwt verifiedJwt = context.getVerifiedJwt();
+        if (verifiedJwt != null && verifiedJwt.userId() != null) {
+            return verifiedJwt.userId();
+        }
+        return context.getUserId();
+    }
+
+    @Override
+    public int getOrder() {
+        // GatewayRequestContextFilter 다음, RequestBodyLoggingFilter(-90)/SSE 필터보다 먼저 (거부 요청은 body/스트림 처리 없음)
+        return -100;
+    }
+}
@@ -0,0 +1,90 @@
+package com.dwp.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테넌트/사용자 단위 유입 제어 설정 (dwp.tenant-rate-limit.*)
+ *
+ * {@link TenantRateLimitFilter}가 라우트별 한도로 토큰 버킷(요청 속도)과 동시 SSE 스트림 수를 제한합니다.
+ * - 키: 정규화된 X-Tenant-ID, X-User-ID (검증된 JWT가 있으면 sub 우선)
+ * - backend: local(단일 인스턴스, 메모리) 또는 redis(다중 인스턴스 공유)
+ * - 한도 값이 0 이하면 해당 항목은 무제한
+ * - routes에 없는 라우트는 default-limit 적용 (기본값 무제한)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dwp.tenant-rate-limit")
+@Getter
+@Setter
+public class TenantRateLimitProperties {
+
+    /** 유입 제어 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 쿼터 저장소: local | redis */
+    private String backend = "local";
+
+    /** Redis 키 prefix */
+    private String redisKeyPrefix = "dwp:rate-limit";
+
+    /** SSE 스트림 lease 시간(초). 열린 스트림은 1/3 주기로 갱신, 비정상 종료로 해제되지 않은 슬롯은 이 시간 후 회수 (redis) */
+    private long streamLeaseSeconds = 600L;
+
+    /** 동시 스트림 한도 초과 시 Retry-After(초) */
+    private long concurrencyRetryAfterSeconds = 5L;
+
+    /** 미사용 버킷 회수 시간(초) (local) */
+    private long localIdleSeconds = 600L;
+
+    /** routes에 없는 라우트의 한도 */
+    private RouteLimit defaultLimit = new RouteLimit();
+
+    /** 라우트 id별 한도 */
+    private Map<String, RouteLimit> routes = new HashMap<>();
+
+    public RouteLimit limitFor(String routeId) {
+        if (routeId != null) {
+            RouteLimit limit = routes.get(routeId);
+            if (limit != null) {
+                return limit;
+            }
+        }
+        return defaultLimit;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit {
+
+        /** 테넌트 초당 보충 토큰 수 */
+        private double tenantReplenishRate;
+
+        /** 테넌트 버킷 최대 토큰 수 (순간 허용량) */
+        private long tenantBurstCapacity;
+
+        /** 사용자 초당 보충 토큰 수 */
+        private double userReplenishRate;
+
+        /** 사용자 버킷 최대 토큰 수 */
+        private long userBurstCapacity;
+
+        /** 테넌트 최대 동시 SSE 스트림 수 */
+        private int maxConcurrentStreamsPerTenant;
+
+        /** 사용자 최대 동시 SSE 스트림 수 */
+        private int maxConcurrentStreamsPerUser;
+
+        public boolean hasRateLimit() {
+            return tenantReplenishRate > 0 || userReplenishRate > 0;
+        }
+
+        public boolean hasStreamLimit() {
+            return maxConcurrentStreamsPerTenant > 0 || maxConcurrentStreamsPerUser > 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dwp.gateway.config;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추적용 id 생성기 (UUID v4 문자열 형식, 비보안 난수)
+ *
+ * UUID.randomUUID()는 SecureRandom을 거치므로 요청마다 여러 번 호출하면 비용이 큽니다.
+ * correlation/trace/gateway request id는 추측 불가일 필요가 없으므로 ThreadLocalRandom으로 생성합니다.
+ * 형식(36자, version 4, IETF variant)은 기존과 동일해 다운스트림 파싱에 영향 없음.
+ *
+ * ⚠️ 스트림 id, 토큰 등 보안 식별자에는 사용하지 않습니다 (SseReplayStore는 SecureRandom 사용).
+ */
+public final class TraceIdGenerator {
+
+    private TraceIdGenerator() {
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,153 @@
+package com.dwp.gateway.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 JWT 캐시 (토큰 SHA-256 해시 → 검증된 클레임)
+ *
+ * 요청마다 JWT payload를 다시 디코딩/파싱하지 않도록, HS256 서명 검증을 캐시 미스 시 1회만 수행하고
+ * 결과(tenant_id, sub, exp)를 bounded 캐시에 보관합니다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시 (메모리에 토큰 원문 미보관)
+ * - 항목은 토큰 exp와 cache-max-ttl-seconds 중 이른 시점에 만료 (만료 토큰은 캐시 적중 불가)
+ * - 검증 실패 토큰은 캐시하지 않음
+ *
+ * 메트릭 (Micrometer):
+ * - gateway.jwt_cache.hits / misses (counter), gateway.jwt_cache.hit_ratio / size (gauge)
+ * - gateway.jwt.verify (timer, 캐시 미스 시 서명 검증 지연), gateway.jwt.rejected (counter)
+ */
+@Slf4j
+@Component
+public class VerifiedJwtCache {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * 서명 검증된 토큰 클레임
+     *
+     * @param tenantId tenant_id 클레임 (숫자 문자열, 없거나 비숫자면 null)
+     * @param userId sub 클레임
+     * @param expiresAtMillis exp (없으면 0)
+     */
+    public record VerifiedJwt(String tenantId, String userId, long expiresAtMillis) {
+    }
+
+    private final JwtVerificationProperties properties;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedJwt> cache;
+    private final Timer verifyTimer;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public VerifiedJwtCache(JwtVerificationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .build();
+        long maxTtlNanos = Duration.ofSeconds(Math.max(1L, properties.getCacheMaxTtlSeconds())).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxEntries())
+                .expireAfter(Expiry.creating((String key, VerifiedJwt value) -> ttl(value, maxTtlNanos)))
+                .recordStats()
+                .build();
+
+        this.verifyTimer = Timer.builder("gateway.jwt.verify")
+                .description("캐시 미스 시 JWT 서명 검증 지연").register(meterRegistry);
+        FunctionCounter.builder("gateway.jwt_cache.hits", cache, c -> c.stats().hitCount())
+                .description("검증된 JWT 캐시 적중 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.jwt_cache.misses", cache, c -> c.stats().missCount())
+                .description("검증된 JWT 캐시 미스 수").register(meterRegistry);
+        FunctionCounter.builder("gateway.jwt.rejected", rejectedCount, AtomicLong::get)
+                .description("서명/만료/형식 검증 실패 토큰 수").register(meterRegistry);
+        Gauge.builder("gateway.jwt_cache.hit_ratio", cache, c -> c.stats().hitRate())
+                .description("검증된 JWT 캐시 적중률").register(meterRegistry);
+        Gauge.builder("gateway.jwt_cache.size", cache, Cache::estimatedSize)
+                .description("검증된 JWT 캐시 항목 수").register(meterRegistry);
+    }
+
+    /**
+     * Authorization 헤더의 Bearer 토큰 검증. 비활성화, Bearer 아님, 검증 실패 시 null.
+     */
+    public VerifiedJwt verify(String authorization) {
+        if (!properties.isEnabled() || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        if (token.isEmpty()) {
+            return null;
+        }
+        String key = hash(token);
+        VerifiedJwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long start = System.nanoTime();
+        VerifiedJwt verified = parse(token);
+        verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (verified == null) {
+            rejectedCount.incrementAndGet();
+            return null;
+        }
+        cache.put(key, verified);
+        return verified;
+    }
+
+    private VerifiedJwt parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Object tenantClaim = claims.get("tenant_id");
+            if (tenantClaim == null) {
+                tenantClaim = claims.get("tenantId");
+            }
+            String tenantId = tenantClaim != null ? tenantClaim.toString() : null;
+            Date expiration = claims.getExpiration();
+            return new VerifiedJwt(GatewayRequestContext.isNumeric(tenantId) ? tenantId : null,
+                    claims.getSubject(), expiration != null ? expiration.getTime() : 0L);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT verification failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Duration ttl(VerifiedJwt value, long maxTtlNanos) {
+        if (value.expiresAtMillis() <= 0) {
+            return Duration.ofNanos(maxTtlNanos);
+        }
+        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+        return Duration.ofNanos(Math.max(0L, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos())));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return KEY_ENCODER.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -1,14 +1,64 @@
 package com.dwp.gateway.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Gateway 내부 호출용 WebClient
+ *
+ * 전용 커넥션 풀(dwp-internal)을 사용하며, 사용자 요청 프록시 풀(spring.cloud.gateway.httpclient.pool)과 분리됩니다.
+ * 풀 설정은 {@link InternalHttpClientProperties} 참고.
+ */
 @Configuration
 public class WebClientConfig {
 
-    @Bean
-    public WebClient webClient(WebClient.Builder builder) {
+    private static final String INTERNAL_POOL_NAME = "dwp-internal";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider internalConnectionProvider(InternalHttpClientProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(INTERNAL_POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofSeconds(properties.getMaxIdleTimeSeconds()))
+                .maxLifeTime(Duration.ofSeconds(properties.getMaxLifeTimeSeconds()))
+                .metrics(properties.isMetricsEnabled());
+        if (properties.getEvictInBackgroundSeconds() > 0) {
+            builder.evictInBackground(Duration.ofSeconds(properties.getEvictInBackgroundSeconds()));
+        }
+        for (InternalHttpClientProperties.HostPool host : properties.getHosts()) {
+            // 요청 URL의 원격 주소는 미해석(unresolved) 주소로 풀 키가 되므로 동일하게 생성
+            builder.forRemoteHost(InetSocketAddress.createUnresolved(host.getHost(), host.getPort()), spec -> spec
+                    .maxConnections(host.getMaxConnections())
+                    .pendingAcquireMaxCount(host.getPendingAcquireMaxCount()));
+        }
         return builder.build();
     }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder,
+                               ConnectionProvider internalConnectionProvider,
+                               InternalHttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(internalConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeoutMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .responseTimeout(Duration.ofMillis(properties.getResponseTimeoutMillis()));
+        if (!properties.getProtocols().isEmpty()) {
+            httpClient = httpClient.protocol(properties.getProtocols().toArray(new HttpProtocol[0]));
+        }
+        // 공용 Builder 설정(codec, 필터)은 유지하고 커넥터만 교체
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
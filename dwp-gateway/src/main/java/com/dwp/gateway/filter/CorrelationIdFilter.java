@@ -1,55 +0,0 @@
-package com.dwp.gateway.filter;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.cloud.gateway.filter.GlobalFilter;
-import org.springframework.cloud.gateway.filter.GatewayFilterChain;
-import org.springframework.core.Ordered;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.stereotype.Component;
-import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
-
-import java.util.UUID;
-
-/**
- * Correlation ID 자동 주입 Global Filter (C27)
- * <p>
- * 목적: 장애 추적을 위한 correlation ID 표준화
- * - X-Correlation-ID가 없으면 Gateway에서 생성
- * - Downstream으로 전파되어 전체 요청 흐름 추적 가능
- * </p>
- */
-@Component
-public class CorrelationIdFilter implements GlobalFilter, Ordered {
-
-    private static final Logger log = LoggerFactory.getLogger(CorrelationIdFilter.class);
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
-
-    @Override
-    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        String correlationId = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
-
-        // Correlation ID가 없으면 생성
-        if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
-            log.debug("Generated Correlation ID: {}", correlationId);
-        } else {
-            log.debug("Using existing Correlation ID: {}", correlationId);
-        }
-
-        // 헤더에 추가
-        final String finalCorrelationId = correlationId;
-        ServerHttpRequest mutatedRequest = request.mutate()
-                .header(CORRELATION_ID_HEADER, finalCorrelationId)
-                .build();
-
-        return chain.filter(exchange.mutate().request(mutatedRequest).build());
-    }
-
-    @Override
-    public int getOrder() {
-        return Ordered.HIGHEST_PRECEDENCE; // 가장 먼저 실행
-    }
-}
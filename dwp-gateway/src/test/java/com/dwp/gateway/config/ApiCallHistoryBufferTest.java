@@ -0,0 +1,75 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * ApiCallHistoryBuffer 테스트
+ *
+ * 검증 항목:
+ * - 버퍼 용량 초과 시 drop-on-overflow (offer 즉시 false, dropped 카운터 증가)
+ * - 비활성화 시 적재하지 않음
+ * - offer 자체는 전송을 유발하지 않음 (batch-size 미만)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiCallHistoryBuffer 테스트")
+class ApiCallHistoryBufferTest {
+
+    @Mock
+    private WebClient webClient;
+
+    private ApiCallHistoryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApiCallHistoryProperties();
+        properties.setBufferCapacity(3);
+        properties.setBatchSize(100);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 신규 이력은 drop되고 카운터가 증가")
+    void testDropOnOverflow() {
+        ApiCallHistoryBuffer buffer = new ApiCallHistoryBuffer(webClient, properties, new SimpleMeterRegistry());
+
+        assertThat(buffer.offer(history("/api/a"))).isTrue();
+        assertThat(buffer.offer(history("/api/b"))).isTrue();
+        assertThat(buffer.offer(history("/api/c"))).isTrue();
+        assertThat(buffer.offer(history("/api/d"))).isFalse();
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(3);
+        assertThat(buffer.getEnqueuedCount()).isEqualTo(3);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 이력을 적재하지 않음")
+    void testDisabled() {
+        properties.setEnabled(false);
+        ApiCallHistoryBuffer buffer = new ApiCallHistoryBuffer(webClient, properties, new SimpleMeterRegistry());
+
+        assertThat(buffer.offer(history("/api/a"))).isFalse();
+        assertThat(buffer.getBufferedCount()).isZero();
+        assertThat(buffer.getDroppedCount()).isZero();
+    }
+
+    private static ApiCallHistoryFilter.ApiCallHistoryRequest history(String path) {
+        return ApiCallHistoryFilter.ApiCallHistoryRequest.builder()
+                .tenantId(1L)
+                .method("GET")
+                .path(path)
+                .statusCode(200)
+                .latencyMs(10L)
+                .build();
+    }
+}
@@ -9,17 +9,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,6 +26,7 @@ import static org.mockito.Mockito.*;
  * - 일반 API 요청은 기존대로 전체 정보 적재
  * - SSE 요청(/api/aura/test/stream)은 "요약 1건"만 적재
  * - SSE 요청은 queryString, requestSizeBytes, responseSizeBytes 제외
+ * - 이력은 ApiCallHistoryBuffer에 적재 (auth-server 직접 호출 없음)
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ApiCallHistoryFilter 테스트")
@@ -36,35 +34,14 @@ import static org.mockito.Mockito.*;
 class ApiCallHistoryFilterTest {
 
     @Mock
-    private WebClient webClient;
-
-    @Mock
-    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
-
-    @Mock
-    private WebClient.RequestBodySpec requestBodySpec;
-
-    @Mock
-    @SuppressWarnings("rawtypes")
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
-
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
+    private ApiCallHistoryBuffer historyBuffer;
 
     private ApiCallHistoryFilter filter;
 
     @BeforeEach
-    @SuppressWarnings("unchecked")
     void setUp() {
-        // WebClient Mock 설정
-        when(webClient.post()).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
-        when(requestBodySpec.contentType(any(MediaType.class))).thenReturn(requestBodySpec);
-        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(Void.class)).thenReturn(Mono.empty());
-
-        filter = new ApiCallHistoryFilter(webClient);
+        when(historyBuffer.offer(any())).thenReturn(true);
+        filter = new ApiCallHistoryFilter(historyBuffer);
     }
 
     @Test
@@ -90,7 +67,7 @@ class ApiCallHistoryFilterTest {
         ArgumentCaptor<ApiCallHistoryFilter.ApiCallHistoryRequest> captor = 
                 ArgumentCaptor.forClass(ApiCallHistoryFilter.ApiCallHistoryRequest.class);
         
-        verify(requestBodySpec, times(1)).bodyValue(captor.capture());
+        verify(historyBuffer, times(1)).offer(captor.capture());
         
         ApiCallHistoryFilter.ApiCallHistoryRequest recorded = captor.getValue();
         assertThat(recorded.getPath()).isEqualTo("/api/admin/users");
@@ -125,7 +102,7 @@ class ApiCallHistoryFilterTest {
         ArgumentCaptor<ApiCallHistoryFilter.ApiCallHistoryRequest> captor = 
                 ArgumentCaptor.forClass(ApiCallHistoryFilter.ApiCallHistoryRequest.class);
         
-        verify(requestBodySpec, times(1)).bodyValue(captor.capture());
+        verify(historyBuffer, times(1)).offer(captor.capture());
         
         ApiCallHistoryFilter.ApiCallHistoryRequest recorded = captor.getValue();
         assertThat(recorded.getPath()).isEqualTo("/api/aura/test/stream");
@@ -159,7 +136,7 @@ class ApiCallHistoryFilterTest {
         ArgumentCaptor<ApiCallHistoryFilter.ApiCallHistoryRequest> captor = 
                 ArgumentCaptor.forClass(ApiCallHistoryFilter.ApiCallHistoryRequest.class);
         
-        verify(requestBodySpec, times(1)).bodyValue(captor.capture());
+        verify(historyBuffer, times(1)).offer(captor.capture());
         
         ApiCallHistoryFilter.ApiCallHistoryRequest recorded = captor.getValue();
         assertThat(recorded.getQueryString()).isNull(); // SSE 요청은 쿼리스트링 기록 안 함
@@ -188,7 +165,7 @@ class ApiCallHistoryFilterTest {
         ArgumentCaptor<ApiCallHistoryFilter.ApiCallHistoryRequest> captor = 
                 ArgumentCaptor.forClass(ApiCallHistoryFilter.ApiCallHistoryRequest.class);
         
-        verify(requestBodySpec, times(1)).bodyValue(captor.capture());
+        verify(historyBuffer, times(1)).offer(captor.capture());
         
         ApiCallHistoryFilter.ApiCallHistoryRequest recorded = captor.getValue();
         assertThat(recorded.getStatusCode()).isEqualTo(499);
@@ -0,0 +1,154 @@
+package com.dwp.gateway.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GatewayRequestContextFilter 테스트
+ *
+ * 검증 항목:
+ * - X-Tenant-ID 누락 시 400 (공개 API 제외)
+ * - 기본값/추적 id 헤더를 한 번에 다운스트림 전파, 응답 헤더 및 컨텍스트 attribute 등록
+ * - Aura 요청의 비숫자 X-Tenant-ID는 서명 검증된 JWT claim으로 정규화, 해결 불가 시 400
+ * - 검증된 클레임만 신뢰 헤더로 전달 (클라이언트가 보낸 신뢰 헤더는 제거)
+ */
+@DisplayName("GatewayRequestContextFilter 테스트")
+@SuppressWarnings("null")
+class GatewayRequestContextFilterTest {
+
+    private final JwtVerificationProperties jwtProperties = new JwtVerificationProperties();
+    private final GatewayRequestContextFilter filter = new GatewayRequestContextFilter(
+            new VerifiedJwtCache(jwtProperties, new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("X-Tenant-ID 누락 시 400, 체인 미실행")
+    void missingTenantRejected() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/main/health"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(forwarded))).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(forwarded.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 API는 X-Tenant-ID 없이 통과하고 기본값 헤더를 설정하지 않음")
+    void exemptPathPassesWithoutDefaults() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(forwarded))).verifyComplete();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_DWP_SOURCE)).isNull();
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_TRACE_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기본값과 추적 id를 다운스트림/응답 헤더에 설정하고 컨텍스트를 공유")
+    void headersAppliedInSinglePass() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/admin/users")
+                .header(GatewayRequestContext.HEADER_TENANT_ID, "1")
+                .header(GatewayRequestContext.HEADER_TRACE_ID, "trace-from-client"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(forwarded))).verifyComplete();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        GatewayRequestContext context = GatewayRequestContext.from(forwarded.get());
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_DWP_SOURCE)).isEqualTo("FRONTEND");
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_DWP_CALLER_TYPE)).isEqualTo("USER");
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_TRACE_ID)).isEqualTo("trace-from-client");
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_CORRELATION_ID)).isEqualTo(context.getCorrelationId());
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_GATEWAY_REQUEST_ID)).isEqualTo(context.getGatewayRequestId());
+        assertThat(exchange.getResponse().getHeaders().getFirst(GatewayRequestContext.HEADER_TRACE_ID)).isEqualTo("trace-from-client");
+        assertThat(UUID.fromString(context.getGatewayRequestId()).version()).isEqualTo(4);
+        assertThat(context.getRouteClass()).isEqualTo(GatewayRequestContext.RouteClass.OTHER);
+    }
+
+    @Test
+    @DisplayName("Aura 요청의 비숫자 X-Tenant-ID는 서명 검증된 JWT tenant_id로 정규화하고 신뢰 헤더 전달")
+    void auraTenantNormalizedFromVerifiedJwt() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/aura/test/stream")
+                .header(GatewayRequestContext.HEADER_TENANT_ID, "tenant1")
+                .header(GatewayRequestContext.HEADER_VERIFIED_USER_ID, "spoofed")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(jwtProperties.getSecret())));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(forwarded))).verifyComplete();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_TENANT_ID)).isEqualTo("7");
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_VERIFIED_TENANT_ID)).isEqualTo("7");
+        assertThat(headers.getFirst(GatewayRequestContext.HEADER_VERIFIED_USER_ID)).isEqualTo("100");
+        GatewayRequestContext context = GatewayRequestContext.from(forwarded.get());
+        assertThat(context.getTenantId()).isEqualTo("7");
+        assertThat(context.isSseRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 토큰은 정규화에 사용하지 않고 신뢰 헤더도 제거")
+    void forgedJwtNotTrusted() {
+        MockServerWebExchange forged = MockServerWebExchange.from(MockServerHttpRequest.post("/api/aura/test/stream")
+                .header(GatewayRequestContext.HEADER_TENANT_ID, "tenant1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("another_secret_key_that_is_also_at_least_256_bits_long")));
+        StepVerifier.create(filter.filter(forged, capture(new AtomicReference<>()))).verifyComplete();
+        assertThat(forged.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        MockServerWebExchange spoofed = MockServerWebExchange.from(MockServerHttpRequest.get("/api/admin/users")
+                .header(GatewayRequestContext.HEADER_TENANT_ID, "1")
+                .header(GatewayRequestContext.HEADER_VERIFIED_TENANT_ID, "2"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        StepVerifier.create(filter.filter(spoofed, capture(forwarded))).verifyComplete();
+        assertThat(forwarded.get().getRequest().getHeaders().getFirst(GatewayRequestContext.HEADER_VERIFIED_TENANT_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Aura 요청의 비숫자 X-Tenant-ID를 정규화할 수 없으면 400")
+    void auraNonNumericTenantRejected() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/aura/test/stream")
+                .header(GatewayRequestContext.HEADER_TENANT_ID, "tenant1"));
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capture(forwarded))).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(forwarded.get()).isNull();
+    }
+
+    private static String token(String secret) {
+        return Jwts.builder()
+                .subject("100")
+                .claim("tenant_id", "7")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private static GatewayFilterChain capture(AtomicReference<ServerWebExchange> forwarded) {
+        return exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+}
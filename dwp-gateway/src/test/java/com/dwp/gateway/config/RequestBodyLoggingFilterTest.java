@@ -0,0 +1,107 @@
+package com.dwp.gateway.config;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestBodyLoggingFilter 테스트
+ *
+ * 검증 항목:
+ * - tap 설치 시에도 body는 청크 그대로 업스트림에 전달 (join/재구성 없음)
+ * - 미리보기는 preview-bytes까지만 복사, 전체 길이는 별도 집계
+ * - Auth 요청은 샘플링 대상이 아니며 body 미리보기는 항상 가림
+ */
+@DisplayName("RequestBodyLoggingFilter 테스트")
+@SuppressWarnings("null")
+class RequestBodyLoggingFilterTest {
+
+    @Test
+    @DisplayName("샘플링된 요청도 body는 원본 그대로 전달")
+    void bodyForwardedUnchanged() {
+        RequestBodyLoggingProperties properties = new RequestBodyLoggingProperties();
+        properties.setDefaultSampleRate(1.0);
+        properties.setPreviewBytes(16);
+        RequestBodyLoggingFilter filter = new RequestBodyLoggingFilter(properties);
+        String body = "{\"prompt\":\"" + "x".repeat(10_000) + "\",\"context\":{}}";
+        MockServerHttpRequest request = MockServerHttpRequest.post("/api/aura/test/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        AtomicReference<String> forwarded = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, mutated -> DataBufferUtils.join(mutated.getRequest().getBody())
+                        .doOnNext(buffer -> {
+                            forwarded.set(buffer.toString(StandardCharsets.UTF_8));
+                            DataBufferUtils.release(buffer);
+                        })
+                        .then()))
+                .verifyComplete();
+
+        assertThat(forwarded.get()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("미리보기는 preview-bytes까지만 복사하고 버퍼 읽기 위치는 유지")
+    void previewCapped() {
+        RequestBodyLoggingFilter.BodyTap tap = new RequestBodyLoggingFilter.BodyTap("/api/aura/test/stream", true, true, 8);
+        DataBuffer first = DefaultDataBufferFactory.sharedInstance.wrap("{\"prom".getBytes(StandardCharsets.UTF_8));
+        DataBuffer second = DefaultDataBufferFactory.sharedInstance.wrap("pt\":\"hello\"}".getBytes(StandardCharsets.UTF_8));
+
+        tap.capture(first);
+        tap.capture(second);
+
+        assertThat(tap.previewText()).isEqualTo("{\"prompt... (truncated)");
+        assertThat(tap.getTotalBytes()).isEqualTo(18);
+        assertThat(first.readableByteCount()).isEqualTo(6);
+        assertThat(second.readableByteCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Auth 요청 body 미리보기는 로그용 문자열에서 가림")
+    void authPreviewRedacted() {
+        RequestBodyLoggingFilter.BodyTap tap = new RequestBodyLoggingFilter.BodyTap("/api/auth/login", false, true, 500);
+        tap.capture(DefaultDataBufferFactory.sharedInstance.wrap(
+                "{\"username\":\"admin\",\"password\":\"secret\",\"tenantId\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(tap.loggablePreview()).isEqualTo("(redacted)").doesNotContain("secret");
+        assertThat(tap.getTotalBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 1.0이어도 Auth 요청에는 tap을 설치하지 않음 (DEBUG가 아닐 때)")
+    void authRequestNotSampled() {
+        Assumptions.assumeFalse(LoggerFactory.getLogger(RequestBodyLoggingFilter.class).isDebugEnabled());
+        RequestBodyLoggingProperties properties = new RequestBodyLoggingProperties();
+        properties.setDefaultSampleRate(1.0);
+        RequestBodyLoggingFilter filter = new RequestBodyLoggingFilter(properties);
+        MockServerHttpRequest request = MockServerHttpRequest.post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"username\":\"admin\",\"password\":\"secret\"}");
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        AtomicReference<ServerWebExchange> passed = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, mutated -> {
+                    passed.set(mutated);
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+
+        assertThat(passed.get()).isSameAs(exchange);
+    }
+}
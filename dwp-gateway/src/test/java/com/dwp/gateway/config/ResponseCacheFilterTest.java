@@ -0,0 +1,129 @@
+package com.dwp.gateway.config;
+
+import com.dwp.core.event.RedisEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResponseCacheFilter 테스트
+ *
+ * 검증 항목:
+ * - 화이트리스트 GET은 첫 요청만 업스트림 호출, 이후 캐시 적중 (ETag 동일)
+ * - If-None-Match 일치 시 304
+ * - 관리자 변경 요청 성공 시 테넌트 캐시 무효화
+ * - 검증된 JWT가 없으면 캐시하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseCacheFilter 테스트")
+@SuppressWarnings("null")
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"success\":true,\"data\":{\"menus\":[]}}";
+
+    @Mock
+    private ApiCallHistoryBuffer historyBuffer;
+
+    private ResponseCacheFilter filter;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        if (!"GET".equals(exchange.getRequest().getMethod().name())) {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().setComplete();
+        }
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
+    };
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        GatewayResponseCache cache = new GatewayResponseCache(properties, new SimpleMeterRegistry());
+        filter = new ResponseCacheFilter(properties, cache, new ApiCallHistoryFilter(historyBuffer),
+                new StaticListableBeanFactory().getBeanProvider(RedisEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("두 번째 요청은 업스트림 호출 없이 캐시 적중, If-None-Match 일치 시 304")
+    void servesFromCacheAndRevalidates() {
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), true);
+        StepVerifier.create(filter.filter(first, upstream)).verifyComplete();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), true);
+        StepVerifier.create(filter.filter(second, upstream)).verifyComplete();
+
+        MockServerWebExchange revalidate = exchange(MockServerHttpRequest.get("/api/auth/menus/tree")
+                .header(HttpHeaders.IF_NONE_MATCH, etag), true);
+        StepVerifier.create(filter.filter(revalidate, upstream)).verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.HEADER_CACHE_STATUS)).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.HEADER_CACHE_STATUS)).isEqualTo("HIT");
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(etag);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(revalidate.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("관리자 변경 요청 성공 시 테넌트 캐시 무효화")
+    void invalidatesOnAdminMutation() {
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), true), upstream))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.put("/api/admin/menus/10"), true), upstream))
+                .verifyComplete();
+
+        MockServerWebExchange afterUpdate = exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), true);
+        StepVerifier.create(filter.filter(afterUpdate, upstream)).verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+        assertThat(afterUpdate.getResponse().getHeaders().getFirst(ResponseCacheFilter.HEADER_CACHE_STATUS)).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("검증된 JWT가 없으면 캐시하지 않음")
+    void bypassesWithoutVerifiedJwt() {
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), false), upstream))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/api/auth/menus/tree"), false), upstream))
+                .verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> builder, boolean verified) {
+        MockServerHttpRequest request = builder
+                .header("X-Tenant-ID", "1")
+                .header("X-User-ID", "100")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        GatewayRequestContext context = GatewayRequestContext.parse(request);
+        if (verified) {
+            context.setVerifiedJwt(new VerifiedJwtCache.VerifiedJwt("1", "100", 0L));
+        }
+        exchange.getAttributes().put(GatewayRequestContext.ATTRIBUTE, context);
+        return exchange;
+    }
+}
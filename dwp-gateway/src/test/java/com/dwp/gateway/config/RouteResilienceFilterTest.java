@@ -0,0 +1,119 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RouteResilienceFilter 테스트
+ *
+ * 검증 항목:
+ * - 업스트림 5xx 실패율이 임계치를 넘으면 circuit OPEN, 이후 업스트림 호출 없이 503 + Retry-After
+ * - bulkhead 초과 시 대기 없이 503, 진행 중 요청 종료 시 슬롯 반환
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteResilienceFilter 테스트")
+@SuppressWarnings({"null", "unchecked"})
+class RouteResilienceFilterTest {
+
+    @Mock
+    private ApiCallHistoryBuffer historyBuffer;
+
+    private RouteResilienceRegistry registry;
+    private RouteResilienceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RouteResilienceProperties.RoutePolicy policy = new RouteResilienceProperties.RoutePolicy();
+        policy.setMaxConcurrentRequests(1);
+        policy.setSlidingWindowSize(4);
+        policy.setMinimumCalls(4);
+        policy.setFailureRateThreshold(50f);
+        policy.setOpenStateSeconds(30L);
+        RouteResilienceProperties properties = new RouteResilienceProperties();
+        properties.getRoutes().put("auth-server", policy);
+
+        registry = new RouteResilienceRegistry(properties, new SimpleMeterRegistry());
+        ObjectProvider<List<HttpHeadersFilter>> headersFilters = mock(ObjectProvider.class);
+        filter = new RouteResilienceFilter(properties, registry, new ApiCallHistoryFilter(historyBuffer),
+                HttpClient.create(), headersFilters);
+    }
+
+    @Test
+    @DisplayName("5xx 실패율 임계치 초과 시 circuit OPEN, 이후 업스트림 호출 없이 503")
+    void opensCircuitOnUpstreamErrors() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        GatewayFilterChain failing = exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return Mono.empty();
+        };
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(filter.filter(exchange(), failing)).verifyComplete();
+        }
+        MockServerWebExchange rejected = exchange();
+        StepVerifier.create(filter.filter(rejected, failing)).verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+        assertThat(registry.get("auth-server").circuitBreaker().getState().name()).isEqualTo("OPEN");
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(rejected.getResponse().getBodyAsString().block()).contains(RouteResilienceFilter.ERROR_CODE_CIRCUIT_OPEN);
+    }
+
+    @Test
+    @DisplayName("bulkhead 초과 시 즉시 503, 진행 중 요청 종료 후 슬롯 반환")
+    void rejectsWhenBulkheadFull() {
+        Sinks.Empty<Void> slowUpstream = Sinks.empty();
+        Disposable inFlight = filter.filter(exchange(), exchange -> slowUpstream.asMono()).subscribe();
+
+        MockServerWebExchange rejected = exchange();
+        StepVerifier.create(filter.filter(rejected, exchange -> Mono.empty())).verifyComplete();
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getBodyAsString().block()).contains(RouteResilienceFilter.ERROR_CODE_BULKHEAD_FULL);
+
+        slowUpstream.tryEmitEmpty();
+        inFlight.dispose();
+        MockServerWebExchange admitted = exchange();
+        StepVerifier.create(filter.filter(admitted, exchange -> Mono.empty())).verifyComplete();
+        assertThat(admitted.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/me")
+                .header("X-Tenant-ID", "1"));
+        Route route = Route.async()
+                .id("auth-server")
+                .uri(URI.create("http://localhost:8001"))
+                .predicate(e -> true)
+                .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
@@ -0,0 +1,195 @@
+package com.dwp.gateway.config;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SseEventFramer 테스트
+ *
+ * 검증 항목:
+ * - 청크 경계에 걸친 이벤트도 이벤트당 id 1개 주입
+ * - 줄 시작의 id 필드만 인식 (payload의 "id:" 문자열 무시), 기존 id 유지
+ * - CRLF 경계가 청크 사이에서 나뉘어도 정상 처리, 주석(heartbeat)에는 id 미주입
+ * - Netty pooled 버퍼 refCnt 누수 없음
+ * - 병렬 스트림에서 이벤트 누락/중복 id 없음
+ */
+@DisplayName("SseEventFramer 테스트")
+@SuppressWarnings("null")
+class SseEventFramerTest {
+
+    private static final DataBufferFactory DEFAULT_FACTORY = DefaultDataBufferFactory.sharedInstance;
+    private static final Pattern ID_LINE = Pattern.compile("^id: (.*)$", Pattern.MULTILINE);
+
+    @Test
+    @DisplayName("청크 경계에 걸친 이벤트는 경계가 올 때까지 보류 후 id 1개 주입")
+    void eventSplitAcrossChunks() {
+        String result = frame(DEFAULT_FACTORY, counter(), "data: hel", "lo\n", "\ndata: world\n\n");
+
+        assertThat(result).isEqualTo("id: 1\ndata: hello\n\nid: 2\ndata: world\n\n");
+    }
+
+    @Test
+    @DisplayName("payload 안의 id: 문자열은 무시하고, 줄 시작 id 필드가 있으면 주입하지 않음")
+    void idFieldOnlyAtLineStart() {
+        String result = frame(DEFAULT_FACTORY, counter(),
+                "data: {\"id:\":1, \"grid:\":2}\n\n", "id: upstream-7\ndata: keep\n\n");
+
+        assertThat(result).isEqualTo("id: 1\ndata: {\"id:\":1, \"grid:\":2}\n\nid: upstream-7\ndata: keep\n\n");
+    }
+
+    @Test
+    @DisplayName("CRLF 경계가 청크 사이에서 나뉘어도 LF까지 같은 이벤트로 처리, 주석에는 id 미주입")
+    void crlfBoundaryAndComments() {
+        String result = frame(DEFAULT_FACTORY, counter(), ": ping\r\n\r\ndata: a\r\n\r", "\ndata: b\r\n\r\n");
+
+        assertThat(result).isEqualTo(": ping\r\n\r\nid: 1\ndata: a\r\n\r\nid: 2\ndata: b\r\n\r\n");
+    }
+
+    @Test
+    @DisplayName("완료 시 경계 없는 마지막 조각은 id 없이 그대로 flush")
+    void flushIncompleteTail() {
+        String result = frame(DEFAULT_FACTORY, counter(), "data: a\n\ndata: tail");
+
+        assertThat(result).isEqualTo("id: 1\ndata: a\n\ndata: tail");
+    }
+
+    @Test
+    @DisplayName("보류 한도를 넘는 이벤트는 id 주입 없이 통과")
+    void passthroughWhenPendingExceedsLimit() {
+        SseEventFramer framer = new SseEventFramer(DEFAULT_FACTORY, counter(), 8);
+
+        String result = join(framer.frame(chunks(DEFAULT_FACTORY, "data: 0123", "456789\n", "\ndata: x\n\n")));
+
+        assertThat(result).isEqualTo("data: 0123456789\n\nid: 1\ndata: x\n\n");
+    }
+
+    @Test
+    @DisplayName("Netty pooled 버퍼: payload는 split/composite로 전달되고 모든 버퍼가 해제됨")
+    void nettyBuffersReleased() {
+        NettyDataBufferFactory factory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        List<DataBuffer> inputs = chunks(factory, "data: a\n\ndata: ", "b\n\n").collectList().block();
+        SseEventFramer framer = new SseEventFramer(factory, counter());
+
+        List<DataBuffer> outputs = framer.frame(Flux.fromIterable(inputs)).collectList().block();
+        StringBuilder result = new StringBuilder();
+        for (DataBuffer output : outputs) {
+            result.append(output.toString(StandardCharsets.UTF_8));
+            DataBufferUtils.release(output);
+        }
+
+        assertThat(result.toString()).isEqualTo("id: 1\ndata: a\n\nid: 2\ndata: b\n\n");
+        assertThat(inputs).allSatisfy(input -> assertThat(((NettyDataBuffer) input).getNativeBuffer().refCnt()).isZero());
+    }
+
+    @Test
+    @DisplayName("취소 시 보류 중인 버퍼 해제")
+    void releaseOnCancel() {
+        NettyDataBufferFactory factory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        DataBuffer partial = factory.wrap("data: never-ends".getBytes(StandardCharsets.UTF_8));
+        SseEventFramer framer = new SseEventFramer(factory, counter());
+
+        framer.frame(Flux.just(partial).concatWith(Flux.never())).take(Duration.ofMillis(50)).blockLast();
+
+        assertThat(((NettyDataBuffer) partial).getNativeBuffer().refCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("병렬 스트림: 스트림마다 이벤트 누락 없이 이벤트당 id 1개, 전체 id 중복 없음")
+    void concurrentStreamsNoDroppedOrDuplicateIds() {
+        int streams = 64;
+        int eventsPerStream = 40;
+        NettyDataBufferFactory factory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        AtomicLong ids = new AtomicLong();
+
+        List<String> outputs = Flux.range(0, streams)
+                .flatMap(s -> new SseEventFramer(factory, () -> String.valueOf(ids.incrementAndGet()))
+                        .frame(tokenStream(factory, s, eventsPerStream))
+                        .map(buffer -> {
+                            String text = buffer.toString(StandardCharsets.UTF_8);
+                            DataBufferUtils.release(buffer);
+                            return text;
+                        })
+                        .reduce("", String::concat)
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(outputs).hasSize(streams).allSatisfy(output -> {
+            assertThat(idLines(output)).hasSize(eventsPerStream);
+            assertThat(output).contains("\"token\":\"t0\"", "\"token\":\"t" + (eventsPerStream - 1) + "\"");
+        });
+        List<String> allIds = outputs.stream().flatMap(output -> idLines(output).stream()).toList();
+        assertThat(allIds).hasSize(streams * eventsPerStream).doesNotHaveDuplicates();
+        assertThat(ids.get()).isEqualTo((long) streams * eventsPerStream);
+    }
+
+    /** LLM 토큰 스트림처럼 이벤트를 7바이트 단위로 잘라 청크 경계가 이벤트 중간에 오도록 구성 */
+    private static Flux<DataBuffer> tokenStream(DataBufferFactory factory, int stream, int events) {
+        StringBuilder body = new StringBuilder();
+        for (int e = 0; e < events; e++) {
+            body.append("data: {\"stream\":").append(stream).append(",\"token\":\"t").append(e).append("\"}\n\n");
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> parts = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += 7) {
+            parts.add(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + 7)));
+        }
+        return Flux.fromIterable(parts).map(factory::wrap);
+    }
+
+    private static List<String> idLines(String text) {
+        List<String> found = new ArrayList<>();
+        Matcher matcher = ID_LINE.matcher(text);
+        while (matcher.find()) {
+            found.add(matcher.group(1));
+        }
+        return found;
+    }
+
+    private static String frame(DataBufferFactory factory, Supplier<String> ids, String... parts) {
+        return join(new SseEventFramer(factory, ids).frame(chunks(factory, parts)));
+    }
+
+    private static Flux<DataBuffer> chunks(DataBufferFactory factory, String... parts) {
+        return Flux.fromArray(parts).map(part -> factory.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String join(Flux<DataBuffer> output) {
+        return output.map(buffer -> {
+                    String text = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return text;
+                })
+                .collect(StringBuilder::new, StringBuilder::append)
+                .map(StringBuilder::toString)
+                .switchIfEmpty(Mono.just(""))
+                .block();
+    }
+
+    private static Supplier<String> counter() {
+        AtomicLong counter = new AtomicLong();
+        return () -> String.valueOf(counter.incrementAndGet());
+    }
+}
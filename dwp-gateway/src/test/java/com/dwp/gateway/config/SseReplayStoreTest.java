@@ -0,0 +1,191 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SseReplayStore 테스트
+ *
+ * 검증 항목:
+ * - 이벤트 id는 스트림 범위 ("{streamId}-{seq}")
+ * - 완료된 스트림은 Last-Event-ID 이후 구간만 재생 후 종료
+ * - 진행 중인 스트림은 재생 후 실시간 이벤트로 re-attach
+ * - 소유자 불일치 / 보관 한도로 버려진 구간은 재생하지 않음 (업스트림 전달)
+ * - relay는 클라이언트 demand만큼만 업스트림에 요청, 취소 후에는 끝까지 적재
+ * - 소비가 느린 재연결 구독자는 maxEvents 초과 시 overflow 오류로 종료
+ */
+@DisplayName("SseReplayStore 테스트")
+@SuppressWarnings("null")
+class SseReplayStoreTest {
+
+    private static final DataBufferFactory FACTORY = DefaultDataBufferFactory.sharedInstance;
+    private static final String OWNER = SseReplayStore.ownerKey("1", "100", "Bearer token");
+
+    private SseReplayProperties properties;
+    private SseReplayStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SseReplayProperties();
+        properties.setMaxEvents(3);
+        store = new SseReplayStore(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료된 스트림: Last-Event-ID 이후 이벤트만 재생하고 종료")
+    void resumeCompletedStream() {
+        SseReplayStream stream = store.open(OWNER);
+        String output = text(store.relay(stream, framer(stream).frame(chunks("data: a\n\n", "data: b\n\ndata: c\n\n"))));
+        String streamId = stream.getStreamId();
+
+        assertThat(output).isEqualTo("id: " + streamId + "-1\ndata: a\n\n"
+                + "id: " + streamId + "-2\ndata: b\n\nid: " + streamId + "-3\ndata: c\n\n");
+        assertThat(text(store.resume(streamId + "-1", OWNER)))
+                .isEqualTo("id: " + streamId + "-2\ndata: b\n\nid: " + streamId + "-3\ndata: c\n\n");
+        assertThat(text(store.resume(streamId + "-3", OWNER))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트림마다 id 범위가 독립적")
+    void idsScopedPerStream() {
+        SseReplayStream first = store.open(OWNER);
+        SseReplayStream second = store.open(OWNER);
+
+        assertThat(first.nextEventId()).isEqualTo(first.getStreamId() + "-1");
+        assertThat(second.nextEventId()).isEqualTo(second.getStreamId() + "-1");
+        assertThat(first.getStreamId()).isNotEqualTo(second.getStreamId());
+    }
+
+    @Test
+    @DisplayName("클라이언트가 끊겨도 업스트림은 계속 적재되고, 재연결 시 재생 후 실시간 이벤트로 이어짐")
+    void reattachToLiveStream() {
+        SseReplayStream stream = store.open(OWNER);
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Flux<DataBuffer> relay = store.relay(stream, framer(stream).frame(upstream.asFlux()));
+
+        // 원 클라이언트가 첫 이벤트 수신 후 연결 종료
+        StepVerifier.create(relay.map(SseReplayStoreTest::release).take(1))
+                .then(() -> upstream.tryEmitNext(chunk("data: a\n\n")))
+                .expectNextCount(1)
+                .verifyComplete();
+        upstream.tryEmitNext(chunk("data: b\n\n"));
+
+        String streamId = stream.getStreamId();
+        StepVerifier.create(store.resume(streamId + "-1", OWNER).map(SseReplayStoreTest::release))
+                .expectNext("id: " + streamId + "-2\ndata: b\n\n")
+                .then(() -> upstream.tryEmitNext(chunk("data: c\n\n")))
+                .expectNext("id: " + streamId + "-3\ndata: c\n\n")
+                .then(upstream::tryEmitComplete)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("소유자 불일치, 형식 오류, 보관 한도로 버려진 구간은 재생하지 않음")
+    void resumeMisses() {
+        SseReplayStream stream = store.open(OWNER);
+        text(store.relay(stream, framer(stream).frame(chunks("data: 1\n\ndata: 2\n\ndata: 3\n\ndata: 4\n\ndata: 5\n\n"))));
+        String streamId = stream.getStreamId();
+
+        assertThat(store.resume(streamId + "-2", SseReplayStore.ownerKey("1", "100", "Bearer other"))).isNull();
+        assertThat(store.resume("upstream-event-7", OWNER)).isNull();
+        assertThat(store.resume(streamId + "-x", OWNER)).isNull();
+        // maxEvents=3 → 1, 2 는 버려짐: Last-Event-ID=1 이면 2를 재생할 수 없음
+        assertThat(store.resume(streamId + "-1", OWNER)).isNull();
+        assertThat(text(store.resume(streamId + "-2", OWNER)))
+                .isEqualTo("id: " + streamId + "-3\ndata: 3\n\nid: " + streamId + "-4\ndata: 4\n\nid: " + streamId + "-5\ndata: 5\n\n");
+    }
+
+    @Test
+    @DisplayName("relay는 클라이언트 demand만큼만 업스트림에 요청하고, 취소 후에는 끝까지 적재")
+    void relayPropagatesDemand() {
+        SseReplayStream stream = store.open(OWNER);
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Flux<DataBuffer> upstream = Flux.range(1, 100)
+                .map(i -> chunk("data: " + i + "\n\n"))
+                .doOnRequest(requests::add);
+
+        StepVerifier.create(store.relay(stream, framer(stream).frame(upstream)).map(SseReplayStoreTest::release), 2)
+                .expectNextCount(2)
+                .then(() -> assertThat(requests).containsExactly(2L))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(stream.canResumeFrom(99)).isTrue();
+    }
+
+    @Test
+    @DisplayName("소비하지 않는 재연결 구독자는 maxEvents 초과 시 overflow 오류로 종료")
+    void slowFollowerOverflows() {
+        SseReplayStream stream = store.open(OWNER);
+        Sinks.Many<DataBuffer> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        store.relay(stream, framer(stream).frame(upstream.asFlux())).subscribe(SseReplayStoreTest::release);
+        upstream.tryEmitNext(chunk("data: 0\n\n"));
+
+        StepVerifier.create(stream.follow(1), 0)
+                .then(() -> {
+                    for (int i = 1; i <= 4; i++) {
+                        upstream.tryEmitNext(chunk("data: " + i + "\n\n"));
+                    }
+                })
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(Duration.ofSeconds(5));
+        upstream.tryEmitComplete();
+    }
+
+    @Test
+    @DisplayName("max-streams 초과 시 재생 버퍼 없이 시작")
+    void rejectWhenFull() {
+        properties.setMaxStreams(1);
+
+        assertThat(store.open(OWNER)).isNotNull();
+        assertThat(store.open(OWNER)).isNull();
+    }
+
+    private static SseEventFramer framer(SseReplayStream stream) {
+        return new SseEventFramer(FACTORY, stream::nextEventId, stream::record, SseEventFramer.DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    private static Flux<DataBuffer> chunks(String... parts) {
+        return Flux.fromArray(parts).map(SseReplayStoreTest::chunk);
+    }
+
+    private static DataBuffer chunk(String part) {
+        return FACTORY.wrap(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String release(DataBuffer buffer) {
+        String text = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return text;
+    }
+
+    private static String text(Flux<DataBuffer> output) {
+        return output.map(SseReplayStoreTest::release)
+                .reduce("", String::concat)
+                .block(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,171 @@
+package com.dwp.gateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TenantRateLimitFilter 테스트 (local 저장소)
+ *
+ * 검증 항목:
+ * - 사용자 버킷 소진 시 업스트림 호출 없이 429 + Retry-After, 이력에 RATE_LIMITED 기록
+ * - 동시 스트림 한도 초과 시 429, 스트림 종료(취소) 시 슬롯 반환
+ * - 스트림 lease id는 클라이언트 헤더와 무관하게 획득마다 생성, 열린 동안 주기적 갱신
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantRateLimitFilter 테스트")
+@SuppressWarnings("null")
+class TenantRateLimitFilterTest {
+
+    @Mock
+    private ApiCallHistoryBuffer historyBuffer;
+
+    private TenantRateLimitProperties properties;
+    private LocalTenantQuotaStore quotaStore;
+    private TenantRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(historyBuffer.offer(any())).thenReturn(true);
+
+        TenantRateLimitProperties.RouteLimit limit = new TenantRateLimitProperties.RouteLimit();
+        limit.setTenantReplenishRate(100);
+        limit.setTenantBurstCapacity(100);
+        limit.setUserReplenishRate(0.01);
+        limit.setUserBurstCapacity(2);
+        limit.setMaxConcurrentStreamsPerUser(1);
+        properties = new TenantRateLimitProperties();
+        properties.getRoutes().put("aura-platform", limit);
+
+        quotaStore = new LocalTenantQuotaStore(properties);
+        filter = new TenantRateLimitFilter(properties, quotaStore,
+                new ApiCallHistoryFilter(historyBuffer), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("사용자 버킷 소진 시 429 + Retry-After, 이력에 RATE_LIMITED 기록")
+    void rejectsWhenUserBucketExhausted() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        GatewayFilterChain chain = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.empty();
+        };
+
+        StepVerifier.create(filter.filter(auraExchange("/api/aura/agents"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(auraExchange("/api/aura/agents"), chain)).verifyComplete();
+        ServerWebExchange rejected = auraExchange("/api/aura/agents");
+        StepVerifier.create(filter.filter(rejected, chain)).verifyComplete();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(Long.parseLong(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isPositive();
+
+        ArgumentCaptor<ApiCallHistoryFilter.ApiCallHistoryRequest> captor =
+                ArgumentCaptor.forClass(ApiCallHistoryFilter.ApiCallHistoryRequest.class);
+        verify(historyBuffer).offer(captor.capture());
+        assertThat(captor.getValue().getStatusCode()).isEqualTo(429);
+        assertThat(captor.getValue().getErrorCode()).isEqualTo(TenantRateLimitFilter.ERROR_CODE_RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("동시 스트림 한도 초과 시 429, 스트림 종료 시 슬롯 반환")
+    void limitsConcurrentStreams() {
+        Sinks.Empty<Void> openStream = Sinks.empty();
+        Disposable first = filter.filter(auraExchange("/api/aura/test/stream"), exchange -> openStream.asMono()).subscribe();
+
+        ServerWebExchange rejected = auraExchange("/api/aura/test/stream");
+        StepVerifier.create(filter.filter(rejected, exchange -> Mono.empty())).verifyComplete();
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(quotaStore.getActiveStreams("aura-platform:u:1:100")).isEqualTo(1);
+
+        first.dispose();
+        assertThat(quotaStore.getActiveStreams("aura-platform:u:1:100")).isZero();
+    }
+
+    @Test
+    @DisplayName("스트림 lease id는 X-Gateway-Request-Id와 무관하게 획득마다 생성, 열린 동안 lease 1/3 주기로 갱신")
+    void generatesLeaseIdPerAdmissionAndRenews() {
+        TenantQuotaStore store = mock(TenantQuotaStore.class);
+        when(store.tryConsume(anyString(), anyDouble(), anyLong())).thenReturn(Mono.just(0L));
+        when(store.tryAcquireStream(anyString(), anyInt(), anyString())).thenReturn(Mono.just(true));
+        when(store.renewStream(anyString(), anyString())).thenReturn(Mono.empty());
+        when(store.releaseStream(anyString(), anyString())).thenReturn(Mono.empty());
+        properties.setStreamLeaseSeconds(30);
+        TenantRateLimitFilter leaseFilter = new TenantRateLimitFilter(properties, store,
+                new ApiCallHistoryFilter(historyBuffer), new SimpleMeterRegistry());
+
+        StepVerifier.withVirtualTime(() -> leaseFilter.filter(
+                        auraExchange("/api/aura/test/stream", "reused-id"), exchange -> Mono.never()))
+                .thenAwait(Duration.ofSeconds(25))
+                .thenCancel()
+                .verify();
+        StepVerifier.create(leaseFilter.filter(auraExchange("/api/aura/test/stream", "reused-id"), exchange -> Mono.empty()))
+                .verifyComplete();
+
+        ArgumentCaptor<String> leaseIds = ArgumentCaptor.forClass(String.class);
+        verify(store, times(2)).tryAcquireStream(eq("aura-platform:u:1:100"), eq(1), leaseIds.capture());
+        List<String> ids = leaseIds.getAllValues();
+        assertThat(ids).doesNotContain("reused-id").doesNotHaveDuplicates();
+        verify(store, times(2)).renewStream("aura-platform:u:1:100", ids.get(0));
+        verify(store).releaseStream("aura-platform:u:1:100", ids.get(0));
+        verify(store).releaseStream("aura-platform:u:1:100", ids.get(1));
+    }
+
+    private static ServerWebExchange auraExchange(String path) {
+        return auraExchange(path, null);
+    }
+
+    private static ServerWebExchange auraExchange(String path, String gatewayRequestId) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post(path)
+                .header("X-Tenant-ID", "1")
+                .header("X-User-ID", "100");
+        if (gatewayRequestId != null) {
+            request.header("X-Gateway-Request-Id", gatewayRequestId);
+        }
+        ServerWebExchange exchange = MockServerWebExchange.from(request);
+        Route route = Route.async()
+                .id("aura-platform")
+                .uri(URI.create("http://localhost:9000"))
+                .predicate(e -> true)
+                .build();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+}
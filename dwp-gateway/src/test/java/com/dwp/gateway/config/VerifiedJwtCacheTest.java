@@ -0,0 +1,67 @@
+package com.dwp.gateway.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedJwtCache 테스트
+ *
+ * 검증 항목:
+ * - 같은 토큰은 1회만 서명 검증하고 이후 캐시 적중
+ * - 만료/위조/형식 오류 토큰은 null (캐시하지 않음)
+ */
+@DisplayName("VerifiedJwtCache 테스트")
+@SuppressWarnings("null")
+class VerifiedJwtCacheTest {
+
+    private final JwtVerificationProperties properties = new JwtVerificationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedJwtCache cache = new VerifiedJwtCache(properties, meterRegistry);
+
+    @Test
+    @DisplayName("검증된 클레임은 토큰 해시로 캐시되어 재검증 없이 적중")
+    void cachesVerifiedClaims() {
+        String authorization = "Bearer " + token(properties.getSecret(), Instant.now().plusSeconds(3600));
+
+        VerifiedJwtCache.VerifiedJwt first = cache.verify(authorization);
+        VerifiedJwtCache.VerifiedJwt second = cache.verify(authorization);
+
+        assertThat(first).isNotNull();
+        assertThat(first.tenantId()).isEqualTo("1");
+        assertThat(first.userId()).isEqualTo("100");
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("gateway.jwt_cache.hits").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("gateway.jwt.verify").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("만료/위조/형식 오류 토큰은 거부")
+    void rejectsInvalidTokens() {
+        assertThat(cache.verify("Bearer " + token(properties.getSecret(), Instant.now().minusSeconds(10)))).isNull();
+        assertThat(cache.verify("Bearer " + token("another_secret_key_that_is_also_at_least_256_bits_long",
+                Instant.now().plusSeconds(3600)))).isNull();
+        assertThat(cache.verify("Bearer not-a-jwt")).isNull();
+        assertThat(cache.verify("Basic dXNlcjpwYXNz")).isNull();
+
+        assertThat(meterRegistry.get("gateway.jwt.rejected").functionCounter().count()).isEqualTo(3.0);
+        assertThat(cache.getSize()).isZero();
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("100")
+                .claim("tenant_id", "1")
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+}
@@ -7,6 +7,7 @@ import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -20,6 +21,10 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * - 삭제, 메일 발송 등 중요한 작업은 반드시 JWT 권한을 재검증해야 합니다.
  * - 사용자가 직접 승인한 작업만 실행되도록 보장합니다.
  * 
+ * Gateway 검증 헤더 신뢰 (jwt.trust-gateway-headers=true):
+ * - Gateway가 서명 검증 후 전달한 X-DWP-Verified-Tenant-ID / X-DWP-Verified-User-ID가 있으면 JWT 재파싱 생략
+ * - Gateway는 클라이언트가 보낸 해당 헤더를 항상 제거하므로, 서비스가 Gateway를 통해서만 노출될 때만 활성화
+ * 
  * 주의: JwtTokenValidator 빈이 있을 때만 등록됩니다.
  */
 @Slf4j
@@ -28,15 +33,20 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class HitlSecurityInterceptor implements HandlerInterceptor {
     
     private final JwtTokenValidator jwtTokenValidator;
+    private final boolean trustGatewayHeaders;
     
-    public HitlSecurityInterceptor(JwtTokenValidator jwtTokenValidator) {
+    public HitlSecurityInterceptor(JwtTokenValidator jwtTokenValidator,
+                                   @Value("${jwt.trust-gateway-headers:false}") boolean trustGatewayHeaders) {
         this.jwtTokenValidator = jwtTokenValidator;
+        this.trustGatewayHeaders = trustGatewayHeaders;
     }
     
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String HEADER_TENANT_ID = "X-Tenant-ID";
     private static final String HEADER_USER_ID = "X-User-ID";
+    private static final String HEADER_VERIFIED_TENANT_ID = "X-DWP-Verified-Tenant-ID";
+    private static final String HEADER_VERIFIED_USER_ID = "X-DWP-Verified-User-ID";
     
     @Override
     @SuppressWarnings("null")
@@ -58,13 +68,20 @@ public class HitlSecurityInterceptor implements HandlerInterceptor {
             throw new BaseException(ErrorCode.UNAUTHORIZED, "Authorization header is required for HITL operations");
         }
         
-        // JWT 토큰 추출 및 검증
-        String token = authorization.substring(BEARER_PREFIX.length());
-        Claims claims = jwtTokenValidator.validateToken(token);
-        
-        // JWT에서 추출한 정보
-        String jwtTenantId = jwtTokenValidator.extractTenantId(token);
-        String jwtUserId = jwtTokenValidator.extractUserId(token);
+        // JWT에서 추출한 정보 (Gateway 검증 헤더를 신뢰하면 재파싱 생략, 아니면 1회만 검증)
+        String jwtTenantId;
+        String jwtUserId;
+        String verifiedTenantId = request.getHeader(HEADER_VERIFIED_TENANT_ID);
+        String verifiedUserId = request.getHeader(HEADER_VERIFIED_USER_ID);
+        if (trustGatewayHeaders && verifiedTenantId != null && verifiedUserId != null) {
+            jwtTenantId = verifiedTenantId;
+            jwtUserId = verifiedUserId;
+        } else {
+            String token = authorization.substring(BEARER_PREFIX.length());
+            Claims claims = jwtTokenValidator.validateToken(token);
+            jwtTenantId = jwtTokenValidator.extractTenantId(claims);
+            jwtUserId = claims.getSubject();
+        }
         
         // X-Tenant-ID 헤더 확인 (멀티테넌시)
         String headerTenantId = request.getHeader(HEADER_TENANT_ID);
@@ -92,8 +109,8 @@ public class HitlSecurityInterceptor implements HandlerInterceptor {
             throw new BaseException(ErrorCode.FORBIDDEN, "User ID mismatch between JWT and header");
         }
         
-        log.debug("HITL security check passed: path={}, tenantId={}, userId={}, claims={}", 
-                path, headerTenantId, headerUserId, claims);
+        log.debug("HITL security check passed: path={}, tenantId={}, userId={}", 
+                path, headerTenantId, headerUserId);
         
         return true;
     }
@@ -77,7 +77,16 @@ public class JwtTokenValidator {
      * @return 테넌트 ID
      */
     public String extractTenantId(String token) {
-        Claims claims = validateToken(token);
+        return extractTenantId(validateToken(token));
+    }
+    
+    /**
+     * 검증된 Claims에서 테넌트 ID 추출 (재검증 없음)
+     * 
+     * @param claims validateToken 결과
+     * @return 테넌트 ID
+     */
+    public String extractTenantId(Claims claims) {
         return claims.get("tenant_id", String.class);
     }
     
@@ -0,0 +1,69 @@
+package com.dwp.services.synapsex.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 감사 이벤트 내보내기 작업 설정
+ *
+ * 대용량 내보내기가 대화형 조회와 DB를 경쟁하지 않도록 노드당 동시 실행 수와 초당 행 수를 제한합니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "audit.export")
+public class AuditExportConfig {
+
+    /** 워커 활성화 (false면 작업 등록만 하고 실행하지 않음) */
+    private boolean enabled = true;
+
+    /** 내보내기 파일 저장 디렉터리 */
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/synapsex-audit-exports";
+
+    /** 노드당 동시 실행 작업 수 */
+    private int maxConcurrentJobs = 2;
+
+    /** keyset 페이지 크기 */
+    private int pageSize = 1000;
+
+    /** 체크포인트 간격(행). 청크마다 gzip member를 닫고 커서/파일 오프셋 저장 */
+    private int checkpointRows = 20000;
+
+    /** 작업당 초당 최대 행 수 (0 이하면 제한 없음) */
+    private int maxRowsPerSecond = 5000;
+
+    /** 대기 작업 폴링 간격(ms) */
+    private long pollIntervalMs = 5000;
+
+    /** heartbeat가 이보다 오래된 RUNNING 작업은 다른 노드가 인수 (초) */
+    private long staleAfterSeconds = 300;
+
+    /** 실행 중 heartbeat 갱신 주기 (초). 체크포인트와 무관한 타이머이며 staleAfterSeconds보다 충분히 짧아야 함 */
+    private long heartbeatIntervalSeconds = 30;
+
+    /** 최대 시도 횟수 (초과 시 FAILED) */
+    private int maxAttempts = 3;
+
+    /** 완료 파일 보관 시간 */
+    private long fileRetentionHours = 72;
+
+    /** 노드 식별자 (기본: pid@hostname) */
+    private String workerId = ManagementFactory.getRuntimeMXBean().getName();
+
+    /** 내보내기 전용 워커 풀 (낮은 스레드 우선순위, 큐 없음 - 빈 슬롯만큼만 작업을 가져감) */
+    @Bean
+    public ThreadPoolTaskExecutor auditExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(0);
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setThreadNamePrefix("audit-export-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
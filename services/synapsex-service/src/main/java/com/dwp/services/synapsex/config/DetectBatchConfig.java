@@ -2,7 +2,9 @@ package com.dwp.services.synapsex.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.List;
 
@@ -25,4 +27,28 @@ public class DetectBatchConfig {
 
     /** 대상 tenant ID 목록 (비어있으면 tenant 1만) */
     private List<Long> tenantIds = List.of(1L);
+
+    /** 테넌트 병렬 처리 워커 수 */
+    private int workerThreads = 4;
+
+    /** 청크 크기(분). high-water mark ~ 현재 구간을 이 단위로 나눠 청크별 커밋 */
+    private int chunkMinutes = 15;
+
+    /** 1회 스케줄에서 테넌트당 최대 청크 수 (장애 후 catch-up 분할) */
+    private int maxChunksPerRun = 96;
+
+    /** high-water mark가 없을 때 시작점 (현재 - N분) */
+    private int initialLookbackMinutes = 15;
+
+    /** Detect 전용 워커 풀 (스케줄러 스레드는 제출만 담당) */
+    @Bean
+    public ThreadPoolTaskExecutor detectBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("detect-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
 }
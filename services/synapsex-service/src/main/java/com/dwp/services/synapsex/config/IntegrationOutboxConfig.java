@@ -0,0 +1,49 @@
+package com.dwp.services.synapsex.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Integration Outbox 디스패처 설정
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "integration.outbox")
+public class IntegrationOutboxConfig {
+
+    /** 디스패처 활성화 */
+    private boolean enabled = true;
+
+    /** 폴링 간격(ms) */
+    private long pollIntervalMs = 2000;
+
+    /** 1회 claim 건수 */
+    private int batchSize = 100;
+
+    /** 1회 폴링에서 최대 claim 횟수 (적체 시 연속 처리) */
+    private int maxBatchesPerPoll = 10;
+
+    /** 최대 시도 횟수. 초과 시 DEAD */
+    private int maxAttempts = 8;
+
+    /** 재시도 기본 지연(ms). attempt마다 2배 */
+    private long baseBackoffMs = 1000;
+
+    /** 재시도 최대 지연(ms) */
+    private long maxBackoffMs = 3_600_000;
+
+    /** PROCESSING lease(초). 노드 종료 등으로 결과가 기록되지 않으면 이후 다시 claim */
+    private long processingLeaseSeconds = 300;
+
+    /** 로컬 스텁 sender (개발/테스트용, 실제 전송 없이 성공 처리) */
+    private Stub stub = new Stub();
+
+    @Data
+    public static class Stub {
+        private boolean enabled = false;
+        private List<String> targetSystems = List.of("SAP");
+    }
+}
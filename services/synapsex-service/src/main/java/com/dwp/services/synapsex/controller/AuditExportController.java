@@ -9,10 +9,18 @@ import com.dwp.services.synapsex.service.audit.AuditExportService;
 import com.dwp.services.synapsex.service.audit.AuditWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.file.Path;
+
 /**
- * Phase 4 Optional - Audit export (signed URL or job id)
+ * 감사 이벤트 내보내기 작업 (등록 / 상태·진행률 / 취소 / 다운로드)
  * A2 - UI 이벤트 감사 (POST /api/synapse/audit/ui-events)
  */
 @RestController
@@ -37,12 +45,58 @@ public class AuditExportController {
         return ApiResponse.success(null);
     }
 
+    /**
+     * POST /api/synapse/audit/export
+     * 내보내기 작업 등록 (format: CSV | NDJSON, gzip. JSON은 NDJSON(1행 1객체)으로 처리). 백그라운드로 실행되며 jobId로 진행률을 조회합니다.
+     */
     @PostMapping("/export")
     public ApiResponse<AuditExportResponse> requestExport(
             @RequestHeader(HeaderConstants.X_TENANT_ID) Long tenantId,
+            @RequestHeader(value = HeaderConstants.X_USER_ID, required = false) Long actorUserId,
             @RequestBody(required = false) AuditExportRequest request) {
         if (request == null) request = AuditExportRequest.builder().build();
-        AuditExportResponse response = auditExportService.requestExport(tenantId, request);
+        AuditExportResponse response = auditExportService.requestExport(tenantId, actorUserId, request);
+        auditExportService.triggerDispatch();
         return ApiResponse.success(response);
     }
+
+    /**
+     * GET /api/synapse/audit/export/{jobId}
+     * 작업 상태 및 진행률
+     */
+    @GetMapping("/export/{jobId}")
+    public ApiResponse<AuditExportResponse> getExport(
+            @RequestHeader(HeaderConstants.X_TENANT_ID) Long tenantId,
+            @PathVariable String jobId) {
+        return ApiResponse.success(auditExportService.getStatus(tenantId, jobId));
+    }
+
+    /**
+     * DELETE /api/synapse/audit/export/{jobId}
+     * 작업 취소 (PENDING/RUNNING)
+     */
+    @DeleteMapping("/export/{jobId}")
+    public ApiResponse<AuditExportResponse> cancelExport(
+            @RequestHeader(HeaderConstants.X_TENANT_ID) Long tenantId,
+            @PathVariable String jobId) {
+        return ApiResponse.success(auditExportService.cancel(tenantId, jobId));
+    }
+
+    /**
+     * GET /api/synapse/audit/export/{jobId}/download
+     * 완료된 내보내기 파일 (gzip)
+     */
+    @GetMapping("/export/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(
+            @RequestHeader(HeaderConstants.X_TENANT_ID) Long tenantId,
+            @PathVariable String jobId) {
+        Path path = auditExportService.getDownloadPath(tenantId, jobId);
+        FileSystemResource resource = new FileSystemResource(path);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(path.getFileName().toString()).build().toString())
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .contentLength(path.toFile().length())
+                .body(resource);
+    }
 }
@@ -15,5 +15,5 @@ public class AuditExportRequest {
     private Instant from;
     private Instant to;
     private String category;
-    private String format;  // CSV, JSON
+    private String format;  // CSV, NDJSON (JSON은 NDJSON으로 처리)
 }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,5 +14,15 @@ import lombok.NoArgsConstructor;
 public class AuditExportResponse {
     private String jobId;
     private String signedUrl;
-    private String status;  // PENDING, READY, FAILED
+    private String status;  // PENDING, RUNNING, COMPLETED, FAILED, CANCELLED, EXPIRED
+    private String format;  // CSV, NDJSON (gzip)
+    private Long totalRows;
+    private Long exportedRows;
+    private Integer progressPercent;
+    private Long fileSizeBytes;
+    private String downloadUrl;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant completedAt;
+    private Instant expiresAt;
 }
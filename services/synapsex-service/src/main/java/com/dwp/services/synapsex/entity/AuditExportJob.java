@@ -0,0 +1,114 @@
+package com.dwp.services.synapsex.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 감사 이벤트 내보내기 작업 — dwp_aura.audit_export_job
+ */
+@Entity
+@Table(schema = "dwp_aura", name = "audit_export_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditExportJob {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+    public static final String STATUS_EXPIRED = "EXPIRED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "job_key", nullable = false, length = 64)
+    private String jobKey;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    @Column(name = "format", nullable = false, length = 20)
+    private String format;
+
+    @Column(name = "filter_from")
+    private Instant filterFrom;
+
+    @Column(name = "filter_to")
+    private Instant filterTo;
+
+    @Column(name = "filter_category")
+    private String filterCategory;
+
+    @Column(name = "total_rows")
+    private Long totalRows;
+
+    @Column(name = "exported_rows", nullable = false)
+    @Builder.Default
+    private Long exportedRows = 0L;
+
+    @Column(name = "cursor_created_at")
+    private Instant cursorCreatedAt;
+
+    @Column(name = "cursor_audit_id")
+    private Long cursorAuditId;
+
+    @Column(name = "checkpoint_bytes", nullable = false)
+    @Builder.Default
+    private Long checkpointBytes = 0L;
+
+    @Column(name = "file_path")
+    private String filePath;
+
+    @Column(name = "worker_id", length = 200)
+    private String workerId;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "updated_by")
+    private Long updatedBy;
+
+    @PrePersist
+    public void prePersist() {
+        Instant now = Instant.now();
+        if (createdAt == null) createdAt = now;
+        if (updatedAt == null) updatedAt = now;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dwp.services.synapsex.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Phase B: detect_watermark — 테넌트별 Detect 스케줄 high-water mark
+ */
+@Entity
+@Table(schema = "dwp_aura", name = "detect_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DetectWatermark {
+
+    @Id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Column(name = "high_water_mark", nullable = false)
+    private Instant highWaterMark;
+
+    @Column(name = "last_run_id")
+    private Long lastRunId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,103 @@
+package com.dwp.services.synapsex.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 이벤트 내보내기용 keyset 페이지 조회 (dwp_aura.audit_event_log)
+ *
+ * (created_at, audit_id) 오름차순 keyset으로 다음 페이지를 조회하므로 페이지 깊이와 무관하게 비용이 일정하고,
+ * 마지막 행의 (created_at, audit_id)만 저장하면 재시작 후 같은 위치부터 이어 읽을 수 있습니다.
+ * JSONB 컬럼은 파싱하지 않고 텍스트 그대로 전달합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditEventExportReader {
+
+    private static final String SELECT_SQL = "SELECT audit_id, tenant_id, event_category, event_type, resource_type, resource_id," +
+            " created_at, actor_type, actor_user_id, actor_agent_id, actor_display_name, channel, ip_address, user_agent," +
+            " outcome, severity, before_json::text AS before_json, after_json::text AS after_json," +
+            " diff_json::text AS diff_json, evidence_json::text AS evidence_json, tags::text AS tags," +
+            " gateway_request_id, trace_id, span_id" +
+            " FROM dwp_aura.audit_event_log WHERE tenant_id = ?";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM dwp_aura.audit_event_log WHERE tenant_id = ?";
+
+    /** 내보내기 컬럼 순서 (CSV 헤더 / NDJSON 키) */
+    public static final String[] COLUMNS = {"audit_id", "tenant_id", "event_category", "event_type", "resource_type",
+            "resource_id", "created_at", "actor_type", "actor_user_id", "actor_agent_id", "actor_display_name", "channel",
+            "ip_address", "user_agent", "outcome", "severity", "before_json", "after_json", "diff_json", "evidence_json",
+            "tags", "gateway_request_id", "trace_id", "span_id"};
+
+    /** JSONB 컬럼 (NDJSON에서는 문자열이 아닌 JSON 값으로 기록) */
+    public static final int FIRST_JSON_COLUMN = 16;
+    public static final int LAST_JSON_COLUMN = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Filter(Long tenantId, Instant from, Instant to, String category) {
+    }
+
+    /** values는 COLUMNS 순서. auditId/createdAt은 keyset 커서 */
+    public record Row(Long auditId, Instant createdAt, Object[] values) {
+    }
+
+    public long count(Filter filter) {
+        StringBuilder sql = new StringBuilder(COUNT_SQL);
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * (afterCreatedAt, afterAuditId) 다음 행부터 최대 limit건. afterAuditId가 null이면 처음부터.
+     */
+    public List<Row> findPage(Filter filter, Instant afterCreatedAt, Long afterAuditId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        if (afterAuditId != null && afterCreatedAt != null) {
+            sql.append(" AND (created_at, audit_id) > (?, ?)");
+            args.add(Timestamp.from(afterCreatedAt));
+            args.add(afterAuditId);
+        }
+        sql.append(" ORDER BY created_at, audit_id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, i) -> toRow(rs), args.toArray());
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> args, Filter filter) {
+        args.add(filter.tenantId());
+        if (filter.from() != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.from(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND created_at <= ?");
+            args.add(Timestamp.from(filter.to()));
+        }
+        if (filter.category() != null && !filter.category().isBlank()) {
+            sql.append(" AND event_category = ?");
+            args.add(filter.category());
+        }
+    }
+
+    private static Row toRow(ResultSet rs) throws SQLException {
+        Object[] values = new Object[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Object v = rs.getObject(i + 1);
+            values[i] = v instanceof Timestamp ts ? ts.toInstant() : v;
+        }
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Row(rs.getLong("audit_id"), createdAt != null ? createdAt.toInstant() : null, values);
+    }
+}
@@ -0,0 +1,79 @@
+package com.dwp.services.synapsex.repository;
+
+import com.dwp.services.synapsex.entity.AuditExportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 감사 이벤트 내보내기 작업 Repository
+ *
+ * 워커 갱신(heartbeat/체크포인트/완료/실패)은 status=RUNNING 이고 (worker_id, attempt_count)가 자신의 claim과 같은 경우에만
+ * 반영되는 조건부 UPDATE입니다. claim마다 attempt_count가 증가하므로 같은 노드가 다시 claim한 경우에도 이전 실행은 소유권을 잃습니다.
+ * 0건이면 취소되었거나 다른 claim이 인수한 것이므로 워커는 중단합니다.
+ */
+public interface AuditExportJobRepository extends JpaRepository<AuditExportJob, Long> {
+
+    Optional<AuditExportJob> findByTenantIdAndJobKey(Long tenantId, String jobKey);
+
+    List<AuditExportJob> findByStatusAndExpiresAtBefore(String status, Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.totalRows = :totalRows, j.filePath = :filePath, j.heartbeatAt = :now, j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.workerId = :workerId AND j.attemptCount = :attempt")
+    int markStarted(@Param("jobId") Long jobId, @Param("workerId") String workerId, @Param("attempt") Integer attempt,
+                    @Param("totalRows") Long totalRows, @Param("filePath") String filePath, @Param("now") Instant now);
+
+    /** 실행 중 주기적 생존 신호 (체크포인트와 별도 타이머). 0건이면 소유권 상실 */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.heartbeatAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.workerId = :workerId AND j.attemptCount = :attempt")
+    int heartbeat(@Param("jobId") Long jobId, @Param("workerId") String workerId, @Param("attempt") Integer attempt,
+                  @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.exportedRows = :exportedRows, j.cursorCreatedAt = :cursorCreatedAt," +
+            " j.cursorAuditId = :cursorAuditId, j.checkpointBytes = :checkpointBytes, j.heartbeatAt = :now, j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.workerId = :workerId AND j.attemptCount = :attempt")
+    int checkpoint(@Param("jobId") Long jobId, @Param("workerId") String workerId, @Param("attempt") Integer attempt,
+                   @Param("exportedRows") Long exportedRows, @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                   @Param("cursorAuditId") Long cursorAuditId, @Param("checkpointBytes") Long checkpointBytes,
+                   @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.status = 'COMPLETED', j.filePath = :filePath, j.completedAt = :now," +
+            " j.expiresAt = :expiresAt, j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.workerId = :workerId AND j.attemptCount = :attempt")
+    int markCompleted(@Param("jobId") Long jobId, @Param("workerId") String workerId, @Param("attempt") Integer attempt,
+                      @Param("filePath") String filePath, @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+    /** 실패 처리. 재시도 가능하면 PENDING(체크포인트 유지), 아니면 FAILED */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.status = :status, j.errorMessage = :errorMessage, j.workerId = NULL, j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'RUNNING' AND j.workerId = :workerId AND j.attemptCount = :attempt")
+    int markFailed(@Param("jobId") Long jobId, @Param("workerId") String workerId, @Param("attempt") Integer attempt,
+                   @Param("status") String status, @Param("errorMessage") String errorMessage, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.status = 'CANCELLED', j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status IN ('PENDING', 'RUNNING')")
+    int cancel(@Param("jobId") Long jobId, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuditExportJob j SET j.status = 'EXPIRED', j.updatedAt = :now" +
+            " WHERE j.jobId = :jobId AND j.status = 'COMPLETED'")
+    int markExpired(@Param("jobId") Long jobId, @Param("now") Instant now);
+}
@@ -0,0 +1,110 @@
+package com.dwp.services.synapsex.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Phase B: Detect 배치 집합 연산 (dwp_aura.fi_doc_header / fi_doc_item / agent_case)
+ *
+ * 전표별 금액 합계는 GROUP BY 1회, 기존 케이스는 dedup_key 청크 조회, 케이스 반영은
+ * INSERT ... ON CONFLICT (tenant_id, dedup_key) JDBC batch로 처리해 건별 왕복을 없앱니다.
+ * 윈도우는 반개구간 [windowFrom, windowTo): 연속 청크의 경계 시각 전표가 두 청크에 중복 집계되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DetectCaseBatchRepository {
+
+    /** dedup_key 조회/Upsert 청크 크기 */
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final String DOC_AMOUNT_SQL = "SELECT h.bukrs, h.belnr, h.gjahr, h.waers, COALESCE(SUM(i.wrbtr), 0) AS amount" +
+            " FROM dwp_aura.fi_doc_header h" +
+            " LEFT JOIN dwp_aura.fi_doc_item i" +
+            "   ON i.tenant_id = h.tenant_id AND i.bukrs = h.bukrs AND i.belnr = h.belnr AND i.gjahr = h.gjahr" +
+            " WHERE h.tenant_id = ? AND h.created_at >= ? AND h.created_at < ?" +
+            " GROUP BY h.bukrs, h.belnr, h.gjahr, h.waers";
+
+    private static final String EXISTING_SQL = "SELECT case_id, dedup_key, status::text AS status, detected_at" +
+            " FROM dwp_aura.agent_case WHERE tenant_id = ? AND dedup_key = ANY(?)";
+
+    /**
+     * P0: 신규는 OPEN으로 INSERT. 기존은 detected_at 유지, CLOSED/RESOLVED는 last_detect_run_id/updated_at만 갱신 (재오픈 없음).
+     */
+    private static final String UPSERT_SQL = "INSERT INTO dwp_aura.agent_case" +
+            " (tenant_id, detected_at, bukrs, belnr, gjahr, buzei, case_type, severity, score, reason_text," +
+            "  evidence_json, rag_refs_json, status, dedup_key, last_detect_run_id, created_at, updated_at)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, '[]'::jsonb, 'OPEN', ?, ?, ?, ?)" +
+            " ON CONFLICT (tenant_id, dedup_key) WHERE dedup_key IS NOT NULL DO UPDATE SET" +
+            "  last_detect_run_id = EXCLUDED.last_detect_run_id," +
+            "  updated_at = EXCLUDED.updated_at," +
+            "  severity = CASE WHEN agent_case.status IN ('CLOSED', 'RESOLVED') THEN agent_case.severity ELSE EXCLUDED.severity END," +
+            "  score = CASE WHEN agent_case.status IN ('CLOSED', 'RESOLVED') THEN agent_case.score ELSE EXCLUDED.score END," +
+            "  reason_text = CASE WHEN agent_case.status IN ('CLOSED', 'RESOLVED') THEN agent_case.reason_text ELSE EXCLUDED.reason_text END," +
+            "  evidence_json = CASE WHEN agent_case.status IN ('CLOSED', 'RESOLVED') THEN agent_case.evidence_json ELSE EXCLUDED.evidence_json END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 전표 헤더 + 항목 금액 합계 (wrbtr null 제외) */
+    public record DocAmount(String bukrs, String belnr, String gjahr, String waers, BigDecimal amount) {}
+
+    public record ExistingCase(Long caseId, String dedupKey, String status, Instant detectedAt) {}
+
+    /** evidenceJson은 직렬화된 JSON 문자열 */
+    public record CaseUpsertRow(String dedupKey, String caseType, String bukrs, String belnr, String gjahr, String buzei,
+                                String severity, BigDecimal score, String reasonText, String evidenceJson) {}
+
+    public List<DocAmount> findDocAmounts(Long tenantId, Instant windowFrom, Instant windowTo) {
+        return jdbcTemplate.query(DOC_AMOUNT_SQL,
+                (rs, i) -> new DocAmount(rs.getString("bukrs"), rs.getString("belnr"), rs.getString("gjahr"),
+                        rs.getString("waers"), rs.getBigDecimal("amount")),
+                tenantId, Timestamp.from(windowFrom), Timestamp.from(windowTo));
+    }
+
+    /** dedup_key → 기존 케이스 (CHUNK_SIZE 단위 조회) */
+    public Map<String, ExistingCase> findExistingByDedupKeys(Long tenantId, Collection<String> dedupKeys) {
+        Map<String, ExistingCase> result = new HashMap<>(Math.max(16, dedupKeys.size() * 2));
+        List<String> keys = new ArrayList<>(dedupKeys);
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+            jdbcTemplate.query(EXISTING_SQL, ps -> {
+                Array array = ps.getConnection().createArrayOf("varchar", chunk.toArray());
+                ps.setLong(1, tenantId);
+                ps.setArray(2, array);
+            }, rs -> {
+                Timestamp detectedAt = rs.getTimestamp("detected_at");
+                result.put(rs.getString("dedup_key"), new ExistingCase(rs.getLong("case_id"), rs.getString("dedup_key"),
+                        rs.getString("status"), detectedAt != null ? detectedAt.toInstant() : null));
+            });
+        }
+        return result;
+    }
+
+    /** CHUNK_SIZE 단위 batch Upsert */
+    public void upsertCases(Long tenantId, Long runId, Instant detectedAt, List<CaseUpsertRow> rows) {
+        Timestamp detected = Timestamp.from(detectedAt);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(Math.min(rows.size(), CHUNK_SIZE));
+        for (CaseUpsertRow r : rows) {
+            args.add(new Object[]{tenantId, detected, r.bukrs(), r.belnr(), r.gjahr(), r.buzei(), r.caseType(),
+                    r.severity(), r.score(), r.reasonText(), r.evidenceJson(), r.dedupKey(), runId, now, now});
+            if (args.size() == CHUNK_SIZE) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        }
+    }
+}
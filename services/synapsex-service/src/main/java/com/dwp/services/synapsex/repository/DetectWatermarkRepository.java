@@ -0,0 +1,27 @@
+package com.dwp.services.synapsex.repository;
+
+import com.dwp.services.synapsex.entity.DetectWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface DetectWatermarkRepository extends JpaRepository<DetectWatermark, Long> {
+
+    /** 최초 실행 시 시작점 등록 (이미 있으면 무시) */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO dwp_aura.detect_watermark (tenant_id, high_water_mark, updated_at)" +
+            " VALUES (:tenantId, :highWaterMark, now()) ON CONFLICT (tenant_id) DO NOTHING", nativeQuery = true)
+    int initIfAbsent(@Param("tenantId") Long tenantId, @Param("highWaterMark") Instant highWaterMark);
+
+    /** 청크 커밋 시 전진. high_water_mark가 청크 시작점과 같을 때만 반영 (compare-and-set) */
+    @Modifying
+    @Query("UPDATE DetectWatermark w SET w.highWaterMark = :windowTo, w.lastRunId = :runId, w.updatedAt = :now" +
+            " WHERE w.tenantId = :tenantId AND w.highWaterMark = :windowFrom")
+    int advance(@Param("tenantId") Long tenantId, @Param("windowFrom") Instant windowFrom,
+                @Param("windowTo") Instant windowTo, @Param("runId") Long runId, @Param("now") Instant now);
+}
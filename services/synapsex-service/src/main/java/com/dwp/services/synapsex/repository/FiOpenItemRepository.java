@@ -12,7 +12,7 @@ import java.util.Optional;
 
 public interface FiOpenItemRepository extends JpaRepository<FiOpenItem, FiOpenItemId> {
 
-    /** P1: window 내 신규/변경 오픈아이템 (last_update_ts between) */
+    /** P1: window 내 신규/변경 오픈아이템 (last_update_ts 반개구간 [from, to)) */
     @Query("SELECT f FROM FiOpenItem f WHERE f.tenantId = :tenantId AND f.lastUpdateTs >= :from AND f.lastUpdateTs < :to")
     List<FiOpenItem> findByTenantIdAndLastUpdateTsBetween(@Param("tenantId") Long tenantId,
                                                            @Param("from") Instant from,
@@ -0,0 +1,132 @@
+package com.dwp.services.synapsex.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Integration Outbox 디스패치용 claim/결과 기록 (dwp_aura.integration_outbox)
+ *
+ * claim은 FOR UPDATE SKIP LOCKED 단일 UPDATE로 여러 replica가 같은 행을 가져가지 않습니다.
+ * claim된 행은 PROCESSING + next_retry_at(lease 만료 시각) + claim_id(claim마다 새 토큰)가 됩니다.
+ * 결과 기록 없이 lease가 지나면 다시 claim 되며, 이때 retry_count를 올려 작업자를 죽이는 메시지도 DEAD 기준에 도달합니다.
+ * 결과 기록은 claim_id 일치 조건부이므로 lease 만료 후 다른 노드가 재claim한 행을 이전 소유 노드가 덮어쓰지 않으며,
+ * 실제로 반영된 outbox_id만 반환합니다 (메트릭/감사는 반영된 행만 집계).
+ * (두 노드가 모두 전송할 수는 있으므로 전송은 at-least-once, 수신 측은 event_key로 멱등 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IntegrationOutboxDispatchRepository {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PROCESSING = "PROCESSING";
+    public static final String STATUS_PROCESSED = "PROCESSED";
+    public static final String STATUS_DEAD = "DEAD";
+
+    private static final String CLAIM_SQL = "UPDATE dwp_aura.integration_outbox o" +
+            " SET status = 'PROCESSING', next_retry_at = now() + make_interval(secs => ?), claim_id = ?," +
+            // lease 만료 재claim (이전 상태 PROCESSING)은 결과 없이 끝난 시도이므로 실패 1회로 집계
+            "   retry_count = o.retry_count + CASE WHEN o.status = 'PROCESSING' THEN 1 ELSE 0 END," +
+            "   last_error = CASE WHEN o.status = 'PROCESSING' THEN 'Processing lease expired without result' ELSE o.last_error END," +
+            "   updated_at = now()" +
+            " WHERE o.outbox_id IN (" +
+            "   SELECT outbox_id FROM dwp_aura.integration_outbox" +
+            "   WHERE status IN ('PENDING', 'PROCESSING') AND COALESCE(next_retry_at, created_at) <= now()" +
+            "     AND target_system = ANY(?)" +
+            "   ORDER BY COALESCE(next_retry_at, created_at), outbox_id" +
+            "   LIMIT ? FOR UPDATE SKIP LOCKED)" +
+            " RETURNING o.outbox_id, o.tenant_id, o.target_system, o.event_type, o.event_key, o.payload::text AS payload," +
+            "   o.retry_count, o.created_at";
+
+    private static final String MARK_PROCESSED_SQL = "UPDATE dwp_aura.integration_outbox" +
+            " SET status = 'PROCESSED', next_retry_at = NULL, last_error = NULL, updated_at = now()" +
+            " WHERE outbox_id = ? AND status = 'PROCESSING' AND claim_id = ?";
+
+    private static final String MARK_FAILED_SQL = "UPDATE dwp_aura.integration_outbox" +
+            " SET status = ?, retry_count = ?, next_retry_at = ?, last_error = ?, updated_at = now()" +
+            " WHERE outbox_id = ? AND status = 'PROCESSING' AND claim_id = ?";
+
+    private static final String LAG_SQL = "SELECT COUNT(*) AS backlog," +
+            " COALESCE(EXTRACT(EPOCH FROM now() - MIN(COALESCE(next_retry_at, created_at))" +
+            "   FILTER (WHERE COALESCE(next_retry_at, created_at) <= now())), 0) AS lag_seconds" +
+            " FROM dwp_aura.integration_outbox WHERE status IN ('PENDING', 'PROCESSING')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** claim된 outbox 행 (payload는 JSON 문자열) */
+    public record OutboxMessage(Long outboxId, Long tenantId, String targetSystem, String eventType, String eventKey,
+                                String payload, int retryCount, Instant createdAt) {}
+
+    /** claim 결과. 결과 기록 시 claimId를 함께 넘겨야 반영됨 (retryCount는 재claim 집계 반영 후 값) */
+    public record Claim(UUID claimId, List<OutboxMessage> messages) {}
+
+    /** 실패 결과. retryCount는 기록할 시도 횟수, nextRetryAt이 null이면 DEAD */
+    public record Failure(Long outboxId, int retryCount, Instant nextRetryAt, String error) {}
+
+    /** backlog: 미처리(PENDING/PROCESSING) 건수, lagSeconds: 처리 예정 시각이 지난 가장 오래된 행의 대기 시간 */
+    public record Lag(long backlog, double lagSeconds) {}
+
+    @Transactional
+    public Claim claim(Collection<String> targetSystems, int limit, long leaseSeconds) {
+        UUID claimId = UUID.randomUUID();
+        List<OutboxMessage> messages = jdbcTemplate.query(CLAIM_SQL, ps -> {
+            ps.setLong(1, leaseSeconds);
+            ps.setObject(2, claimId);
+            ps.setArray(3, ps.getConnection().createArrayOf("text", targetSystems.toArray()));
+            ps.setInt(4, limit);
+        }, (rs, i) -> new OutboxMessage(rs.getLong("outbox_id"), rs.getLong("tenant_id"), rs.getString("target_system"),
+                rs.getString("event_type"), rs.getString("event_key"), rs.getString("payload"), rs.getInt("retry_count"),
+                rs.getTimestamp("created_at").toInstant()));
+        return new Claim(claimId, messages);
+    }
+
+    /** @return 실제로 PROCESSED로 반영된 outbox_id (claim을 잃은 행 제외) */
+    public List<Long> markProcessed(UUID claimId, List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> args = new ArrayList<>(outboxIds.size());
+        for (Long id : outboxIds) {
+            args.add(new Object[]{id, claimId});
+        }
+        return updatedIds(outboxIds, jdbcTemplate.batchUpdate(MARK_PROCESSED_SQL, args));
+    }
+
+    /** @return 실제로 실패 결과가 반영된 outbox_id (claim을 잃은 행 제외) */
+    public List<Long> markFailed(UUID claimId, List<Failure> failures) {
+        if (failures.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> args = new ArrayList<>(failures.size());
+        List<Long> outboxIds = new ArrayList<>(failures.size());
+        for (Failure f : failures) {
+            args.add(new Object[]{f.nextRetryAt() != null ? STATUS_PENDING : STATUS_DEAD, f.retryCount(),
+                    f.nextRetryAt() != null ? Timestamp.from(f.nextRetryAt()) : null, f.error(), f.outboxId(), claimId});
+            outboxIds.add(f.outboxId());
+        }
+        return updatedIds(outboxIds, jdbcTemplate.batchUpdate(MARK_FAILED_SQL, args));
+    }
+
+    /** batch 문장별 갱신 건수(PostgreSQL 드라이버는 실제 건수 반환)로 반영된 id만 추림 */
+    private static List<Long> updatedIds(List<Long> outboxIds, int[] counts) {
+        List<Long> updated = new ArrayList<>(outboxIds.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                updated.add(outboxIds.get(i));
+            }
+        }
+        return updated;
+    }
+
+    public Lag lag() {
+        return jdbcTemplate.queryForObject(LAG_SQL, (rs, i) -> new Lag(rs.getLong("backlog"), rs.getDouble("lag_seconds")));
+    }
+}
@@ -0,0 +1,85 @@
+package com.dwp.services.synapsex.repository;
+
+import com.dwp.services.synapsex.entity.ReconResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Phase 4 Reconciliation 스트리밍 조회/결과 batch 기록 (fi_doc_item / fi_open_item / recon_result)
+ *
+ * 양쪽 모두 테넌트 범위 커서(쿼리별 fetchSize)로 (bukrs, belnr, gjahr, buzei) 정렬 조회하여 sorted-merge join 합니다.
+ * 정렬은 COLLATE "C"(바이트 순서)로 고정해 Java String.compareTo와 같은 순서를 보장하며,
+ * 같은 collation의 (tenant_id, bukrs, belnr, gjahr, buzei) 인덱스(V34)로 정렬 없이 인덱스 순서대로 읽습니다.
+ * 반환 Stream은 커서를 점유하므로 트랜잭션 내에서 사용하고 반드시 close 해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReconItemJdbcRepository {
+
+    public static final int FETCH_SIZE = 1000;
+
+    private static final String ORDER_BY = " ORDER BY bukrs COLLATE \"C\", belnr COLLATE \"C\", gjahr COLLATE \"C\", buzei COLLATE \"C\"";
+
+    private static final String DOC_ITEM_SQL = "SELECT bukrs, belnr, gjahr, buzei, wrbtr AS amount" +
+            " FROM dwp_aura.fi_doc_item WHERE tenant_id = ?" + ORDER_BY;
+
+    private static final String OPEN_ITEM_SQL = "SELECT bukrs, belnr, gjahr, buzei, open_amount AS amount" +
+            " FROM dwp_aura.fi_open_item WHERE tenant_id = ?" + ORDER_BY;
+
+    private static final String INSERT_RESULT_SQL = "INSERT INTO dwp_aura.recon_result" +
+            " (tenant_id, run_id, resource_type, resource_key, status, detail_json) VALUES (?, ?, ?, ?, ?, ?::jsonb)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** merge join 키 + 금액 (fi_doc_item.wrbtr / fi_open_item.open_amount) */
+    public record ReconItem(String bukrs, String belnr, String gjahr, String buzei, BigDecimal amount) {
+
+        public static final Comparator<ReconItem> KEY_ORDER = Comparator
+                .comparing(ReconItem::bukrs)
+                .thenComparing(ReconItem::belnr)
+                .thenComparing(ReconItem::gjahr)
+                .thenComparing(ReconItem::buzei);
+
+        public String resourceKey() {
+            return bukrs + "-" + belnr + "-" + gjahr + "-" + buzei;
+        }
+    }
+
+    public Stream<ReconItem> streamDocItems(Long tenantId) {
+        return stream(DOC_ITEM_SQL, tenantId);
+    }
+
+    public Stream<ReconItem> streamOpenItems(Long tenantId) {
+        return stream(OPEN_ITEM_SQL, tenantId);
+    }
+
+    private Stream<ReconItem> stream(String sql, Long tenantId) {
+        return jdbcTemplate.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, tenantId);
+            return ps;
+        }, (rs, i) -> new ReconItem(rs.getString("bukrs"), rs.getString("belnr"),
+                rs.getString("gjahr"), rs.getString("buzei"), rs.getBigDecimal("amount")));
+    }
+
+    public void insertResults(List<ReconResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(results.size());
+        for (ReconResult r : results) {
+            args.add(new Object[]{r.getTenantId(), r.getRunId(), r.getResourceType(), r.getResourceKey(), r.getStatus(),
+                    r.getDetailJson() != null ? r.getDetailJson().toString() : null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESULT_SQL, args);
+    }
+}
@@ -1,6 +1,7 @@
 package com.dwp.services.synapsex.repository;
 
 import com.dwp.services.synapsex.entity.ReconResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -8,4 +9,6 @@ import java.util.List;
 public interface ReconResultRepository extends JpaRepository<ReconResult, Long> {
 
     List<ReconResult> findByRunIdOrderByResultIdAsc(Long runId);
+
+    List<ReconResult> findByRunIdOrderByResultIdAsc(Long runId, Pageable pageable);
 }
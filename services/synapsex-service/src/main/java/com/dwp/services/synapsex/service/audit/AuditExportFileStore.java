@@ -0,0 +1,102 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.services.synapsex.config.AuditExportConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 감사 내보내기 로컬 파일 저장소 ({storageDir}/{tenantId}/{jobKey}.{ext}.gz)
+ *
+ * 파일은 체크포인트마다 닫히는 gzip member의 연속입니다 (RFC 1952 다중 member → 일반 gunzip으로 이어서 해제).
+ * 실행(claim)마다 자기 전용 part 파일({jobKey}.{ext}.gz.{attempt}.part)에만 기록하고, 완료 시 최종 경로로 rename 합니다.
+ * 소유권을 잃은 이전 실행이 계속 기록하더라도 자기 part 파일만 바뀌므로 인수한 실행의 결과물에는 섞이지 않습니다.
+ * 재개/인수 시 이전 part 파일의 마지막 체크포인트 오프셋까지만 새 part 파일로 복사해 미완성 member를 버립니다.
+ * 여러 노드가 작업을 인수할 수 있으므로 storageDir은 공유 볼륨을 권장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditExportFileStore {
+
+    private final AuditExportConfig config;
+
+    /** 완료 파일 경로 */
+    public Path resolve(Long tenantId, String jobKey, String extension) {
+        return Paths.get(config.getStorageDir(), String.valueOf(tenantId), jobKey + "." + extension + ".gz");
+    }
+
+    /** claim(attempt)별 기록 중 파일 경로 */
+    public Path partPath(Path target, int attempt) {
+        return target.resolveSibling(target.getFileName() + "." + attempt + ".part");
+    }
+
+    /**
+     * 기록 준비. part 파일을 새로 만들고, checkpointBytes가 0보다 크면 이전 실행 파일의 앞 checkpointBytes를 복사.
+     * 복사 후 이전 실행 파일은 삭제합니다.
+     *
+     * @param previousPath 이전 실행이 기록하던 파일 (작업의 file_path, 없으면 null)
+     * @return 이어쓰기 가능하면 true, 이전 파일이 없거나 짧으면(다른 노드 로컬 디스크 등) 빈 파일로 시작하고 false
+     */
+    public boolean prepare(Path part, String previousPath, long checkpointBytes) throws IOException {
+        Files.createDirectories(part.getParent());
+        Files.deleteIfExists(part);
+        Path previous = previousPath != null ? Paths.get(previousPath) : null;
+        if (checkpointBytes > 0 && previous != null && Files.exists(previous) && Files.size(previous) >= checkpointBytes) {
+            try (FileChannel source = FileChannel.open(previous, StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long copied = 0;
+                while (copied < checkpointBytes) {
+                    long n = source.transferTo(copied, checkpointBytes - copied, target);
+                    if (n <= 0) {
+                        throw new IOException("Audit export checkpoint file truncated: " + previous);
+                    }
+                    copied += n;
+                }
+                target.force(true);
+            }
+            if (!previous.equals(part)) {
+                Files.deleteIfExists(previous);
+            }
+            return true;
+        }
+        if (checkpointBytes > 0) {
+            log.warn("Audit export checkpoint file missing, restarting from beginning: path={}", previousPath);
+        }
+        Files.createFile(part);
+        return checkpointBytes == 0;
+    }
+
+    /** 완료된 part 파일을 최종 경로로 교체 (같은 디렉터리 내 atomic rename) */
+    public void publish(Path part, Path target) throws IOException {
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public FileOutputStream openAppend(Path path) throws IOException {
+        return new FileOutputStream(path.toFile(), true);
+    }
+
+    public long size(Path path) throws IOException {
+        return Files.size(path);
+    }
+
+    public void delete(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+        } catch (IOException e) {
+            log.warn("Failed to delete audit export file: {}", filePath, e);
+        }
+    }
+}
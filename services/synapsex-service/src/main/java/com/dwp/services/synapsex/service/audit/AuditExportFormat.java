@@ -0,0 +1,31 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.core.common.ErrorCode;
+import com.dwp.core.exception.BaseException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 감사 내보내기 파일 형식 (모두 gzip 압축)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AuditExportFormat {
+
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    /** 요청 값 → 형식. null이면 CSV, JSON은 NDJSON으로 처리 */
+    public static AuditExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        return switch (value.trim().toUpperCase()) {
+            case "CSV" -> CSV;
+            case "JSON", "NDJSON" -> NDJSON;
+            default -> throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 형식입니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.services.synapsex.config.AuditExportConfig;
+import com.dwp.services.synapsex.entity.AuditExportJob;
+import com.dwp.services.synapsex.repository.AuditExportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 감사 내보내기 작업 디스패처
+ *
+ * - 폴링마다 빈 슬롯(maxConcurrentJobs - 실행 중) 수만큼 작업을 claim 하여 auditExportExecutor에 제출
+ * - claim은 FOR UPDATE SKIP LOCKED 단일 UPDATE로 노드 간 중복 실행을 막고,
+ *   테넌트당 실행 중 작업은 클러스터 전체에서 1건으로 제한합니다. NOT EXISTS 조건은 각 노드의 스냅샷 기준이므로
+ *   실제 보장은 부분 유니크 인덱스(ux_audit_export_job_tenant_running)가 하며, 동시에 같은 테넌트를 claim한
+ *   노드는 유니크 위반으로 이번 폴링의 claim을 중단합니다.
+ * - 테넌트에 RUNNING 작업이 남아 있으면(heartbeat 만료 포함) 대기 작업보다 그 작업의 재claim이 먼저입니다.
+ * - heartbeat(워커 타이머로 갱신)가 staleAfterSeconds보다 오래된 RUNNING 작업(노드 종료 등)은 다시 claim 되어
+ *   체크포인트부터 재개됩니다. claim마다 attempt_count가 증가해 이전 실행의 갱신은 반영되지 않습니다.
+ * - 만료된 완료 파일은 삭제 후 EXPIRED 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "audit.export.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditExportJobDispatcher {
+
+    private static final String CLAIM_SQL = "UPDATE dwp_aura.audit_export_job" +
+            " SET status = 'RUNNING', worker_id = ?, heartbeat_at = now(), attempt_count = attempt_count + 1," +
+            " started_at = COALESCE(started_at, now()), error_message = NULL, updated_at = now()" +
+            " WHERE job_id = (" +
+            "   SELECT j.job_id FROM dwp_aura.audit_export_job j" +
+            "   WHERE (j.status = 'PENDING' OR (j.status = 'RUNNING' AND j.heartbeat_at < ?))" +
+            "     AND NOT EXISTS (SELECT 1 FROM dwp_aura.audit_export_job r" +
+            "                     WHERE r.tenant_id = j.tenant_id AND r.job_id <> j.job_id AND r.status = 'RUNNING')" +
+            "   ORDER BY j.created_at, j.job_id LIMIT 1 FOR UPDATE SKIP LOCKED)" +
+            " RETURNING job_id";
+
+    private static final String RELEASE_SQL = "UPDATE dwp_aura.audit_export_job" +
+            " SET status = 'PENDING', worker_id = NULL, attempt_count = attempt_count - 1, updated_at = now()" +
+            " WHERE job_id = ? AND status = 'RUNNING' AND worker_id = ?";
+
+    private final AuditExportConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor auditExportExecutor;
+    private final AuditExportJobWorker worker;
+    private final AuditExportJobRepository auditExportJobRepository;
+    private final AuditExportFileStore fileStore;
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    public AuditExportJobDispatcher(AuditExportConfig config,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Qualifier("auditExportExecutor") ThreadPoolTaskExecutor auditExportExecutor,
+                                    AuditExportJobWorker worker,
+                                    AuditExportJobRepository auditExportJobRepository,
+                                    AuditExportFileStore fileStore) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditExportExecutor = auditExportExecutor;
+        this.worker = worker;
+        this.auditExportJobRepository = auditExportJobRepository;
+        this.fileStore = fileStore;
+    }
+
+    @Scheduled(fixedDelayString = "${audit.export.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            dispatch();
+            expireFiles();
+        } catch (Exception e) {
+            log.error("Audit export dispatch failed", e);
+        }
+    }
+
+    /**
+     * 빈 슬롯만큼 작업 claim 후 실행. 작업 등록 직후에도 호출됩니다.
+     */
+    public synchronized void dispatch() {
+        while (running.get() < config.getMaxConcurrentJobs()) {
+            Long jobId = claim();
+            if (jobId == null) {
+                return;
+            }
+            running.incrementAndGet();
+            try {
+                auditExportExecutor.execute(() -> {
+                    try {
+                        worker.run(jobId);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                running.decrementAndGet();
+                jdbcTemplate.update(RELEASE_SQL, jobId, config.getWorkerId());
+                log.warn("Audit export executor full, job released: jobId={}", jobId);
+                return;
+            }
+        }
+    }
+
+    private Long claim() {
+        Timestamp staleBefore = Timestamp.from(Instant.now().minusSeconds(config.getStaleAfterSeconds()));
+        try {
+            List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class, config.getWorkerId(), staleBefore);
+            return ids.isEmpty() ? null : ids.get(0);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 같은 테넌트의 작업을 먼저 RUNNING으로 전환 (다음 폴링에서 NOT EXISTS로 제외됨)
+            log.debug("Audit export claim lost tenant race: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void expireFiles() {
+        Instant now = Instant.now();
+        for (AuditExportJob job : auditExportJobRepository.findByStatusAndExpiresAtBefore(AuditExportJob.STATUS_COMPLETED, now)) {
+            fileStore.delete(job.getFilePath());
+            auditExportJobRepository.markExpired(job.getJobId(), now);
+            log.info("Audit export file expired jobKey={}", job.getJobKey());
+        }
+    }
+}
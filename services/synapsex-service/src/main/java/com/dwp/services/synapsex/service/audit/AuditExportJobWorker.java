@@ -0,0 +1,331 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.services.synapsex.config.AuditExportConfig;
+import com.dwp.services.synapsex.entity.AuditExportJob;
+import com.dwp.services.synapsex.repository.AuditEventExportReader;
+import com.dwp.services.synapsex.repository.AuditExportJobRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사 내보내기 작업 1건 실행 (AuditExportJobDispatcher가 auditExportExecutor에서 호출)
+ *
+ * 1. 이전 실행 파일의 체크포인트 오프셋까지를 이번 claim 전용 part 파일로 복사해 재개 (없으면 처음부터)
+ * 2. checkpointRows마다: keyset 페이지를 읽어 gzip member에 기록 → member 종료 + fsync → 커서/오프셋 체크포인트
+ * 3. heartbeat는 체크포인트와 별도로 heartbeatIntervalSeconds마다 갱신 (느린 청크 도중 인수 방지)
+ * 4. heartbeat/체크포인트 UPDATE가 0건이면 취소/인수된 것이므로 다음 페이지를 기록하기 전에 중단
+ * 5. 마지막 체크포인트 후 part 파일을 최종 경로로 rename 하고 COMPLETED 처리
+ *
+ * 체크포인트 후에만 커서를 저장하므로, 중단 시 마지막 체크포인트 이후 기록분은 버리고 다시 기록합니다 (중복/누락 없음).
+ * 소유권을 잃은 실행은 자기 part 파일에만 기록하므로 인수한 실행의 파일이나 최종 파일을 건드리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditExportJobWorker {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final AuditExportConfig config;
+    private final AuditExportJobRepository auditExportJobRepository;
+    private final AuditEventExportReader auditEventExportReader;
+    private final AuditExportFileStore fileStore;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "audit-export-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public void run(Long jobId) {
+        AuditExportJob job = auditExportJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        String workerId = config.getWorkerId();
+        Path part = null;
+        try {
+            AuditExportFormat format = AuditExportFormat.from(job.getFormat());
+            Path target = fileStore.resolve(job.getTenantId(), job.getJobKey(), format.getExtension());
+            part = fileStore.partPath(target, job.getAttemptCount());
+            execute(job, workerId, format, target, part);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            boolean retry = job.getAttemptCount() < config.getMaxAttempts();
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (message.length() > MAX_ERROR_LENGTH) {
+                message = message.substring(0, MAX_ERROR_LENGTH);
+            }
+            int updated = auditExportJobRepository.markFailed(jobId, workerId, job.getAttemptCount(),
+                    retry ? AuditExportJob.STATUS_PENDING : AuditExportJob.STATUS_FAILED, message, Instant.now());
+            if (updated > 0 && !retry) {
+                fileStore.delete(job.getFilePath());
+                fileStore.delete(part != null ? part.toString() : null);
+            }
+            log.error("Audit export failed jobKey={} attempt={} retry={}", job.getJobKey(), job.getAttemptCount(), retry, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    private void execute(AuditExportJob job, String workerId, AuditExportFormat format, Path target, Path part)
+            throws IOException, InterruptedException {
+        Long jobId = job.getJobId();
+        Integer attempt = job.getAttemptCount();
+        AuditEventExportReader.Filter filter = new AuditEventExportReader.Filter(
+                job.getTenantId(), job.getFilterFrom(), job.getFilterTo(), job.getFilterCategory());
+
+        Long total = job.getTotalRows() != null ? job.getTotalRows() : auditEventExportReader.count(filter);
+        if (auditExportJobRepository.markStarted(jobId, workerId, attempt, total, part.toString(), Instant.now()) == 0) {
+            return;
+        }
+
+        long checkpointBytes = job.getCheckpointBytes() != null ? job.getCheckpointBytes() : 0L;
+        long exported = job.getExportedRows() != null ? job.getExportedRows() : 0L;
+        Instant cursorAt = job.getCursorCreatedAt();
+        Long cursorId = job.getCursorAuditId();
+        if (!fileStore.prepare(part, job.getFilePath(), checkpointBytes)) {
+            checkpointBytes = 0L;
+            exported = 0L;
+            cursorAt = null;
+            cursorId = null;
+        }
+        log.info("Audit export started jobKey={} tenant={} format={} total={} resumeFrom={}",
+                job.getJobKey(), job.getTenantId(), format, total, exported);
+
+        AtomicBoolean owned = new AtomicBoolean(true);
+        ScheduledFuture<?> heartbeat = startHeartbeat(jobId, workerId, attempt, owned);
+        try {
+            int pageSize = Math.max(1, config.getPageSize());
+            int checkpointRows = Math.max(pageSize, config.getCheckpointRows());
+            Throttle throttle = new Throttle(config.getMaxRowsPerSecond());
+            boolean done = false;
+            while (!done) {
+                int chunkRows = 0;
+                try (FileOutputStream file = fileStore.openAppend(part);
+                     GZIPOutputStream gzip = new GZIPOutputStream(file, 64 * 1024);
+                     Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8))) {
+                    RowWriter rowWriter = format == AuditExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+                    if (checkpointBytes == 0L) {
+                        rowWriter.writeHeader();
+                    }
+                    while (chunkRows < checkpointRows && owned.get()) {
+                        List<AuditEventExportReader.Row> page = auditEventExportReader.findPage(filter, cursorAt, cursorId, pageSize);
+                        for (AuditEventExportReader.Row row : page) {
+                            rowWriter.write(row.values());
+                        }
+                        chunkRows += page.size();
+                        if (!page.isEmpty()) {
+                            AuditEventExportReader.Row last = page.get(page.size() - 1);
+                            cursorAt = last.createdAt();
+                            cursorId = last.auditId();
+                        }
+                        if (page.size() < pageSize) {
+                            done = true;
+                            break;
+                        }
+                        throttle.acquire(page.size());
+                    }
+                    if (!owned.get()) {
+                        stopped(job, part, exported);
+                        return;
+                    }
+                    rowWriter.flush();
+                    gzip.finish();
+                    file.getFD().sync();
+                }
+                exported += chunkRows;
+                checkpointBytes = fileStore.size(part);
+                if (auditExportJobRepository.checkpoint(jobId, workerId, attempt, exported, cursorAt, cursorId,
+                        checkpointBytes, Instant.now()) == 0) {
+                    stopped(job, part, exported);
+                    return;
+                }
+            }
+        } finally {
+            heartbeat.cancel(false);
+        }
+        fileStore.publish(part, target);
+        Instant now = Instant.now();
+        if (auditExportJobRepository.markCompleted(jobId, workerId, attempt, target.toString(),
+                now.plus(Duration.ofHours(config.getFileRetentionHours())), now) == 0) {
+            stopped(job, target, exported);
+            return;
+        }
+        log.info("Audit export completed jobKey={} rows={} bytes={}", job.getJobKey(), exported, checkpointBytes);
+    }
+
+    /** 체크포인트와 별도로 heartbeat 갱신. 0건이면 owned=false로 워커에 중단을 알림 */
+    private ScheduledFuture<?> startHeartbeat(Long jobId, String workerId, Integer attempt, AtomicBoolean owned) {
+        long interval = Math.max(1L, config.getHeartbeatIntervalSeconds());
+        return heartbeatScheduler.scheduleWithFixedDelay(() -> {
+            if (!owned.get()) {
+                return;
+            }
+            try {
+                if (auditExportJobRepository.heartbeat(jobId, workerId, attempt, Instant.now()) == 0) {
+                    owned.set(false);
+                }
+            } catch (Exception e) {
+                log.warn("Audit export heartbeat failed jobId={}: {}", jobId, e.getMessage());
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /** 취소/인수로 소유권 상실. 취소면 자기 파일 삭제, 인수면 새 실행이 복사 후 정리 */
+    private void stopped(AuditExportJob job, Path path, long exported) {
+        log.info("Audit export stopped (cancelled or taken over) jobKey={} exported={}", job.getJobKey(), exported);
+        AuditExportJob current = auditExportJobRepository.findById(job.getJobId()).orElse(null);
+        if (current != null && AuditExportJob.STATUS_CANCELLED.equals(current.getStatus())) {
+            fileStore.delete(path.toString());
+        }
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void write(Object[] values) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /** CSV (RFC 4180 인용, JSONB는 JSON 문자열 그대로) */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writeLine(AuditEventExportReader.COLUMNS);
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(String.valueOf(values[i])));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /** NDJSON (1행 1객체, JSONB 컬럼은 JSON 값으로 포함) */
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+            // NDJSON은 헤더 없음
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                String name = AuditEventExportReader.COLUMNS[i];
+                Object v = values[i];
+                if (v == null) {
+                    generator.writeNullField(name);
+                } else if (i >= AuditEventExportReader.FIRST_JSON_COLUMN && i <= AuditEventExportReader.LAST_JSON_COLUMN) {
+                    generator.writeFieldName(name);
+                    generator.writeRawValue(String.valueOf(v));
+                } else if (v instanceof Number n) {
+                    generator.writeFieldName(name);
+                    generator.writeNumber(n.longValue());
+                } else {
+                    generator.writeStringField(name, String.valueOf(v));
+                }
+            }
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+            writer.flush();
+        }
+    }
+
+    /** 초당 행 수 제한 (작업 시작 기준 누적 평균) */
+    private static final class Throttle {
+        private final int rowsPerSecond;
+        private final long startNanos = System.nanoTime();
+        private long rows;
+
+        Throttle(int rowsPerSecond) {
+            this.rowsPerSecond = rowsPerSecond;
+        }
+
+        void acquire(int n) throws InterruptedException {
+            if (rowsPerSecond <= 0) {
+                return;
+            }
+            rows += n;
+            long expectedNanos = rows * 1_000_000_000L / rowsPerSecond;
+            long aheadMillis = (expectedNanos - (System.nanoTime() - startNanos)) / 1_000_000L;
+            if (aheadMillis > 0) {
+                Thread.sleep(aheadMillis);
+            }
+        }
+    }
+}
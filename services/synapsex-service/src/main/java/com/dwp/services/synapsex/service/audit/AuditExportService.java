@@ -1,26 +1,132 @@
 package com.dwp.services.synapsex.service.audit;
 
+import com.dwp.core.common.ErrorCode;
+import com.dwp.core.exception.BaseException;
 import com.dwp.services.synapsex.dto.audit.AuditExportRequest;
 import com.dwp.services.synapsex.dto.audit.AuditExportResponse;
+import com.dwp.services.synapsex.entity.AuditExportJob;
+import com.dwp.services.synapsex.repository.AuditExportJobRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Phase 4 Optional - Audit export (signed URL or job id)
- * Initial implementation returns job id; signed URL would require S3/pre-signed URL integration.
+ * 감사 이벤트 내보내기 작업 (등록 / 상태·진행률 / 취소 / 다운로드)
+ *
+ * 실제 내보내기는 AuditExportJobDispatcher → AuditExportJobWorker가 백그라운드로 수행합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuditExportService {
 
-    public AuditExportResponse requestExport(Long tenantId, AuditExportRequest request) {
-        String jobId = "export-" + UUID.randomUUID().toString().substring(0, 8);
+    private static final String DOWNLOAD_URL = "/api/synapse/audit/export/%s/download";
+
+    private final AuditExportJobRepository auditExportJobRepository;
+    private final AuditExportFileStore fileStore;
+    private final ObjectProvider<AuditExportJobDispatcher> dispatcherProvider;
+
+    @Transactional
+    public AuditExportResponse requestExport(Long tenantId, Long actorUserId, AuditExportRequest request) {
+        AuditExportFormat format = AuditExportFormat.from(request.getFormat());
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "from은 to보다 이후일 수 없습니다.");
+        }
+        AuditExportJob job = auditExportJobRepository.save(AuditExportJob.builder()
+                .jobKey("export-" + UUID.randomUUID())
+                .tenantId(tenantId)
+                .format(format.name())
+                .filterFrom(request.getFrom())
+                .filterTo(request.getTo())
+                .filterCategory(request.getCategory())
+                .createdBy(actorUserId)
+                .updatedBy(actorUserId)
+                .build());
+        log.info("Audit export requested jobKey={} tenant={} format={}", job.getJobKey(), tenantId, format);
+        return toResponse(job);
+    }
+
+    /** 등록 커밋 후 즉시 실행 시도 (폴링 대기 없이) */
+    public void triggerDispatch() {
+        AuditExportJobDispatcher dispatcher = dispatcherProvider.getIfAvailable();
+        if (dispatcher == null) {
+            return;
+        }
+        try {
+            dispatcher.dispatch();
+        } catch (Exception e) {
+            log.warn("Audit export immediate dispatch failed, will retry on next poll", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public AuditExportResponse getStatus(Long tenantId, String jobKey) {
+        return toResponse(findJob(tenantId, jobKey));
+    }
+
+    /** PENDING/RUNNING만 취소 가능. 실행 중이면 워커가 다음 체크포인트에서 중단 후 파일 삭제 */
+    public AuditExportResponse cancel(Long tenantId, String jobKey) {
+        AuditExportJob job = findJob(tenantId, jobKey);
+        if (auditExportJobRepository.cancel(job.getJobId(), Instant.now()) == 0) {
+            throw new BaseException(ErrorCode.INVALID_STATE, "취소할 수 없는 상태입니다: " + job.getStatus());
+        }
+        if (AuditExportJob.STATUS_PENDING.equals(job.getStatus())) {
+            fileStore.delete(job.getFilePath());
+        }
+        return toResponse(findJob(tenantId, jobKey));
+    }
+
+    /** 완료된 내보내기 파일 경로 */
+    @Transactional(readOnly = true)
+    public Path getDownloadPath(Long tenantId, String jobKey) {
+        AuditExportJob job = findJob(tenantId, jobKey);
+        if (!AuditExportJob.STATUS_COMPLETED.equals(job.getStatus()) || job.getFilePath() == null) {
+            throw new BaseException(ErrorCode.INVALID_STATE, "내보내기가 완료되지 않았습니다: " + job.getStatus());
+        }
+        Path path = Paths.get(job.getFilePath());
+        if (!Files.isReadable(path)) {
+            throw new BaseException(ErrorCode.ENTITY_NOT_FOUND, "내보내기 파일을 찾을 수 없습니다.");
+        }
+        return path;
+    }
+
+    private AuditExportJob findJob(Long tenantId, String jobKey) {
+        return auditExportJobRepository.findByTenantIdAndJobKey(tenantId, jobKey)
+                .orElseThrow(() -> new BaseException(ErrorCode.ENTITY_NOT_FOUND, "내보내기 작업을 찾을 수 없습니다: " + jobKey));
+    }
+
+    private AuditExportResponse toResponse(AuditExportJob job) {
+        Long total = job.getTotalRows();
+        long exported = job.getExportedRows() != null ? job.getExportedRows() : 0L;
+        Integer progress = null;
+        if (AuditExportJob.STATUS_COMPLETED.equals(job.getStatus())) {
+            progress = 100;
+        } else if (total != null) {
+            progress = total == 0 ? 0 : (int) Math.min(99, exported * 100 / total);
+        }
+        boolean completed = AuditExportJob.STATUS_COMPLETED.equals(job.getStatus());
         return AuditExportResponse.builder()
-                .jobId(jobId)
+                .jobId(job.getJobKey())
                 .signedUrl(null)
-                .status("PENDING")
+                .status(job.getStatus())
+                .format(job.getFormat())
+                .totalRows(total)
+                .exportedRows(exported)
+                .progressPercent(progress)
+                .fileSizeBytes(completed ? job.getCheckpointBytes() : null)
+                .downloadUrl(completed ? String.format(DOWNLOAD_URL, job.getJobKey()) : null)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
                 .build();
     }
 }
@@ -3,14 +3,20 @@ package com.dwp.services.synapsex.service.audit;
 import com.dwp.services.synapsex.audit.AuditEventConstants;
 import com.dwp.services.synapsex.entity.AuditEventLog;
 import com.dwp.services.synapsex.repository.AuditEventLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -21,7 +27,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AuditWriter {
 
+    private static final String INSERT_CASE_EVENT_SQL = "INSERT INTO dwp_aura.audit_event_log" +
+            " (tenant_id, event_category, event_type, resource_type, resource_id, created_at, actor_type, channel," +
+            " outcome, severity, before_json, after_json, tags)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?::jsonb)";
+    private static final int BATCH_SIZE = 1000;
+
     private final AuditEventLogRepository auditEventLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 배치 기록용 Case 이벤트 */
+    public record CaseEvent(String eventType, Long caseId, Map<String, Object> afterJson,
+                            Map<String, Object> beforeJson, Map<String, Object> tags) {}
 
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = false)
     public void log(Long tenantId,
@@ -452,6 +470,41 @@ public class AuditWriter {
                 null);
     }
 
+    /**
+     * Phase B: Case Created/Updated 이벤트 일괄 기록 (Detect 배치용).
+     * 건별 트랜잭션 대신 JDBC batch INSERT로 기록합니다. 실패 시 경고만 남기고 배치는 계속합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = false)
+    public void logCaseEvents(Long tenantId, List<CaseEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        try {
+            Timestamp now = Timestamp.from(Instant.now());
+            List<Object[]> args = new ArrayList<>(Math.min(events.size(), BATCH_SIZE));
+            for (CaseEvent e : events) {
+                args.add(new Object[]{tenantId, AuditEventConstants.CATEGORY_CASE, e.eventType(), "AGENT_CASE",
+                        e.caseId() != null ? String.valueOf(e.caseId()) : null, now,
+                        AuditEventConstants.ACTOR_SYSTEM, AuditEventConstants.CHANNEL_INGESTION,
+                        AuditEventConstants.OUTCOME_SUCCESS, AuditEventConstants.SEVERITY_INFO,
+                        toJson(e.beforeJson()), toJson(e.afterJson()), toJson(e.tags())});
+                if (args.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_CASE_EVENT_SQL, args);
+                    args.clear();
+                }
+            }
+            if (!args.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_CASE_EVENT_SQL, args);
+            }
+        } catch (Exception ex) {
+            log.warn("Audit case event batch write failed: count={} {}", events.size(), ex.getMessage());
+        }
+    }
+
+    private String toJson(Map<String, Object> value) throws JsonProcessingException {
+        return value != null ? objectMapper.writeValueAsString(value) : null;
+    }
+
     /** Scope 위반 DENIED 기록 (403 OUT_OF_SCOPE) */
     public void logScopeDenied(Long tenantId, Long actorUserId, String resourceType, String resourceId,
                                String bukrs, String currency, String reason,
@@ -1,16 +1,12 @@
 package com.dwp.services.synapsex.service.detect;
 
 import com.dwp.services.synapsex.audit.AuditEventConstants;
-import com.dwp.services.synapsex.entity.AgentCase;
 import com.dwp.services.synapsex.entity.AgentCaseStatus;
 import com.dwp.services.synapsex.entity.DetectRun;
-import com.dwp.services.synapsex.entity.FiDocHeader;
-import com.dwp.services.synapsex.entity.FiDocItem;
 import com.dwp.services.synapsex.entity.FiOpenItem;
-import com.dwp.services.synapsex.repository.AgentCaseRepository;
+import com.dwp.services.synapsex.repository.DetectCaseBatchRepository;
 import com.dwp.services.synapsex.repository.DetectRunRepository;
-import com.dwp.services.synapsex.repository.FiDocHeaderRepository;
-import com.dwp.services.synapsex.repository.FiDocItemRepository;
+import com.dwp.services.synapsex.repository.DetectWatermarkRepository;
 import com.dwp.services.synapsex.repository.FiOpenItemRepository;
 import com.dwp.services.synapsex.service.audit.AuditWriter;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -24,7 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +31,9 @@ import java.util.Optional;
  * Phase B: Detect Run 배치 — window 내 전표/미결제 대상 케이스 Upsert
  * P0 규칙: case_type, severity, score, dedup_key, evidence_json 등 명확한 기준 적용
  * 참고: docs/job/PROMPT_BE_CASE_FIELD_RULES_AND_DEDUP_P0.txt
+ *
+ * 집합 기반 처리: 전표 금액은 GROUP BY 1회, 기존 케이스는 dedup_key 청크 조회,
+ * 케이스 반영은 INSERT ... ON CONFLICT batch, 감사 이벤트는 batch INSERT (건별 왕복 없음)
  */
 @Slf4j
 @Service
@@ -56,10 +57,9 @@ public class DetectBatchService {
     private static final BigDecimal AMOUNT_MEDIUM = new BigDecimal("10000000");
 
     private final DetectRunRepository detectRunRepository;
-    private final FiDocHeaderRepository fiDocHeaderRepository;
-    private final FiDocItemRepository fiDocItemRepository;
+    private final DetectWatermarkRepository detectWatermarkRepository;
+    private final DetectCaseBatchRepository detectCaseBatchRepository;
     private final FiOpenItemRepository fiOpenItemRepository;
-    private final AgentCaseRepository agentCaseRepository;
     private final AuditWriter auditWriter;
     private final JdbcTemplate jdbcTemplate;
 
@@ -78,6 +78,34 @@ public class DetectBatchService {
         }
     }
 
+    /**
+     * 스케줄 청크 실행. 성공(COMPLETED) 시 같은 트랜잭션에서 high-water mark를 windowTo로 전진합니다.
+     * 청크마다 독립 커밋되므로 이후 청크 실패가 앞선 청크를 롤백하지 않습니다.
+     *
+     * @return null이면 advisory lock 미획득 (다른 인스턴스 실행 중)
+     */
+    @Transactional
+    public DetectRun runScheduledChunk(Long tenantId, Instant windowFrom, Instant windowTo) {
+        long lockKey = ADVISORY_LOCK_BASE + tenantId;
+        Boolean acquired = jdbcTemplate.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, lockKey);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("Detect chunk skipped: advisory lock not acquired tenant={} (another instance running)", tenantId);
+            return null;
+        }
+        try {
+            DetectRun run = runDetectBatchInternal(tenantId, windowFrom, windowTo);
+            if ("COMPLETED".equals(run.getStatus())
+                    && detectWatermarkRepository.advance(tenantId, windowFrom, windowTo, run.getRunId(), Instant.now()) == 0) {
+                // 다른 인스턴스가 이미 전진시킨 구간 → 결과는 upsert라 중복 없음, 현재 청크 이후는 중단
+                log.info("Detect watermark moved concurrently tenant={} windowFrom={}", tenantId, windowFrom);
+                return null;
+            }
+            return run;
+        } finally {
+            jdbcTemplate.execute("SELECT pg_advisory_unlock(" + lockKey + ")");
+        }
+    }
+
     public SkippedRunInfo getSkippedRunInfo(Long tenantId) {
         Optional<DetectRun> running = detectRunRepository.findTopByTenantIdAndStatusOrderByStartedAtDesc(tenantId, "STARTED");
         return running.map(r -> new SkippedRunInfo(r.getRunId(), r.getStartedAt())).orElse(null);
@@ -109,27 +137,35 @@ public class DetectBatchService {
         int caseUpdated = 0;
 
         try {
-            List<FiDocHeader> docs = fiDocHeaderRepository.findByTenantIdAndCreatedAtBetween(tenantId, windowFrom, windowTo);
+            List<DetectCaseBatchRepository.DocAmount> docs = detectCaseBatchRepository.findDocAmounts(tenantId, windowFrom, windowTo);
             List<FiOpenItem> openItems = fiOpenItemRepository.findByTenantIdAndLastUpdateTsBetween(tenantId, windowFrom, windowTo);
 
-            for (FiDocHeader doc : docs) {
-                String dedupKey = buildDedupKey(tenantId, CASE_TYPE_DOC_WINDOW, SOURCE_TYPE_DOC, doc.getBukrs(), doc.getBelnr(), doc.getGjahr(), null);
-                BigDecimal amount = sumDocAmount(tenantId, doc.getBukrs(), doc.getBelnr(), doc.getGjahr());
-                int[] c = upsertCase(tenantId, run, dedupKey, CASE_TYPE_DOC_WINDOW, SOURCE_TYPE_DOC, RULE_ID_DOC,
-                        doc.getBukrs(), doc.getBelnr(), doc.getGjahr(), null, amount, doc.getWaers(), null);
-                caseCreated += c[0];
-                caseUpdated += c[1];
+            Map<String, CaseCandidate> candidates = new LinkedHashMap<>(Math.max(16, (docs.size() + openItems.size()) * 2));
+            for (DetectCaseBatchRepository.DocAmount doc : docs) {
+                CaseCandidate c = buildCandidate(tenantId, CASE_TYPE_DOC_WINDOW, SOURCE_TYPE_DOC, RULE_ID_DOC,
+                        doc.bukrs(), doc.belnr(), doc.gjahr(), null, doc.amount(), doc.waers(), null);
+                candidates.put(c.row().dedupKey(), c);
             }
-
             for (FiOpenItem oi : openItems) {
-                String dedupKey = buildDedupKey(tenantId, CASE_TYPE_OPEN_ITEM_WINDOW, SOURCE_TYPE_OPEN_ITEM,
-                        oi.getBukrs(), oi.getBelnr(), oi.getGjahr(), oi.getBuzei());
-                int[] c = upsertCase(tenantId, run, dedupKey, CASE_TYPE_OPEN_ITEM_WINDOW, SOURCE_TYPE_OPEN_ITEM, RULE_ID_OPEN_ITEM,
+                CaseCandidate c = buildCandidate(tenantId, CASE_TYPE_OPEN_ITEM_WINDOW, SOURCE_TYPE_OPEN_ITEM, RULE_ID_OPEN_ITEM,
                         oi.getBukrs(), oi.getBelnr(), oi.getGjahr(), oi.getBuzei(), oi.getOpenAmount(), oi.getCurrency(), oi.getDueDate());
-                caseCreated += c[0];
-                caseUpdated += c[1];
+                candidates.put(c.row().dedupKey(), c);
             }
 
+            Map<String, DetectCaseBatchRepository.ExistingCase> existing =
+                    detectCaseBatchRepository.findExistingByDedupKeys(tenantId, candidates.keySet());
+            detectCaseBatchRepository.upsertCases(tenantId, run.getRunId(),
+                    run.getStartedAt() != null ? run.getStartedAt() : Instant.now(),
+                    candidates.values().stream().map(CaseCandidate::row).toList());
+
+            List<String> createdKeys = candidates.keySet().stream().filter(k -> !existing.containsKey(k)).toList();
+            Map<String, DetectCaseBatchRepository.ExistingCase> created =
+                    createdKeys.isEmpty() ? Map.of() : detectCaseBatchRepository.findExistingByDedupKeys(tenantId, createdKeys);
+            caseCreated = createdKeys.size();
+            caseUpdated = candidates.size() - caseCreated;
+
+            auditWriter.logCaseEvents(tenantId, buildCaseEvents(run, candidates, existing, created));
+
             ObjectNode counts = com.fasterxml.jackson.databind.node.JsonNodeFactory.instance.objectNode();
             counts.put("caseCreated", caseCreated);
             counts.put("caseUpdated", caseUpdated);
@@ -175,15 +211,6 @@ public class DetectBatchService {
         return tenantId + ":" + caseType + ":" + sourceType + ":" + entity;
     }
 
-    private BigDecimal sumDocAmount(Long tenantId, String bukrs, String belnr, String gjahr) {
-        List<FiDocItem> items = fiDocItemRepository.findByTenantIdAndBukrsAndBelnrAndGjahrOrderByBuzeiAsc(
-                tenantId, bukrs, belnr, gjahr);
-        return items.stream()
-                .map(FiDocItem::getWrbtr)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
     /** severity: amount 기반 (>=1억 HIGH, >=1천만 MEDIUM, else LOW). sys_codes SEVERITY 일치 */
     private String resolveSeverity(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) < 0) return "LOW";
@@ -215,81 +242,60 @@ public class DetectBatchService {
         return root;
     }
 
-    /** @return [created, updated] */
-    private int[] upsertCase(Long tenantId, DetectRun run, String dedupKey, String caseType, String sourceType, String ruleId,
-                             String bukrs, String belnr, String gjahr, String buzei,
-                             BigDecimal amount, String currency, java.time.LocalDate dueDate) {
-        AgentCase existing = agentCaseRepository.findByTenantIdAndDedupKey(tenantId, dedupKey).orElse(null);
+    /** 윈도우 대상 1건 → Upsert 행 + 감사 이벤트용 메타 */
+    private record CaseCandidate(DetectCaseBatchRepository.CaseUpsertRow row, String ruleId, String entityKey) {}
 
+    private CaseCandidate buildCandidate(Long tenantId, String caseType, String sourceType, String ruleId,
+                                         String bukrs, String belnr, String gjahr, String buzei,
+                                         BigDecimal amount, String currency, java.time.LocalDate dueDate) {
+        String dedupKey = buildDedupKey(tenantId, caseType, sourceType, bukrs, belnr, gjahr, buzei);
         String severity = resolveSeverity(amount);
         BigDecimal score = resolveScore(severity);
-        String reasonText = "DOC".equals(sourceType)
+        String reasonText = SOURCE_TYPE_DOC.equals(sourceType)
                 ? "Detected in document window during scheduled run"
                 : "Detected in open item window during scheduled run";
-        String source = "DOC".equals(sourceType) ? "fi_doc_header" : "fi_open_item";
-        String window = "DOC".equals(sourceType) ? RULE_ID_DOC : RULE_ID_OPEN_ITEM;
-
-        if (existing == null) {
-            JsonNode evidence = buildEvidenceJson(source, window, bukrs, belnr, gjahr, buzei, amount, currency, dueDate, null, null);
-            AgentCase created = AgentCase.builder()
-                    .tenantId(tenantId)
-                    .detectedAt(run.getStartedAt() != null ? run.getStartedAt() : Instant.now())
-                    .bukrs(bukrs)
-                    .belnr(belnr)
-                    .gjahr(gjahr)
-                    .buzei(buzei)
-                    .caseType(caseType)
-                    .severity(severity)
-                    .score(score)
-                    .reasonText(reasonText)
-                    .evidenceJson(evidence)
-                    .ragRefsJson(com.fasterxml.jackson.databind.node.JsonNodeFactory.instance.arrayNode())
-                    .status(AgentCaseStatus.OPEN)
-                    .dedupKey(dedupKey)
-                    .lastDetectRunId(run.getRunId())
-                    .createdAt(Instant.now())
-                    .updatedAt(Instant.now())
-                    .build();
-            agentCaseRepository.save(created);
+        String source = SOURCE_TYPE_DOC.equals(sourceType) ? "fi_doc_header" : "fi_open_item";
+        String window = SOURCE_TYPE_DOC.equals(sourceType) ? RULE_ID_DOC : RULE_ID_OPEN_ITEM;
+        JsonNode evidence = buildEvidenceJson(source, window, bukrs, belnr, gjahr, buzei, amount, currency, dueDate, null, null);
+        String entityKey = buzei != null ? bukrs + "-" + belnr + "-" + gjahr + "-" + buzei : bukrs + "-" + belnr + "-" + gjahr;
+        return new CaseCandidate(new DetectCaseBatchRepository.CaseUpsertRow(dedupKey, caseType, bukrs, belnr, gjahr, buzei,
+                severity, score, reasonText, evidence.toString()), ruleId, entityKey);
+    }
 
-            String entityKey = buzei != null ? bukrs + "-" + belnr + "-" + gjahr + "-" + buzei : bukrs + "-" + belnr + "-" + gjahr;
-            Map<String, Object> createAfter = new HashMap<>();
-            createAfter.put("caseId", created.getCaseId());
-            createAfter.put("dedupKey", dedupKey);
-            createAfter.put("ruleId", ruleId);
-            createAfter.put("entityKey", entityKey);
-            createAfter.put("runId", run.getRunId());
-            auditWriter.logCaseEvent(tenantId, AuditEventConstants.TYPE_CASE_CREATED, created.getCaseId(),
-                    createAfter, null, Map.of("runId", run.getRunId()));
-            return new int[]{1, 0};
-        } else {
-            // P0: CLOSED/RESOLVED는 재오픈하지 않음 (2중작업 방지)
-            if (existing.getStatus() == AgentCaseStatus.CLOSED || existing.getStatus() == AgentCaseStatus.RESOLVED) {
-                existing.setLastDetectRunId(run.getRunId());
-                existing.setUpdatedAt(Instant.now());
-                agentCaseRepository.save(existing);
-                return new int[]{0, 1};
+    /** CASE_CREATED / CASE_UPDATED 감사 이벤트 (기존 건별 기록과 동일한 after/before/tags) */
+    private List<AuditWriter.CaseEvent> buildCaseEvents(DetectRun run, Map<String, CaseCandidate> candidates,
+                                                        Map<String, DetectCaseBatchRepository.ExistingCase> existing,
+                                                        Map<String, DetectCaseBatchRepository.ExistingCase> created) {
+        Map<String, Object> tags = Map.of("runId", run.getRunId());
+        List<AuditWriter.CaseEvent> events = new ArrayList<>(candidates.size());
+        for (CaseCandidate c : candidates.values()) {
+            String dedupKey = c.row().dedupKey();
+            DetectCaseBatchRepository.ExistingCase before = existing.get(dedupKey);
+            if (before == null) {
+                DetectCaseBatchRepository.ExistingCase after = created.get(dedupKey);
+                Map<String, Object> createAfter = new HashMap<>();
+                createAfter.put("caseId", after != null ? after.caseId() : null);
+                createAfter.put("dedupKey", dedupKey);
+                createAfter.put("ruleId", c.ruleId());
+                createAfter.put("entityKey", c.entityKey());
+                createAfter.put("runId", run.getRunId());
+                events.add(new AuditWriter.CaseEvent(AuditEventConstants.TYPE_CASE_CREATED,
+                        after != null ? after.caseId() : null, createAfter, null, tags));
+            } else if (!isFinalStatus(before.status())) {
+                // P0: CLOSED/RESOLVED는 last_detect_run_id만 갱신되므로 감사 이벤트 없음
+                Map<String, Object> updateAfter = new HashMap<>();
+                updateAfter.put("lastDetectRunId", run.getRunId());
+                updateAfter.put("severity", c.row().severity());
+                updateAfter.put("dedupKey", dedupKey);
+                updateAfter.put("runId", run.getRunId());
+                events.add(new AuditWriter.CaseEvent(AuditEventConstants.TYPE_CASE_UPDATED, before.caseId(), updateAfter,
+                        Map.of("detectedAt", before.detectedAt() != null ? before.detectedAt().toString() : ""), tags));
             }
-            // P0: detected_at 유지, updated_at만 갱신
-            existing.setUpdatedAt(Instant.now());
-            existing.setLastDetectRunId(run.getRunId());
-            existing.setSeverity(severity);
-            existing.setScore(score);
-            existing.setReasonText(reasonText);
-            existing.setEvidenceJson(buildEvidenceJson(source, window, bukrs, belnr, gjahr, buzei, amount, currency, dueDate, null, null));
-            agentCaseRepository.save(existing);
-
-            String entityKey = buzei != null ? bukrs + "-" + belnr + "-" + gjahr + "-" + buzei : bukrs + "-" + belnr + "-" + gjahr;
-            Map<String, Object> updateAfter = new HashMap<>();
-            updateAfter.put("lastDetectRunId", run.getRunId());
-            updateAfter.put("severity", severity);
-            updateAfter.put("dedupKey", existing.getDedupKey());
-            updateAfter.put("runId", run.getRunId());
-            auditWriter.logCaseEvent(tenantId, AuditEventConstants.TYPE_CASE_UPDATED, existing.getCaseId(),
-                    updateAfter,
-                    Map.of("detectedAt", existing.getDetectedAt() != null ? existing.getDetectedAt().toString() : ""),
-                    Map.of("runId", run.getRunId()));
-            return new int[]{0, 1};
         }
+        return events;
+    }
+
+    private static boolean isFinalStatus(String status) {
+        return AgentCaseStatus.CLOSED.name().equals(status) || AgentCaseStatus.RESOLVED.name().equals(status);
     }
 }
@@ -0,0 +1,103 @@
+package com.dwp.services.synapsex.service.detect;
+
+import com.dwp.services.synapsex.config.DetectBatchConfig;
+import com.dwp.services.synapsex.entity.DetectRun;
+import com.dwp.services.synapsex.entity.DetectWatermark;
+import com.dwp.services.synapsex.repository.DetectWatermarkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Phase B: 멀티 테넌트 Detect 실행 엔진
+ *
+ * - 테넌트별 작업을 detectBatchExecutor(고정 크기 풀)에서 병렬 실행. 느린 테넌트가 다른 테넌트를 지연시키지 않음
+ * - 윈도우는 테넌트별 high-water mark ~ 현재. chunkMinutes 단위로 나눠 청크마다 독립 커밋 + mark 전진
+ * - 청크는 반개구간 [from, to)이며 다음 청크는 이전 청크의 to에서 시작 (경계 시각 행은 뒤 청크에서 1회만 처리)
+ * - 청크 실패/락 미획득 시 해당 테넌트만 중단하고 다음 스케줄에서 같은 지점부터 재시도
+ * - 이전 스케줄 작업이 아직 실행 중인 테넌트는 건너뜀 (중복 제출 방지)
+ */
+@Slf4j
+@Component
+public class DetectExecutionEngine {
+
+    private final DetectBatchConfig config;
+    private final DetectBatchService detectBatchService;
+    private final DetectWatermarkRepository detectWatermarkRepository;
+    private final ThreadPoolTaskExecutor detectBatchExecutor;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public DetectExecutionEngine(DetectBatchConfig config,
+                                 DetectBatchService detectBatchService,
+                                 DetectWatermarkRepository detectWatermarkRepository,
+                                 @Qualifier("detectBatchExecutor") ThreadPoolTaskExecutor detectBatchExecutor) {
+        this.config = config;
+        this.detectBatchService = detectBatchService;
+        this.detectWatermarkRepository = detectWatermarkRepository;
+        this.detectBatchExecutor = detectBatchExecutor;
+    }
+
+    /** 대상 테넌트 전체 제출 */
+    public void dispatch(Instant now) {
+        Instant until = now.truncatedTo(ChronoUnit.SECONDS);
+        for (Long tenantId : config.getTenantIds()) {
+            if (!inFlight.add(tenantId)) {
+                log.info("Detect tenant still running from previous schedule, skipped tenant={}", tenantId);
+                continue;
+            }
+            try {
+                detectBatchExecutor.execute(() -> {
+                    try {
+                        runTenant(tenantId, until);
+                    } finally {
+                        inFlight.remove(tenantId);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                inFlight.remove(tenantId);
+                log.warn("Detect tenant rejected by executor tenant={}", tenantId);
+            }
+        }
+    }
+
+    /** high-water mark부터 until까지 청크 순차 처리 */
+    void runTenant(Long tenantId, Instant until) {
+        try {
+            detectWatermarkRepository.initIfAbsent(tenantId, until.minus(Duration.ofMinutes(config.getInitialLookbackMinutes())));
+            DetectWatermark mark = detectWatermarkRepository.findById(tenantId).orElse(null);
+            if (mark == null) {
+                return;
+            }
+            Duration chunk = Duration.ofMinutes(Math.max(1, config.getChunkMinutes()));
+            Instant from = mark.getHighWaterMark();
+            int chunks = 0;
+            while (from.isBefore(until) && chunks < config.getMaxChunksPerRun()) {
+                Instant to = from.plus(chunk).isBefore(until) ? from.plus(chunk) : until;
+                DetectRun run = detectBatchService.runScheduledChunk(tenantId, from, to);
+                if (run == null || !"COMPLETED".equals(run.getStatus())) {
+                    log.warn("Detect tenant stopped at chunk tenant={} windowFrom={} status={}",
+                            tenantId, from, run != null ? run.getStatus() : "SKIPPED");
+                    return;
+                }
+                log.info("Detect chunk completed tenant={} runId={} window=[{}, {}]", tenantId, run.getRunId(), from, to);
+                from = to;
+                chunks++;
+            }
+            if (from.isBefore(until)) {
+                log.info("Detect tenant catch-up continues next schedule tenant={} highWaterMark={} behind={}",
+                        tenantId, from, Duration.between(from, until));
+            }
+        } catch (Exception e) {
+            log.error("Detect batch failed tenant={}", tenantId, e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.dwp.services.synapsex.service.integration;
+
+import com.dwp.services.synapsex.audit.AuditEventConstants;
+import com.dwp.services.synapsex.config.IntegrationOutboxConfig;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.Claim;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.Failure;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.OutboxMessage;
+import com.dwp.services.synapsex.service.audit.AuditWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Integration Outbox 디스패처
+ *
+ * - 등록된 sender의 target_system 행만 batch claim (FOR UPDATE SKIP LOCKED, replica 간 분산)
+ * - target_system별로 묶어 sender에 전달, 결과는 batch UPDATE
+ * - 실패 시 지수 backoff + jitter로 next_retry_at 설정, maxAttempts 초과 또는 NonRetryableOutboxException이면 DEAD
+ * - lease 만료 재claim도 실패 1회로 집계되며, 재claim 시점에 maxAttempts에 도달한 행은 전송 없이 DEAD
+ *   (작업자를 죽이는 메시지가 무한 재시도되지 않도록)
+ * - 결과 기록은 claim_id 일치 시에만 반영 (lease 만료 후 다른 노드가 재claim한 행은 덮어쓰지 않음).
+ *   메트릭과 DEAD 감사 기록은 실제로 반영된 행만 집계
+ * - 메트릭: synapsex.integration_outbox.{sent,retried,dead,backlog,lag.seconds,send}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "integration.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class IntegrationOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final IntegrationOutboxConfig config;
+    private final IntegrationOutboxDispatchRepository dispatchRepository;
+    private final AuditWriter auditWriter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, IntegrationOutboxSender> senders = new HashMap<>();
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+    private final AtomicReference<IntegrationOutboxDispatchRepository.Lag> lastLag =
+            new AtomicReference<>(new IntegrationOutboxDispatchRepository.Lag(0, 0));
+
+    public IntegrationOutboxDispatcher(IntegrationOutboxConfig config, IntegrationOutboxDispatchRepository dispatchRepository,
+                                       AuditWriter auditWriter, MeterRegistry meterRegistry,
+                                       ObjectProvider<IntegrationOutboxSender> senderBeans) {
+        this.config = config;
+        this.dispatchRepository = dispatchRepository;
+        this.auditWriter = auditWriter;
+        this.meterRegistry = meterRegistry;
+        for (IntegrationOutboxSender sender : senderBeans.orderedStream().toList()) {
+            for (String target : sender.targetSystems()) {
+                IntegrationOutboxSender previous = senders.putIfAbsent(target, sender);
+                if (previous != null) {
+                    throw new IllegalStateException("Duplicate outbox sender for target_system=" + target);
+                }
+            }
+        }
+        FunctionCounter.builder("synapsex.integration_outbox.sent", sentCount, AtomicLong::get)
+                .description("전송 완료된 outbox 건수").register(meterRegistry);
+        FunctionCounter.builder("synapsex.integration_outbox.retried", retriedCount, AtomicLong::get)
+                .description("전송 실패 후 재시도 예약된 outbox 건수").register(meterRegistry);
+        FunctionCounter.builder("synapsex.integration_outbox.dead", deadCount, AtomicLong::get)
+                .description("DEAD 처리된 outbox 건수").register(meterRegistry);
+        Gauge.builder("synapsex.integration_outbox.backlog", lastLag, l -> l.get().backlog())
+                .description("미처리(PENDING/PROCESSING) outbox 건수").register(meterRegistry);
+        Gauge.builder("synapsex.integration_outbox.lag.seconds", lastLag, l -> l.get().lagSeconds())
+                .description("처리 예정 시각이 지난 가장 오래된 outbox의 대기 시간(초)").register(meterRegistry);
+        log.info("Integration outbox dispatcher targets={}", senders.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${integration.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            if (!senders.isEmpty()) {
+                for (int i = 0; i < config.getMaxBatchesPerPoll(); i++) {
+                    if (dispatchBatch() < config.getBatchSize()) {
+                        break;
+                    }
+                }
+            }
+            lastLag.set(dispatchRepository.lag());
+        } catch (Exception e) {
+            log.error("Integration outbox dispatch failed", e);
+        }
+    }
+
+    /** @return claim 건수 */
+    int dispatchBatch() {
+        Claim claim = dispatchRepository.claim(senders.keySet(), config.getBatchSize(),
+                config.getProcessingLeaseSeconds());
+        List<OutboxMessage> batch = claim.messages();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<OutboxMessage>> byTarget = new LinkedHashMap<>();
+        for (OutboxMessage m : batch) {
+            byTarget.computeIfAbsent(m.targetSystem(), k -> new ArrayList<>()).add(m);
+        }
+
+        List<Long> processed = new ArrayList<>(batch.size());
+        List<Failure> failures = new ArrayList<>();
+        for (Map.Entry<String, List<OutboxMessage>> entry : byTarget.entrySet()) {
+            IntegrationOutboxSender sender = senders.get(entry.getKey());
+            Timer timer = Timer.builder("synapsex.integration_outbox.send")
+                    .tag("target", entry.getKey())
+                    .register(meterRegistry);
+            for (OutboxMessage m : entry.getValue()) {
+                if (m.retryCount() >= config.getMaxAttempts()) {
+                    // lease 만료 재claim으로 시도 횟수 소진 (전송 중 작업자 비정상 종료 반복)
+                    // 전송을 시도하지 않았으므로 시도 횟수는 재claim 집계값 그대로
+                    failures.add(new Failure(m.outboxId(), m.retryCount(), null, "Processing lease expired without result"));
+                    log.warn("Outbox dead after repeated lease expiry outboxId={} target={} attempts={}",
+                            m.outboxId(), m.targetSystem(), m.retryCount());
+                    continue;
+                }
+                long start = System.nanoTime();
+                try {
+                    sender.send(m);
+                    processed.add(m.outboxId());
+                } catch (Exception e) {
+                    int attempts = m.retryCount() + 1;
+                    boolean retry = !(e instanceof NonRetryableOutboxException) && attempts < config.getMaxAttempts();
+                    Instant nextRetryAt = retry ? Instant.now().plus(backoff(attempts)) : null;
+                    failures.add(new Failure(m.outboxId(), attempts, nextRetryAt, truncate(e)));
+                    log.warn("Outbox send failed outboxId={} target={} attempt={} retry={}: {}",
+                            m.outboxId(), m.targetSystem(), attempts, retry, e.getMessage());
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        // claim_id 불일치(lease 만료 후 재claim)로 반영되지 않은 결과는 집계/감사에서 제외
+        List<Long> sent = dispatchRepository.markProcessed(claim.claimId(), processed);
+        Set<Long> failedApplied = new HashSet<>(dispatchRepository.markFailed(claim.claimId(), failures));
+        int skipped = processed.size() - sent.size() + failures.size() - failedApplied.size();
+        if (skipped > 0) {
+            log.warn("Outbox results not applied (claim lost after lease expiry) claimId={} count={}", claim.claimId(), skipped);
+        }
+        sentCount.addAndGet(sent.size());
+        Map<Long, OutboxMessage> byId = new HashMap<>();
+        for (OutboxMessage m : batch) {
+            byId.put(m.outboxId(), m);
+        }
+        for (Failure f : failures) {
+            if (!failedApplied.contains(f.outboxId())) {
+                continue;
+            }
+            if (f.nextRetryAt() != null) {
+                retriedCount.incrementAndGet();
+                continue;
+            }
+            deadCount.incrementAndGet();
+            auditWriter.logIntegrationEvent(byId.get(f.outboxId()).tenantId(),
+                    AuditEventConstants.TYPE_INTEGRATION_RESULT_UPDATE,
+                    "INTEGRATION_OUTBOX",
+                    String.valueOf(f.outboxId()),
+                    null,
+                    AuditEventConstants.OUTCOME_FAILED,
+                    Map.of("status", IntegrationOutboxDispatchRepository.STATUS_PROCESSING),
+                    Map.of("status", IntegrationOutboxDispatchRepository.STATUS_DEAD, "attempts", f.retryCount()),
+                    null, null, null);
+        }
+        return batch.size();
+    }
+
+    /** 지수 backoff (base * 2^(attempt-1), 최대 maxBackoff) + equal jitter (절반 고정 + 절반 랜덤) */
+    Duration backoff(int attempt) {
+        long exp = config.getBaseBackoffMs() << Math.min(30, Math.max(0, attempt - 1));
+        long capped = Math.min(config.getMaxBackoffMs(), exp < 0 ? Long.MAX_VALUE : exp);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static String truncate(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
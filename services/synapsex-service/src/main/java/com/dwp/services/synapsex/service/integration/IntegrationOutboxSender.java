@@ -0,0 +1,19 @@
+package com.dwp.services.synapsex.service.integration;
+
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.OutboxMessage;
+
+import java.util.Set;
+
+/**
+ * Integration Outbox 전송 플러그인 (target_system 단위)
+ *
+ * 정상 반환 시 PROCESSED. 예외 시 backoff 후 재시도, NonRetryableOutboxException이면 즉시 DEAD.
+ * 같은 메시지가 재전송될 수 있으므로 수신 측은 (tenant_id, target_system, event_type, event_key)로 멱등 처리해야 합니다.
+ */
+public interface IntegrationOutboxSender {
+
+    /** 처리하는 target_system 목록 */
+    Set<String> targetSystems();
+
+    void send(OutboxMessage message) throws Exception;
+}
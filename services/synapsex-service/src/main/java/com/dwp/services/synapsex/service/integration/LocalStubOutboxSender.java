@@ -0,0 +1,46 @@
+package com.dwp.services.synapsex.service.integration;
+
+import com.dwp.services.synapsex.config.IntegrationOutboxConfig;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 로컬 스텁 sender (integration.outbox.stub.enabled=true)
+ * 외부 호출 없이 로그만 남기고 성공 처리합니다. 전송 내역은 테스트 검증용으로 보관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "integration.outbox.stub.enabled", havingValue = "true")
+public class LocalStubOutboxSender implements IntegrationOutboxSender {
+
+    private final IntegrationOutboxConfig config;
+    private final List<OutboxMessage> sent = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Set<String> targetSystems() {
+        return Set.copyOf(config.getStub().getTargetSystems());
+    }
+
+    @Override
+    public void send(OutboxMessage message) {
+        log.info("Outbox stub send outboxId={} target={} eventType={} eventKey={}",
+                message.outboxId(), message.targetSystem(), message.eventType(), message.eventKey());
+        sent.add(message);
+    }
+
+    public List<OutboxMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+    }
+}
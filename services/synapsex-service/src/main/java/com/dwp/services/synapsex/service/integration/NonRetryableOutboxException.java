@@ -0,0 +1,15 @@
+package com.dwp.services.synapsex.service.integration;
+
+/**
+ * 재시도해도 성공할 수 없는 전송 실패 (payload 오류, 수신 측 4xx 등) → 즉시 DEAD
+ */
+public class NonRetryableOutboxException extends RuntimeException {
+
+    public NonRetryableOutboxException(String message) {
+        super(message);
+    }
+
+    public NonRetryableOutboxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,147 @@
+package com.dwp.services.synapsex.service.recon;
+
+import com.dwp.services.synapsex.entity.ReconResult;
+import com.dwp.services.synapsex.entity.ReconRun;
+import com.dwp.services.synapsex.repository.IngestionErrorRepository;
+import com.dwp.services.synapsex.repository.ReconItemJdbcRepository;
+import com.dwp.services.synapsex.repository.ReconItemJdbcRepository.ReconItem;
+import com.dwp.services.synapsex.repository.ReconRunRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Phase 4 Reconciliation 실행 (결과 INSERT + 완료 처리를 한 트랜잭션으로)
+ *
+ * 실패 시 트랜잭션 전체가 롤백되므로 부분 결과가 남지 않고, FAILED 기록은 호출부(ReconRunService)가 새 트랜잭션에서 합니다.
+ *
+ * DOC_OPENITEM_MATCH는 테넌트 범위 정렬 커서 2개의 sorted-merge join (메모리 O(batch)), 결과는 batch INSERT.
+ * 결과 순서는 기존과 같이 전표 항목(DOC_OPENITEM) 전체 다음에 고아 미결제(ORPHAN_OPENITEM)이며,
+ * 이를 위해 두 커서를 두 번 병합합니다 (1차: 전표 항목별 매칭, 2차: 전표 없는 미결제).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconRunExecutor {
+
+    static final int RESULT_BATCH_SIZE = 1000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ReconRunRepository reconRunRepository;
+    private final IngestionErrorRepository ingestionErrorRepository;
+    private final ReconItemJdbcRepository reconItemJdbcRepository;
+
+    /** 실행 후 COMPLETED + summary(total/pass/fail) 저장 */
+    @Transactional
+    public ReconRun execute(ReconRun run) {
+        ResultSink sink = new ResultSink(run.getTenantId(), run.getRunId());
+        if ("DOC_OPENITEM_MATCH".equals(run.getRunType())) {
+            matchDocItems(run.getTenantId(), sink);
+            findOrphanOpenItems(run.getTenantId(), sink);
+        } else {
+            // Generic: add orphan raw_event / ingestion_errors count
+            long ingestionErrorCount = ingestionErrorRepository.countByTenantId(run.getTenantId());
+            sink.add("INGESTION_ERRORS", "total", ingestionErrorCount == 0 ? "PASS" : "FAIL",
+                    MAPPER.createObjectNode().put("count", ingestionErrorCount));
+        }
+        sink.flush();
+
+        ObjectNode summary = MAPPER.createObjectNode();
+        summary.put("total", sink.total);
+        summary.put("pass", sink.pass);
+        summary.put("fail", sink.total - sink.pass);
+
+        run.setStatus("COMPLETED");
+        run.setEndedAt(Instant.now());
+        run.setSummaryJson(summary);
+        return reconRunRepository.save(run);
+    }
+
+    /** 1차 병합: 전표 항목마다 DOC_OPENITEM 결과 (미결제 없음 / 금액 일치 여부). 양쪽 모두 PK라 1:1 */
+    private void matchDocItems(Long tenantId, ResultSink sink) {
+        try (Stream<ReconItem> docStream = reconItemJdbcRepository.streamDocItems(tenantId);
+             Stream<ReconItem> openStream = reconItemJdbcRepository.streamOpenItems(tenantId)) {
+            Iterator<ReconItem> docs = docStream.iterator();
+            Iterator<ReconItem> opens = openStream.iterator();
+            ReconItem open = opens.hasNext() ? opens.next() : null;
+            while (docs.hasNext()) {
+                ReconItem doc = docs.next();
+                while (open != null && ReconItem.KEY_ORDER.compare(open, doc) < 0) {
+                    open = opens.hasNext() ? opens.next() : null;
+                }
+                if (open == null || ReconItem.KEY_ORDER.compare(open, doc) > 0) {
+                    sink.add("DOC_OPENITEM", doc.resourceKey(), "FAIL",
+                            MAPPER.createObjectNode().put("reason", "no_open_item"));
+                    continue;
+                }
+                BigDecimal docAmt = doc.amount() != null ? doc.amount() : BigDecimal.ZERO;
+                int amountCmp = docAmt.compareTo(open.amount());
+                sink.add("DOC_OPENITEM", doc.resourceKey(), amountCmp == 0 ? "PASS" : "FAIL",
+                        MAPPER.createObjectNode()
+                                .put("docAmount", docAmt.toString())
+                                .put("openAmount", open.amount().toString()));
+            }
+        }
+    }
+
+    /** 2차 병합: 전표 항목이 없는 미결제 (Orphan: open_items without doc_item) */
+    private void findOrphanOpenItems(Long tenantId, ResultSink sink) {
+        try (Stream<ReconItem> docStream = reconItemJdbcRepository.streamDocItems(tenantId);
+             Stream<ReconItem> openStream = reconItemJdbcRepository.streamOpenItems(tenantId)) {
+            Iterator<ReconItem> docs = docStream.iterator();
+            Iterator<ReconItem> opens = openStream.iterator();
+            ReconItem doc = docs.hasNext() ? docs.next() : null;
+            while (opens.hasNext()) {
+                ReconItem open = opens.next();
+                while (doc != null && ReconItem.KEY_ORDER.compare(doc, open) < 0) {
+                    doc = docs.hasNext() ? docs.next() : null;
+                }
+                if (doc == null || ReconItem.KEY_ORDER.compare(doc, open) > 0) {
+                    sink.add("ORPHAN_OPENITEM", open.resourceKey(), "FAIL",
+                            MAPPER.createObjectNode().put("reason", "no_doc_item"));
+                }
+            }
+        }
+    }
+
+    /** 결과를 RESULT_BATCH_SIZE 단위로 batch INSERT 하며 PASS/전체 건수 집계 */
+    private final class ResultSink {
+        private final Long tenantId;
+        private final Long runId;
+        private final List<ReconResult> buffer = new ArrayList<>(RESULT_BATCH_SIZE);
+        private long total;
+        private long pass;
+
+        private ResultSink(Long tenantId, Long runId) {
+            this.tenantId = tenantId;
+            this.runId = runId;
+        }
+
+        void add(String resourceType, String resourceKey, String status, JsonNode detail) {
+            buffer.add(ReconResult.builder()
+                    .tenantId(tenantId).runId(runId)
+                    .resourceType(resourceType).resourceKey(resourceKey)
+                    .status(status)
+                    .detailJson(detail)
+                    .build());
+            total++;
+            if ("PASS".equals(status)) pass++;
+            if (buffer.size() >= RESULT_BATCH_SIZE) flush();
+        }
+
+        void flush() {
+            reconItemJdbcRepository.insertResults(buffer);
+            buffer.clear();
+        }
+    }
+}
@@ -6,16 +6,13 @@ import com.dwp.services.synapsex.dto.recon.StartReconRequest;
 import com.dwp.services.synapsex.entity.ReconResult;
 import com.dwp.services.synapsex.entity.ReconRun;
 import com.dwp.services.synapsex.repository.*;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,6 +20,10 @@ import java.util.stream.Collectors;
 /**
  * Phase 4 Reconciliation 실행 서비스
  * Default rules: fi_doc_item vs fi_open_item, cleared flags, orphan counts
+ *
+ * 실행 건(RUNNING)을 먼저 커밋한 뒤 ReconRunExecutor 트랜잭션에서 결과를 기록합니다.
+ * 실패하면 실행 트랜잭션이 부분 결과와 함께 롤백되고, FAILED 상태는 별도 트랜잭션으로 저장합니다
+ * (중단된 트랜잭션에서 정리 쿼리를 실행하지 않음).
  */
 @Slf4j
 @Service
@@ -31,13 +32,13 @@ public class ReconRunService {
 
     private final ReconRunRepository reconRunRepository;
     private final ReconResultRepository reconResultRepository;
-    private final FiDocItemRepository fiDocItemRepository;
-    private final FiOpenItemRepository fiOpenItemRepository;
-    private final IngestionErrorRepository ingestionErrorRepository;
+    private final ReconRunExecutor reconRunExecutor;
+
+    /** startRecon 응답에 포함할 최대 결과 수 */
+    private static final int RESPONSE_RESULT_LIMIT = 1000;
 
     private static final com.fasterxml.jackson.databind.ObjectMapper MAPPER = new com.fasterxml.jackson.databind.ObjectMapper();
 
-    @Transactional
     public ReconRunDetailDto startRecon(Long tenantId, StartReconRequest request) {
         ReconRun run = ReconRun.builder()
                 .tenantId(tenantId)
@@ -47,96 +48,21 @@ public class ReconRunService {
         run = reconRunRepository.save(run);
 
         try {
-            List<ReconResult> results = executeRecon(tenantId, run.getRunId(), request.getRunType());
-            reconResultRepository.saveAll(results);
-
-            ObjectNode summary = MAPPER.createObjectNode();
-            long passCount = results.stream().filter(r -> "PASS".equals(r.getStatus())).count();
-            long failCount = results.size() - passCount;
-            summary.put("total", results.size());
-            summary.put("pass", passCount);
-            summary.put("fail", failCount);
-
-            run.setStatus("COMPLETED");
-            run.setEndedAt(Instant.now());
-            run.setSummaryJson(summary);
-            reconRunRepository.save(run);
-
+            run = reconRunExecutor.execute(run);
+            // 응답에는 앞부분만 포함 (전체는 GET /runs/{runId})
+            List<ReconResult> results = reconResultRepository.findByRunIdOrderByResultIdAsc(
+                    run.getRunId(), PageRequest.of(0, RESPONSE_RESULT_LIMIT));
             return toDetailDto(run, results);
         } catch (Exception e) {
             log.warn("Recon failed: {}", e.getMessage());
             run.setStatus("FAILED");
             run.setEndedAt(Instant.now());
             run.setSummaryJson(MAPPER.createObjectNode().put("error", e.getMessage()));
-            reconRunRepository.save(run);
+            run = reconRunRepository.save(run);
             return toDetailDto(run, List.of());
         }
     }
 
-    private List<ReconResult> executeRecon(Long tenantId, Long runId, String runType) {
-        List<ReconResult> results = new ArrayList<>();
-
-        if ("DOC_OPENITEM_MATCH".equals(runType)) {
-            var allDocItems = fiDocItemRepository.findByTenantId(tenantId);
-
-            for (var item : allDocItems) {
-                String key = item.getBukrs() + "-" + item.getBelnr() + "-" + item.getGjahr() + "-" + item.getBuzei();
-                var openOpt = fiOpenItemRepository.findByTenantIdAndBukrsAndBelnrAndGjahrAndBuzei(
-                        tenantId, item.getBukrs(), item.getBelnr(), item.getGjahr(), item.getBuzei());
-
-                if (openOpt.isEmpty()) {
-                    results.add(ReconResult.builder()
-                            .tenantId(tenantId).runId(runId)
-                            .resourceType("DOC_OPENITEM").resourceKey(key)
-                            .status("FAIL")
-                            .detailJson(MAPPER.createObjectNode().put("reason", "no_open_item"))
-                            .build());
-                } else {
-                    var open = openOpt.get();
-                    BigDecimal docAmt = item.getWrbtr() != null ? item.getWrbtr() : BigDecimal.ZERO;
-                    int cmp = docAmt.compareTo(open.getOpenAmount());
-                    results.add(ReconResult.builder()
-                            .tenantId(tenantId).runId(runId)
-                            .resourceType("DOC_OPENITEM").resourceKey(key)
-                            .status(cmp == 0 ? "PASS" : "FAIL")
-                            .detailJson(MAPPER.createObjectNode()
-                                    .put("docAmount", docAmt.toString())
-                                    .put("openAmount", open.getOpenAmount().toString()))
-                            .build());
-                }
-            }
-
-            // Orphan: open_items without doc_item
-            var allOpen = fiOpenItemRepository.findAll().stream()
-                    .filter(o -> tenantId.equals(o.getTenantId()))
-                    .toList();
-            for (var open : allOpen) {
-                String key = open.getBukrs() + "-" + open.getBelnr() + "-" + open.getGjahr() + "-" + open.getBuzei();
-                if (allDocItems.stream().noneMatch(d ->
-                        d.getBukrs().equals(open.getBukrs()) && d.getBelnr().equals(open.getBelnr()) &&
-                                d.getGjahr().equals(open.getGjahr()) && d.getBuzei().equals(open.getBuzei()))) {
-                    results.add(ReconResult.builder()
-                            .tenantId(tenantId).runId(runId)
-                            .resourceType("ORPHAN_OPENITEM").resourceKey(key)
-                            .status("FAIL")
-                            .detailJson(MAPPER.createObjectNode().put("reason", "no_doc_item"))
-                            .build());
-                }
-            }
-        } else {
-            // Generic: add orphan raw_event / ingestion_errors count
-            long ingestionErrorCount = ingestionErrorRepository.countByTenantId(tenantId);
-            results.add(ReconResult.builder()
-                    .tenantId(tenantId).runId(runId)
-                    .resourceType("INGESTION_ERRORS").resourceKey("total")
-                    .status(ingestionErrorCount == 0 ? "PASS" : "FAIL")
-                    .detailJson(MAPPER.createObjectNode().put("count", ingestionErrorCount))
-                    .build());
-        }
-
-        return results;
-    }
-
     @Transactional(readOnly = true)
     public com.dwp.services.synapsex.dto.common.PageResponse<ReconRunListDto> listRuns(
             Long tenantId, String runType, int page, int size, String sort) {
@@ -0,0 +1,67 @@
+-- ======================================================================
+-- V29: 감사 이벤트 내보내기 비동기 작업 (audit_export_job)
+-- 목적: POST /api/synapse/audit/export 요청을 영속 작업으로 등록하고,
+--       워커가 audit_event_log를 keyset으로 읽어 gzip 파일(CSV/NDJSON)로 기록.
+--       청크마다 커서/파일 오프셋을 체크포인트하여 노드 재시작 시 이어서 진행.
+-- ======================================================================
+
+SET search_path TO dwp_aura, public;
+
+CREATE TABLE IF NOT EXISTS dwp_aura.audit_export_job (
+  job_id                 BIGSERIAL PRIMARY KEY,
+  job_key                VARCHAR(64) NOT NULL,
+  tenant_id              BIGINT NOT NULL,
+  status                 VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  format                 VARCHAR(20) NOT NULL,
+  filter_from            TIMESTAMPTZ,
+  filter_to              TIMESTAMPTZ,
+  filter_category        TEXT,
+  total_rows             BIGINT,
+  exported_rows          BIGINT NOT NULL DEFAULT 0,
+  cursor_created_at      TIMESTAMPTZ,
+  cursor_audit_id        BIGINT,
+  checkpoint_bytes       BIGINT NOT NULL DEFAULT 0,
+  file_path              TEXT,
+  worker_id              VARCHAR(200),
+  heartbeat_at           TIMESTAMPTZ,
+  attempt_count          INT NOT NULL DEFAULT 0,
+  error_message          TEXT,
+  started_at             TIMESTAMPTZ,
+  completed_at           TIMESTAMPTZ,
+  expires_at             TIMESTAMPTZ,
+  created_at             TIMESTAMPTZ NOT NULL DEFAULT now(),
+  created_by             BIGINT,
+  updated_at             TIMESTAMPTZ NOT NULL DEFAULT now(),
+  updated_by             BIGINT,
+  CONSTRAINT uk_audit_export_job_key UNIQUE (job_key)
+);
+
+CREATE INDEX IF NOT EXISTS ix_audit_export_job_status_created
+ON dwp_aura.audit_export_job(status, created_at);
+
+CREATE INDEX IF NOT EXISTS ix_audit_export_job_tenant_created
+ON dwp_aura.audit_export_job(tenant_id, created_at DESC);
+
+-- 테넌트당 RUNNING 작업 1건 (노드 간 동시 claim 시 나중 UPDATE는 유니크 위반)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_audit_export_job_tenant_running
+ON dwp_aura.audit_export_job(tenant_id) WHERE status = 'RUNNING';
+
+-- keyset (created_at, audit_id) 오름차순 페이지 조회용
+CREATE INDEX IF NOT EXISTS ix_audit_event_log_tenant_created_id
+ON dwp_aura.audit_event_log(tenant_id, created_at, audit_id);
+
+COMMENT ON TABLE dwp_aura.audit_export_job IS '감사 이벤트 내보내기 비동기 작업. 청크 단위 체크포인트로 재시작 시 이어서 진행.';
+COMMENT ON COLUMN dwp_aura.audit_export_job.job_key IS '외부 노출 작업 ID (export-UUID)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.status IS 'PENDING | RUNNING | COMPLETED | FAILED | CANCELLED | EXPIRED';
+COMMENT ON COLUMN dwp_aura.audit_export_job.format IS 'CSV | NDJSON (gzip 압축)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.total_rows IS '시작 시점 대상 건수 (진행률 산출용)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.cursor_created_at IS '마지막 체크포인트 행 created_at (keyset 커서)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.cursor_audit_id IS '마지막 체크포인트 행 audit_id (keyset 커서)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.checkpoint_bytes IS '마지막 체크포인트 시점 파일 크기. 재개 시 이 위치로 잘라낸 뒤 이어서 기록';
+COMMENT ON COLUMN dwp_aura.audit_export_job.worker_id IS '실행 중인 노드 식별자';
+COMMENT ON COLUMN dwp_aura.audit_export_job.heartbeat_at IS '워커 마지막 체크포인트 시각. 오래되면 다른 노드가 인수';
+COMMENT ON COLUMN dwp_aura.audit_export_job.expires_at IS '파일 보관 만료 시각 (이후 파일 삭제, EXPIRED)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.created_at IS '생성일시';
+COMMENT ON COLUMN dwp_aura.audit_export_job.created_by IS '생성자 user_id (논리적 참조: com_users.user_id)';
+COMMENT ON COLUMN dwp_aura.audit_export_job.updated_at IS '수정일시';
+COMMENT ON COLUMN dwp_aura.audit_export_job.updated_by IS '수정자 user_id (논리적 참조: com_users.user_id)';
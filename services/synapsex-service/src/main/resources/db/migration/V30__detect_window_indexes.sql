@@ -0,0 +1,10 @@
+-- Phase B: Detect 배치 윈도우 조회 인덱스
+-- fi_doc_header.created_at / fi_open_item.last_update_ts 범위 조회 (테넌트별)
+
+SET search_path TO dwp_aura, public;
+
+CREATE INDEX IF NOT EXISTS ix_fi_doc_header_tenant_created
+ON dwp_aura.fi_doc_header(tenant_id, created_at);
+
+CREATE INDEX IF NOT EXISTS ix_fi_open_item_tenant_last_update
+ON dwp_aura.fi_open_item(tenant_id, last_update_ts);
@@ -0,0 +1,16 @@
+-- Phase B: Detect 스케줄 high-water mark (테넌트별)
+-- 스케줄 실행은 high_water_mark부터 현재까지를 청크 단위로 처리하고, 청크 커밋과 함께 전진시킵니다.
+-- 중단/장애 후에도 윈도우가 끊기지 않고 이어서 catch-up 됩니다.
+
+SET search_path TO dwp_aura, public;
+
+CREATE TABLE IF NOT EXISTS dwp_aura.detect_watermark (
+  tenant_id        BIGINT PRIMARY KEY,
+  high_water_mark  TIMESTAMPTZ NOT NULL,
+  last_run_id      BIGINT REFERENCES dwp_aura.detect_run(run_id) ON DELETE SET NULL,
+  updated_at       TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE dwp_aura.detect_watermark IS 'Phase B: 테넌트별 Detect 스케줄 처리 완료 시각 (다음 윈도우 시작점)';
+COMMENT ON COLUMN dwp_aura.detect_watermark.high_water_mark IS '마지막으로 커밋된 청크의 window_to';
+COMMENT ON COLUMN dwp_aura.detect_watermark.last_run_id IS '마지막으로 커밋된 청크의 detect_run.run_id';
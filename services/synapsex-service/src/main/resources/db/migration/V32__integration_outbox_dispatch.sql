@@ -0,0 +1,11 @@
+-- Integration Outbox 디스패처: claim 대상(PENDING/PROCESSING) 조회 인덱스
+-- status: PENDING(대기/재시도 예약) → PROCESSING(claim, next_retry_at = lease 만료) → PROCESSED | DEAD
+
+SET search_path TO dwp_aura, public;
+
+CREATE INDEX IF NOT EXISTS ix_outbox_dispatch_due
+ON dwp_aura.integration_outbox ((COALESCE(next_retry_at, created_at)), outbox_id)
+WHERE status IN ('PENDING', 'PROCESSING');
+
+COMMENT ON COLUMN dwp_aura.integration_outbox.status IS 'PENDING | PROCESSING | PROCESSED | DEAD';
+COMMENT ON COLUMN dwp_aura.integration_outbox.next_retry_at IS 'PENDING: 재시도 예정 시각(지수 backoff+jitter), PROCESSING: claim lease 만료 시각';
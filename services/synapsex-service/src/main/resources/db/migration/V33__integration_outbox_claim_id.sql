@@ -0,0 +1,10 @@
+-- Integration Outbox 디스패처: claim 소유권 토큰
+-- claim마다 claim_id를 새로 기록하고 결과 기록(PROCESSED/재시도/DEAD)은 claim_id 일치 시에만 반영
+-- (lease 만료 후 다른 노드가 재claim한 행을 이전 소유 노드가 덮어쓰지 않음)
+
+SET search_path TO dwp_aura, public;
+
+ALTER TABLE dwp_aura.integration_outbox ADD COLUMN IF NOT EXISTS claim_id UUID;
+
+COMMENT ON COLUMN dwp_aura.integration_outbox.claim_id IS 'PROCESSING claim 소유권 토큰 (claim마다 갱신, 결과 기록 조건)';
+COMMENT ON COLUMN dwp_aura.integration_outbox.retry_count IS '실패 횟수 (전송 실패 + 결과 기록 없이 lease 만료 후 재claim 포함)';
@@ -0,0 +1,14 @@
+-- Phase 4: Reconciliation sorted-merge join 정렬 인덱스
+-- ReconItemJdbcRepository는 (bukrs, belnr, gjahr, buzei)를 COLLATE "C"로 정렬해 Java String.compareTo 순서와 맞춥니다.
+-- PK 인덱스는 DB 기본 collation이라 이 정렬에 쓸 수 없으므로, 같은 collation의 인덱스를 추가해
+-- 테넌트 범위를 정렬(Sort) 없이 인덱스 순서대로 읽습니다. 금액 컬럼은 INCLUDE로 index-only scan 대상.
+
+SET search_path TO dwp_aura, public;
+
+CREATE INDEX IF NOT EXISTS ix_fi_doc_item_tenant_key_c
+ON dwp_aura.fi_doc_item(tenant_id, bukrs COLLATE "C", belnr COLLATE "C", gjahr COLLATE "C", buzei COLLATE "C")
+INCLUDE (wrbtr);
+
+CREATE INDEX IF NOT EXISTS ix_fi_open_item_tenant_key_c
+ON dwp_aura.fi_open_item(tenant_id, bukrs COLLATE "C", belnr COLLATE "C", gjahr COLLATE "C", buzei COLLATE "C")
+INCLUDE (open_amount);
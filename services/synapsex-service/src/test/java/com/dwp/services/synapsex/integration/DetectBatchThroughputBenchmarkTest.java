@@ -0,0 +1,116 @@
+package com.dwp.services.synapsex.integration;
+
+import com.dwp.services.synapsex.entity.DetectRun;
+import com.dwp.services.synapsex.service.detect.DetectBatchService;
+import com.dwp.services.synapsex.testcontainers.SynapseTestcontainersBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Detect 배치 처리량 벤치마크 (합성 SAP 전표/미결제 데이터).
+ * 실행: DETECT_BENCHMARK=true [DETECT_BENCHMARK_DOCS=50000] ./gradlew :services:synapsex-service:test --tests '*DetectBatchThroughputBenchmarkTest'
+ * - 1차 실행: 전건 신규 케이스 INSERT
+ * - 2차 실행: 같은 윈도우 재실행 → 전건 ON CONFLICT UPDATE
+ * 측정값은 TestReporter로 보고 (Gradle/IDE 테스트 리포트의 report entry)
+ */
+@EnabledIfEnvironmentVariable(named = "DETECT_BENCHMARK", matches = "true")
+class DetectBatchThroughputBenchmarkTest extends SynapseTestcontainersBase {
+
+    private static final Long TENANT_ID = 9001L;
+    private static final int ITEMS_PER_DOC = 3;
+    private static final int BATCH = 1000;
+
+    @Autowired
+    private DetectBatchService detectBatchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("합성 SAP 데이터로 Detect 배치 처리량 측정 (신규/재실행)")
+    void detectBatchThroughput(TestReporter reporter) {
+        int docCount = Integer.parseInt(System.getenv().getOrDefault("DETECT_BENCHMARK_DOCS", "20000"));
+        int openItemCount = docCount / 2;
+        Instant windowFrom = Instant.now().minus(Duration.ofMinutes(15));
+        Instant windowTo = Instant.now().plus(Duration.ofMinutes(1));
+        seed(docCount, openItemCount, windowFrom.plusSeconds(1));
+
+        DetectRun first = timed(reporter, "insert", docCount + openItemCount,
+                () -> detectBatchService.runDetectBatch(TENANT_ID, windowFrom, windowTo));
+        assertThat(first.getStatus()).isEqualTo("COMPLETED");
+        assertThat(first.getCountsJson().get("caseCreated").asInt()).isEqualTo(docCount + openItemCount);
+
+        DetectRun second = timed(reporter, "update", docCount + openItemCount,
+                () -> detectBatchService.runDetectBatch(TENANT_ID, windowFrom, windowTo));
+        assertThat(second.getStatus()).isEqualTo("COMPLETED");
+        assertThat(second.getCountsJson().get("caseCreated").asInt()).isZero();
+        assertThat(second.getCountsJson().get("caseUpdated").asInt()).isEqualTo(docCount + openItemCount);
+    }
+
+    private DetectRun timed(TestReporter reporter, String label, int rows, Supplier<DetectRun> run) {
+        long start = System.nanoTime();
+        DetectRun result = run.get();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        reporter.publishEntry("detect-benchmark." + label,
+                String.format("rows=%d elapsed=%.2fs throughput=%.0f rows/s", rows, seconds, rows / seconds));
+        return result;
+    }
+
+    private void seed(int docCount, int openItemCount, Instant createdAt) {
+        jdbcTemplate.update("DELETE FROM dwp_aura.agent_case WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_open_item WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_doc_item WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_doc_header WHERE tenant_id = ?", TENANT_ID);
+        Timestamp ts = Timestamp.from(createdAt);
+        Date budat = Date.valueOf(LocalDate.now());
+
+        List<Object[]> headers = new ArrayList<>(BATCH);
+        List<Object[]> items = new ArrayList<>(BATCH * ITEMS_PER_DOC);
+        for (int d = 0; d < docCount; d++) {
+            String bukrs = "1" + String.format("%03d", d % 4);
+            String belnr = String.format("%010d", d);
+            headers.add(new Object[]{TENANT_ID, bukrs, belnr, "2026", "SAP", budat, "KRW", ts, ts});
+            for (int i = 1; i <= ITEMS_PER_DOC; i++) {
+                BigDecimal wrbtr = BigDecimal.valueOf((long) (d % 997) * 137_000L * i);
+                items.add(new Object[]{TENANT_ID, bukrs, belnr, "2026", String.format("%03d", i), "0021100000", wrbtr, "KRW"});
+            }
+            if (headers.size() == BATCH || d == docCount - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO dwp_aura.fi_doc_header" +
+                        " (tenant_id, bukrs, belnr, gjahr, doc_source, budat, waers, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", headers);
+                jdbcTemplate.batchUpdate("INSERT INTO dwp_aura.fi_doc_item" +
+                        " (tenant_id, bukrs, belnr, gjahr, buzei, hkont, wrbtr, waers) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", items);
+                headers.clear();
+                items.clear();
+            }
+        }
+
+        List<Object[]> openItems = new ArrayList<>(BATCH);
+        for (int o = 0; o < openItemCount; o++) {
+            openItems.add(new Object[]{TENANT_ID, "1000", String.format("%010d", o), "2026", "001",
+                    Date.valueOf(LocalDate.now().plusDays(o % 60)), BigDecimal.valueOf((long) (o % 501) * 250_000L), "KRW", ts});
+            if (openItems.size() == BATCH || o == openItemCount - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO dwp_aura.fi_open_item" +
+                        " (tenant_id, bukrs, belnr, gjahr, buzei, item_type, due_date, open_amount, currency, last_update_ts)" +
+                        " VALUES (?, ?, ?, ?, ?, 'AP', ?, ?, ?, ?)", openItems);
+                openItems.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dwp.services.synapsex.integration;
+
+import com.dwp.services.synapsex.entity.FiOpenItem;
+import com.dwp.services.synapsex.repository.DetectCaseBatchRepository;
+import com.dwp.services.synapsex.repository.FiOpenItemRepository;
+import com.dwp.services.synapsex.testcontainers.SynapseTestcontainersBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Detect 청크 경계 통합 테스트.
+ * - 청크 경계 시각과 같은 created_at / last_update_ts 행은 뒤 청크 [boundary, to)에서만 조회
+ * - 연속된 두 청크를 합치면 각 행이 정확히 1회 조회됨
+ */
+class DetectChunkBoundaryIntegrationTest extends SynapseTestcontainersBase {
+
+    private static final Long TENANT_ID = 9002L;
+    private static final Instant BOUNDARY = Instant.parse("2026-01-01T00:15:00Z");
+    private static final Instant PREV_FROM = BOUNDARY.minusSeconds(900);
+    private static final Instant NEXT_TO = BOUNDARY.plusSeconds(900);
+
+    @Autowired
+    private DetectCaseBatchRepository detectCaseBatchRepository;
+
+    @Autowired
+    private FiOpenItemRepository fiOpenItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_open_item WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_doc_item WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM dwp_aura.fi_doc_header WHERE tenant_id = ?", TENANT_ID);
+        insertDoc("0000000001", PREV_FROM);
+        insertDoc("0000000002", BOUNDARY);
+        insertDoc("0000000003", NEXT_TO);
+        insertOpenItem("0000000001", PREV_FROM);
+        insertOpenItem("0000000002", BOUNDARY);
+        insertOpenItem("0000000003", NEXT_TO);
+    }
+
+    @Test
+    @DisplayName("경계 시각 전표는 뒤 청크에서만 집계")
+    void docAtBoundaryBelongsToNextChunk() {
+        List<String> prev = detectCaseBatchRepository.findDocAmounts(TENANT_ID, PREV_FROM, BOUNDARY).stream()
+                .map(DetectCaseBatchRepository.DocAmount::belnr).toList();
+        List<String> next = detectCaseBatchRepository.findDocAmounts(TENANT_ID, BOUNDARY, NEXT_TO).stream()
+                .map(DetectCaseBatchRepository.DocAmount::belnr).toList();
+
+        assertThat(prev).containsExactly("0000000001");
+        assertThat(next).containsExactly("0000000002");
+    }
+
+    @Test
+    @DisplayName("경계 시각 오픈아이템은 뒤 청크에서만 조회")
+    void openItemAtBoundaryBelongsToNextChunk() {
+        List<String> prev = fiOpenItemRepository.findByTenantIdAndLastUpdateTsBetween(TENANT_ID, PREV_FROM, BOUNDARY).stream()
+                .map(FiOpenItem::getBelnr).toList();
+        List<String> next = fiOpenItemRepository.findByTenantIdAndLastUpdateTsBetween(TENANT_ID, BOUNDARY, NEXT_TO).stream()
+                .map(FiOpenItem::getBelnr).toList();
+
+        assertThat(prev).containsExactly("0000000001");
+        assertThat(next).containsExactly("0000000002");
+    }
+
+    private void insertDoc(String belnr, Instant createdAt) {
+        Timestamp ts = Timestamp.from(createdAt);
+        jdbcTemplate.update("INSERT INTO dwp_aura.fi_doc_header" +
+                        " (tenant_id, bukrs, belnr, gjahr, doc_source, budat, waers, created_at, updated_at)" +
+                        " VALUES (?, '1000', ?, '2026', 'SAP', ?, 'KRW', ?, ?)",
+                TENANT_ID, belnr, Date.valueOf(LocalDate.of(2026, 1, 1)), ts, ts);
+        jdbcTemplate.update("INSERT INTO dwp_aura.fi_doc_item" +
+                        " (tenant_id, bukrs, belnr, gjahr, buzei, hkont, wrbtr, waers) VALUES (?, '1000', ?, '2026', '001', '0021100000', ?, 'KRW')",
+                TENANT_ID, belnr, BigDecimal.valueOf(1_000_000L));
+    }
+
+    private void insertOpenItem(String belnr, Instant lastUpdateTs) {
+        jdbcTemplate.update("INSERT INTO dwp_aura.fi_open_item" +
+                        " (tenant_id, bukrs, belnr, gjahr, buzei, item_type, due_date, open_amount, currency, last_update_ts)" +
+                        " VALUES (?, '1000', ?, '2026', '001', 'AP', ?, ?, 'KRW', ?)",
+                TENANT_ID, belnr, Date.valueOf(LocalDate.of(2026, 2, 1)), BigDecimal.valueOf(500_000L), Timestamp.from(lastUpdateTs));
+    }
+}
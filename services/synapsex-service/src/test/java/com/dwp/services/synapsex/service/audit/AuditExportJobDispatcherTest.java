@@ -0,0 +1,86 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.services.synapsex.config.AuditExportConfig;
+import com.dwp.services.synapsex.repository.AuditExportJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuditExportJobDispatcher 테스트
+ *
+ * 검증 항목:
+ * - 테넌트 RUNNING 유니크 위반(다른 노드가 같은 테넌트를 먼저 claim)이면 이번 폴링의 claim을 중단하고 실행하지 않음
+ * - 빈 슬롯 수만큼만 claim
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditExportJobDispatcher 테스트")
+@SuppressWarnings("null")
+class AuditExportJobDispatcherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ThreadPoolTaskExecutor auditExportExecutor;
+
+    @Mock
+    private AuditExportJobWorker worker;
+
+    @Mock
+    private AuditExportJobRepository auditExportJobRepository;
+
+    @Mock
+    private AuditExportFileStore fileStore;
+
+    private AuditExportJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        AuditExportConfig config = new AuditExportConfig();
+        config.setMaxConcurrentJobs(2);
+        config.setWorkerId("node-a");
+        dispatcher = new AuditExportJobDispatcher(config, jdbcTemplate, auditExportExecutor, worker,
+                auditExportJobRepository, fileStore);
+    }
+
+    @Test
+    @DisplayName("같은 테넌트를 다른 노드가 먼저 claim하면 유니크 위반을 삼키고 실행하지 않음")
+    void stopsOnTenantRunningConflict() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any()))
+                .thenThrow(new DuplicateKeyException("ux_audit_export_job_tenant_running"));
+
+        dispatcher.dispatch();
+
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any(), any());
+        verify(auditExportExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 수만큼만 claim하여 실행기에 제출")
+    void claimsUpToFreeSlots() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any()))
+                .thenReturn(List.of(1L), List.of(2L), List.of(3L));
+
+        dispatcher.dispatch();
+
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), any(), any());
+        verify(auditExportExecutor, times(2)).execute(any(Runnable.class));
+    }
+}
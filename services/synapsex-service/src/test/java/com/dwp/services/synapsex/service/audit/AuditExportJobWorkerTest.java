@@ -0,0 +1,265 @@
+package com.dwp.services.synapsex.service.audit;
+
+import com.dwp.services.synapsex.config.AuditExportConfig;
+import com.dwp.services.synapsex.entity.AuditExportJob;
+import com.dwp.services.synapsex.repository.AuditEventExportReader;
+import com.dwp.services.synapsex.repository.AuditExportJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuditExportJobWorker 테스트 (실제 AuditExportFileStore + 임시 디렉터리)
+ *
+ * 검증 항목:
+ * - CSV: 헤더 1회 + RFC 4180 인용, 체크포인트마다 닫힌 gzip member가 이어져 하나의 파일로 해제됨
+ * - NDJSON: 헤더 없이 1행 1객체, JSONB 컬럼은 JSON 값, 숫자는 숫자로 기록
+ * - 인수(takeover): 체크포인트 UPDATE 0건이면 중단하고 최종 파일을 만들지 않음.
+ *   다음 claim은 마지막 체크포인트까지만 이어받아 미커밋 member를 버리고 재개 (중복/누락 없음)
+ * - heartbeat: 체크포인트와 별도 타이머로 갱신, 0건이면 다음 페이지 전에 중단
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditExportJobWorker 테스트")
+@SuppressWarnings("null")
+class AuditExportJobWorkerTest {
+
+    private static final Long JOB_ID = 10L;
+    private static final Long TENANT_ID = 1L;
+    private static final String JOB_KEY = "job-key";
+    private static final String WORKER_ID = "node-a";
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private AuditExportJobRepository auditExportJobRepository;
+
+    @Mock
+    private AuditEventExportReader auditEventExportReader;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AuditExportConfig config;
+    private AuditExportFileStore fileStore;
+    private AuditExportJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        config = new AuditExportConfig();
+        config.setStorageDir(storageDir.toString());
+        config.setWorkerId(WORKER_ID);
+        config.setPageSize(2);
+        config.setCheckpointRows(2);
+        config.setMaxRowsPerSecond(0);
+        config.setHeartbeatIntervalSeconds(60);
+        fileStore = new AuditExportFileStore(config);
+        worker = new AuditExportJobWorker(config, auditExportJobRepository, auditEventExportReader, fileStore, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 1회 + 인용 처리, 체크포인트별 gzip member가 하나의 파일로 해제")
+    void exportsCsvAcrossCheckpoints() throws IOException {
+        AuditExportJob job = job("CSV", 1);
+        stubRows(List.of(row(1, "plain"), row(2, "a,b \"q\"\nnext"), row(3, "plain")));
+        when(auditExportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(auditExportJobRepository.markStarted(eq(JOB_ID), eq(WORKER_ID), eq(1), any(), anyString(), any())).thenReturn(1);
+        when(auditExportJobRepository.checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(1), anyLong(), any(), any(), anyLong(), any()))
+                .thenReturn(1);
+        when(auditExportJobRepository.markCompleted(eq(JOB_ID), eq(WORKER_ID), eq(1), anyString(), any(), any())).thenReturn(1);
+
+        worker.run(JOB_ID);
+
+        Path target = target("csv");
+        verify(auditExportJobRepository).markCompleted(eq(JOB_ID), eq(WORKER_ID), eq(1), eq(target.toString()), any(), any());
+        verify(auditExportJobRepository, times(2))
+                .checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(1), anyLong(), any(), any(), anyLong(), any());
+        assertThat(fileStore.partPath(target, 1)).doesNotExist();
+
+        String csv = gunzip(target);
+        assertThat(csv).startsWith(String.join(",", AuditEventExportReader.COLUMNS) + "\r\n");
+        assertThat(csv.split("\r\n")).hasSize(4);
+        assertThat(csv).contains("\"a,b \"\"q\"\"\nnext\"");
+    }
+
+    @Test
+    @DisplayName("NDJSON: 헤더 없이 1행 1객체, JSONB 컬럼은 JSON 값")
+    void exportsNdjson() throws IOException {
+        AuditExportJob job = job("JSON", 1);
+        stubRows(List.of(row(1, "plain")));
+        when(auditExportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(auditExportJobRepository.markStarted(eq(JOB_ID), eq(WORKER_ID), eq(1), any(), anyString(), any())).thenReturn(1);
+        when(auditExportJobRepository.checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(1), anyLong(), any(), any(), anyLong(), any()))
+                .thenReturn(1);
+        when(auditExportJobRepository.markCompleted(eq(JOB_ID), eq(WORKER_ID), eq(1), anyString(), any(), any())).thenReturn(1);
+
+        worker.run(JOB_ID);
+
+        String[] lines = gunzip(target("ndjson")).split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode node = objectMapper.readTree(lines[0]);
+        assertThat(node.get("audit_id").isNumber()).isTrue();
+        assertThat(node.get("after_json").get("amount").asInt()).isEqualTo(100);
+        assertThat(node.get("before_json").isNull()).isTrue();
+        assertThat(node.get("resource_id").asText()).isEqualTo("plain");
+    }
+
+    @Test
+    @DisplayName("체크포인트 0건(인수)이면 중단, 다음 claim은 마지막 체크포인트부터 재개해 중복 없이 완료")
+    void takeoverResumesFromLastCheckpoint() throws IOException {
+        stubRows(List.of(row(1, "r1"), row(2, "r2"), row(3, "r3")));
+
+        // 1차 claim: 첫 체크포인트 후 인수됨 → 두 번째 member는 미커밋
+        AuditExportJob first = job("CSV", 1);
+        when(auditExportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(first));
+        when(auditExportJobRepository.markStarted(eq(JOB_ID), eq(WORKER_ID), anyInt(), any(), anyString(), any())).thenReturn(1);
+        when(auditExportJobRepository.checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(1), anyLong(), any(), any(), anyLong(), any()))
+                .thenReturn(1, 0);
+
+        worker.run(JOB_ID);
+
+        Path target = target("csv");
+        Path firstPart = fileStore.partPath(target, 1);
+        ArgumentCaptor<Long> bytes = ArgumentCaptor.forClass(Long.class);
+        verify(auditExportJobRepository, times(2))
+                .checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(1), anyLong(), any(), any(), bytes.capture(), any());
+        verify(auditExportJobRepository, never()).markCompleted(any(), any(), any(), any(), any(), any());
+        assertThat(target).doesNotExist();
+        assertThat(firstPart).exists();
+        assertThat(Files.size(firstPart)).isGreaterThan(bytes.getAllValues().get(0));
+
+        // 2차 claim: 첫 체크포인트 상태(2행, 커서=2)에서 재개
+        AuditExportJob second = job("CSV", 2);
+        second.setFilePath(firstPart.toString());
+        second.setCheckpointBytes(bytes.getAllValues().get(0));
+        second.setExportedRows(2L);
+        second.setCursorCreatedAt(BASE.plusSeconds(2));
+        second.setCursorAuditId(2L);
+        when(auditExportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(second));
+        when(auditExportJobRepository.checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(2), anyLong(), any(), any(), anyLong(), any()))
+                .thenReturn(1);
+        when(auditExportJobRepository.markCompleted(eq(JOB_ID), eq(WORKER_ID), eq(2), anyString(), any(), any())).thenReturn(1);
+
+        worker.run(JOB_ID);
+
+        verify(auditExportJobRepository).checkpoint(eq(JOB_ID), eq(WORKER_ID), eq(2), eq(3L), any(), eq(3L), anyLong(), any());
+        assertThat(firstPart).doesNotExist();
+        assertThat(fileStore.partPath(target, 2)).doesNotExist();
+        String[] lines = gunzip(target).split("\r\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("audit_id,");
+        assertThat(lines[1]).startsWith("1,");
+        assertThat(lines[2]).startsWith("2,");
+        assertThat(lines[3]).startsWith("3,");
+    }
+
+    @Test
+    @DisplayName("heartbeat 0건이면 다음 페이지를 읽기 전에 중단 (체크포인트/완료 없음)")
+    void stopsWhenHeartbeatLost() {
+        config.setHeartbeatIntervalSeconds(1);
+        config.setCheckpointRows(10_000);
+        AuditExportJob job = job("CSV", 1);
+        when(auditExportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(auditExportJobRepository.markStarted(eq(JOB_ID), eq(WORKER_ID), eq(1), any(), anyString(), any())).thenReturn(1);
+        when(auditExportJobRepository.heartbeat(eq(JOB_ID), eq(WORKER_ID), eq(1), any())).thenReturn(0);
+        // 페이지가 끝없이 가득 차는 느린 청크: heartbeat 타이머만이 중단시킬 수 있음
+        when(auditEventExportReader.findPage(any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            Long after = invocation.getArgument(2);
+            long next = after != null ? after + 1 : 1;
+            return List.of(row(next, "r"), row(next + 1, "r"));
+        });
+
+        worker.run(JOB_ID);
+
+        verify(auditExportJobRepository).heartbeat(eq(JOB_ID), eq(WORKER_ID), eq(1), any());
+        verify(auditExportJobRepository, never()).checkpoint(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(auditExportJobRepository, never()).markCompleted(any(), any(), any(), any(), any(), any());
+        assertThat(target("csv")).doesNotExist();
+    }
+
+    private AuditExportJob job(String format, int attempt) {
+        return AuditExportJob.builder()
+                .jobId(JOB_ID)
+                .jobKey(JOB_KEY)
+                .tenantId(TENANT_ID)
+                .status(AuditExportJob.STATUS_RUNNING)
+                .format(format)
+                .totalRows(3L)
+                .workerId(WORKER_ID)
+                .attemptCount(attempt)
+                .build();
+    }
+
+    private Path target(String extension) {
+        return fileStore.resolve(TENANT_ID, JOB_KEY, extension);
+    }
+
+    /** keyset 조회 흉내: 커서(audit_id) 이후 행을 limit건 */
+    private void stubRows(List<AuditEventExportReader.Row> rows) {
+        when(auditEventExportReader.findPage(any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Long after = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            List<AuditEventExportReader.Row> page = new ArrayList<>();
+            for (AuditEventExportReader.Row r : rows) {
+                if ((after == null || r.auditId() > after) && page.size() < limit) {
+                    page.add(r);
+                }
+            }
+            return page;
+        });
+    }
+
+    private static AuditEventExportReader.Row row(long id, String resourceId) {
+        Object[] values = new Object[AuditEventExportReader.COLUMNS.length];
+        values[0] = id;
+        values[1] = TENANT_ID;
+        values[2] = "CASE";
+        values[3] = "STATUS_CHANGE";
+        values[4] = "AGENT_CASE";
+        values[5] = resourceId;
+        values[6] = BASE.plusSeconds(id);
+        values[17] = "{\"amount\": 100}";
+        return new AuditEventExportReader.Row(id, BASE.plusSeconds(id), values);
+    }
+
+    private static String gunzip(Path path) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.dwp.services.synapsex.service.detect;
+
+import com.dwp.services.synapsex.config.DetectBatchConfig;
+import com.dwp.services.synapsex.entity.DetectRun;
+import com.dwp.services.synapsex.entity.DetectWatermark;
+import com.dwp.services.synapsex.repository.DetectWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DetectExecutionEngine 테스트
+ *
+ * 검증 항목:
+ * - 청크는 high-water mark부터 until까지 빈틈/겹침 없이 이어짐 (이전 청크 to = 다음 청크 from)
+ * - 청크 성공 시 mark가 전진하고, maxChunksPerRun 초과분은 다음 스케줄에서 전진한 mark부터 이어서 처리
+ * - 실패(FAILED)/락 미획득(null) 청크에서 중단하고 이후 청크는 실행하지 않음 (mark는 마지막 성공 청크 끝)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DetectExecutionEngine 테스트")
+@SuppressWarnings("null")
+class DetectExecutionEngineTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Instant UNTIL = Instant.parse("2026-01-01T01:00:00Z");
+
+    @Mock
+    private DetectBatchService detectBatchService;
+
+    @Mock
+    private DetectWatermarkRepository detectWatermarkRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor detectBatchExecutor;
+
+    private DetectBatchConfig config;
+    private DetectWatermark watermark;
+    private DetectExecutionEngine engine;
+    private final AtomicLong runIds = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        config = new DetectBatchConfig();
+        config.setChunkMinutes(15);
+        config.setMaxChunksPerRun(96);
+        config.setInitialLookbackMinutes(60);
+        watermark = DetectWatermark.builder()
+                .tenantId(TENANT_ID)
+                .highWaterMark(UNTIL.minusSeconds(3600))
+                .updatedAt(UNTIL)
+                .build();
+        when(detectWatermarkRepository.findById(TENANT_ID)).thenAnswer(invocation -> Optional.of(watermark));
+        engine = new DetectExecutionEngine(config, detectBatchService, detectWatermarkRepository, detectBatchExecutor);
+    }
+
+    @Test
+    @DisplayName("청크는 mark부터 until까지 이어지고, 성공한 청크마다 mark가 전진")
+    void advancesWatermarkThroughContiguousChunks() {
+        stubChunks("COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED");
+
+        engine.runTenant(TENANT_ID, UNTIL);
+
+        List<Instant[]> windows = captureWindows(4);
+        assertThat(windows.get(0)[0]).isEqualTo(UNTIL.minusSeconds(3600));
+        for (int i = 1; i < windows.size(); i++) {
+            assertThat(windows.get(i)[0]).isEqualTo(windows.get(i - 1)[1]);
+        }
+        assertThat(windows.get(3)[1]).isEqualTo(UNTIL);
+        assertThat(watermark.getHighWaterMark()).isEqualTo(UNTIL);
+    }
+
+    @Test
+    @DisplayName("maxChunksPerRun 도달 시 중단하고 다음 실행은 전진한 mark부터 시작")
+    void resumesFromAdvancedWatermark() {
+        config.setMaxChunksPerRun(2);
+        stubChunks("COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED");
+
+        engine.runTenant(TENANT_ID, UNTIL);
+        assertThat(watermark.getHighWaterMark()).isEqualTo(UNTIL.minusSeconds(1800));
+
+        engine.runTenant(TENANT_ID, UNTIL);
+
+        List<Instant[]> windows = captureWindows(4);
+        assertThat(windows.get(2)[0]).isEqualTo(UNTIL.minusSeconds(1800));
+        assertThat(watermark.getHighWaterMark()).isEqualTo(UNTIL);
+    }
+
+    @Test
+    @DisplayName("실패한 청크에서 중단: 이후 청크 미실행, mark는 마지막 성공 청크 끝")
+    void stopsAtFailedChunk() {
+        stubChunks("COMPLETED", "FAILED", "COMPLETED");
+
+        engine.runTenant(TENANT_ID, UNTIL);
+
+        captureWindows(2);
+        verify(detectBatchService, never()).runScheduledChunk(eq(TENANT_ID), eq(UNTIL.minusSeconds(1800)), any());
+        assertThat(watermark.getHighWaterMark()).isEqualTo(UNTIL.minusSeconds(2700));
+    }
+
+    @Test
+    @DisplayName("락 미획득(null) 청크에서 중단")
+    void stopsWhenLockNotAcquired() {
+        stubChunks((String) null);
+
+        engine.runTenant(TENANT_ID, UNTIL);
+
+        captureWindows(1);
+        assertThat(watermark.getHighWaterMark()).isEqualTo(UNTIL.minusSeconds(3600));
+    }
+
+    /**
+     * 청크 결과를 순서대로 반환. COMPLETED면 DetectBatchService처럼 mark를 windowTo로 전진 (null 원소는 락 미획득)
+     */
+    private void stubChunks(String... statuses) {
+        int[] call = {0};
+        when(detectBatchService.runScheduledChunk(eq(TENANT_ID), any(Instant.class), any(Instant.class)))
+                .thenAnswer(invocation -> {
+                    String status = statuses[Math.min(call[0]++, statuses.length - 1)];
+                    if (status == null) {
+                        return null;
+                    }
+                    if ("COMPLETED".equals(status)) {
+                        watermark.setHighWaterMark(invocation.getArgument(2));
+                    }
+                    return DetectRun.builder().runId(runIds.incrementAndGet()).tenantId(TENANT_ID).status(status).build();
+                });
+    }
+
+    private List<Instant[]> captureWindows(int times) {
+        ArgumentCaptor<Instant> from = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> to = ArgumentCaptor.forClass(Instant.class);
+        verify(detectBatchService, times(times)).runScheduledChunk(eq(TENANT_ID), from.capture(), to.capture());
+        return IntStream.range(0, times)
+                .mapToObj(i -> new Instant[]{from.getAllValues().get(i), to.getAllValues().get(i)})
+                .toList();
+    }
+}
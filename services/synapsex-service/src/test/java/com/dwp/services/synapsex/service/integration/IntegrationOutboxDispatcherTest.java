@@ -0,0 +1,213 @@
+package com.dwp.services.synapsex.service.integration;
+
+import com.dwp.services.synapsex.config.IntegrationOutboxConfig;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.Claim;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.Failure;
+import com.dwp.services.synapsex.repository.IntegrationOutboxDispatchRepository.OutboxMessage;
+import com.dwp.services.synapsex.service.audit.AuditWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * IntegrationOutboxDispatcher 테스트
+ *
+ * 검증 항목:
+ * - 성공 건은 PROCESSED, 실패 건은 backoff 후 재시도 예약
+ * - maxAttempts 도달 또는 NonRetryableOutboxException이면 DEAD + 감사 기록
+ * - lease 만료 재claim으로 maxAttempts에 도달한 행은 전송 없이 DEAD
+ * - 결과 기록은 claim_id와 함께 전달 (재claim된 행 덮어쓰기 방지)
+ * - 반영되지 않은 결과(claim 상실)는 메트릭/감사에서 제외, lease 만료 DEAD의 시도 횟수는 재claim 집계값 그대로
+ * - backoff는 base*2^(n-1)의 절반~전체 범위, maxBackoff로 상한
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntegrationOutboxDispatcher 테스트")
+@SuppressWarnings("null")
+class IntegrationOutboxDispatcherTest {
+
+    private static final UUID CLAIM_ID = UUID.randomUUID();
+
+    @Mock
+    private IntegrationOutboxDispatchRepository dispatchRepository;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    @Mock
+    private ObjectProvider<IntegrationOutboxSender> senderProvider;
+
+    private IntegrationOutboxConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private IntegrationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        config = new IntegrationOutboxConfig();
+        config.setMaxAttempts(3);
+        config.setBaseBackoffMs(1000);
+        config.setMaxBackoffMs(10_000);
+        IntegrationOutboxSender sender = new IntegrationOutboxSender() {
+            @Override
+            public Set<String> targetSystems() {
+                return Set.of("SAP");
+            }
+
+            @Override
+            public void send(OutboxMessage message) {
+                if (message.eventKey().startsWith("retry")) {
+                    throw new IllegalStateException("SAP timeout");
+                }
+                if (message.eventKey().startsWith("bad")) {
+                    throw new NonRetryableOutboxException("invalid payload");
+                }
+            }
+        };
+        when(senderProvider.orderedStream()).thenReturn(Stream.of(sender));
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new IntegrationOutboxDispatcher(config, dispatchRepository, auditWriter, meterRegistry,
+                senderProvider);
+    }
+
+    /** claim을 잃지 않은 경우: 전달된 결과가 모두 반영됨 */
+    private void applyAllResults() {
+        when(dispatchRepository.markProcessed(eq(CLAIM_ID), any())).thenAnswer(inv -> inv.getArgument(1));
+        when(dispatchRepository.markFailed(eq(CLAIM_ID), any())).thenAnswer(inv -> {
+            List<Failure> failures = inv.getArgument(1);
+            return failures.stream().map(Failure::outboxId).toList();
+        });
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).functionCounter().count();
+    }
+
+    private static OutboxMessage message(long id, String eventKey, int retryCount) {
+        return new OutboxMessage(id, 1L, "SAP", "PAYMENT_BLOCK", eventKey, "{}", retryCount, Instant.now());
+    }
+
+    @Test
+    @DisplayName("성공 건은 PROCESSED, 재시도 가능 실패는 next_retry_at 예약")
+    void dispatchBatch_SuccessAndRetry() {
+        when(dispatchRepository.claim(any(), anyInt(), anyLong()))
+                .thenReturn(new Claim(CLAIM_ID, List.of(message(1L, "ok-1", 0), message(2L, "retry-2", 0))));
+        applyAllResults();
+
+        int claimed = dispatcher.dispatchBatch();
+
+        assertThat(claimed).isEqualTo(2);
+        verify(dispatchRepository).markProcessed(CLAIM_ID, List.of(1L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Failure>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dispatchRepository).markFailed(eq(CLAIM_ID), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        Failure failure = captor.getValue().get(0);
+        assertThat(failure.outboxId()).isEqualTo(2L);
+        assertThat(failure.nextRetryAt()).isAfter(Instant.now());
+        assertThat(failure.retryCount()).isEqualTo(1);
+        assertThat(failure.error()).contains("SAP timeout");
+        assertThat(counter("synapsex.integration_outbox.sent")).isEqualTo(1.0);
+        assertThat(counter("synapsex.integration_outbox.retried")).isEqualTo(1.0);
+        verify(auditWriter, never()).logIntegrationEvent(any(), anyString(), anyString(), anyString(), any(), anyString(),
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("maxAttempts 도달 또는 재시도 불가 예외는 DEAD")
+    void dispatchBatch_DeadLetter() {
+        when(dispatchRepository.claim(any(), anyInt(), anyLong()))
+                .thenReturn(new Claim(CLAIM_ID, List.of(message(3L, "retry-3", 2), message(4L, "bad-4", 0))));
+        applyAllResults();
+
+        dispatcher.dispatchBatch();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Failure>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dispatchRepository).markFailed(eq(CLAIM_ID), captor.capture());
+        assertThat(captor.getValue()).extracting(Failure::nextRetryAt).containsOnlyNulls();
+        verify(auditWriter).logIntegrationEvent(eq(1L), anyString(), eq("INTEGRATION_OUTBOX"), eq("3"), isNull(),
+                eq("FAILED"), any(), eq(Map.of("status", "DEAD", "attempts", 3)), isNull(), isNull(), isNull());
+        verify(auditWriter).logIntegrationEvent(eq(1L), anyString(), eq("INTEGRATION_OUTBOX"), eq("4"), isNull(),
+                eq("FAILED"), any(), eq(Map.of("status", "DEAD", "attempts", 1)), isNull(), isNull(), isNull());
+        assertThat(counter("synapsex.integration_outbox.dead")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("lease 만료 재claim으로 시도 횟수를 소진한 행은 전송 없이 DEAD")
+    void dispatchBatch_DeadAfterRepeatedLeaseExpiry() {
+        // 전송하면 성공하는 메시지지만, 재claim 집계로 retry_count가 maxAttempts에 도달
+        when(dispatchRepository.claim(any(), anyInt(), anyLong()))
+                .thenReturn(new Claim(CLAIM_ID, List.of(message(5L, "ok-5", 3))));
+        applyAllResults();
+
+        dispatcher.dispatchBatch();
+
+        verify(dispatchRepository).markProcessed(CLAIM_ID, List.of());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Failure>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dispatchRepository).markFailed(eq(CLAIM_ID), captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(failure -> {
+            assertThat(failure.outboxId()).isEqualTo(5L);
+            assertThat(failure.nextRetryAt()).isNull();
+            assertThat(failure.retryCount()).isEqualTo(3);
+            assertThat(failure.error()).contains("lease expired");
+        });
+        // 전송을 시도하지 않았으므로 시도 횟수는 재claim 집계값(3) 그대로
+        verify(auditWriter).logIntegrationEvent(eq(1L), anyString(), eq("INTEGRATION_OUTBOX"), eq("5"), isNull(),
+                eq("FAILED"), any(), eq(Map.of("status", "DEAD", "attempts", 3)), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("claim을 잃어 반영되지 않은 결과는 메트릭/감사에서 제외")
+    void dispatchBatch_SkipsResultsNotApplied() {
+        // lease 만료 후 다른 노드가 재claim하여 claim_id 조건부 갱신이 모두 0건
+        when(dispatchRepository.claim(any(), anyInt(), anyLong()))
+                .thenReturn(new Claim(CLAIM_ID, List.of(message(6L, "ok-6", 0), message(7L, "retry-7", 0),
+                        message(8L, "bad-8", 0))));
+        when(dispatchRepository.markProcessed(eq(CLAIM_ID), any())).thenReturn(List.of());
+        when(dispatchRepository.markFailed(eq(CLAIM_ID), any())).thenReturn(List.of());
+
+        dispatcher.dispatchBatch();
+
+        verify(auditWriter, never()).logIntegrationEvent(any(), anyString(), anyString(), anyString(), any(), anyString(),
+                any(), any(), any(), any(), any());
+        assertThat(counter("synapsex.integration_outbox.sent")).isZero();
+        assertThat(counter("synapsex.integration_outbox.retried")).isZero();
+        assertThat(counter("synapsex.integration_outbox.dead")).isZero();
+    }
+
+    @Test
+    @DisplayName("backoff는 지수 증가 + jitter, 최대값으로 상한")
+    void backoff_ExponentialWithJitter() {
+        for (int i = 0; i < 50; i++) {
+            assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+            assertThat(dispatcher.backoff(3)).isBetween(Duration.ofMillis(2000), Duration.ofMillis(4000));
+            assertThat(dispatcher.backoff(20)).isBetween(Duration.ofMillis(5000), Duration.ofMillis(10_000));
+        }
+    }
+}
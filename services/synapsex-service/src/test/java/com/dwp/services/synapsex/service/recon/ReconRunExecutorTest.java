@@ -0,0 +1,155 @@
+package com.dwp.services.synapsex.service.recon;
+
+import com.dwp.services.synapsex.entity.ReconResult;
+import com.dwp.services.synapsex.entity.ReconRun;
+import com.dwp.services.synapsex.repository.IngestionErrorRepository;
+import com.dwp.services.synapsex.repository.ReconItemJdbcRepository;
+import com.dwp.services.synapsex.repository.ReconItemJdbcRepository.ReconItem;
+import com.dwp.services.synapsex.repository.ReconRunRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReconRunExecutor 테스트
+ *
+ * 검증 항목:
+ * - DOC_OPENITEM_MATCH 결과가 기존 경로(전표 항목별 미결제 단건 조회 후 전체 미결제 고아 스캔)와 동일
+ *   (resource_type/key/status/detail_json과 순서: 전표 항목 결과 전체 → 고아 미결제)
+ * - RESULT_BATCH_SIZE 단위 batch INSERT, summary(total/pass/fail) 집계
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconRunExecutor 테스트")
+@SuppressWarnings("null")
+class ReconRunExecutorTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private ReconRunRepository reconRunRepository;
+
+    @Mock
+    private IngestionErrorRepository ingestionErrorRepository;
+
+    @Mock
+    private ReconItemJdbcRepository reconItemJdbcRepository;
+
+    private ReconRunExecutor executor;
+    private final List<ReconResult> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = new ReconRunExecutor(reconRunRepository, ingestionErrorRepository, reconItemJdbcRepository);
+        doAnswer(invocation -> {
+            List<ReconResult> batch = invocation.getArgument(0);
+            written.addAll(batch);
+            return null;
+        }).when(reconItemJdbcRepository).insertResults(anyList());
+        when(reconRunRepository.save(any(ReconRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("DOC_OPENITEM_MATCH 결과가 기존 경로와 동일 (내용 + 순서)")
+    void matchesLegacyPath() {
+        Random random = new Random(42);
+        TreeMap<String, ReconItem> docs = new TreeMap<>();
+        TreeMap<String, ReconItem> opens = new TreeMap<>();
+        // 대소문자/숫자 혼합 키로 바이트 순서 정렬 확인, 약 2500건 → batch 여러 번
+        String[] bukrs = {"1000", "2000", "A100", "a100"};
+        for (int i = 0; i < 3000; i++) {
+            ReconItem item = new ReconItem(bukrs[random.nextInt(bukrs.length)], String.format("%010d", random.nextInt(400)),
+                    "2026", String.format("%03d", random.nextInt(3) + 1), BigDecimal.valueOf(random.nextInt(5) * 100L));
+            int side = random.nextInt(4);
+            if (side != 0) {
+                docs.put(item.resourceKey(), side == 3 ? withAmount(item, null) : item);
+            }
+            if (side != 1) {
+                opens.put(item.resourceKey(), side == 2 ? withAmount(item, item.amount().add(BigDecimal.ONE)) : item);
+            }
+        }
+        List<ReconItem> docList = docs.values().stream().sorted(ReconItem.KEY_ORDER).toList();
+        List<ReconItem> openList = opens.values().stream().sorted(ReconItem.KEY_ORDER).toList();
+        when(reconItemJdbcRepository.streamDocItems(TENANT_ID)).thenAnswer(invocation -> docList.stream());
+        when(reconItemJdbcRepository.streamOpenItems(TENANT_ID)).thenAnswer(invocation -> openList.stream());
+
+        ReconRun run = executor.execute(run("DOC_OPENITEM_MATCH"));
+
+        List<String> expected = legacyResults(docList, openList);
+        assertThat(written).extracting(ReconRunExecutorTest::describe).containsExactlyElementsOf(expected);
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getSummaryJson().get("total").asLong()).isEqualTo(expected.size());
+        assertThat(run.getSummaryJson().get("pass").asLong())
+                .isEqualTo(written.stream().filter(r -> "PASS".equals(r.getStatus())).count());
+        verify(reconItemJdbcRepository, atLeast(3)).insertResults(anyList());
+    }
+
+    @Test
+    @DisplayName("기타 runType은 ingestion_errors 건수 결과 1건")
+    void ingestionErrorCount() {
+        when(ingestionErrorRepository.countByTenantId(TENANT_ID)).thenReturn(0L);
+
+        ReconRun run = executor.execute(run("INGESTION_CHECK"));
+
+        assertThat(written).extracting(ReconRunExecutorTest::describe)
+                .containsExactly("INGESTION_ERRORS|total|PASS|{\"count\":0}");
+        assertThat(run.getSummaryJson().get("fail").asLong()).isZero();
+    }
+
+    /** 기존 경로: 전표 항목마다 미결제 단건 조회 → 그 다음 전체 미결제 중 전표 없는 항목 */
+    private static List<String> legacyResults(List<ReconItem> docList, List<ReconItem> openList) {
+        List<String> out = new ArrayList<>();
+        for (ReconItem item : docList) {
+            Optional<ReconItem> openOpt = openList.stream().filter(o -> o.resourceKey().equals(item.resourceKey())).findFirst();
+            if (openOpt.isEmpty()) {
+                out.add("DOC_OPENITEM|" + item.resourceKey() + "|FAIL|"
+                        + MAPPER.createObjectNode().put("reason", "no_open_item"));
+            } else {
+                BigDecimal docAmt = item.amount() != null ? item.amount() : BigDecimal.ZERO;
+                int cmp = docAmt.compareTo(openOpt.get().amount());
+                out.add("DOC_OPENITEM|" + item.resourceKey() + "|" + (cmp == 0 ? "PASS" : "FAIL") + "|"
+                        + MAPPER.createObjectNode()
+                        .put("docAmount", docAmt.toString())
+                        .put("openAmount", openOpt.get().amount().toString()));
+            }
+        }
+        for (ReconItem open : openList) {
+            if (docList.stream().noneMatch(d -> d.resourceKey().equals(open.resourceKey()))) {
+                out.add("ORPHAN_OPENITEM|" + open.resourceKey() + "|FAIL|"
+                        + MAPPER.createObjectNode().put("reason", "no_doc_item"));
+            }
+        }
+        return out;
+    }
+
+    private static String describe(ReconResult r) {
+        return r.getResourceType() + "|" + r.getResourceKey() + "|" + r.getStatus() + "|" + r.getDetailJson();
+    }
+
+    private static ReconItem withAmount(ReconItem item, BigDecimal amount) {
+        return new ReconItem(item.bukrs(), item.belnr(), item.gjahr(), item.buzei(), amount);
+    }
+
+    private static ReconRun run(String runType) {
+        return ReconRun.builder().runId(7L).tenantId(TENANT_ID).runType(runType).status("RUNNING").build();
+    }
+}